@@ -17,8 +17,9 @@ module org.jboss.logmanager {
     requires io.smallrye.common.os;
     requires io.smallrye.common.ref;
 
-    requires static java.xml;
+    requires static java.management;
     requires static jakarta.json;
+    requires static jdk.jfr;
     requires static org.jboss.modules;
 
     exports org.jboss.logmanager;
@@ -25,6 +25,7 @@ import java.security.PrivilegedAction;
 import java.util.Collections;
 import java.util.Set;
 import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
 
 /**
  * A log context selector which chooses a log context based on the caller's classloader. The first caller that is not
@@ -92,21 +93,34 @@ public final class CallerClassLoaderLogContextSelector implements LogContextSele
     private final ConcurrentMap<ClassLoader, LogContext> contextMap = new CopyOnWriteMap<ClassLoader, LogContext>();
     private final Set<ClassLoader> logApiClassLoaders = Collections.newSetFromMap(new CopyOnWriteMap<ClassLoader, Boolean>());
     private final boolean checkParentClassLoaders;
+    private final LogContextResolutionCache resolutionCache = new LogContextResolutionCache();
 
-    private final PrivilegedAction<LogContext> logContextAction = new PrivilegedAction<LogContext>() {
-        public LogContext run() {
-            final Class<?> callingClass = JDKSpecific.findCallingClass(logApiClassLoaders);
-            return callingClass == null ? defaultSelector.getLogContext() : check(callingClass.getClassLoader());
-        }
-
-        private LogContext check(final ClassLoader classLoader) {
+    private final Function<ClassLoader, LogContext> logContextFinder = new Function<ClassLoader, LogContext>() {
+        @Override
+        public LogContext apply(final ClassLoader classLoader) {
+            if (classLoader == null) {
+                return null;
+            }
             final LogContext context = contextMap.get(classLoader);
             if (context != null) {
                 return context;
             }
             final ClassLoader parent = classLoader.getParent();
             if (parent != null && checkParentClassLoaders && !logApiClassLoaders.contains(parent)) {
-                return check(parent);
+                return apply(parent);
+            }
+            return null;
+        }
+    };
+
+    private final PrivilegedAction<LogContext> logContextAction = new PrivilegedAction<LogContext>() {
+        public LogContext run() {
+            final Class<?> callingClass = JDKSpecific.findCallingClass(logApiClassLoaders);
+            if (callingClass != null) {
+                final LogContext result = resolutionCache.get(callingClass, logContextFinder);
+                if (result != null) {
+                    return result;
+                }
             }
             return defaultSelector.getLogContext();
         }
@@ -135,7 +149,9 @@ public final class CallerClassLoaderLogContextSelector implements LogContextSele
         if (sm != null) {
             sm.checkPermission(LOG_API_PERMISSION);
         }
-        return logApiClassLoaders.add(apiClassLoader);
+        final boolean result = logApiClassLoaders.add(apiClassLoader);
+        resolutionCache.invalidate();
+        return result;
     }
 
     /**
@@ -150,7 +166,9 @@ public final class CallerClassLoaderLogContextSelector implements LogContextSele
         if (sm != null) {
             sm.checkPermission(LOG_API_PERMISSION);
         }
-        return logApiClassLoaders.remove(apiClassLoader);
+        final boolean result = logApiClassLoaders.remove(apiClassLoader);
+        resolutionCache.invalidate();
+        return result;
     }
 
     /**
@@ -171,6 +189,7 @@ public final class CallerClassLoaderLogContextSelector implements LogContextSele
             throw new IllegalArgumentException(
                     "ClassLoader instance is already registered to a log context (" + classLoader + ")");
         }
+        resolutionCache.invalidate();
     }
 
     /**
@@ -187,6 +206,10 @@ public final class CallerClassLoaderLogContextSelector implements LogContextSele
         if (sm != null) {
             sm.checkPermission(UNREGISTER_LOG_CONTEXT_PERMISSION);
         }
-        return contextMap.remove(classLoader, logContext);
+        if (contextMap.remove(classLoader, logContext)) {
+            resolutionCache.invalidate();
+            return true;
+        }
+        return false;
     }
 }
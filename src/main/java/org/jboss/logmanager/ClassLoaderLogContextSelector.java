@@ -87,11 +87,11 @@ public final class ClassLoaderLogContextSelector implements LogContextSelector {
     private final ConcurrentMap<ClassLoader, LogContext> contextMap = new CopyOnWriteMap<ClassLoader, LogContext>();
     private final Set<ClassLoader> logApiClassLoaders = Collections.newSetFromMap(new CopyOnWriteMap<ClassLoader, Boolean>());
     private final boolean checkParentClassLoaders;
+    private final LogContextResolutionCache resolutionCache = new LogContextResolutionCache();
 
     private final Function<ClassLoader, LogContext> logContextFinder = new Function<ClassLoader, LogContext>() {
         @Override
         public LogContext apply(final ClassLoader classLoader) {
-
             final LogContext context = contextMap.get(classLoader);
             if (context != null) {
                 return context;
@@ -104,9 +104,16 @@ public final class ClassLoaderLogContextSelector implements LogContextSelector {
         }
     };
 
+    private final Function<Class<?>, LogContext> cachedLogContextFinder = new Function<Class<?>, LogContext>() {
+        @Override
+        public LogContext apply(final Class<?> clazz) {
+            return resolutionCache.get(clazz, logContextFinder);
+        }
+    };
+
     private final PrivilegedAction<LogContext> logContextAction = new PrivilegedAction<LogContext>() {
         public LogContext run() {
-            final LogContext result = JDKSpecific.logContextFinder(logApiClassLoaders, logContextFinder);
+            final LogContext result = JDKSpecific.logContextFinder(logApiClassLoaders, cachedLogContextFinder);
             if (result != null) {
                 return result;
             }
@@ -134,7 +141,9 @@ public final class ClassLoaderLogContextSelector implements LogContextSelector {
         if (sm != null) {
             sm.checkPermission(LOG_API_PERMISSION);
         }
-        return logApiClassLoaders.add(apiClassLoader);
+        final boolean result = logApiClassLoaders.add(apiClassLoader);
+        resolutionCache.invalidate();
+        return result;
     }
 
     /**
@@ -148,7 +157,9 @@ public final class ClassLoaderLogContextSelector implements LogContextSelector {
         if (sm != null) {
             sm.checkPermission(LOG_API_PERMISSION);
         }
-        return logApiClassLoaders.remove(apiClassLoader);
+        final boolean result = logApiClassLoaders.remove(apiClassLoader);
+        resolutionCache.invalidate();
+        return result;
     }
 
     /**
@@ -168,6 +179,7 @@ public final class ClassLoaderLogContextSelector implements LogContextSelector {
             throw new IllegalArgumentException(
                     "ClassLoader instance is already registered to a log context (" + classLoader + ")");
         }
+        resolutionCache.invalidate();
     }
 
     /**
@@ -183,6 +195,10 @@ public final class ClassLoaderLogContextSelector implements LogContextSelector {
         if (sm != null) {
             sm.checkPermission(UNREGISTER_LOG_CONTEXT_PERMISSION);
         }
-        return contextMap.remove(classLoader, logContext);
+        if (contextMap.remove(classLoader, logContext)) {
+            resolutionCache.invalidate();
+            return true;
+        }
+        return false;
     }
 }
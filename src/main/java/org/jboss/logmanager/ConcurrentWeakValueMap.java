@@ -26,65 +26,71 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
-final class CopyOnWriteWeakMap<K, V> extends AbstractMap<K, V> implements ConcurrentMap<K, V> {
+/**
+ * A concurrent map which holds weak references to its values. Modifications do not copy the whole map, which makes
+ * this map suitable for large numbers of entries. Cleared entries are expunged on modification.
+ */
+final class ConcurrentWeakValueMap<K, V> extends AbstractMap<K, V> implements ConcurrentMap<K, V> {
 
+    private final ConcurrentHashMap<K, Node<K, V>> map;
     private final Queue<K, V> queue = new Queue<K, V>();
 
-    private static final FastCopyHashMap EMPTY = new FastCopyHashMap(32, 0.25f);
-
-    @SuppressWarnings({ "unchecked" })
-    private FastCopyHashMap<K, Node<K, V>> empty() {
-        return (FastCopyHashMap<K, Node<K, V>>) EMPTY;
+    ConcurrentWeakValueMap() {
+        map = new ConcurrentHashMap<K, Node<K, V>>();
     }
 
-    private volatile FastCopyHashMap<K, Node<K, V>> map = empty();
+    ConcurrentWeakValueMap(final int initialCapacity) {
+        map = new ConcurrentHashMap<K, Node<K, V>>(initialCapacity);
+    }
 
-    private FastCopyHashMap<K, Node<K, V>> cleanCopyForRemove() {
-        assert Thread.holdsLock(this);
-        final Map<K, Node<K, V>> oldMap = map;
-        final Queue<K, V> queue = this.queue;
-        if (oldMap.isEmpty()) {
-            queue.clear();
-            return empty();
-        }
-        final FastCopyHashMap<K, Node<K, V>> newMap = new FastCopyHashMap<K, Node<K, V>>(oldMap);
+    private void expunge() {
         Node<K, V> ref;
         while ((ref = queue.poll()) != null) {
-            final Object key = ref.getKey();
-            if (newMap.get(key) == ref) {
-                newMap.remove(key);
-                if (newMap.isEmpty()) {
-                    queue.clear();
-                    return empty();
-                }
+            map.remove(ref.getKey(), ref);
+        }
+    }
+
+    public V get(final Object key) {
+        final Node<K, V> node = map.get(key);
+        return node == null ? null : node.get();
+    }
+
+    public boolean containsKey(final Object key) {
+        return get(key) != null;
+    }
+
+    public boolean containsValue(final Object value) {
+        if (value == null)
+            return false;
+        for (Node<K, V> node : map.values()) {
+            if (value.equals(node.get())) {
+                return true;
             }
         }
-        return newMap;
+        return false;
+    }
+
+    public int size() {
+        return map.size();
     }
 
-    private FastCopyHashMap<K, Node<K, V>> cleanCopyForMod() {
-        assert Thread.holdsLock(this);
-        final Map<K, Node<K, V>> oldMap = map;
-        final Queue<K, V> queue = this.queue;
-        if (oldMap.isEmpty()) {
-            queue.clear();
-            return empty().clone();
+    public boolean isEmpty() {
+        return map.isEmpty();
+    }
+
+    public V put(final K key, final V value) {
+        if (key == null) {
+            throw new IllegalArgumentException("key is null");
         }
-        final FastCopyHashMap<K, Node<K, V>> newMap = new FastCopyHashMap<K, Node<K, V>>(oldMap);
-        Node<K, V> ref;
-        while ((ref = queue.poll()) != null) {
-            final Object key = ref.getKey();
-            if (newMap.get(key) == ref) {
-                newMap.remove(key);
-                if (newMap.isEmpty()) {
-                    queue.clear();
-                    return empty().clone();
-                }
-            }
+        if (value == null) {
+            throw new IllegalArgumentException("value is null");
         }
-        return newMap;
+        expunge();
+        final Node<K, V> old = map.put(key, new Node<K, V>(key, value, queue));
+        return old == null ? null : old.get();
     }
 
     public V putIfAbsent(final K key, final V value) {
@@ -94,30 +100,49 @@ final class CopyOnWriteWeakMap<K, V> extends AbstractMap<K, V> implements Concur
         if (value == null) {
             throw new IllegalArgumentException("value is null");
         }
-        synchronized (this) {
+        expunge();
+        Node<K, V> newNode = null;
+        for (;;) {
             final Node<K, V> oldNode = map.get(key);
             if (oldNode != null) {
-                final V val = oldNode.get();
-                if (val != null)
-                    return val;
+                final V existing = oldNode.get();
+                if (existing != null) {
+                    return existing;
+                }
+                if (newNode == null) {
+                    newNode = new Node<K, V>(key, value, queue);
+                }
+                // replace the cleared reference
+                if (map.replace(key, oldNode, newNode)) {
+                    return null;
+                }
+            } else {
+                if (newNode == null) {
+                    newNode = new Node<K, V>(key, value, queue);
+                }
+                if (map.putIfAbsent(key, newNode) == null) {
+                    return null;
+                }
             }
-            final FastCopyHashMap<K, Node<K, V>> newMap = cleanCopyForMod();
-            newMap.put(key, new Node<K, V>(key, value, queue));
-            map = newMap;
-            return null;
         }
     }
 
+    public V remove(final Object key) {
+        if (key == null)
+            return null;
+        expunge();
+        final Node<K, V> old = map.remove(key);
+        return old == null ? null : old.get();
+    }
+
     public boolean remove(final Object key, final Object value) {
-        synchronized (this) {
-            final Node<K, V> oldNode = map.get(key);
+        if (key == null || value == null)
+            return false;
+        expunge();
+        final Node<K, V> oldNode = map.get(key);
+        if (oldNode != null) {
             final V existing = oldNode.get();
-            if (existing != null && existing.equals(value)) {
-                final FastCopyHashMap<K, Node<K, V>> newMap = cleanCopyForRemove();
-                newMap.remove(key);
-                map = newMap;
-                return true;
-            }
+            return existing != null && existing.equals(value) && map.remove(key, oldNode);
         }
         return false;
     }
@@ -129,15 +154,12 @@ final class CopyOnWriteWeakMap<K, V> extends AbstractMap<K, V> implements Concur
         if (oldValue == null) {
             return false;
         }
-        synchronized (this) {
-            final Node<K, V> oldNode = map.get(key);
+        expunge();
+        final Node<K, V> oldNode = map.get(key);
+        if (oldNode != null) {
             final V existing = oldNode.get();
-            if (existing != null && existing.equals(oldValue)) {
-                final FastCopyHashMap<K, Node<K, V>> newMap = cleanCopyForMod();
-                map.put(key, new Node<K, V>(key, newValue, queue));
-                map = newMap;
-                return true;
-            }
+            return existing != null && existing.equals(oldValue)
+                    && map.replace(key, oldNode, new Node<K, V>(key, newValue, queue));
         }
         return false;
     }
@@ -146,87 +168,29 @@ final class CopyOnWriteWeakMap<K, V> extends AbstractMap<K, V> implements Concur
         if (value == null) {
             throw new IllegalArgumentException("value is null");
         }
-        synchronized (this) {
-            final Node<K, V> oldNode = map.get(key);
+        expunge();
+        final Node<K, V> oldNode = map.get(key);
+        if (oldNode != null) {
             final V existing = oldNode.get();
-            if (existing != null) {
-                final FastCopyHashMap<K, Node<K, V>> newMap = cleanCopyForMod();
-                map.put(key, new Node<K, V>(key, value, queue));
-                map = newMap;
-            }
-            return existing;
-        }
-    }
-
-    public int size() {
-        return map.size();
-    }
-
-    public boolean isEmpty() {
-        return map.isEmpty();
-    }
-
-    public boolean containsKey(final Object key) {
-        return map.containsKey(key);
-    }
-
-    public boolean containsValue(final Object value) {
-        if (value == null)
-            return false;
-        for (Node<K, V> node : map.values()) {
-            if (value.equals(node.get())) {
-                return true;
+            if (existing != null && map.replace(key, oldNode, new Node<K, V>(key, value, queue))) {
+                return existing;
             }
         }
-        return false;
-    }
-
-    public V get(final Object key) {
-        final Node<K, V> node = map.get(key);
-        return node == null ? null : node.get();
-    }
-
-    public V put(final K key, final V value) {
-        if (key == null) {
-            throw new IllegalArgumentException("key is null");
-        }
-        if (value == null) {
-            throw new IllegalArgumentException("value is null");
-        }
-        synchronized (this) {
-            final FastCopyHashMap<K, Node<K, V>> newMap = cleanCopyForMod();
-            final Node<K, V> old = newMap.put(key, new Node<K, V>(key, value, queue));
-            map = newMap;
-            return old == null ? null : old.get();
-        }
-    }
-
-    public V remove(final Object key) {
-        if (key == null)
-            return null;
-        synchronized (this) {
-            final FastCopyHashMap<K, Node<K, V>> newMap = cleanCopyForRemove();
-            final Node<K, V> old = newMap.remove(key);
-            map = newMap;
-            return old == null ? null : old.get();
-        }
+        return null;
     }
 
     public void clear() {
-        synchronized (this) {
-            map = empty();
-        }
+        map.clear();
+        queue.clear();
     }
 
     public Set<Entry<K, V>> entrySet() {
-        final FastCopyHashMap<K, Node<K, V>> snapshot = map;
         final Map<K, V> copyMap = new HashMap<K, V>();
-        for (Node<K, V> node : snapshot.values()) {
+        for (Node<K, V> node : map.values()) {
             final V value = node.get();
             if (value == null)
                 continue;
-            final K key = node.getKey();
-            copyMap.put(key, value);
+            copyMap.put(node.getKey(), value);
         }
         return Collections.unmodifiableMap(copyMap).entrySet();
     }
@@ -246,6 +210,7 @@ final class CopyOnWriteWeakMap<K, V> extends AbstractMap<K, V> implements Concur
 
     private static final class Queue<K, V> extends ReferenceQueue<V> {
 
+        @SuppressWarnings("unchecked")
         public Node<K, V> poll() {
             return (Node<K, V>) super.poll();
         }
@@ -31,6 +31,18 @@ import java.util.logging.LogRecord;
  * A formatter which handles {@link org.jboss.logmanager.ExtLogRecord ExtLogRecord} instances.
  */
 public abstract class ExtFormatter extends Formatter {
+
+    /**
+     * Whether the formatter uses the default implementations of the {@code formatMessage*} methods, in which case the
+     * message formatted by the record can be used.
+     */
+    private static final ClassValue<Boolean> DEFAULT_MESSAGE_FORMATTING = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(final Class<?> type) {
+            return !overridesMessageFormatting(type);
+        }
+    };
+
     /**
      * Construct a new instance.
      */
@@ -67,8 +79,13 @@ public abstract class ExtFormatter extends Formatter {
     public abstract String format(ExtLogRecord record);
 
     @Override
+    @SuppressWarnings("deprecation") // ExtLogRecord.getFormattedMessage()
     public String formatMessage(LogRecord record) {
         final ResourceBundle bundle = record.getResourceBundle();
+        if (bundle == null && record instanceof ExtLogRecord && DEFAULT_MESSAGE_FORMATTING.get(getClass())) {
+            // Share the message formatted for the record, which gives the same result when there is no bundle
+            return ((ExtLogRecord) record).getFormattedMessage();
+        }
         String msg = record.getMessage();
         if (msg == null) {
             return null;
@@ -144,6 +161,19 @@ public abstract class ExtFormatter extends Formatter {
         return String.format(record.getMessage(), record.getParameters());
     }
 
+    private static boolean overridesMessageFormatting(final Class<?> type) {
+        for (Class<?> c = type; c != ExtFormatter.class && c != null; c = c.getSuperclass()) {
+            for (String name : new String[] { "formatMessageNone", "formatMessageLegacy", "formatMessagePrintf" }) {
+                try {
+                    c.getDeclaredMethod(name, LogRecord.class);
+                    return true;
+                } catch (NoSuchMethodException ignore) {
+                }
+            }
+        }
+        return false;
+    }
+
     static class WrappedFormatter extends ExtFormatter {
         private final Formatter formatter;
         private final boolean formatMessages;
@@ -36,6 +36,8 @@ import java.util.logging.LogRecord;
 import java.util.logging.LoggingPermission;
 
 import org.jboss.logmanager.errormanager.OnlyOnceErrorManager;
+import org.jboss.logmanager.jfr.JfrSupport;
+import org.jboss.logmanager.jfr.PublishEvent;
 
 /**
  * An extended logger handler. Use this class as a base class for log handlers which require {@code ExtLogRecord}
@@ -59,6 +61,8 @@ public abstract class ExtHandler extends Handler implements AutoCloseable, Flush
     private volatile boolean enabled = true;
     private volatile boolean closeChildren;
     private volatile Charset charset = StandardCharsets.UTF_8;
+    // null unless metrics are enabled so the cost of disabled metrics is a single read
+    private volatile HandlerMetrics metrics;
 
     /**
      * The sub-handlers for this handler. May only be updated using the {@link #handlersUpdater} atomic updater. The array
@@ -84,8 +88,12 @@ public abstract class ExtHandler extends Handler implements AutoCloseable, Flush
 
     /** {@inheritDoc} */
     public void publish(final LogRecord record) {
-        if (enabled && record != null && isLoggable(record)) {
-            doPublish(ExtLogRecord.wrap(record));
+        if (enabled && record != null) {
+            if (isLoggable(record)) {
+                publishLoggable(ExtLogRecord.wrap(record));
+            } else {
+                recordFiltered();
+            }
         }
     }
 
@@ -100,13 +108,54 @@ public abstract class ExtHandler extends Handler implements AutoCloseable, Flush
      * @param record the log record to publish
      */
     public void publish(final ExtLogRecord record) {
-        if (enabled && record != null && isLoggable(record))
-            try {
-                doPublish(record);
-            } catch (Exception e) {
-                reportError("Handler publication threw an exception", e, ErrorManager.WRITE_FAILURE);
-            } catch (Throwable ignored) {
+        if (enabled && record != null) {
+            if (isLoggable(record))
+                try {
+                    publishLoggable(record);
+                } catch (Exception e) {
+                    reportError("Handler publication threw an exception", e, ErrorManager.WRITE_FAILURE);
+                } catch (Throwable ignored) {
+                }
+            else
+                recordFiltered();
+        }
+    }
+
+    private void publishLoggable(final ExtLogRecord record) {
+        if (JfrSupport.AVAILABLE) {
+            final PublishEvent event = new PublishEvent();
+            if (event.isEnabled()) {
+                event.begin();
+                timedPublish(record);
+                event.end();
+                if (event.shouldCommit()) {
+                    event.logger = record.getLoggerName();
+                    event.level = record.getLevel().getName();
+                    event.handler = getClass();
+                    event.commit();
+                }
+                return;
             }
+        }
+        timedPublish(record);
+    }
+
+    private void timedPublish(final ExtLogRecord record) {
+        final HandlerMetrics metrics = this.metrics;
+        if (metrics == null) {
+            doPublish(record);
+        } else {
+            final long start = System.nanoTime();
+            doPublish(record);
+            metrics.recordPublished(System.nanoTime() - start);
+        }
+    }
+
+    private void recordFiltered() {
+        final HandlerMetrics metrics = this.metrics;
+        if (metrics != null) {
+            metrics.recordFiltered();
+        }
     }
 
     /**
@@ -114,11 +163,21 @@ public abstract class ExtHandler extends Handler implements AutoCloseable, Flush
      *
      * @param record the log record to publish
      */
-    @SuppressWarnings("deprecation") // record.getFormattedMessage()
     protected void publishToNestedHandlers(final ExtLogRecord record) {
+        publishToNestedHandlers(record, getHandlers());
+    }
+
+    /**
+     * Publish a log record to each of the given handlers.
+     *
+     * @param record   the log record to publish
+     * @param handlers the handlers to publish to
+     */
+    @SuppressWarnings("deprecation") // record.getFormattedMessage()
+    protected void publishToNestedHandlers(final ExtLogRecord record, final Handler[] handlers) {
         if (record != null) {
             ExtLogRecord oldRecord = null;
-            for (Handler handler : getHandlers())
+            for (Handler handler : handlers)
                 try {
                     if (handler != null) {
                         if (handler instanceof ExtHandler || handler.getFormatter() instanceof ExtFormatter) {
@@ -283,6 +342,47 @@ public abstract class ExtHandler extends Handler implements AutoCloseable, Flush
         return enabled;
     }
 
+    /**
+     * Enables or disables the collection of {@linkplain #getMetrics() metrics} for this handler. Disabling the metrics
+     * discards the collected values.
+     *
+     * @param metricsEnabled {@code true} to collect metrics
+     *
+     * @throws SecurityException if a security manager exists and if the caller does not have {@code
+     *                           LoggingPermission(control)}
+     */
+    public final void setMetricsEnabled(final boolean metricsEnabled) throws SecurityException {
+        checkAccess();
+        lock.lock();
+        try {
+            if (!metricsEnabled) {
+                metrics = null;
+            } else if (metrics == null) {
+                metrics = new HandlerMetrics();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Determine if metrics are collected for this handler.
+     *
+     * @return {@code true} if metrics are collected, otherwise {@code false}
+     */
+    public final boolean isMetricsEnabled() {
+        return metrics != null;
+    }
+
+    /**
+     * Returns the metrics collected for this handler.
+     *
+     * @return the metrics or {@code null} if metrics are not {@linkplain #setMetricsEnabled(boolean) enabled}
+     */
+    public final HandlerMetrics getMetrics() {
+        return metrics;
+    }
+
     /**
      * Indicates whether or not children handlers should be closed when this handler is {@linkplain #close() closed}.
      *
@@ -543,6 +643,10 @@ public abstract class ExtHandler extends Handler implements AutoCloseable, Flush
 
     @Override
     protected void reportError(String msg, Exception ex, int code) {
+        final HandlerMetrics metrics = this.metrics;
+        if (metrics != null) {
+            metrics.recordError();
+        }
         final ErrorManager errorManager = this.errorManager;
         errorManager.error(msg, ex, code);
     }
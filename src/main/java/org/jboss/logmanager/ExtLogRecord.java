@@ -24,11 +24,16 @@ import static java.security.AccessController.doPrivileged;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.io.ObjectStreamException;
 import java.security.PrivilegedAction;
+import java.text.DecimalFormatSymbols;
 import java.text.MessageFormat;
+import java.text.NumberFormat;
+import java.util.Locale;
 import java.util.Map;
 import java.util.MissingResourceException;
 import java.util.ResourceBundle;
+import java.util.function.Supplier;
 import java.util.logging.LogRecord;
 
 import io.smallrye.common.net.HostName;
@@ -61,7 +66,7 @@ public class ExtLogRecord extends LogRecord {
     }
 
     /**
-     * Construct a new instance. Grabs the current NDC immediately. MDC is deferred.
+     * Construct a new instance. Takes a snapshot of the current NDC immediately. MDC is deferred.
      *
      * @param level           a logging level value
      * @param msg             the raw non-localized logging message (may be null)
@@ -72,7 +77,7 @@ public class ExtLogRecord extends LogRecord {
     }
 
     /**
-     * Construct a new instance. Grabs the current NDC immediately. MDC is deferred.
+     * Construct a new instance. Takes a snapshot of the current NDC immediately. MDC is deferred.
      *
      * @param level           a logging level value
      * @param msg             the raw non-localized logging message (may be null)
@@ -84,11 +89,11 @@ public class ExtLogRecord extends LogRecord {
         super(level, msg);
         this.formatStyle = formatStyle == null ? FormatStyle.MESSAGE_FORMAT : formatStyle;
         this.loggerClassName = loggerClassName;
-        ndc = NDC.get();
+        ndcSnapshot = NDC.snapshot();
         threadName = Thread.currentThread().getName();
         hostName = HostName.getQualifiedHostName();
-        processName = io.smallrye.common.os.Process.getProcessName();
-        processId = doPrivileged((PrivilegedAction<ProcessHandle>) ProcessHandle::current).pid();
+        processName = PROCESS_NAME;
+        processId = PROCESS_ID;
     }
 
     /**
@@ -101,7 +106,13 @@ public class ExtLogRecord extends LogRecord {
         // LogRecord fields
         setLoggerName(original.getLoggerName());
         setInstant(original.getInstant());
-        setParameters(original.getParameters());
+        final int primitiveType = original.primitiveType;
+        if (primitiveType == PRIMITIVE_NONE) {
+            setParameters(original.getParameters());
+        } else {
+            this.primitiveValue = original.primitiveValue;
+            this.primitiveType = primitiveType;
+        }
         setResourceBundle(original.getResourceBundle());
         setResourceBundleName(original.getResourceBundleName());
         setSequenceNumber(original.getSequenceNumber());
@@ -117,8 +128,10 @@ public class ExtLogRecord extends LogRecord {
         setLongThreadID(original.getLongThreadID());
         formatStyle = original.formatStyle;
         marker = original.marker;
+        keyValues = original.keyValues;
         mdcCopy = original.mdcCopy;
         ndc = original.ndc;
+        ndcSnapshot = original.ndcSnapshot;
         loggerClassName = original.loggerClassName;
         threadName = original.threadName;
         hostName = original.hostName;
@@ -143,10 +156,31 @@ public class ExtLogRecord extends LogRecord {
         }
     }
 
+    // process-wide values which do not change, resolved once rather than for each record
+    private static final String PROCESS_NAME = io.smallrye.common.os.Process.getProcessName();
+    private static final long PROCESS_ID = doPrivileged((PrivilegedAction<ProcessHandle>) ProcessHandle::current).pid();
+
+    // the types of a parameter held unboxed
+    private static final int PRIMITIVE_NONE = 0;
+    private static final int PRIMITIVE_INT = 1;
+    private static final int PRIMITIVE_LONG = 2;
+    private static final int PRIMITIVE_DOUBLE = 3;
+    private static final int PRIMITIVE_FLOAT = 4;
+    private static final int PRIMITIVE_CHAR = 5;
+    private static final int PRIMITIVE_SHORT = 6;
+    private static final int PRIMITIVE_BYTE = 7;
+    private static final int PRIMITIVE_BOOLEAN = 8;
+    // identifies a cached formatted message which was rendered from the unboxed parameter
+    private static final Object[] PRIMITIVE_PARAMETERS = new Object[0];
+    // the last locale known to format integers with ASCII digits
+    private static volatile Locale asciiDigitLocale = Locale.ROOT;
+
     private final transient String loggerClassName;
     private transient boolean calculateCaller = true;
 
     private String ndc;
+    // the NDC captured when the record was created, only joined into a string when the NDC is requested
+    private transient Supplier<String> ndcSnapshot;
     private FormatStyle formatStyle;
     private FastCopyHashMap<String, Object> mdcCopy;
     private int sourceLineNumber = -1;
@@ -158,6 +192,17 @@ public class ExtLogRecord extends LogRecord {
     private String sourceModuleName;
     private String sourceModuleVersion;
     private Object marker;
+    private KeyValues keyValues;
+    private transient FormattedMessage formattedMessage;
+    // a single parameter held unboxed until the parameters are requested, the value holds the bits of the parameter
+    private transient volatile int primitiveType;
+    private transient long primitiveValue;
+
+    Object writeReplace() throws ObjectStreamException {
+        // the parameters are written by LogRecord, so the unboxed parameter must be boxed first
+        getParameters();
+        return this;
+    }
 
     private void writeObject(ObjectOutputStream oos) throws IOException {
         copyAll();
@@ -179,6 +224,7 @@ public class ExtLogRecord extends LogRecord {
         sourceModuleName = (String) fields.get("sourceModuleName", null);
         sourceModuleVersion = (String) fields.get("sourceModuleVersion", null);
         marker = fields.get("marker", null);
+        keyValues = (KeyValues) fields.get("keyValues", null);
         long id = fields.get("longThreadID", super.getLongThreadID());
         super.setLongThreadID(id);
     }
@@ -200,6 +246,7 @@ public class ExtLogRecord extends LogRecord {
     public void copyAll() {
         copyMdc();
         calculateCaller();
+        getNdc();
     }
 
     /**
@@ -292,6 +339,14 @@ public class ExtLogRecord extends LogRecord {
      * @return the NDC
      */
     public String getNdc() {
+        String ndc = this.ndc;
+        if (ndc == null) {
+            final Supplier<String> ndcSnapshot = this.ndcSnapshot;
+            if (ndcSnapshot != null) {
+                this.ndc = ndc = ndcSnapshot.get();
+                this.ndcSnapshot = null;
+            }
+        }
         return ndc;
     }
 
@@ -302,6 +357,7 @@ public class ExtLogRecord extends LogRecord {
      */
     public void setNdc(String value) {
         ndc = value;
+        ndcSnapshot = null;
     }
 
     /**
@@ -457,17 +513,52 @@ public class ExtLogRecord extends LogRecord {
     }
 
     /**
-     * Get the fully formatted log record, with resources resolved and parameters applied.
+     * Get the fully formatted log record, with resources resolved and parameters applied. The result is cached so
+     * filters, formatters and handlers processing the same record share a single formatting pass. Changing the message,
+     * parameters or resource bundle discards the cached message.
      *
      * @return the formatted log record
      * @deprecated The formatter should normally be used to format the message contents.
      */
     @Deprecated
     public String getFormattedMessage() {
-        final ResourceBundle bundle = getResourceBundle();
-        String msg = getMessage();
+        final String msg = getMessage();
         if (msg == null)
             return null;
+        final ResourceBundle bundle = getResourceBundle();
+        final FormatStyle formatStyle = this.formatStyle;
+        final int primitiveType = this.primitiveType;
+        if (primitiveType != PRIMITIVE_NONE && bundle == null) {
+            final Locale locale = Locale.getDefault(Locale.Category.FORMAT);
+            final FormattedMessage cached = formattedMessage;
+            if (cached != null && cached.matches(msg, PRIMITIVE_PARAMETERS, formatStyle, null, locale)) {
+                return cached.value;
+            }
+            final String value = formatMessage(msg, formatStyle, locale, primitiveType, primitiveValue);
+            if (value != null) {
+                formattedMessage = new FormattedMessage(msg, PRIMITIVE_PARAMETERS, formatStyle, null, locale, value);
+                return value;
+            }
+            // the message can not be rendered from the unboxed parameter, box it and format it as usual
+        }
+        final Object[] parameters = getParameters();
+        if (bundle == null && (parameters == null || parameters.length == 0)) {
+            return msg;
+        }
+        final Locale locale = Locale.getDefault(Locale.Category.FORMAT);
+        final FormattedMessage cached = formattedMessage;
+        if (cached != null && cached.matches(msg, parameters, formatStyle, bundle, locale)) {
+            return cached.value;
+        }
+        final String value = formatMessage(msg, bundle, parameters, formatStyle);
+        // the cached value is immutable, racing threads at worst format the message more than once
+        formattedMessage = new FormattedMessage(msg, parameters, formatStyle, bundle, locale, value);
+        return value;
+    }
+
+    private static String formatMessage(final String message, final ResourceBundle bundle, final Object[] parameters,
+            final FormatStyle formatStyle) {
+        String msg = message;
         if (bundle != null) {
             try {
                 msg = bundle.getString(msg);
@@ -475,7 +566,6 @@ public class ExtLogRecord extends LogRecord {
                 // ignore
             }
         }
-        final Object[] parameters = getParameters();
         if (parameters == null || parameters.length == 0) {
             return msg;
         }
@@ -487,6 +577,119 @@ public class ExtLogRecord extends LogRecord {
         };
     }
 
+    /**
+     * Formats the message with a single unboxed parameter, rendering the parameter directly into the message.
+     *
+     * @return the formatted message or {@code null} if the message uses a format which requires the boxed parameter
+     */
+    private static String formatMessage(final String msg, final FormatStyle formatStyle, final Locale locale,
+            final int type, final long value) {
+        if (formatStyle == FormatStyle.MESSAGE_FORMAT) {
+            if (msg.indexOf('{') < 0) {
+                return msg;
+            }
+            if (msg.indexOf('\'') >= 0) {
+                // quoting is left to MessageFormat
+                return null;
+            }
+            final StringBuilder result = new StringBuilder(msg.length() + 16);
+            String rendered = null;
+            int start = 0;
+            for (int i = msg.indexOf('{'); i >= 0; i = msg.indexOf('{', start)) {
+                // only the plain {0} form is rendered directly
+                if (!msg.startsWith("{0}", i)) {
+                    return null;
+                }
+                if (rendered == null) {
+                    rendered = renderMessageFormat(locale, type, value);
+                }
+                result.append(msg, start, i).append(rendered);
+                start = i + 3;
+            }
+            return result.append(msg, start, msg.length()).toString();
+        } else if (formatStyle == FormatStyle.PRINTF) {
+            final StringBuilder result = new StringBuilder(msg.length() + 16);
+            boolean consumed = false;
+            int start = 0;
+            for (int i = msg.indexOf('%'); i >= 0; i = msg.indexOf('%', start)) {
+                if (i + 1 == msg.length()) {
+                    return null;
+                }
+                result.append(msg, start, i);
+                final char conversion = msg.charAt(i + 1);
+                if (conversion == '%') {
+                    result.append('%');
+                } else if (conversion == 'n') {
+                    result.append(System.lineSeparator());
+                } else if (consumed) {
+                    // more than one parameter is referenced, leave the error to the formatter
+                    return null;
+                } else if (conversion == 's') {
+                    result.append(box(type, value));
+                    consumed = true;
+                } else if (conversion == 'd' && isIntegral(type) && hasAsciiDigits(locale)) {
+                    result.append(value);
+                    consumed = true;
+                } else {
+                    return null;
+                }
+                start = i + 2;
+            }
+            return result.append(msg, start, msg.length()).toString();
+        }
+        return msg;
+    }
+
+    private static String renderMessageFormat(final Locale locale, final int type, final long value) {
+        // MessageFormat formats numbers with the default number format of the locale and anything else as a string
+        if (isIntegral(type)) {
+            return NumberFormat.getInstance(locale).format(value);
+        } else if (type == PRIMITIVE_DOUBLE) {
+            return NumberFormat.getInstance(locale).format(Double.longBitsToDouble(value));
+        } else if (type == PRIMITIVE_FLOAT) {
+            return NumberFormat.getInstance(locale).format(Float.intBitsToFloat((int) value));
+        }
+        return String.valueOf(box(type, value));
+    }
+
+    private static boolean isIntegral(final int type) {
+        return type == PRIMITIVE_INT || type == PRIMITIVE_LONG || type == PRIMITIVE_SHORT || type == PRIMITIVE_BYTE;
+    }
+
+    private static boolean hasAsciiDigits(final Locale locale) {
+        if (locale.equals(asciiDigitLocale)) {
+            return true;
+        }
+        if (DecimalFormatSymbols.getInstance(locale).getZeroDigit() == '0') {
+            asciiDigitLocale = locale;
+            return true;
+        }
+        return false;
+    }
+
+    private static Object box(final int type, final long value) {
+        switch (type) {
+            case PRIMITIVE_INT:
+                return (int) value;
+            case PRIMITIVE_LONG:
+                return value;
+            case PRIMITIVE_DOUBLE:
+                return Double.longBitsToDouble(value);
+            case PRIMITIVE_FLOAT:
+                return Float.intBitsToFloat((int) value);
+            case PRIMITIVE_CHAR:
+                return (char) value;
+            case PRIMITIVE_SHORT:
+                return (short) value;
+            case PRIMITIVE_BYTE:
+                return (byte) value;
+            case PRIMITIVE_BOOLEAN:
+                return value != 0L;
+            default:
+                throw new IllegalStateException();
+        }
+    }
+
     /**
      * Get the resource key, if any. If the log message is not localized, then the key is {@code null}.
      *
@@ -592,6 +795,7 @@ public class ExtLogRecord extends LogRecord {
      */
     public void setMessage(final String message, final FormatStyle formatStyle) {
         this.formatStyle = formatStyle == null ? FormatStyle.MESSAGE_FORMAT : formatStyle;
+        formattedMessage = null;
         super.setMessage(message);
     }
 
@@ -601,15 +805,130 @@ public class ExtLogRecord extends LogRecord {
      * @param parameters the log message parameters. (may be null)
      */
     public void setParameters(final Object[] parameters) {
+        formattedMessage = null;
+        primitiveType = PRIMITIVE_NONE;
         super.setParameters(parameters);
     }
 
+    /**
+     * Get the parameters to the log message. A parameter set with one of the {@code setParameter} methods is boxed
+     * when this method is first called.
+     *
+     * @return the log message parameters (may be null)
+     */
+    @Override
+    public Object[] getParameters() {
+        final int primitiveType = this.primitiveType;
+        if (primitiveType != PRIMITIVE_NONE) {
+            super.setParameters(new Object[] { box(primitiveType, primitiveValue) });
+            this.primitiveType = PRIMITIVE_NONE;
+        }
+        return super.getParameters();
+    }
+
+    /**
+     * Set a single parameter to the log message without boxing it. The parameter is only boxed if
+     * {@link #getParameters()} is called, the {@linkplain #getFormattedMessage() formatted message} of messages using
+     * plain {@code {0}}, {@code %s} or {@code %d} placeholders is rendered from the unboxed value. Any cached
+     * formatted message is discarded.
+     *
+     * @param parameter the parameter
+     */
+    public void setParameter(final int parameter) {
+        setPrimitiveParameter(PRIMITIVE_INT, parameter);
+    }
+
+    /**
+     * Set a single parameter to the log message without boxing it.
+     *
+     * @param parameter the parameter
+     *
+     * @see #setParameter(int)
+     */
+    public void setParameter(final long parameter) {
+        setPrimitiveParameter(PRIMITIVE_LONG, parameter);
+    }
+
+    /**
+     * Set a single parameter to the log message without boxing it.
+     *
+     * @param parameter the parameter
+     *
+     * @see #setParameter(int)
+     */
+    public void setParameter(final double parameter) {
+        setPrimitiveParameter(PRIMITIVE_DOUBLE, Double.doubleToRawLongBits(parameter));
+    }
+
+    /**
+     * Set a single parameter to the log message without boxing it.
+     *
+     * @param parameter the parameter
+     *
+     * @see #setParameter(int)
+     */
+    public void setParameter(final float parameter) {
+        setPrimitiveParameter(PRIMITIVE_FLOAT, Float.floatToRawIntBits(parameter));
+    }
+
+    /**
+     * Set a single parameter to the log message without boxing it.
+     *
+     * @param parameter the parameter
+     *
+     * @see #setParameter(int)
+     */
+    public void setParameter(final char parameter) {
+        setPrimitiveParameter(PRIMITIVE_CHAR, parameter);
+    }
+
+    /**
+     * Set a single parameter to the log message without boxing it.
+     *
+     * @param parameter the parameter
+     *
+     * @see #setParameter(int)
+     */
+    public void setParameter(final short parameter) {
+        setPrimitiveParameter(PRIMITIVE_SHORT, parameter);
+    }
+
+    /**
+     * Set a single parameter to the log message without boxing it.
+     *
+     * @param parameter the parameter
+     *
+     * @see #setParameter(int)
+     */
+    public void setParameter(final byte parameter) {
+        setPrimitiveParameter(PRIMITIVE_BYTE, parameter);
+    }
+
+    /**
+     * Set a single parameter to the log message without boxing it.
+     *
+     * @param parameter the parameter
+     *
+     * @see #setParameter(int)
+     */
+    public void setParameter(final boolean parameter) {
+        setPrimitiveParameter(PRIMITIVE_BOOLEAN, parameter ? 1L : 0L);
+    }
+
+    private void setPrimitiveParameter(final int type, final long value) {
+        formattedMessage = null;
+        super.setParameters(null);
+        primitiveValue = value;
+        primitiveType = type;
+    }
+
     /**
      * Set the localization resource bundle. Any cached formatted message is discarded.
      *
      * @param bundle localization bundle (may be null)
      */
     public void setResourceBundle(final ResourceBundle bundle) {
+        formattedMessage = null;
         super.setResourceBundle(bundle);
     }
 
@@ -619,6 +938,7 @@ public class ExtLogRecord extends LogRecord {
      * @param name localization bundle name (may be null)
      */
     public void setResourceBundleName(final String name) {
+        formattedMessage = null;
         super.setResourceBundleName(name);
     }
 
@@ -633,6 +953,25 @@ public class ExtLogRecord extends LogRecord {
         return marker;
     }
 
+    /**
+     * Returns the key/value fields attached to this record.
+     *
+     * @return the fields, never {@code null}
+     */
+    public KeyValues getKeyValues() {
+        final KeyValues keyValues = this.keyValues;
+        return keyValues == null ? KeyValues.empty() : keyValues;
+    }
+
+    /**
+     * Sets the key/value fields attached to this record.
+     *
+     * @param keyValues the fields or {@code null} to remove the fields
+     */
+    public void setKeyValues(final KeyValues keyValues) {
+        this.keyValues = keyValues;
+    }
+
     // keep these so that our method signatures don't change
 
     @Override
@@ -645,4 +984,33 @@ public class ExtLogRecord extends LogRecord {
         super.setLongThreadID(id);
         return this;
     }
+
+    /**
+     * A formatted message along with the values it was formatted from. The cached value is only valid while the
+     * record still has the same message, parameters, style, bundle and default locale.
+     */
+    private static final class FormattedMessage {
+        private final String message;
+        private final Object[] parameters;
+        private final FormatStyle formatStyle;
+        private final ResourceBundle bundle;
+        private final Locale locale;
+        private final String value;
+
+        private FormattedMessage(final String message, final Object[] parameters, final FormatStyle formatStyle,
+                final ResourceBundle bundle, final Locale locale, final String value) {
+            this.message = message;
+            this.parameters = parameters;
+            this.formatStyle = formatStyle;
+            this.bundle = bundle;
+            this.locale = locale;
+            this.value = value;
+        }
+
+        boolean matches(final String message, final Object[] parameters, final FormatStyle formatStyle,
+                final ResourceBundle bundle, final Locale locale) {
+            return this.message == message && this.parameters == parameters && this.formatStyle == formatStyle
+                    && this.bundle == bundle && this.locale.equals(locale);
+        }
+    }
 }
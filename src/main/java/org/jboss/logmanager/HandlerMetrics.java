@@ -0,0 +1,242 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logmanager;
+
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Metrics collected by an {@link ExtHandler} when {@linkplain ExtHandler#setMetricsEnabled(boolean) enabled}. The
+ * counters are striped so threads publishing to the same handler do not contend on a single memory location.
+ * <p>
+ * The {@code record} methods are used by handler implementations to report the events they are responsible for, for
+ * example a queueing handler reports dropped records and its queue depth.
+ * </p>
+ */
+public final class HandlerMetrics {
+    private static final AtomicIntegerFieldUpdater<HandlerMetrics> highWaterMarkUpdater = AtomicIntegerFieldUpdater
+            .newUpdater(HandlerMetrics.class, "queueHighWaterMark");
+
+    private final LongAdder published = new LongAdder();
+    private final LongAdder filtered = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder bytesWritten = new LongAdder();
+    private final LongAdder publishTime = new LongAdder();
+    private final LongAdder lockWaitTime = new LongAdder();
+    private final LongAdder rotations = new LongAdder();
+    private final LongAdder rotationTime = new LongAdder();
+    private volatile int queueDepth;
+    private volatile int queueHighWaterMark;
+
+    HandlerMetrics() {
+    }
+
+    /**
+     * Records a published record.
+     *
+     * @param nanos the time, in nanoseconds, taken to publish the record
+     */
+    public void recordPublished(final long nanos) {
+        published.increment();
+        publishTime.add(nanos);
+    }
+
+    /**
+     * Records a record which was rejected by the level or filter of the handler.
+     */
+    public void recordFiltered() {
+        filtered.increment();
+    }
+
+    /**
+     * Records a record which was accepted but discarded, for example because a queue was full.
+     */
+    public void recordDropped() {
+        dropped.increment();
+    }
+
+    /**
+     * Records an error reported by the handler.
+     */
+    public void recordError() {
+        errors.increment();
+    }
+
+    /**
+     * Records bytes written to the target of the handler.
+     *
+     * @param bytes the number of bytes written
+     */
+    public void recordBytesWritten(final long bytes) {
+        bytesWritten.add(bytes);
+    }
+
+    /**
+     * Records the time spent waiting to acquire the handler lock.
+     *
+     * @param nanos the time waited in nanoseconds
+     */
+    public void recordLockWait(final long nanos) {
+        lockWaitTime.add(nanos);
+    }
+
+    /**
+     * Records the current depth of the queue of the handler, updating the high-water mark if required.
+     *
+     * @param depth the number of records in the queue
+     */
+    public void recordQueueDepth(final int depth) {
+        queueDepth = depth;
+        int highWaterMark;
+        do {
+            highWaterMark = queueHighWaterMark;
+            if (depth <= highWaterMark) {
+                return;
+            }
+        } while (!highWaterMarkUpdater.compareAndSet(this, highWaterMark, depth));
+    }
+
+    /**
+     * Records a completed file rotation.
+     *
+     * @param nanos the time, in nanoseconds, taken to rotate the file
+     */
+    public void recordRotation(final long nanos) {
+        rotations.increment();
+        rotationTime.add(nanos);
+    }
+
+    /**
+     * Returns the number of records published.
+     *
+     * @return the number of records published
+     */
+    public long getPublishedCount() {
+        return published.sum();
+    }
+
+    /**
+     * Returns the number of records rejected by the level or filter of the handler.
+     *
+     * @return the number of filtered records
+     */
+    public long getFilteredCount() {
+        return filtered.sum();
+    }
+
+    /**
+     * Returns the number of records which were accepted but discarded.
+     *
+     * @return the number of dropped records
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * Returns the number of errors reported by the handler.
+     *
+     * @return the number of errors
+     */
+    public long getErrorCount() {
+        return errors.sum();
+    }
+
+    /**
+     * Returns the number of bytes written to the target of the handler.
+     *
+     * @return the number of bytes written
+     */
+    public long getBytesWritten() {
+        return bytesWritten.sum();
+    }
+
+    /**
+     * Returns the total time, in nanoseconds, spent publishing records.
+     *
+     * @return the total publish time
+     */
+    public long getPublishTimeNanos() {
+        return publishTime.sum();
+    }
+
+    /**
+     * Returns the total time, in nanoseconds, spent waiting to acquire the handler lock.
+     *
+     * @return the total lock wait time
+     */
+    public long getLockWaitTimeNanos() {
+        return lockWaitTime.sum();
+    }
+
+    /**
+     * Returns the last recorded depth of the queue of the handler.
+     *
+     * @return the queue depth
+     */
+    public int getQueueDepth() {
+        return queueDepth;
+    }
+
+    /**
+     * Returns the largest recorded depth of the queue of the handler.
+     *
+     * @return the queue high-water mark
+     */
+    public int getQueueHighWaterMark() {
+        return queueHighWaterMark;
+    }
+
+    /**
+     * Returns the number of file rotations.
+     *
+     * @return the number of rotations
+     */
+    public long getRotationCount() {
+        return rotations.sum();
+    }
+
+    /**
+     * Returns the total time, in nanoseconds, spent rotating files.
+     *
+     * @return the total rotation time
+     */
+    public long getRotationTimeNanos() {
+        return rotationTime.sum();
+    }
+
+    /**
+     * Resets all the metrics.
+     */
+    public void reset() {
+        published.reset();
+        filtered.reset();
+        dropped.reset();
+        errors.reset();
+        bytesWritten.reset();
+        publishTime.reset();
+        lockWaitTime.reset();
+        rotations.reset();
+        rotationTime.reset();
+        queueDepth = 0;
+        queueHighWaterMark = 0;
+    }
+}
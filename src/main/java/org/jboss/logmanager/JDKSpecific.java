@@ -66,7 +66,7 @@ final class JDKSpecific {
     }
 
     static LogContext logContextFinder(Set<ClassLoader> rejectClassLoaders,
-            final Function<ClassLoader, LogContext> finder) {
+            final Function<Class<?>, LogContext> finder) {
         final SecurityManager sm = System.getSecurityManager();
         if (sm != null) {
             return doPrivileged(new FindCallingClassesAction(rejectClassLoaders, finder));
@@ -168,10 +168,10 @@ final class JDKSpecific {
 
     private static final class FindCallingClassesAction implements PrivilegedAction<LogContext> {
         private final Set<ClassLoader> rejectClassLoaders;
-        private final Function<ClassLoader, LogContext> finder;
+        private final Function<Class<?>, LogContext> finder;
 
         FindCallingClassesAction(final Set<ClassLoader> rejectClassLoaders,
-                final Function<ClassLoader, LogContext> finder) {
+                final Function<Class<?>, LogContext> finder) {
             this.rejectClassLoaders = rejectClassLoaders;
             this.finder = finder;
         }
@@ -203,9 +203,9 @@ final class JDKSpecific {
 
     private static final class FindAllWalkFunction implements Function<Stream<StackWalker.StackFrame>, LogContext> {
         private final Set<ClassLoader> rejectClassLoaders;
-        private final Function<ClassLoader, LogContext> finder;
+        private final Function<Class<?>, LogContext> finder;
 
-        FindAllWalkFunction(final Set<ClassLoader> rejectClassLoaders, final Function<ClassLoader, LogContext> finder) {
+        FindAllWalkFunction(final Set<ClassLoader> rejectClassLoaders, final Function<Class<?>, LogContext> finder) {
             this.rejectClassLoaders = rejectClassLoaders;
             this.finder = finder;
         }
@@ -217,7 +217,7 @@ final class JDKSpecific {
                 final Class<?> clazz = iterator.next().getDeclaringClass();
                 final ClassLoader classLoader = clazz.getClassLoader();
                 if (classLoader != null && !rejectClassLoaders.contains(classLoader)) {
-                    final LogContext result = finder.apply(classLoader);
+                    final LogContext result = finder.apply(clazz);
                     if (result != null) {
                         return result;
                     }
@@ -0,0 +1,535 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logmanager;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+import io.smallrye.common.constraint.Assert;
+
+/**
+ * An immutable list of typed key/value fields attached to a single {@linkplain ExtLogRecord log record}. Unlike the
+ * {@link MDC} the fields are only attached to the record they were logged with, and unlike message parameters they
+ * are not formatted into the message. Structured formatters write them as typed members and the
+ * {@link org.jboss.logmanager.formatters.PatternFormatter} can render selected fields.
+ * <p>
+ * The fields are held in arrays, {@code long}, {@code double} and {@code boolean} values are held unboxed. Keys are
+ * not required to be unique, lookups by key return the first field with the key.
+ * </p>
+ *
+ * <pre>{@code
+ * logger.log(Level.INFO, "Order placed", KeyValues.builder()
+ *         .add("orderId", orderId)
+ *         .add("total", total)
+ *         .add("express", express)
+ *         .build());
+ * }</pre>
+ */
+public final class KeyValues implements Serializable {
+    private static final long serialVersionUID = -2183652617312740176L;
+
+    /**
+     * The type of the value of a field.
+     */
+    public enum Type {
+        /**
+         * A {@link String} value, which may be {@code null}.
+         */
+        STRING,
+        /**
+         * An integral value held as a {@code long}.
+         */
+        LONG,
+        /**
+         * A floating point value held as a {@code double}.
+         */
+        DOUBLE,
+        /**
+         * A {@code boolean} value.
+         */
+        BOOLEAN,
+        /**
+         * Any other object, which may be {@code null}. The value is rendered with {@link String#valueOf(Object)}.
+         */
+        OBJECT,
+    }
+
+    private static final String[] NO_KEYS = new String[0];
+    private static final Type[] NO_TYPES = new Type[0];
+    private static final Object[] NO_OBJECTS = new Object[0];
+    private static final long[] NO_BITS = new long[0];
+    private static final KeyValues EMPTY = new KeyValues(NO_KEYS, NO_TYPES, NO_OBJECTS, NO_BITS);
+
+    private final String[] keys;
+    private final Type[] types;
+    // the value of STRING and OBJECT fields
+    private final Object[] objects;
+    // the value of LONG, DOUBLE and BOOLEAN fields, doubles are held as their raw bits
+    private final long[] bits;
+
+    private KeyValues(final String[] keys, final Type[] types, final Object[] objects, final long[] bits) {
+        this.keys = keys;
+        this.types = types;
+        this.objects = objects;
+        this.bits = bits;
+    }
+
+    /**
+     * Returns an empty list of fields.
+     *
+     * @return the empty list
+     */
+    public static KeyValues empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Creates a list with a single string field.
+     *
+     * @param key   the key, cannot be {@code null}
+     * @param value the value
+     *
+     * @return the fields
+     */
+    public static KeyValues of(final String key, final String value) {
+        return builder(1).add(key, value).build();
+    }
+
+    /**
+     * Creates a list with a single integral field.
+     *
+     * @param key   the key, cannot be {@code null}
+     * @param value the value
+     *
+     * @return the fields
+     */
+    public static KeyValues of(final String key, final long value) {
+        return builder(1).add(key, value).build();
+    }
+
+    /**
+     * Creates a list with a single floating point field.
+     *
+     * @param key   the key, cannot be {@code null}
+     * @param value the value
+     *
+     * @return the fields
+     */
+    public static KeyValues of(final String key, final double value) {
+        return builder(1).add(key, value).build();
+    }
+
+    /**
+     * Creates a list with a single boolean field.
+     *
+     * @param key   the key, cannot be {@code null}
+     * @param value the value
+     *
+     * @return the fields
+     */
+    public static KeyValues of(final String key, final boolean value) {
+        return builder(1).add(key, value).build();
+    }
+
+    /**
+     * Creates a list with a single field. Boxed numbers, booleans and strings are stored with their corresponding
+     * {@linkplain Type type}.
+     *
+     * @param key   the key, cannot be {@code null}
+     * @param value the value
+     *
+     * @return the fields
+     */
+    public static KeyValues of(final String key, final Object value) {
+        return builder(1).add(key, value).build();
+    }
+
+    /**
+     * Creates a new builder.
+     *
+     * @return the builder
+     */
+    public static Builder builder() {
+        return builder(4);
+    }
+
+    /**
+     * Creates a new builder sized for the expected number of fields.
+     *
+     * @param expectedSize the expected number of fields
+     *
+     * @return the builder
+     */
+    public static Builder builder(final int expectedSize) {
+        return new Builder(Math.max(1, expectedSize));
+    }
+
+    /**
+     * Returns the number of fields.
+     *
+     * @return the number of fields
+     */
+    public int size() {
+        return keys.length;
+    }
+
+    /**
+     * Indicates whether there are no fields.
+     *
+     * @return {@code true} if there are no fields
+     */
+    public boolean isEmpty() {
+        return keys.length == 0;
+    }
+
+    /**
+     * Returns the key of the field at the index.
+     *
+     * @param index the index of the field
+     *
+     * @return the key
+     */
+    public String getKey(final int index) {
+        return keys[index];
+    }
+
+    /**
+     * Returns the type of the field at the index.
+     *
+     * @param index the index of the field
+     *
+     * @return the type
+     */
+    public Type getType(final int index) {
+        return types[index];
+    }
+
+    /**
+     * Returns the value of a {@link Type#LONG} field.
+     *
+     * @param index the index of the field
+     *
+     * @return the value
+     *
+     * @throws IllegalStateException if the field is not a {@link Type#LONG} field
+     */
+    public long getLong(final int index) {
+        checkType(index, Type.LONG);
+        return bits[index];
+    }
+
+    /**
+     * Returns the value of a {@link Type#DOUBLE} field.
+     *
+     * @param index the index of the field
+     *
+     * @return the value
+     *
+     * @throws IllegalStateException if the field is not a {@link Type#DOUBLE} field
+     */
+    public double getDouble(final int index) {
+        checkType(index, Type.DOUBLE);
+        return Double.longBitsToDouble(bits[index]);
+    }
+
+    /**
+     * Returns the value of a {@link Type#BOOLEAN} field.
+     *
+     * @param index the index of the field
+     *
+     * @return the value
+     *
+     * @throws IllegalStateException if the field is not a {@link Type#BOOLEAN} field
+     */
+    public boolean getBoolean(final int index) {
+        checkType(index, Type.BOOLEAN);
+        return bits[index] != 0L;
+    }
+
+    /**
+     * Returns the value of the field at the index. Primitive values are boxed.
+     *
+     * @param index the index of the field
+     *
+     * @return the value, which may be {@code null}
+     */
+    public Object getValue(final int index) {
+        switch (types[index]) {
+            case LONG:
+                return bits[index];
+            case DOUBLE:
+                return Double.longBitsToDouble(bits[index]);
+            case BOOLEAN:
+                return bits[index] != 0L;
+            default:
+                return objects[index];
+        }
+    }
+
+    /**
+     * Appends the value of the field at the index to the builder without boxing primitive values. A {@code null}
+     * value is appended as {@code null}.
+     *
+     * @param builder the builder to append to
+     * @param index   the index of the field
+     *
+     * @return the builder
+     */
+    public StringBuilder appendValue(final StringBuilder builder, final int index) {
+        switch (types[index]) {
+            case LONG:
+                return builder.append(bits[index]);
+            case DOUBLE:
+                return builder.append(Double.longBitsToDouble(bits[index]));
+            case BOOLEAN:
+                return builder.append(bits[index] != 0L);
+            default:
+                return builder.append(objects[index]);
+        }
+    }
+
+    /**
+     * Returns the value of the field at the index as a string.
+     *
+     * @param index the index of the field
+     *
+     * @return the value as a string, or {@code null} if the value is {@code null}
+     */
+    public String getValueAsString(final int index) {
+        switch (types[index]) {
+            case LONG:
+                return Long.toString(bits[index]);
+            case DOUBLE:
+                return Double.toString(Double.longBitsToDouble(bits[index]));
+            case BOOLEAN:
+                return Boolean.toString(bits[index] != 0L);
+            default:
+                final Object value = objects[index];
+                return value == null ? null : value.toString();
+        }
+    }
+
+    /**
+     * Returns the index of the first field with the key.
+     *
+     * @param key the key
+     *
+     * @return the index or {@code -1} if there is no field with the key
+     */
+    public int indexOf(final String key) {
+        final String[] keys = this.keys;
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i].equals(key)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the value of the first field with the key. Primitive values are boxed.
+     *
+     * @param key the key
+     *
+     * @return the value or {@code null} if there is no field with the key
+     */
+    public Object get(final String key) {
+        final int index = indexOf(key);
+        return index < 0 ? null : getValue(index);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder();
+        sb.append('{');
+        for (int i = 0; i < keys.length; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(keys[i]).append('=');
+            appendValue(sb, i);
+        }
+        return sb.append('}').toString();
+    }
+
+    /**
+     * Replaces the values of {@link Type#OBJECT} fields with their string representation when serialized, the values
+     * are not required to be serializable.
+     *
+     * @return the serializable fields
+     */
+    private Object writeReplace() {
+        Object[] objects = null;
+        for (int i = 0; i < types.length; i++) {
+            final Object value = this.objects[i];
+            if (types[i] == Type.OBJECT && value != null && !(value instanceof String)) {
+                if (objects == null) {
+                    objects = this.objects.clone();
+                }
+                objects[i] = String.valueOf(value);
+            }
+        }
+        return objects == null ? this : new KeyValues(keys, types, objects, bits);
+    }
+
+    private void checkType(final int index, final Type type) {
+        if (types[index] != type) {
+            throw new IllegalStateException(
+                    String.format("The value of %s is a %s value and not a %s value", keys[index], types[index], type));
+        }
+    }
+
+    /**
+     * A builder for {@link KeyValues}. Fields added after {@link #build()} has been invoked are not visible to the
+     * previously built fields.
+     */
+    public static final class Builder {
+        private String[] keys;
+        private Type[] types;
+        private Object[] objects;
+        private long[] bits;
+        private int size;
+        // set when the arrays are shared with built fields and must be copied before they are modified
+        private boolean shared;
+
+        private Builder(final int capacity) {
+            keys = new String[capacity];
+            types = new Type[capacity];
+            objects = new Object[capacity];
+            bits = new long[capacity];
+        }
+
+        /**
+         * Adds a string field.
+         *
+         * @param key   the key, cannot be {@code null}
+         * @param value the value
+         *
+         * @return this builder
+         */
+        public Builder add(final String key, final String value) {
+            final int index = next(key, Type.STRING);
+            objects[index] = value;
+            return this;
+        }
+
+        /**
+         * Adds an integral field.
+         *
+         * @param key   the key, cannot be {@code null}
+         * @param value the value
+         *
+         * @return this builder
+         */
+        public Builder add(final String key, final long value) {
+            final int index = next(key, Type.LONG);
+            bits[index] = value;
+            return this;
+        }
+
+        /**
+         * Adds a floating point field.
+         *
+         * @param key   the key, cannot be {@code null}
+         * @param value the value
+         *
+         * @return this builder
+         */
+        public Builder add(final String key, final double value) {
+            final int index = next(key, Type.DOUBLE);
+            bits[index] = Double.doubleToRawLongBits(value);
+            return this;
+        }
+
+        /**
+         * Adds a boolean field.
+         *
+         * @param key   the key, cannot be {@code null}
+         * @param value the value
+         *
+         * @return this builder
+         */
+        public Builder add(final String key, final boolean value) {
+            final int index = next(key, Type.BOOLEAN);
+            bits[index] = value ? 1L : 0L;
+            return this;
+        }
+
+        /**
+         * Adds a field. Boxed integral and floating point numbers, booleans and strings are stored with their
+         * corresponding {@linkplain Type type}, any other value is stored as an {@link Type#OBJECT} field.
+         *
+         * @param key   the key, cannot be {@code null}
+         * @param value the value
+         *
+         * @return this builder
+         */
+        public Builder add(final String key, final Object value) {
+            if (value instanceof String) {
+                return add(key, (String) value);
+            } else if (value instanceof Long || value instanceof Integer || value instanceof Short
+                    || value instanceof Byte) {
+                return add(key, ((Number) value).longValue());
+            } else if (value instanceof Double || value instanceof Float) {
+                return add(key, ((Number) value).doubleValue());
+            } else if (value instanceof Boolean) {
+                return add(key, ((Boolean) value).booleanValue());
+            }
+            final int index = next(key, Type.OBJECT);
+            objects[index] = value;
+            return this;
+        }
+
+        /**
+         * Creates the fields.
+         *
+         * @return the fields
+         */
+        public KeyValues build() {
+            final int size = this.size;
+            if (size == 0) {
+                return EMPTY;
+            }
+            if (size == keys.length) {
+                shared = true;
+                return new KeyValues(keys, types, objects, bits);
+            }
+            return new KeyValues(Arrays.copyOf(keys, size), Arrays.copyOf(types, size), Arrays.copyOf(objects, size),
+                    Arrays.copyOf(bits, size));
+        }
+
+        private int next(final String key, final Type type) {
+            Assert.checkNotNullParam("key", key);
+            final int index = size;
+            if (index == keys.length || shared) {
+                final int capacity = index == keys.length ? index << 1 : keys.length;
+                keys = Arrays.copyOf(keys, capacity);
+                types = Arrays.copyOf(types, capacity);
+                objects = Arrays.copyOf(objects, capacity);
+                bits = Arrays.copyOf(bits, capacity);
+                shared = false;
+            }
+            keys[index] = key;
+            types[index] = type;
+            size = index + 1;
+            return index;
+        }
+    }
+}
@@ -74,11 +74,19 @@ public final class LogContext implements AutoCloseable {
     static final Permission CONTROL_PERMISSION = new LoggingPermission("control", null);
 
     private final LoggerNode rootLogger;
+    /**
+     * A flat index of requested logger names to their nodes, which allows a full name to be resolved with a single
+     * lookup instead of walking the tree one segment at a time. The node references are weak unless this context uses
+     * strong references.
+     */
+    private final ConcurrentMap<String, LoggerNode> loggerIndex;
     private final boolean strong;
     private final LogContextInitializer initializer;
 
     private final Set<LoggerNode> pinnedSet;
 
+    private volatile boolean metricsEnabled;
+
     private volatile Map<Logger.AttachmentKey<?>, Object> attachments;
 
     private static final VarHandle attachmentHandle = ConstantBootstraps.fieldVarHandle(MethodHandles.lookup(), "attachments",
@@ -135,6 +143,7 @@ public final class LogContext implements AutoCloseable {
         this.strong = strong || initializer.useStrongReferences();
         levelMapReference = new AtomicReference<Map<String, Reference<Level, Void>>>(LazyHolder.INITIAL_LEVEL_MAP);
         rootLogger = new LoggerNode(this);
+        loggerIndex = this.strong ? new ConcurrentHashMap<>() : new ConcurrentWeakValueMap<>();
         closeHandlers = new LinkedHashSet<>();
         attachments = Map.of();
         pinnedSet = this.strong ? Set.of() : ConcurrentHashMap.newKeySet();
@@ -191,6 +200,34 @@ public final class LogContext implements AutoCloseable {
         return create(false, initializer);
     }
 
+    // Metrics mgmt
+
+    /**
+     * Indicates whether the number of records published and filtered by each logger are being counted.
+     *
+     * @return {@code true} if logger metrics are enabled, otherwise {@code false}
+     *
+     * @see LogContextMetrics
+     */
+    public boolean isMetricsEnabled() {
+        return metricsEnabled;
+    }
+
+    /**
+     * Enables or disables counting the number of records published and filtered by each logger. When disabled the
+     * cost is a single volatile read per record.
+     *
+     * @param metricsEnabled {@code true} to enable logger metrics
+     *
+     * @throws SecurityException if a security manager exists and if the caller does not have
+     *                           {@code LoggingPermission(control)}
+     * @see LogContextMetrics
+     */
+    public void setMetricsEnabled(final boolean metricsEnabled) throws SecurityException {
+        checkAccess();
+        this.metricsEnabled = metricsEnabled;
+    }
+
     // Attachment mgmt
 
     /**
@@ -309,7 +346,7 @@ public final class LogContext implements AutoCloseable {
      * @see java.util.logging.LogManager#getLogger(String)
      */
     public Logger getLogger(String name) {
-        return rootLogger.getOrCreate(name).createLogger();
+        return getOrCreateNode(name).createLogger();
     }
 
     /**
@@ -319,7 +356,7 @@ public final class LogContext implements AutoCloseable {
      * @return the logger instance, or {@code null} if no such logger node exists
      */
     public Logger getLoggerIfExists(String name) {
-        final LoggerNode node = rootLogger.getIfExists(name);
+        final LoggerNode node = getNodeIfExists(name);
         return node == null ? null : node.createLogger();
     }
 
@@ -332,7 +369,7 @@ public final class LogContext implements AutoCloseable {
      * @return the attachment or {@code null} if the logger or the attachment does not exist
      */
     public <V> V getAttachment(String loggerName, Logger.AttachmentKey<V> key) {
-        final LoggerNode node = rootLogger.getIfExists(loggerName);
+        final LoggerNode node = getNodeIfExists(loggerName);
         if (node == null)
             return null;
         return node.getAttachment(key);
@@ -496,6 +533,7 @@ public final class LogContext implements AutoCloseable {
         try {
             // First we want to close all loggers
             recursivelyClose(rootLogger);
+            loggerIndex.clear();
             // Next process the close handlers associated with this log context
             for (AutoCloseable handler : closeHandlers) {
                 handler.close();
@@ -605,8 +643,38 @@ public final class LogContext implements AutoCloseable {
         return rootLogger;
     }
 
+    LoggerNode getOrCreateNode(String name) {
+        if (name == null || name.isEmpty()) {
+            return rootLogger;
+        }
+        final LoggerNode node = loggerIndex.get(name);
+        if (node != null) {
+            return node;
+        }
+        final LoggerNode newNode = rootLogger.getOrCreate(name);
+        // the tree resolves concurrent creation, so all racing threads index the same node
+        loggerIndex.putIfAbsent(name, newNode);
+        return newNode;
+    }
+
+    LoggerNode getNodeIfExists(String name) {
+        if (name == null || name.isEmpty()) {
+            return rootLogger;
+        }
+        final LoggerNode node = loggerIndex.get(name);
+        if (node != null) {
+            return node;
+        }
+        final LoggerNode existing = rootLogger.getIfExists(name);
+        if (existing != null) {
+            loggerIndex.putIfAbsent(name, existing);
+        }
+        return existing;
+    }
+
     ConcurrentMap<String, LoggerNode> createChildMap() {
-        return strong ? new CopyOnWriteMap<String, LoggerNode>() : new CopyOnWriteWeakMap<String, LoggerNode>();
+        return strong ? new ConcurrentHashMap<String, LoggerNode>(4)
+                : new ConcurrentWeakValueMap<String, LoggerNode>(4);
     }
 
     boolean pin(LoggerNode node) {
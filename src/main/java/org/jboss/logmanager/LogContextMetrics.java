@@ -0,0 +1,155 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logmanager;
+
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.ToLongFunction;
+import java.util.logging.Handler;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Exposes the metrics of a {@link LogContext} as an MXBean.
+ * <p>
+ * Per-logger metrics are collected while the {@linkplain LogContext#setMetricsEnabled(boolean) metrics of the log
+ * context} are enabled. Handler metrics are collected by each {@link ExtHandler} which has
+ * {@linkplain ExtHandler#setMetricsEnabled(boolean) metrics enabled}. Handlers are named by their class name and
+ * identity hash code.
+ * </p>
+ */
+public final class LogContextMetrics implements LogContextMetricsMXBean, AutoCloseable {
+    private final LogContext logContext;
+    private final MBeanServer server;
+    private final ObjectName objectName;
+
+    private LogContextMetrics(final LogContext logContext, final MBeanServer server, final ObjectName objectName) {
+        this.logContext = logContext;
+        this.server = server;
+        this.objectName = objectName;
+    }
+
+    /**
+     * Enables the metrics of the log context and registers an MXBean named
+     * {@code org.jboss.logmanager:type=LogContext,name=<name>} with the platform MBean server.
+     *
+     * @param logContext the log context
+     * @param name       the name of the log context
+     *
+     * @return the registered metrics, {@linkplain #close() closing} it unregisters the MXBean
+     *
+     * @throws JMException if the MXBean could not be registered
+     */
+    public static LogContextMetrics register(final LogContext logContext, final String name) throws JMException {
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        final ObjectName objectName = new ObjectName("org.jboss.logmanager:type=LogContext,name=" + ObjectName.quote(name));
+        final LogContextMetrics metrics = new LogContextMetrics(logContext, server, objectName);
+        logContext.setMetricsEnabled(true);
+        server.registerMBean(metrics, objectName);
+        return metrics;
+    }
+
+    /**
+     * Returns the name the MXBean is registered with.
+     *
+     * @return the object name
+     */
+    public ObjectName getObjectName() {
+        return objectName;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return logContext.isMetricsEnabled();
+    }
+
+    @Override
+    public void setEnabled(final boolean enabled) {
+        logContext.setMetricsEnabled(enabled);
+    }
+
+    @Override
+    public Map<String, Long> getLoggerPublishedCounts() {
+        return loggerCounts(LoggerNode::getPublishedCount);
+    }
+
+    @Override
+    public Map<String, Long> getLoggerFilteredCounts() {
+        return loggerCounts(LoggerNode::getFilteredCount);
+    }
+
+    @Override
+    public Map<String, HandlerMetrics> getHandlerMetrics() {
+        final Map<String, HandlerMetrics> result = new TreeMap<>();
+        final Set<Handler> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (String name : Collections.list(logContext.getLoggerNames())) {
+            final LoggerNode node = logContext.getNodeIfExists(name);
+            if (node != null) {
+                collectHandlerMetrics(node.getHandlers(), seen, result);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Unregisters the MXBean. The metrics of the log context are not disabled.
+     *
+     * @throws JMException if the MXBean could not be unregistered
+     */
+    @Override
+    public void close() throws JMException {
+        server.unregisterMBean(objectName);
+    }
+
+    private Map<String, Long> loggerCounts(final ToLongFunction<LoggerNode> counter) {
+        final Map<String, Long> result = new TreeMap<>();
+        for (String name : Collections.list(logContext.getLoggerNames())) {
+            final LoggerNode node = logContext.getNodeIfExists(name);
+            if (node != null) {
+                final long count = counter.applyAsLong(node);
+                if (count > 0L) {
+                    result.put(name, count);
+                }
+            }
+        }
+        return result;
+    }
+
+    private static void collectHandlerMetrics(final Handler[] handlers, final Set<Handler> seen,
+            final Map<String, HandlerMetrics> result) {
+        for (Handler handler : handlers) {
+            if (handler instanceof ExtHandler && seen.add(handler)) {
+                final ExtHandler extHandler = (ExtHandler) handler;
+                final HandlerMetrics metrics = extHandler.getMetrics();
+                if (metrics != null) {
+                    result.put(handler.getClass().getName() + "@" + Integer.toHexString(System.identityHashCode(handler)),
+                            metrics);
+                }
+                collectHandlerMetrics(extHandler.getHandlers(), seen, result);
+            }
+        }
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logmanager;
+
+import java.util.Map;
+
+/**
+ * The management interface for the metrics of a {@link LogContext}.
+ *
+ * @see LogContextMetrics
+ */
+public interface LogContextMetricsMXBean {
+
+    /**
+     * Indicates whether the per-logger metrics of the log context are enabled.
+     *
+     * @return {@code true} if the metrics are enabled
+     */
+    boolean isEnabled();
+
+    /**
+     * Enables or disables the per-logger metrics of the log context.
+     *
+     * @param enabled {@code true} to enable the metrics
+     */
+    void setEnabled(boolean enabled);
+
+    /**
+     * Returns the number of records published by each logger which has published at least one record.
+     *
+     * @return a map of the logger name to the number of records published
+     */
+    Map<String, Long> getLoggerPublishedCounts();
+
+    /**
+     * Returns the number of records rejected by the filter of each logger which has rejected at least one record.
+     *
+     * @return a map of the logger name to the number of records filtered
+     */
+    Map<String, Long> getLoggerFilteredCounts();
+
+    /**
+     * Returns the metrics of each handler attached to a logger in the log context which has metrics enabled,
+     * including nested handlers.
+     *
+     * @return a map of the handler name to its metrics
+     */
+    Map<String, HandlerMetrics> getHandlerMetrics();
+}
@@ -0,0 +1,89 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logmanager;
+
+import java.lang.invoke.ConstantBootstraps;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.function.Function;
+
+/**
+ * A cache of the log context resolved for a calling class. Entries are held by a {@link ClassValue} so they do not
+ * prevent the class, or its class loader, from being unloaded. Any change which could alter a resolution must call
+ * {@link #invalidate()}, which discards all entries at once by advancing a generation counter.
+ */
+final class LogContextResolutionCache {
+
+    @SuppressWarnings({ "UnusedDeclaration" })
+    private volatile int generation;
+
+    private static final VarHandle generationHandle = ConstantBootstraps.fieldVarHandle(MethodHandles.lookup(), "generation",
+            VarHandle.class, LogContextResolutionCache.class, int.class);
+
+    private final ClassValue<Slot> slots = new ClassValue<Slot>() {
+        @Override
+        protected Slot computeValue(final Class<?> type) {
+            return new Slot();
+        }
+    };
+
+    /**
+     * Get the log context resolved for the class loader of the given class, invoking the resolver if there is no
+     * current entry. A {@code null} resolution is cached as well.
+     *
+     * @param clazz    the calling class
+     * @param resolver the function used to resolve the log context from the class loader of the calling class
+     *
+     * @return the resolved log context or {@code null} if the resolver did not find one
+     */
+    LogContext get(final Class<?> clazz, final Function<ClassLoader, LogContext> resolver) {
+        final Slot slot = slots.get(clazz);
+        // read the generation before resolving so a concurrent invalidation causes the entry to be discarded
+        final int generation = this.generation;
+        final Entry entry = slot.entry;
+        if (entry != null && entry.generation == generation) {
+            return entry.logContext;
+        }
+        final LogContext logContext = resolver.apply(clazz.getClassLoader());
+        slot.entry = new Entry(generation, logContext);
+        return logContext;
+    }
+
+    /**
+     * Discards all the cached resolutions.
+     */
+    void invalidate() {
+        generationHandle.getAndAdd(this, 1);
+    }
+
+    private static final class Slot {
+        volatile Entry entry;
+    }
+
+    private static final class Entry {
+        private final int generation;
+        private final LogContext logContext;
+
+        private Entry(final int generation, final LogContext logContext) {
+            this.generation = generation;
+            this.logContext = logContext;
+        }
+    }
+}
@@ -25,14 +25,19 @@ import java.security.AccessController;
 import java.security.PrivilegedAction;
 import java.util.ArrayList;
 import java.util.Enumeration;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Properties;
 import java.util.ServiceConfigurationError;
 import java.util.ServiceLoader;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
+import org.jboss.logmanager.configuration.ContextConfiguration;
+import org.jboss.logmanager.configuration.PropertyContextConfiguration;
 import org.jboss.logmanager.configuration.PropertyLogContextConfigurator;
 
 import io.smallrye.common.constraint.Assert;
@@ -149,14 +154,39 @@ public final class LogManager extends java.util.logging.LogManager {
     }
 
     /**
-     * Does nothing.
+     * Updates the configuration of the {@linkplain LogContext#getSystemLogContext() system log context} if it was
+     * configured with a {@code logging.properties} file. Only the changed properties are applied, see
+     * {@link PropertyContextConfiguration#reconfigure(Properties)}. If the system log context was not configured with
+     * properties this does nothing.
      *
-     * @param ins    not used
-     * @param mapper not used
+     * @param ins    the stream to read the properties from
+     * @param mapper a function which returns, for each property key, the function used to determine the resulting value
+     *               from the old and new values, or {@code null} to use the new values
+     *
+     * @throws IOException if the properties cannot be read
      */
     public void updateConfiguration(final InputStream ins, final Function<String, BiFunction<String, String, String>> mapper)
             throws IOException {
-        // no operation the configuration API should be used
+        final ContextConfiguration configuration = LogContext.getSystemLogContext()
+                .getAttachment(ContextConfiguration.CONTEXT_CONFIGURATION_KEY);
+        if (configuration instanceof PropertyContextConfiguration) {
+            final PropertyContextConfiguration propertyConfiguration = (PropertyContextConfiguration) configuration;
+            final Properties loaded = new Properties();
+            // the stream belongs to the caller, so it is not closed
+            loaded.load(ins);
+            final Properties current = propertyConfiguration.getProperties();
+            final Properties properties = new Properties();
+            final Set<String> keys = new HashSet<>(current.stringPropertyNames());
+            keys.addAll(loaded.stringPropertyNames());
+            for (String key : keys) {
+                final String value = mapper == null ? loaded.getProperty(key)
+                        : mapper.apply(key).apply(current.getProperty(key), loaded.getProperty(key));
+                if (value != null) {
+                    properties.setProperty(key, value);
+                }
+            }
+            propertyConfiguration.reconfigure(properties);
+        }
     }
 
     /**
@@ -640,6 +640,149 @@ public final class Logger extends java.util.logging.Logger implements Serializab
         logRaw(rec);
     }
 
+    /**
+     * Log a message with a single parameter. Unlike {@link #log(Level, String, Object)} the parameter is not boxed,
+     * it is held unboxed in the record and only boxed if the record's parameters are requested.
+     *
+     * @param level  the level
+     * @param msg    the message
+     * @param param1 the parameter
+     */
+    public void log(final Level level, final String msg, final int param1) {
+        if (!loggerNode.isLoggableLevel(level.intValue())) {
+            return;
+        }
+        final ExtLogRecord rec = new ExtLogRecord(level, msg, LOGGER_CLASS_NAME);
+        rec.setParameter(param1);
+        logRaw(rec);
+    }
+
+    /**
+     * Log a message with a single unboxed parameter.
+     *
+     * @param level  the level
+     * @param msg    the message
+     * @param param1 the parameter
+     *
+     * @see #log(Level, String, int)
+     */
+    public void log(final Level level, final String msg, final long param1) {
+        if (!loggerNode.isLoggableLevel(level.intValue())) {
+            return;
+        }
+        final ExtLogRecord rec = new ExtLogRecord(level, msg, LOGGER_CLASS_NAME);
+        rec.setParameter(param1);
+        logRaw(rec);
+    }
+
+    /**
+     * Log a message with a single unboxed parameter.
+     *
+     * @param level  the level
+     * @param msg    the message
+     * @param param1 the parameter
+     *
+     * @see #log(Level, String, int)
+     */
+    public void log(final Level level, final String msg, final double param1) {
+        if (!loggerNode.isLoggableLevel(level.intValue())) {
+            return;
+        }
+        final ExtLogRecord rec = new ExtLogRecord(level, msg, LOGGER_CLASS_NAME);
+        rec.setParameter(param1);
+        logRaw(rec);
+    }
+
+    /**
+     * Log a message with a single unboxed parameter.
+     *
+     * @param level  the level
+     * @param msg    the message
+     * @param param1 the parameter
+     *
+     * @see #log(Level, String, int)
+     */
+    public void log(final Level level, final String msg, final float param1) {
+        if (!loggerNode.isLoggableLevel(level.intValue())) {
+            return;
+        }
+        final ExtLogRecord rec = new ExtLogRecord(level, msg, LOGGER_CLASS_NAME);
+        rec.setParameter(param1);
+        logRaw(rec);
+    }
+
+    /**
+     * Log a message with a single unboxed parameter.
+     *
+     * @param level  the level
+     * @param msg    the message
+     * @param param1 the parameter
+     *
+     * @see #log(Level, String, int)
+     */
+    public void log(final Level level, final String msg, final char param1) {
+        if (!loggerNode.isLoggableLevel(level.intValue())) {
+            return;
+        }
+        final ExtLogRecord rec = new ExtLogRecord(level, msg, LOGGER_CLASS_NAME);
+        rec.setParameter(param1);
+        logRaw(rec);
+    }
+
+    /**
+     * Log a message with a single unboxed parameter.
+     *
+     * @param level  the level
+     * @param msg    the message
+     * @param param1 the parameter
+     *
+     * @see #log(Level, String, int)
+     */
+    public void log(final Level level, final String msg, final short param1) {
+        if (!loggerNode.isLoggableLevel(level.intValue())) {
+            return;
+        }
+        final ExtLogRecord rec = new ExtLogRecord(level, msg, LOGGER_CLASS_NAME);
+        rec.setParameter(param1);
+        logRaw(rec);
+    }
+
+    /**
+     * Log a message with a single unboxed parameter.
+     *
+     * @param level  the level
+     * @param msg    the message
+     * @param param1 the parameter
+     *
+     * @see #log(Level, String, int)
+     */
+    public void log(final Level level, final String msg, final byte param1) {
+        if (!loggerNode.isLoggableLevel(level.intValue())) {
+            return;
+        }
+        final ExtLogRecord rec = new ExtLogRecord(level, msg, LOGGER_CLASS_NAME);
+        rec.setParameter(param1);
+        logRaw(rec);
+    }
+
+    /**
+     * Log a message with a single unboxed parameter.
+     *
+     * @param level  the level
+     * @param msg    the message
+     * @param param1 the parameter
+     *
+     * @see #log(Level, String, int)
+     */
+    public void log(final Level level, final String msg, final boolean param1) {
+        if (!loggerNode.isLoggableLevel(level.intValue())) {
+            return;
+        }
+        final ExtLogRecord rec = new ExtLogRecord(level, msg, LOGGER_CLASS_NAME);
+        rec.setParameter(param1);
+        logRaw(rec);
+    }
+
     /** {@inheritDoc} */
     public void log(final Level level, final String msg, final Object[] params) {
         if (!loggerNode.isLoggableLevel(level.intValue())) {
@@ -665,6 +808,43 @@ public final class Logger extends java.util.logging.Logger implements Serializab
         logRaw(rec);
     }
 
+    /**
+     * Log a message with key/value fields. The fields are attached to the record and are not formatted into the
+     * message.
+     *
+     * @param level     the level
+     * @param msg       the message
+     * @param keyValues the fields
+     */
+    public void log(final Level level, final String msg, final KeyValues keyValues) {
+        if (!loggerNode.isLoggableLevel(level.intValue())) {
+            return;
+        }
+        final ExtLogRecord rec = new ExtLogRecord(level, msg, NO_FORMAT, LOGGER_CLASS_NAME);
+        rec.setKeyValues(keyValues);
+        logRaw(rec);
+    }
+
+    /**
+     * Log a message with key/value fields and an exception.
+     *
+     * @param level     the level
+     * @param msg       the message
+     * @param keyValues the fields
+     * @param thrown    the exception
+     *
+     * @see #log(Level, String, KeyValues)
+     */
+    public void log(final Level level, final String msg, final KeyValues keyValues, final Throwable thrown) {
+        if (!loggerNode.isLoggableLevel(level.intValue())) {
+            return;
+        }
+        final ExtLogRecord rec = new ExtLogRecord(level, msg, NO_FORMAT, LOGGER_CLASS_NAME);
+        rec.setKeyValues(keyValues);
+        rec.setThrown(thrown);
+        logRaw(rec);
+    }
+
     @Override
     public void log(final Level level, final Throwable thrown, final Supplier<String> msgSupplier) {
         if (!loggerNode.isLoggableLevel(level.intValue())) {
@@ -884,6 +1064,30 @@ public final class Logger extends java.util.logging.Logger implements Serializab
         logRaw(rec);
     }
 
+    /**
+     * SPI interface method to log a message with key/value fields at a given level.
+     *
+     * @param fqcn      the fully qualified class name of the first logger class
+     * @param level     the level to log at
+     * @param message   the message
+     * @param style     the message format style
+     * @param params    the log parameters
+     * @param keyValues the key/value fields, if any
+     * @param t         the throwable, if any
+     */
+    public void log(final String fqcn, final Level level, final String message, final ExtLogRecord.FormatStyle style,
+            final Object[] params, final KeyValues keyValues, final Throwable t) {
+        if (level == null || fqcn == null || message == null
+                || !loggerNode.isLoggableLevel(level.intValue())) {
+            return;
+        }
+        final ExtLogRecord rec = new ExtLogRecord(level, message, style, fqcn);
+        rec.setParameters(params);
+        rec.setKeyValues(keyValues);
+        rec.setThrown(t);
+        logRaw(rec);
+    }
+
     /**
      * SPI interface method to log a message at a given level.
      *
@@ -910,6 +1114,7 @@ public final class Logger extends java.util.logging.Logger implements Serializab
         }
         try {
             if (!loggerNode.isLoggable(record)) {
+                loggerNode.countFiltered();
                 return;
             }
         } catch (VirtualMachineError e) {
@@ -918,6 +1123,7 @@ public final class Logger extends java.util.logging.Logger implements Serializab
             // todo - error handler
             // treat an errored filter as "pass" (I guess?)
         }
+        loggerNode.countPublished();
         loggerNode.publish(record);
     }
 
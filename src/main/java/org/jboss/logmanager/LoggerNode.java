@@ -30,12 +30,14 @@ import java.util.Collections;
 import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.logging.ErrorManager;
 import java.util.logging.Filter;
@@ -74,15 +76,18 @@ final class LoggerNode implements AutoCloseable {
     private final String fullName;
 
     /**
-     * The map of names to child nodes. The child node references are weak.
+     * The map of names to child nodes, or {@code null} if this node has never had a child. The child node references
+     * are weak unless the context uses strong references. May only be initialized using {@link #childrenHandle}.
      */
-    private final ConcurrentMap<String, LoggerNode> children;
+    private volatile ConcurrentMap<String, LoggerNode> children;
+
+    private static final VarHandle childrenHandle = ConstantBootstraps.fieldVarHandle(MethodHandles.lookup(), "children",
+            VarHandle.class, LoggerNode.class, ConcurrentMap.class);
 
     /**
      * The handlers for this logger. May only be updated using the {@link #handlersUpdater} atomic updater. The array
      * instance should not be modified (treat as immutable).
      */
-    @SuppressWarnings({ "UnusedDeclaration" })
     private volatile Handler[] handlers;
 
     /**
@@ -106,6 +111,13 @@ final class LoggerNode implements AutoCloseable {
     private final Set<Reference<Logger, LoggerNode>> activeLoggers = ConcurrentHashMap.newKeySet();
     private volatile Map<Logger.AttachmentKey<?>, Object> attachments;
 
+    /**
+     * The number of records published and rejected by the filter, only counted while the metrics of the context are
+     * enabled.
+     */
+    private final LongAdder publishedCount = new LongAdder();
+    private final LongAdder filteredCount = new LongAdder();
+
     private static final VarHandle attachmentHandle = ConstantBootstraps.fieldVarHandle(MethodHandles.lookup(), "attachments",
             VarHandle.class, LoggerNode.class, Map.class);
 
@@ -151,7 +163,6 @@ final class LoggerNode implements AutoCloseable {
             effectiveLevel = Logger.INFO_INT;
         }
         handlers = safeCloneHandlers(initializer.getInitialHandlers(fullName));
-        children = context.createChildMap();
         attachments = Map.of();
     }
 
@@ -189,7 +200,6 @@ final class LoggerNode implements AutoCloseable {
             effectiveLevel = parent.effectiveLevel;
         }
         handlers = safeCloneHandlers(initializer.getInitialHandlers(fullName));
-        children = context.createChildMap();
         attachments = Map.of();
     }
 
@@ -241,7 +251,10 @@ final class LoggerNode implements AutoCloseable {
             useParentFilter = false;
             useParentHandlers = true;
             attachmentHandle.setVolatile(this, Map.of());
-            children.clear();
+            final ConcurrentMap<String, LoggerNode> children = this.children;
+            if (children != null) {
+                children.clear();
+            }
         } finally {
             treeLock.unlock();
         }
@@ -256,23 +269,29 @@ final class LoggerNode implements AutoCloseable {
     LoggerNode getOrCreate(final String name) {
         if (name == null || name.length() == 0) {
             return this;
-        } else {
-            int i = name.indexOf('.');
-            final String nextName = i == -1 ? name : name.substring(0, i);
+        }
+        LoggerNode node = this;
+        int start = 0;
+        int i;
+        do {
+            i = name.indexOf('.', start);
+            final String nextName = i == -1 ? name.substring(start) : name.substring(start, i);
+            ConcurrentMap<String, LoggerNode> children = node.children;
+            if (children == null) {
+                children = node.createChildren();
+            }
             LoggerNode nextNode = children.get(nextName);
             if (nextNode == null) {
-                nextNode = new LoggerNode(context, this, nextName);
+                nextNode = new LoggerNode(context, node, nextName);
                 LoggerNode appearingNode = children.putIfAbsent(nextName, nextNode);
                 if (appearingNode != null) {
                     nextNode = appearingNode;
                 }
             }
-            if (i == -1) {
-                return nextNode;
-            } else {
-                return nextNode.getOrCreate(name.substring(i + 1));
-            }
-        }
+            node = nextNode;
+            start = i + 1;
+        } while (i != -1 && start < name.length());
+        return node;
     }
 
     /**
@@ -284,19 +303,34 @@ final class LoggerNode implements AutoCloseable {
     LoggerNode getIfExists(final String name) {
         if (name == null || name.length() == 0) {
             return this;
-        } else {
-            int i = name.indexOf('.');
-            final String nextName = i == -1 ? name : name.substring(0, i);
-            LoggerNode nextNode = children.get(nextName);
-            if (nextNode == null) {
+        }
+        LoggerNode node = this;
+        int start = 0;
+        int i;
+        do {
+            final ConcurrentMap<String, LoggerNode> children = node.children;
+            if (children == null) {
                 return null;
             }
-            if (i == -1) {
-                return nextNode;
-            } else {
-                return nextNode.getIfExists(name.substring(i + 1));
+            i = name.indexOf('.', start);
+            node = children.get(i == -1 ? name.substring(start) : name.substring(start, i));
+            if (node == null) {
+                return null;
             }
-        }
+            start = i + 1;
+        } while (i != -1 && start < name.length());
+        return node;
+    }
+
+    private ConcurrentMap<String, LoggerNode> createChildren() {
+        final ConcurrentMap<String, LoggerNode> newChildren = context.createChildMap();
+        final Object witness = childrenHandle.compareAndExchange(this, null, newChildren);
+        return witness == null ? newChildren : castChildren(witness);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ConcurrentMap<String, LoggerNode> castChildren(final Object children) {
+        return (ConcurrentMap<String, LoggerNode>) children;
     }
 
     Logger createLogger() {
@@ -316,7 +350,8 @@ final class LoggerNode implements AutoCloseable {
      * @return the children
      */
     Collection<LoggerNode> getChildren() {
-        return children.values();
+        final ConcurrentMap<String, LoggerNode> children = this.children;
+        return children == null ? List.of() : children.values();
     }
 
     /**
@@ -337,7 +372,7 @@ final class LoggerNode implements AutoCloseable {
     void setEffectiveLevel(int newLevel) {
         if (level == null) {
             effectiveLevel = newLevel;
-            for (LoggerNode node : children.values()) {
+            for (LoggerNode node : getChildren()) {
                 if (node != null) {
                     node.setEffectiveLevel(newLevel);
                 }
@@ -504,7 +539,7 @@ final class LoggerNode implements AutoCloseable {
             effectiveLevel = newEffectiveLevel;
             if (oldEffectiveLevel != newEffectiveLevel) {
                 // our level changed, recurse down to children
-                for (LoggerNode node : children.values()) {
+                for (LoggerNode node : getChildren()) {
                     if (node != null) {
                         node.setEffectiveLevel(newEffectiveLevel);
                     }
@@ -638,6 +673,32 @@ final class LoggerNode implements AutoCloseable {
                 && (!loggerNode.useParentFilter || isLoggable(loggerNode.getParent(), record));
     }
 
+    /**
+     * Counts a record published by this logger, if metrics are enabled.
+     */
+    void countPublished() {
+        if (context.isMetricsEnabled()) {
+            publishedCount.increment();
+        }
+    }
+
+    /**
+     * Counts a record rejected by the filter of this logger, if metrics are enabled.
+     */
+    void countFiltered() {
+        if (context.isMetricsEnabled()) {
+            filteredCount.increment();
+        }
+    }
+
+    long getPublishedCount() {
+        return publishedCount.sum();
+    }
+
+    long getFilteredCount() {
+        return filteredCount.sum();
+    }
+
     Enumeration<String> getLoggerNames() {
         return new Enumeration<String>() {
             final Iterator<LoggerNode> children = getChildren().iterator();
@@ -24,12 +24,14 @@ import java.security.PrivilegedAction;
 import java.util.Iterator;
 import java.util.ServiceConfigurationError;
 import java.util.ServiceLoader;
+import java.util.function.Supplier;
 
 /**
  * Nested diagnostic context. This is basically a thread-local stack that holds a string which can be included
  * in a log message.
  */
 public final class NDC {
+    static final Supplier<String> EMPTY = () -> "";
     private static final NDCProvider ndcProvider = getDefaultNDCProvider();
 
     private NDC() {
@@ -113,6 +115,15 @@ public final class NDC {
         return ndcProvider.get();
     }
 
+    /**
+     * Get a snapshot of the current NDC value which is only joined into a string when it is requested.
+     *
+     * @return a supplier of the current NDC value
+     */
+    static Supplier<String> snapshot() {
+        return ndcProvider.snapshot();
+    }
+
     /**
      * Provided for compatibility with log4j. Get the NDC value that is {@code n} entries from the bottom.
      *
@@ -1,5 +1,7 @@
 package org.jboss.logmanager;
 
+import java.util.function.Supplier;
+
 public interface NDCProvider {
 
     /**
@@ -52,4 +54,18 @@ public interface NDCProvider {
      */
     String get(int n);
 
+    /**
+     * Get a snapshot of the current NDC value. The snapshot is not affected by later changes to the NDC stack and the
+     * value is only built when {@link Supplier#get()} is called, which may be on a different thread.
+     * <p>
+     * The default implementation captures the value returned from {@link #get()}.
+     * </p>
+     *
+     * @return a supplier of the NDC value at the time of the snapshot
+     */
+    default Supplier<String> snapshot() {
+        final String value = get();
+        return value.isEmpty() ? NDC.EMPTY : () -> value;
+    }
+
 }
@@ -1,6 +1,7 @@
 package org.jboss.logmanager;
 
 import java.util.Arrays;
+import java.util.function.Supplier;
 
 final class ThreadLocalNDC implements NDCProvider {
     private static final Holder ndc = new Holder();
@@ -55,6 +56,11 @@ final class ThreadLocalNDC implements NDCProvider {
         return ndc.get().get(n);
     }
 
+    @Override
+    public Supplier<String> snapshot() {
+        return ndc.get().snapshot();
+    }
+
     private static final class Holder extends ThreadLocal<Stack<String>> {
         protected Stack<String> initialValue() {
             return new Stack<>();
@@ -64,16 +70,22 @@ final class ThreadLocalNDC implements NDCProvider {
     private static final class Stack<T> {
         private Object[] data = new Object[32];
         private int sp;
+        // true if the data array is referenced by a snapshot and must be copied before it is modified
+        private boolean shared;
 
         public void push(T value) {
             if (sp == data.length) {
                 data = Arrays.copyOf(data, (data.length << 1) + data.length >>> 1);
+                shared = false;
+            } else {
+                unshare();
             }
             data[sp++] = value;
         }
 
         @SuppressWarnings("unchecked")
         public T pop() {
+            unshare();
             try {
                 return (T) data[--sp];
             } finally {
@@ -97,6 +109,7 @@ final class ThreadLocalNDC implements NDCProvider {
         public void trimTo(int max) {
             final int sp = this.sp;
             if (sp > max) {
+                unshare();
                 Arrays.fill(data, max, sp - 1, null);
                 this.sp = max;
             }
@@ -107,16 +120,62 @@ final class ThreadLocalNDC implements NDCProvider {
             return n < sp ? (T) data[n] : null;
         }
 
+        Supplier<String> snapshot() {
+            if (sp == 0) {
+                return NDC.EMPTY;
+            }
+            shared = true;
+            return new Snapshot(data, sp);
+        }
+
+        private void unshare() {
+            if (shared) {
+                data = data.clone();
+                shared = false;
+            }
+        }
+
         public String toString() {
-            final StringBuilder b = new StringBuilder();
-            final int sp = this.sp;
-            for (int i = 0; i < sp; i++) {
-                b.append(data[i]);
-                if ((i + 1) < sp) {
-                    b.append('.');
-                }
+            return join(data, sp);
+        }
+    }
+
+    /**
+     * An immutable view of the stack which shares the stack's array until the stack is next modified.
+     */
+    private static final class Snapshot implements Supplier<String> {
+        private final Object[] data;
+        private final int depth;
+        private String value;
+
+        private Snapshot(final Object[] data, final int depth) {
+            this.data = data;
+            this.depth = depth;
+        }
+
+        @Override
+        public String get() {
+            String value = this.value;
+            if (value == null) {
+                this.value = value = join(data, depth);
+            }
+            return value;
+        }
+
+        @Override
+        public String toString() {
+            return get();
+        }
+    }
+
+    private static String join(final Object[] data, final int sp) {
+        final StringBuilder b = new StringBuilder();
+        for (int i = 0; i < sp; i++) {
+            b.append(data[i]);
+            if ((i + 1) < sp) {
+                b.append('.');
             }
-            return b.toString();
         }
+        return b.toString();
     }
 }
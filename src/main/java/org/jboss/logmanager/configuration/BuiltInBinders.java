@@ -0,0 +1,140 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logmanager.configuration;
+
+import java.io.File;
+import java.nio.charset.Charset;
+import java.util.Map;
+import java.util.TimeZone;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.logging.ErrorManager;
+import java.util.logging.Filter;
+import java.util.logging.Formatter;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.stream.Collectors;
+
+import org.jboss.logmanager.ExtHandler;
+import org.jboss.logmanager.formatters.ColorPatternFormatter;
+import org.jboss.logmanager.formatters.PatternFormatter;
+import org.jboss.logmanager.handlers.AsyncHandler;
+import org.jboss.logmanager.handlers.ConsoleHandler;
+import org.jboss.logmanager.handlers.FileHandler;
+import org.jboss.logmanager.handlers.PeriodicRotatingFileHandler;
+import org.jboss.logmanager.handlers.PeriodicSizeRotatingFileHandler;
+import org.jboss.logmanager.handlers.SizeRotatingFileHandler;
+
+/**
+ * The binders for the handlers and formatters shipped with the log manager. The setters are invoked directly which
+ * avoids resolving the types reflectively when a configuration is loaded. Any property not defined here is resolved
+ * reflectively by the {@link ObjectBinder}.
+ */
+final class BuiltInBinders {
+
+    private static final Map<Class<?>, ObjectBinder<?>> BINDERS = Map.of(
+            ConsoleHandler.class, handler(ConsoleHandler.class, ConsoleHandler::new)
+                    .property("target", ConsoleHandler.Target.class, ConsoleHandler::setTarget)
+                    .build(),
+            FileHandler.class, fileHandler(FileHandler.class, FileHandler::new).build(),
+            PeriodicRotatingFileHandler.class,
+            periodicHandler(PeriodicRotatingFileHandler.class, PeriodicRotatingFileHandler::new).build(),
+            SizeRotatingFileHandler.class, fileHandler(SizeRotatingFileHandler.class, SizeRotatingFileHandler::new)
+                    .property("rotateOnBoot", boolean.class, SizeRotatingFileHandler::setRotateOnBoot)
+                    .property("rotateSize", long.class, SizeRotatingFileHandler::setRotateSize)
+                    .property("maxBackupIndex", int.class, SizeRotatingFileHandler::setMaxBackupIndex)
+                    .property("suffix", String.class, SizeRotatingFileHandler::setSuffix)
+                    .build(),
+            PeriodicSizeRotatingFileHandler.class,
+            periodicHandler(PeriodicSizeRotatingFileHandler.class, PeriodicSizeRotatingFileHandler::new)
+                    .property("rotateOnBoot", boolean.class, PeriodicSizeRotatingFileHandler::setRotateOnBoot)
+                    .property("rotateSize", long.class, PeriodicSizeRotatingFileHandler::setRotateSize)
+                    .property("maxBackupIndex", int.class, PeriodicSizeRotatingFileHandler::setMaxBackupIndex)
+                    .build(),
+            AsyncHandler.class, handler(AsyncHandler.class, AsyncHandler::new)
+                    .property("overflowAction", AsyncHandler.OverflowAction.class, AsyncHandler::setOverflowAction)
+                    .build(),
+            PatternFormatter.class, patternFormatter(PatternFormatter.class, PatternFormatter::new).build(),
+            ColorPatternFormatter.class, patternFormatter(ColorPatternFormatter.class, ColorPatternFormatter::new).build());
+
+    private static final Map<String, Class<?>> CLASSES = BINDERS.keySet().stream()
+            .collect(Collectors.toUnmodifiableMap(Class::getName, Function.identity()));
+
+    private BuiltInBinders() {
+    }
+
+    /**
+     * Returns the binder for a built-in type.
+     *
+     * @param type the type
+     *
+     * @return the binder or {@code null} if the type is not a built-in type
+     */
+    static ObjectBinder<?> get(final Class<?> type) {
+        return BINDERS.get(type);
+    }
+
+    /**
+     * Finds a built-in type by its name.
+     *
+     * @param className the fully qualified class name
+     *
+     * @return the type or {@code null} if the name is not the name of a built-in type
+     */
+    static Class<?> findClass(final String className) {
+        return CLASSES.get(className);
+    }
+
+    private static <T extends ExtHandler> ObjectBinder.Builder<T> handler(final Class<T> type, final Supplier<T> factory) {
+        return new ObjectBinder.Builder<>(type, factory)
+                .property("handlers", Handler[].class, ExtHandler::setHandlers)
+                .property("autoFlush", boolean.class, ExtHandler::setAutoFlush)
+                .property("enabled", boolean.class, ExtHandler::setEnabled)
+                .property("closeChildren", boolean.class, ExtHandler::setCloseChildren)
+                .property("formatter", Formatter.class, ExtHandler::setFormatter)
+                .property("filter", Filter.class, ExtHandler::setFilter)
+                .property("encoding", String.class, ExtHandler::setEncoding)
+                .property("charset", Charset.class, ExtHandler::setCharset)
+                .property("errorManager", ErrorManager.class, ExtHandler::setErrorManager)
+                .property("level", Level.class, ExtHandler::setLevel);
+    }
+
+    private static <T extends FileHandler> ObjectBinder.Builder<T> fileHandler(final Class<T> type,
+            final Supplier<T> factory) {
+        return handler(type, factory)
+                .property("append", boolean.class, FileHandler::setAppend)
+                .property("file", File.class, FileHandler::setFile)
+                .property("fileName", String.class, FileHandler::setFileName);
+    }
+
+    private static <T extends PeriodicRotatingFileHandler> ObjectBinder.Builder<T> periodicHandler(final Class<T> type,
+            final Supplier<T> factory) {
+        return fileHandler(type, factory)
+                .property("suffix", String.class, PeriodicRotatingFileHandler::setSuffix)
+                .property("timeZone", TimeZone.class, PeriodicRotatingFileHandler::setTimeZone);
+    }
+
+    private static <T extends PatternFormatter> ObjectBinder.Builder<T> patternFormatter(final Class<T> type,
+            final Supplier<T> factory) {
+        return new ObjectBinder.Builder<>(type, factory)
+                .property("pattern", String.class, PatternFormatter::setPattern)
+                .property("colors", String.class, PatternFormatter::setColors);
+    }
+}
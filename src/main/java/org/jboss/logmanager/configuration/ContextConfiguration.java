@@ -19,6 +19,7 @@
 
 package org.jboss.logmanager.configuration;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Map;
 import java.util.Objects;
@@ -30,6 +31,7 @@ import java.util.logging.Filter;
 import java.util.logging.Formatter;
 import java.util.logging.Handler;
 
+import org.jboss.logmanager.ExtHandler;
 import org.jboss.logmanager.LogContext;
 import org.jboss.logmanager.Logger;
 
@@ -45,6 +47,11 @@ import org.jboss.logmanager.Logger;
  * If the {@linkplain Supplier supplier} os not already an instance of a {@link ConfigurationResource}, then it is
  * wrapped and considered a {@linkplain ConfigurationResource#of(Supplier) lazy resource}.
  * </p>
+ * <p>
+ * The {@code replace} methods can be used to change the configuration of a live context. Objects which have already
+ * been created are swapped for their replacements wherever this configuration has attached them, without tearing down
+ * the other configured objects.
+ * </p>
  *
  * @author <a href="mailto:jperkins@redhat.com">James R. Perkins</a>
  */
@@ -126,6 +133,36 @@ public class ContextConfiguration implements AutoCloseable {
                 ConfigurationResource.of(errorManager));
     }
 
+    /**
+     * Replaces the error manager in the context configuration. If the previous error manager has been created, each
+     * configured handler using it is updated to use the replacement.
+     *
+     * @param name         the name for the error manager
+     * @param errorManager the replacement error manager, use {@link #removeErrorManager(String)} to remove the error
+     *                     manager
+     *
+     * @return the previous error manager associated with the name or {@code null} if one did not exist
+     */
+    public ConfigurationResource<ErrorManager> replaceErrorManager(final String name,
+            final Supplier<ErrorManager> errorManager) {
+        // handlers cannot be left without an error manager, so the previous one is only closed once it is replaced
+        Objects.requireNonNull(errorManager, "The error manager cannot be null");
+        final ConfigurationResource<ErrorManager> created = ConfigurationResource.of(errorManager);
+        final ErrorManager replacement = create(errorManagers, name, created);
+        final ConfigurationResource<ErrorManager> previous = replace(errorManagers, name, created);
+        final ErrorManager previousErrorManager = instanceOf(previous);
+        if (previousErrorManager != null) {
+            for (ConfigurationResource<Handler> resource : handlers.values()) {
+                final Handler handler = instanceOf(resource);
+                if (handler != null && handler.getErrorManager() == previousErrorManager) {
+                    handler.setErrorManager(replacement);
+                }
+            }
+            closeResource(previous);
+        }
+        return previous;
+    }
+
     /**
      * Removes the error manager from the context configuration.
      *
@@ -187,6 +224,55 @@ public class ContextConfiguration implements AutoCloseable {
                 ConfigurationResource.of(handler));
     }
 
+    /**
+     * Replaces the handler in the context configuration. If the previous handler has been created, it is atomically
+     * replaced on each logger and on each configured {@link ExtHandler} it is attached to and then closed. Loggers and
+     * handlers which do not have the previous handler attached are not modified.
+     *
+     * @param name    the name for the handler
+     * @param handler the replacement handler or {@code null} to remove and detach the handler
+     *
+     * @return the previous handler associated with the name or {@code null} if one did not exist
+     */
+    public ConfigurationResource<Handler> replaceHandler(final String name, final Supplier<Handler> handler) {
+        final ConfigurationResource<Handler> created = handler == null ? null : ConfigurationResource.of(handler);
+        final Handler replacement = create(handlers, name, created);
+        final ConfigurationResource<Handler> previous = replace(handlers, name, created);
+        final Handler previousHandler = instanceOf(previous);
+        if (previousHandler != null) {
+            for (String loggerName : Collections.list(context.getLoggerNames())) {
+                final Logger logger = context.getLoggerIfExists(loggerName);
+                if (logger != null) {
+                    Handler[] current;
+                    Handler[] updated;
+                    do {
+                        current = logger.getHandlers();
+                        updated = replace(current, previousHandler, replacement);
+                    } while (updated != null && !logger.compareAndSetHandlers(current, updated));
+                }
+            }
+            for (ConfigurationResource<Handler> resource : handlers.values()) {
+                if (instanceOf(resource) instanceof ExtHandler) {
+                    final ExtHandler parent = (ExtHandler) resource.get();
+                    final Handler[] updated = replace(parent.getHandlers(), previousHandler, replacement);
+                    if (updated != null) {
+                        parent.setHandlers(updated);
+                    }
+                }
+            }
+            try {
+                if (previousHandler instanceof ExtHandler) {
+                    // the child handlers are configured resources which may still be in use
+                    ((ExtHandler) previousHandler).clearHandlers();
+                }
+                previousHandler.close();
+            } catch (Throwable ignore) {
+                // do nothing
+            }
+        }
+        return previous;
+    }
+
     /**
      * Removes the handler from the context configuration.
      *
@@ -248,6 +334,34 @@ public class ContextConfiguration implements AutoCloseable {
                 ConfigurationResource.of(formatter));
     }
 
+    /**
+     * Replaces the formatter in the context configuration. If the previous formatter has been created, each configured
+     * handler using it is updated to use the replacement.
+     *
+     * @param name      the name for the formatter
+     * @param formatter the replacement formatter, use {@link #removeFormatter(String)} to remove the formatter
+     *
+     * @return the previous formatter associated with the name or {@code null} if one did not exist
+     */
+    public ConfigurationResource<Formatter> replaceFormatter(final String name, final Supplier<Formatter> formatter) {
+        // handlers cannot be left without a formatter, so the previous one is only closed once it is replaced
+        Objects.requireNonNull(formatter, "The formatter cannot be null");
+        final ConfigurationResource<Formatter> created = ConfigurationResource.of(formatter);
+        final Formatter replacement = create(formatters, name, created);
+        final ConfigurationResource<Formatter> previous = replace(formatters, name, created);
+        final Formatter previousFormatter = instanceOf(previous);
+        if (previousFormatter != null) {
+            for (ConfigurationResource<Handler> resource : handlers.values()) {
+                final Handler handler = instanceOf(resource);
+                if (handler != null && handler.getFormatter() == previousFormatter) {
+                    handler.setFormatter(replacement);
+                }
+            }
+            closeResource(previous);
+        }
+        return previous;
+    }
+
     /**
      * Removes the formatter from the context configuration.
      *
@@ -309,6 +423,38 @@ public class ContextConfiguration implements AutoCloseable {
                 ConfigurationResource.of(filter));
     }
 
+    /**
+     * Replaces the filter in the context configuration. If the previous filter has been created, each logger and
+     * configured handler using it is updated to use the replacement.
+     *
+     * @param name   the name for the filter
+     * @param filter the replacement filter or {@code null} to remove the filter
+     *
+     * @return the previous filter associated with the name or {@code null} if one did not exist
+     */
+    public ConfigurationResource<Filter> replaceFilter(final String name, final Supplier<Filter> filter) {
+        final ConfigurationResource<Filter> created = filter == null ? null : ConfigurationResource.of(filter);
+        final Filter replacement = create(filters, name, created);
+        final ConfigurationResource<Filter> previous = replace(filters, name, created);
+        final Filter previousFilter = instanceOf(previous);
+        if (previousFilter != null) {
+            for (String loggerName : Collections.list(context.getLoggerNames())) {
+                final Logger logger = context.getLoggerIfExists(loggerName);
+                if (logger != null && logger.getFilter() == previousFilter) {
+                    logger.setFilter(replacement);
+                }
+            }
+            for (ConfigurationResource<Handler> resource : handlers.values()) {
+                final Handler handler = instanceOf(resource);
+                if (handler != null && handler.getFilter() == previousFilter) {
+                    handler.setFilter(replacement);
+                }
+            }
+            closeResource(previous);
+        }
+        return previous;
+    }
+
     /**
      * Removes the filter from the context configuration.
      *
@@ -426,6 +572,70 @@ public class ContextConfiguration implements AutoCloseable {
         closeResources(objects);
     }
 
+    /**
+     * Creates the replacement of a resource whose previous instance has been created, before the previous resource is
+     * swapped out. If creating the replacement fails, the previous resource remains in place and can still be closed.
+     *
+     * @return the replacement instance or {@code null} if the previous instance was not created
+     */
+    private static <T> T create(final Map<String, ConfigurationResource<T>> resources, final String name,
+            final ConfigurationResource<T> replacement) {
+        Objects.requireNonNull(name, "The name cannot be null");
+        if (replacement == null || instanceOf(resources.get(name)) == null) {
+            return null;
+        }
+        return replacement.get();
+    }
+
+    private static <T> ConfigurationResource<T> replace(final Map<String, ConfigurationResource<T>> resources,
+            final String name, final Supplier<T> replacement) {
+        Objects.requireNonNull(name, "The name cannot be null");
+        if (replacement == null) {
+            return resources.remove(name);
+        }
+        return resources.put(name, ConfigurationResource.of(replacement));
+    }
+
+    /**
+     * Returns the instance of the resource without creating it.
+     *
+     * @param resource the resource, may be {@code null}
+     *
+     * @return the instance or {@code null} if the resource has not been created
+     */
+    static <T> T instanceOf(final Supplier<T> resource) {
+        if (resource == null
+                || (resource instanceof LazyConfigurationResource
+                        && !((LazyConfigurationResource<T>) resource).isInitialized())) {
+            return null;
+        }
+        return resource.get();
+    }
+
+    private static Handler[] replace(final Handler[] handlers, final Handler previous, final Handler replacement) {
+        for (int i = 0; i < handlers.length; i++) {
+            if (handlers[i] == previous) {
+                if (replacement != null) {
+                    final Handler[] result = handlers.clone();
+                    result[i] = replacement;
+                    return result;
+                }
+                final Handler[] result = Arrays.copyOf(handlers, handlers.length - 1);
+                System.arraycopy(handlers, i + 1, result, i, handlers.length - i - 1);
+                return result;
+            }
+        }
+        return null;
+    }
+
+    static void closeResource(final ConfigurationResource<?> resource) {
+        try {
+            resource.close();
+        } catch (Throwable ignore) {
+            // do nothing
+        }
+    }
+
     private static void closeResources(final Map<String, ? extends ConfigurationResource<?>> resources) {
         final var iter = resources.entrySet().iterator();
         while (iter.hasNext()) {
@@ -46,6 +46,15 @@ class LazyConfigurationResource<T> implements ConfigurationResource<T> {
         return instance;
     }
 
+    /**
+     * Indicates whether the instance has been created.
+     *
+     * @return {@code true} if the instance has been created, otherwise {@code false}
+     */
+    boolean isInitialized() {
+        return instance != null;
+    }
+
     @Override
     public void close() throws Exception {
         synchronized (this) {
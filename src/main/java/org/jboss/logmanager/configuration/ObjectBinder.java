@@ -0,0 +1,328 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logmanager.configuration;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Binds configuration properties to the setters, constructors and methods of a type. The members are resolved once
+ * per type and property, and invoked through {@linkplain MethodHandle method handles}. Binders for the
+ * {@linkplain BuiltInBinders built-in types} are registered ahead of time and do not use reflection.
+ */
+final class ObjectBinder<T> {
+
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+    private static final MethodType METHOD_TYPE = MethodType.methodType(void.class, Object.class);
+
+    private static final ClassValue<ObjectBinder<?>> BINDERS = new ClassValue<ObjectBinder<?>>() {
+        @Override
+        protected ObjectBinder<?> computeValue(final Class<?> type) {
+            final ObjectBinder<?> binder = BuiltInBinders.get(type);
+            return binder == null ? new ObjectBinder<>(type, null, Map.of()) : binder;
+        }
+    };
+
+    private final Class<T> type;
+    private final Supplier<T> factory;
+    private final Map<String, Setter> definedSetters;
+    private final ConcurrentMap<String, Optional<Setter>> setters = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Optional<Class<?>>> getterTypes = new ConcurrentHashMap<>();
+    private final ConcurrentMap<List<Class<?>>, Instantiator> constructors = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, MethodHandle> methods = new ConcurrentHashMap<>();
+
+    ObjectBinder(final Class<T> type, final Supplier<T> factory, final Map<String, Setter> definedSetters) {
+        this.type = type;
+        this.factory = factory;
+        this.definedSetters = definedSetters;
+    }
+
+    /**
+     * Returns the binder for the type.
+     *
+     * @param type the type to bind properties to
+     * @param <T>  the type
+     *
+     * @return the binder for the type
+     */
+    @SuppressWarnings("unchecked")
+    static <T> ObjectBinder<T> of(final Class<T> type) {
+        return (ObjectBinder<T>) BINDERS.get(type);
+    }
+
+    /**
+     * Returns the type of the property as defined by its setter.
+     *
+     * @param propertyName the name of the property
+     *
+     * @return the type of the property or {@code null} if there is no setter for the property
+     */
+    Class<?> getPropertyType(final String propertyName) {
+        final Setter setter = getSetter(propertyName);
+        return setter == null ? null : setter.type;
+    }
+
+    /**
+     * Returns the type of the property as defined by its getter, or by its setter if there is no getter.
+     *
+     * @param propertyName the name of the property
+     *
+     * @return the type of the property or {@code null} if there is no getter or setter for the property
+     */
+    Class<?> getConstructorPropertyType(final String propertyName) {
+        final Class<?> getterType = getterTypes.computeIfAbsent(propertyName,
+                name -> Optional.ofNullable(findGetterType(type, name))).orElse(null);
+        return getterType != null ? getterType : getPropertyType(propertyName);
+    }
+
+    /**
+     * Returns the setter for the property.
+     *
+     * @param propertyName the name of the property
+     *
+     * @return the setter or {@code null} if there is no setter for the property
+     */
+    Setter getSetter(final String propertyName) {
+        final Setter setter = definedSetters.get(propertyName);
+        if (setter != null) {
+            return setter;
+        }
+        return setters.computeIfAbsent(propertyName, name -> Optional.ofNullable(findSetter(type, name))).orElse(null);
+    }
+
+    /**
+     * Returns the setter for the property which accepts exactly the given type.
+     *
+     * @param propertyName the name of the property
+     * @param valueType    the parameter type of the setter
+     *
+     * @return the setter or {@code null} if there is no such setter
+     */
+    Setter getSetter(final String propertyName, final Class<?> valueType) {
+        final Setter setter = getSetter(propertyName);
+        if (setter != null && setter.type == valueType) {
+            return setter;
+        }
+        return setters.computeIfAbsent(propertyName + ':' + valueType.getName(), ignored -> {
+            try {
+                return Optional.of(createSetter(type.getMethod(getPropertySetterName(propertyName), valueType)));
+            } catch (NoSuchMethodException e) {
+                return Optional.empty();
+            }
+        }).orElse(null);
+    }
+
+    /**
+     * Creates a new instance of the type with the constructor matching the parameter types.
+     *
+     * @param paramTypes the constructor parameter types
+     * @param params     the constructor parameters
+     *
+     * @return the new instance
+     *
+     * @throws NoSuchMethodException if there is no matching constructor
+     * @throws Throwable             if the constructor fails
+     */
+    T newInstance(final Class<?>[] paramTypes, final Object[] params) throws Throwable {
+        if (paramTypes.length == 0 && factory != null) {
+            return factory.get();
+        }
+        Instantiator constructor = constructors.get(Arrays.asList(paramTypes));
+        if (constructor == null) {
+            constructor = createConstructor(type.getConstructor(paramTypes));
+            constructors.putIfAbsent(List.of(paramTypes), constructor);
+        }
+        return type.cast(constructor.create(params));
+    }
+
+    /**
+     * Invokes a public method, which must not have any parameters, on the instance.
+     *
+     * @param instance   the instance to invoke the method on
+     * @param methodName the name of the method
+     *
+     * @throws NoSuchMethodException if there is no such method
+     * @throws Throwable             if the method fails
+     */
+    void invoke(final Object instance, final String methodName) throws Throwable {
+        final MethodHandle method = getMethod(methodName);
+        method.invokeExact(instance);
+    }
+
+    /**
+     * Returns a handle for a public method without any parameters.
+     *
+     * @param methodName the name of the method
+     *
+     * @return the method handle
+     *
+     * @throws NoSuchMethodException if there is no such method
+     */
+    MethodHandle getMethod(final String methodName) throws NoSuchMethodException {
+        MethodHandle method = methods.get(methodName);
+        if (method == null) {
+            method = createMethod(type.getMethod(methodName));
+            methods.putIfAbsent(methodName, method);
+        }
+        return method;
+    }
+
+    static String getPropertySetterName(final String propertyName) {
+        return "set" + Character.toUpperCase(propertyName.charAt(0)) + propertyName.substring(1);
+    }
+
+    private static Setter findSetter(final Class<?> clazz, final String propertyName) {
+        final String set = getPropertySetterName(propertyName);
+        for (Method method : clazz.getMethods()) {
+            if ((method.getName().equals(set) && Modifier.isPublic(method.getModifiers()))
+                    && method.getParameterCount() == 1) {
+                return createSetter(method);
+            }
+        }
+        return null;
+    }
+
+    private static Class<?> findGetterType(final Class<?> clazz, final String propertyName) {
+        final String upperPropertyName = Character.toUpperCase(propertyName.charAt(0)) + propertyName.substring(1);
+        for (Method method : clazz.getMethods()) {
+            final String name = method.getName();
+            if ((name.equals("get" + upperPropertyName) || name.equals("has" + upperPropertyName)
+                    || name.equals("is" + upperPropertyName)) && Modifier.isPublic(method.getModifiers())
+                    && method.getParameterCount() == 0) {
+                return method.getReturnType();
+            }
+        }
+        return null;
+    }
+
+    private static Setter createSetter(final Method method) {
+        final Class<?> type = method.getParameterTypes()[0];
+        try {
+            final MethodHandle handle = MethodHandles.publicLookup().unreflect(method).asType(SETTER_TYPE);
+            return new Setter(type) {
+                @Override
+                void set(final Object instance, final Object value) throws Throwable {
+                    handle.invokeExact(instance, value);
+                }
+            };
+        } catch (IllegalAccessException e) {
+            // the declaring class is not accessible, fall back to reflection
+            return new Setter(type) {
+                @Override
+                void set(final Object instance, final Object value) throws Throwable {
+                    method.invoke(instance, value);
+                }
+            };
+        }
+    }
+
+    private static Instantiator createConstructor(final Constructor<?> constructor) {
+        try {
+            final MethodHandle handle = MethodHandles.publicLookup().unreflectConstructor(constructor);
+            return handle::invokeWithArguments;
+        } catch (IllegalAccessException e) {
+            // the declaring class is not accessible, fall back to reflection
+            return constructor::newInstance;
+        }
+    }
+
+    private static MethodHandle createMethod(final Method method) throws NoSuchMethodException {
+        try {
+            return MethodHandles.publicLookup().unreflect(method).asType(METHOD_TYPE);
+        } catch (IllegalAccessException e) {
+            final NoSuchMethodException nsme = new NoSuchMethodException(
+                    String.format("Method \"%s\" is not accessible", method));
+            nsme.initCause(e);
+            throw nsme;
+        }
+    }
+
+    /**
+     * Sets the value of a property on an instance.
+     */
+    abstract static class Setter {
+        final Class<?> type;
+
+        Setter(final Class<?> type) {
+            this.type = type;
+        }
+
+        abstract void set(Object instance, Object value) throws Throwable;
+    }
+
+    private interface Instantiator {
+        Object create(Object[] params) throws Throwable;
+    }
+
+    /**
+     * A setter which is invoked directly.
+     *
+     * @param <T> the type of the instance
+     * @param <V> the type of the value
+     */
+    @FunctionalInterface
+    interface PropertySetter<T, V> {
+        void set(T instance, V value) throws Exception;
+    }
+
+    /**
+     * Builds a binder for a known type, for which setters are defined directly rather than being resolved.
+     *
+     * @param <T> the type
+     */
+    static final class Builder<T> {
+        private final Class<T> type;
+        private final Supplier<T> factory;
+        private final Map<String, Setter> setters = new HashMap<>();
+
+        Builder(final Class<T> type, final Supplier<T> factory) {
+            this.type = type;
+            this.factory = factory;
+        }
+
+        <V> Builder<T> property(final String name, final Class<V> valueType,
+                final PropertySetter<? super T, ? super V> setter) {
+            setters.put(name, new Setter(valueType) {
+                @Override
+                @SuppressWarnings("unchecked")
+                void set(final Object instance, final Object value) throws Exception {
+                    setter.set(Builder.this.type.cast(instance), (V) value);
+                }
+            });
+            return this;
+        }
+
+        ObjectBinder<T> build() {
+            return new ObjectBinder<>(type, factory, Map.copyOf(setters));
+        }
+    }
+}
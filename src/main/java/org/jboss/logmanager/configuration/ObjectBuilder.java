@@ -19,9 +19,6 @@
 
 package org.jboss.logmanager.configuration;
 
-import java.lang.reflect.Constructor;
-import java.lang.reflect.Method;
-import java.lang.reflect.Modifier;
 import java.nio.charset.Charset;
 import java.util.Collections;
 import java.util.LinkedHashMap;
@@ -31,7 +28,6 @@ import java.util.Set;
 import java.util.TimeZone;
 import java.util.function.Supplier;
 import java.util.logging.Level;
-import java.util.regex.Pattern;
 
 import org.jboss.modules.Module;
 import org.jboss.modules.ModuleLoader;
@@ -173,17 +169,20 @@ class ObjectBuilder<T> {
             }
             final Class<? extends T> actualClass;
             try {
-                actualClass = Class.forName(className, true, classLoader).asSubclass(baseClass);
+                final Class<?> builtIn = moduleName == null ? BuiltInBinders.findClass(className) : null;
+                actualClass = (builtIn == null ? Class.forName(className, true, classLoader) : builtIn)
+                        .asSubclass(baseClass);
             } catch (Exception e) {
                 throw new IllegalArgumentException(String.format("Failed to load class \"%s\"", className), e);
             }
+            final ObjectBinder<? extends T> binder = ObjectBinder.of(actualClass);
             final int length = constructorProperties.size();
             final Class<?>[] paramTypes = new Class<?>[length];
             final Object[] params = new Object[length];
             int i = 0;
             for (Map.Entry<String, String> entry : constructorProperties.entrySet()) {
                 final String property = entry.getKey();
-                final Class<?> type = getConstructorPropertyType(actualClass, property);
+                final Class<?> type = binder.getConstructorPropertyType(property);
                 if (type == null) {
                     throw new IllegalArgumentException(
                             String.format("No property named \"%s\" in \"%s\"", property, className));
@@ -192,73 +191,103 @@ class ObjectBuilder<T> {
                 params[i] = getValue(actualClass, property, type, entry.getValue());
                 i++;
             }
-            final Constructor<? extends T> constructor;
-            try {
-                constructor = actualClass.getConstructor(paramTypes);
-            } catch (Exception e) {
-                throw new IllegalArgumentException(String.format("Failed to locate constructor in class \"%s\"", className), e);
-            }
 
             // Get all the setters
-            final Map<Method, Object> setters = new LinkedHashMap<>();
+            final Map<ObjectBinder.Setter, Object> setters = new LinkedHashMap<>();
             for (Map.Entry<String, String> entry : properties.entrySet()) {
-                final Method method = getPropertySetter(actualClass, entry.getKey());
-                if (method == null) {
+                final ObjectBinder.Setter setter = binder.getSetter(entry.getKey());
+                if (setter == null) {
                     throw new IllegalArgumentException(String
                             .format("Failed to locate setter for property \"%s\" on type \"%s\"", entry.getKey(), className));
                 }
-                // Get the value type for the setter
-                Class<?> type = getPropertyType(method);
-                if (type == null) {
-                    throw new IllegalArgumentException(String
-                            .format("Failed to determine type for setter \"%s\" on type \"%s\"", method.getName(), className));
-                }
-                setters.put(method, getValue(actualClass, entry.getKey(), type, entry.getValue()));
+                setters.put(setter, getValue(actualClass, entry.getKey(), setter.type, entry.getValue()));
             }
 
             // Define known type parameters
             for (PropertyValue value : definedProperties) {
-                final String methodName = getPropertySetterName(value.name);
-                try {
-                    final Method method = actualClass.getMethod(methodName, value.type);
-                    setters.put(method, value.value.get());
-                } catch (NoSuchMethodException e) {
+                final ObjectBinder.Setter setter = binder.getSetter(value.name, value.type);
+                if (setter == null) {
                     throw new IllegalArgumentException(String.format(
-                            "Failed to find setter method for property \"%s\" on type \"%s\"", value.name, className), e);
+                            "Failed to find setter method for property \"%s\" on type \"%s\"", value.name, className));
                 }
+                setters.put(setter, value.value.get());
             }
 
-            // Get all the post construct methods
-            final Set<Method> postConstruct = new LinkedHashSet<>();
+            // Validate all the post construct methods
             for (String methodName : postConstructMethods) {
                 try {
-                    postConstruct.add(actualClass.getMethod(methodName));
+                    binder.getMethod(methodName);
                 } catch (NoSuchMethodException e) {
                     throw new IllegalArgumentException(
                             String.format("Failed to find post construct method \"%s\" on type \"%s\"", methodName, className),
                             e);
                 }
             }
+            final T instance;
+            try {
+                instance = binder.newInstance(paramTypes, params);
+            } catch (NoSuchMethodException e) {
+                throw new IllegalArgumentException(String.format("Failed to locate constructor in class \"%s\"", className), e);
+            } catch (Throwable e) {
+                throw new IllegalArgumentException(String.format("Failed to instantiate class \"%s\"", className), e);
+            }
             try {
-                T instance = constructor.newInstance(params);
-
                 // Execute setters
-                for (Map.Entry<Method, Object> entry : setters.entrySet()) {
-                    entry.getKey().invoke(instance, entry.getValue());
+                for (Map.Entry<ObjectBinder.Setter, Object> entry : setters.entrySet()) {
+                    entry.getKey().set(instance, entry.getValue());
                 }
 
                 // Execute post construct methods
-                for (Method method : postConstruct) {
-                    method.invoke(instance);
+                for (String methodName : postConstructMethods) {
+                    binder.invoke(instance, methodName);
                 }
 
                 return instance;
-            } catch (Exception e) {
+            } catch (Throwable e) {
                 throw new IllegalArgumentException(String.format("Failed to instantiate class \"%s\"", className), e);
             }
         };
     }
 
+    /**
+     * Sets the named properties on an existing object. Properties which were not added to this builder are ignored.
+     *
+     * @param instance the object to configure
+     * @param names    the names of the properties to set
+     */
+    void configure(final T instance, final Set<String> names) {
+        final Class<?> actualClass = instance.getClass();
+        final ObjectBinder<?> binder = ObjectBinder.of(actualClass);
+        final Map<ObjectBinder.Setter, Object> setters = new LinkedHashMap<>();
+        for (Map.Entry<String, String> entry : properties.entrySet()) {
+            if (names.contains(entry.getKey())) {
+                final ObjectBinder.Setter setter = binder.getSetter(entry.getKey());
+                if (setter == null) {
+                    throw new IllegalArgumentException(String.format(
+                            "Failed to locate setter for property \"%s\" on type \"%s\"", entry.getKey(), className));
+                }
+                setters.put(setter, getValue(actualClass, entry.getKey(), setter.type, entry.getValue()));
+            }
+        }
+        for (PropertyValue value : definedProperties) {
+            if (names.contains(value.name)) {
+                final ObjectBinder.Setter setter = binder.getSetter(value.name, value.type);
+                if (setter == null) {
+                    throw new IllegalArgumentException(String.format(
+                            "Failed to find setter method for property \"%s\" on type \"%s\"", value.name, className));
+                }
+                setters.put(setter, value.value.get());
+            }
+        }
+        try {
+            for (Map.Entry<ObjectBinder.Setter, Object> entry : setters.entrySet()) {
+                entry.getKey().set(instance, entry.getValue());
+            }
+        } catch (Throwable e) {
+            throw new IllegalArgumentException(String.format("Failed to configure class \"%s\"", className), e);
+        }
+    }
+
     private Object getValue(final Class<?> objClass, final String propertyName, final Class<?> paramType, final String value) {
         if (value == null) {
             if (paramType.isPrimitive()) {
@@ -325,46 +354,6 @@ class ObjectBuilder<T> {
         return null;
     }
 
-    private static Class<?> getPropertyType(Class<?> clazz, String propertyName) {
-        return getPropertyType(getPropertySetter(clazz, propertyName));
-    }
-
-    private static Class<?> getPropertyType(final Method setter) {
-        return setter != null ? setter.getParameterTypes()[0] : null;
-    }
-
-    private static Class<?> getConstructorPropertyType(Class<?> clazz, String propertyName) {
-        final Method getter = getPropertyGetter(clazz, propertyName);
-        return getter != null ? getter.getReturnType() : getPropertyType(clazz, propertyName);
-    }
-
-    private static Method getPropertySetter(Class<?> clazz, String propertyName) {
-        final String set = getPropertySetterName(propertyName);
-        for (Method method : clazz.getMethods()) {
-            if ((method.getName().equals(set) && Modifier.isPublic(method.getModifiers()))
-                    && method.getParameterTypes().length == 1) {
-                return method;
-            }
-        }
-        return null;
-    }
-
-    private static Method getPropertyGetter(Class<?> clazz, String propertyName) {
-        final String upperPropertyName = Character.toUpperCase(propertyName.charAt(0)) + propertyName.substring(1);
-        final Pattern pattern = Pattern.compile("(get|has|is)(" + Pattern.quote(upperPropertyName) + ")");
-        for (Method method : clazz.getMethods()) {
-            if ((pattern.matcher(method.getName()).matches() && Modifier.isPublic(method.getModifiers()))
-                    && method.getParameterTypes().length == 0) {
-                return method;
-            }
-        }
-        return null;
-    }
-
-    private static String getPropertySetterName(final String propertyName) {
-        return "set" + Character.toUpperCase(propertyName.charAt(0)) + propertyName.substring(1);
-    }
-
     static class ModuleFinder {
 
         private ModuleFinder() {
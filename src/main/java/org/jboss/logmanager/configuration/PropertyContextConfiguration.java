@@ -19,12 +19,29 @@
 
 package org.jboss.logmanager.configuration;
 
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.EnumSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.logging.ErrorManager;
 import java.util.logging.Filter;
@@ -43,6 +60,10 @@ import io.smallrye.common.expression.Expression;
 
 /**
  * A utility to parse a {@code logging.properties} file and configure a {@link LogContext}.
+ * <p>
+ * A configured context can be {@linkplain #reconfigure(Properties) reconfigured} with changed properties. Only the
+ * objects whose properties changed are updated, see {@link #reconfigure(Properties)} for details.
+ * </p>
  *
  * @author <a href="mailto:jperkins@redhat.com">James R. Perkins</a>
  */
@@ -50,7 +71,7 @@ import io.smallrye.common.expression.Expression;
 public class PropertyContextConfiguration extends ContextConfiguration {
 
     private static final String[] EMPTY_STRINGS = new String[0];
-    private final Properties properties;
+    private volatile Properties properties;
 
     private PropertyContextConfiguration(final LogContext logContext, final Properties properties) {
         super(logContext);
@@ -73,6 +94,143 @@ public class PropertyContextConfiguration extends ContextConfiguration {
         return config;
     }
 
+    /**
+     * Returns a copy of the properties this context was last configured with.
+     *
+     * @return a copy of the properties
+     */
+    public Properties getProperties() {
+        final Properties result = new Properties();
+        result.putAll(properties);
+        return result;
+    }
+
+    /**
+     * Reconfigures the {@link LogContext} with changed properties. The new properties are compared with the properties
+     * the context was last configured with and only the differences are applied to the live objects.
+     * <ul>
+     * <li>Changes to setter properties, including the level, encoding, filter, formatter and error manager of a
+     * handler, are set on the existing instance.</li>
+     * <li>Changes to the class, module, constructor properties, post configuration methods or sub-handlers require a
+     * new instance. The new instance is swapped in wherever the previous instance was attached and the previous
+     * instance is closed.</li>
+     * <li>Objects which are no longer defined are removed. Removed handlers are detached and closed.</li>
+     * <li>The level, filter, handlers and parent settings of loggers are updated in place.</li>
+     * </ul>
+     * <p>
+     * Properties which are removed from an existing object are not reset to their defaults. POJOs are only created
+     * once and are not reconfigured.
+     * </p>
+     * <p>
+     * If applying the properties fails, the changes made before the failure are kept and the previous properties
+     * remain the current properties, so the next reconfiguration applies every change again.
+     * </p>
+     *
+     * @param properties the new properties
+     */
+    public synchronized void reconfigure(final Properties properties) {
+        final Properties previous = this.properties;
+        this.properties = Objects.requireNonNull(properties);
+        try {
+            // New POJO's must be configured first so other objects can use them
+            for (String pojoName : getStringCsvArray("pojos")) {
+                configurePojos(pojoName);
+            }
+            // removed error managers and formatters may still be used by handlers until the handlers are updated
+            final List<ConfigurationResource<?>> removed = new ArrayList<>();
+            for (String errorManagerName : Set.copyOf(getErrorManagers().keySet())) {
+                update(previous, "errorManager", errorManagerName, getErrorManagers(), this::createErrorManagerBuilder,
+                        (name, errorManager) -> errorManager == null ? removed(removed, removeErrorManager(name))
+                                : replaceErrorManager(name, errorManager));
+            }
+            for (String filterName : Set.copyOf(getFilters().keySet())) {
+                final String filterValue = getStringProperty(getKey("filter", filterName), true, false);
+                if (changed(previous, getKey("filter", filterName))) {
+                    replaceFilter(filterName, createFilter(filterName));
+                } else if (filterValue != null && !AcceptAllFilter.class.getName().equals(filterValue)
+                        && !DenyAllFilter.class.getName().equals(filterValue)) {
+                    update(previous, "filter", filterName, getFilters(), this::createFilterBuilder, this::replaceFilter);
+                }
+            }
+            for (String formatterName : Set.copyOf(getFormatters().keySet())) {
+                update(previous, "formatter", formatterName, getFormatters(), this::createFormatterBuilder,
+                        (name, formatter) -> formatter == null ? removed(removed, removeFormatter(name))
+                                : replaceFormatter(name, formatter));
+            }
+            for (String handlerName : Set.copyOf(getHandlers().keySet())) {
+                update(previous, "handler", handlerName, getHandlers(), this::createHandlerBuilder, this::replaceHandler,
+                        "encoding", "filter", "level", "formatter", "errorManager", "handlers");
+            }
+            final Set<String> loggerNames = new LinkedHashSet<>();
+            loggerNames.add("");
+            loggerNames.addAll(Arrays.asList(getStringCsvArray(previous, "loggers")));
+            loggerNames.addAll(Arrays.asList(getStringCsvArray(properties, "loggers")));
+            for (String loggerName : loggerNames) {
+                reconfigureLogger(previous, loggerName);
+            }
+            configureDeclared();
+            for (ConfigurationResource<?> resource : removed) {
+                closeResource(resource);
+            }
+        } catch (RuntimeException | Error e) {
+            // the next reconfiguration is compared with the last properties which were fully applied
+            this.properties = previous;
+            throw e;
+        }
+    }
+
+    private static <T> ConfigurationResource<T> removed(final List<ConfigurationResource<?>> removed,
+            final ConfigurationResource<T> resource) {
+        if (resource != null) {
+            removed.add(resource);
+        }
+        return resource;
+    }
+
+    /**
+     * Watches the file for changes and {@linkplain #reconfigure(Properties) reconfigures} the context each time the
+     * file is modified. The file is read with the UTF-8 character set. Errors reading the file or applying the changes
+     * are printed to the standard error stream, the changes applied before the failure are kept and the next
+     * modification is compared with the previous configuration.
+     *
+     * @param file the file to watch
+     *
+     * @return a handle used to stop watching the file
+     *
+     * @throws IOException if the file cannot be watched
+     */
+    public Closeable watch(final Path file) throws IOException {
+        final Path path = file.toAbsolutePath();
+        final WatchService watchService = path.getFileSystem().newWatchService();
+        path.getParent().register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        final Thread thread = new Thread(() -> {
+            try {
+                for (;;) {
+                    final WatchKey key = watchService.take();
+                    boolean modified = false;
+                    for (WatchEvent<?> event : key.pollEvents()) {
+                        modified |= path.getFileName().equals(event.context());
+                    }
+                    key.reset();
+                    if (modified) {
+                        final Properties properties = new Properties();
+                        try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+                            properties.load(reader);
+                            reconfigure(properties);
+                        } catch (Exception e) {
+                            StandardOutputStreams.printError(e, "Failed to reconfigure logging from %s%n", path);
+                        }
+                    }
+                }
+            } catch (ClosedWatchServiceException | InterruptedException ignore) {
+                // the watch has been closed
+            }
+        }, "Logging configuration watcher");
+        thread.setDaemon(true);
+        thread.start();
+        return watchService;
+    }
+
     private void doConfigure() {
         // POJO's must be configured first so other
         for (String pojoName : getStringCsvArray("pojos")) {
@@ -84,6 +242,10 @@ public class PropertyContextConfiguration extends ContextConfiguration {
         for (String loggerName : getStringCsvArray("loggers")) {
             configureLogger(loggerName);
         }
+        configureDeclared();
+    }
+
+    private void configureDeclared() {
         // Configure any declared handlers.
         for (String handlerName : getStringCsvArray("handlers")) {
             configureHandler(handlerName);
@@ -152,10 +314,19 @@ public class PropertyContextConfiguration extends ContextConfiguration {
             // already configured!
             return true;
         }
+        final ObjectBuilder<Handler> handlerBuilder = createHandlerBuilder(handlerName);
+        if (handlerBuilder == null) {
+            return false;
+        }
+        addHandler(handlerName, handlerBuilder.build());
+        return true;
+    }
+
+    private ObjectBuilder<Handler> createHandlerBuilder(final String handlerName) {
         final String className = getStringProperty(getKey("handler", handlerName), true, false);
         if (className == null) {
             StandardOutputStreams.printError("Handler %s is not defined%n", handlerName);
-            return false;
+            return null;
         }
 
         final ObjectBuilder<Handler> handlerBuilder = ObjectBuilder.of(this, Handler.class, className)
@@ -214,26 +385,33 @@ public class PropertyContextConfiguration extends ContextConfiguration {
                 return result;
             });
         }
-        addHandler(handlerName, handlerBuilder.build());
-        return true;
+        return handlerBuilder;
     }
 
     private boolean configureFormatter(final String formatterName) {
-        if (hasFilter(formatterName)) {
+        if (hasFormatter(formatterName)) {
             // already configured!
             return true;
         }
+        final ObjectBuilder<Formatter> formatterBuilder = createFormatterBuilder(formatterName);
+        if (formatterBuilder == null) {
+            return false;
+        }
+        addFormatter(formatterName, formatterBuilder.build());
+        return true;
+    }
+
+    private ObjectBuilder<Formatter> createFormatterBuilder(final String formatterName) {
         final String className = getStringProperty(getKey("formatter", formatterName), true, false);
         if (className == null) {
             StandardOutputStreams.printError("Formatter %s is not defined%n", formatterName);
-            return false;
+            return null;
         }
         final ObjectBuilder<Formatter> formatterBuilder = ObjectBuilder.of(this, Formatter.class, className)
                 .setModuleName(getStringProperty(getKey("formatter", formatterName, "module")))
                 .addPostConstructMethods(getStringCsvArray(getKey("formatter", formatterName, "postConfiguration")));
         configureProperties(formatterBuilder, "formatter", formatterName);
-        addFormatter(formatterName, formatterBuilder.build());
-        return true;
+        return formatterBuilder;
     }
 
     private boolean configureErrorManager(final String errorManagerName) {
@@ -241,45 +419,176 @@ public class PropertyContextConfiguration extends ContextConfiguration {
             // already configured!
             return true;
         }
+        final ObjectBuilder<ErrorManager> errorManagerBuilder = createErrorManagerBuilder(errorManagerName);
+        if (errorManagerBuilder == null) {
+            return false;
+        }
+        addErrorManager(errorManagerName, errorManagerBuilder.build());
+        return true;
+    }
+
+    private ObjectBuilder<ErrorManager> createErrorManagerBuilder(final String errorManagerName) {
         final String className = getStringProperty(getKey("errorManager", errorManagerName), true, false);
         if (className == null) {
             StandardOutputStreams.printError("Error manager %s is not defined%n", errorManagerName);
-            return false;
+            return null;
         }
         final ObjectBuilder<ErrorManager> errorManagerBuilder = ObjectBuilder.of(this, ErrorManager.class, className)
                 .setModuleName(getStringProperty(getKey("errorManager", errorManagerName, "module")))
                 .addPostConstructMethods(getStringCsvArray(getKey("errorManager", errorManagerName, "postConfiguration")));
         configureProperties(errorManagerBuilder, "errorManager", errorManagerName);
-        addErrorManager(errorManagerName, errorManagerBuilder.build());
-        return true;
+        return errorManagerBuilder;
     }
 
     private boolean configureFilter(final String filterName) {
         if (hasFilter(filterName)) {
             return true;
         }
+        addFilter(filterName, createFilter(filterName));
+        return true;
+    }
+
+    private Supplier<Filter> createFilter(final String filterName) {
         // First determine if we're using a defined filters or filters expression. We assume a defined filters if there is
         // a filters.NAME property.
         String filterValue = getStringProperty(getKey("filter", filterName), true, false);
         if (filterValue == null) {
             // We are a filters expression, parse the expression and create a filters
-            addFilter(filterName, () -> FilterExpressions.parse(getContext(), filterName));
+            return () -> FilterExpressions.parse(getContext(), filterName);
+        }
+        // The AcceptAllFilter and DenyAllFilter are singletons.
+        if (AcceptAllFilter.class.getName().equals(filterValue)) {
+            return AcceptAllFilter::getInstance;
+        } else if (DenyAllFilter.class.getName().equals(filterValue)) {
+            return DenyAllFilter::getInstance;
+        }
+        // We assume we're a defined filter
+        return createFilterBuilder(filterName).build();
+    }
+
+    private ObjectBuilder<Filter> createFilterBuilder(final String filterName) {
+        final String filterValue = getStringProperty(getKey("filter", filterName), true, false);
+        if (filterValue == null) {
+            return null;
+        }
+        final ObjectBuilder<Filter> filterBuilder = ObjectBuilder.of(this, Filter.class, filterValue)
+                .setModuleName(getStringProperty(getKey("filter", filterName, "module")))
+                .addPostConstructMethods(getStringCsvArray(getKey("filter", filterName, "postConfiguration")));
+        configureProperties(filterBuilder, "filter", filterName);
+        return filterBuilder;
+    }
+
+    private void reconfigureLogger(final Properties previous, final String loggerName) {
+        final Logger logger = getContext().getLogger(loggerName);
+
+        final String levelKey = getKey("logger", loggerName, "level");
+        if (changed(previous, levelKey)) {
+            final String levelName = getStringProperty(levelKey);
+            logger.setLevel(levelName == null ? null : Level.parse(levelName));
+        }
+
+        final String filterKey = getKey("logger", loggerName, "filter");
+        if (changed(previous, filterKey)) {
+            final String filterName = getStringProperty(filterKey);
+            if (filterName == null) {
+                logger.setFilter(null);
+            } else if (configureFilter(filterName)) {
+                logger.setFilter(getFilter(filterName));
+            }
+        }
+
+        final String handlersKey = getKey("logger", loggerName, "handlers");
+        final List<String> previousHandlerNames = Arrays.asList(getStringCsvArray(previous, handlersKey));
+        final List<String> handlerNames = Arrays.asList(getStringCsvArray(properties, handlersKey));
+        for (String name : previousHandlerNames) {
+            if (!handlerNames.contains(name)) {
+                final Handler handler = instanceOf(getHandlers().get(name));
+                if (handler != null) {
+                    logger.removeHandler(handler);
+                }
+            }
+        }
+        for (String name : handlerNames) {
+            if (!previousHandlerNames.contains(name) && configureHandler(name)) {
+                logger.addHandler(getHandler(name));
+            }
+        }
+
+        final String useParentHandlersKey = getKey("logger", loggerName, "useParentHandlers");
+        if (changed(previous, useParentHandlersKey)) {
+            final String useParentHandlersString = getStringProperty(useParentHandlersKey);
+            logger.setUseParentHandlers(useParentHandlersString == null || resolveBooleanExpression(useParentHandlersString));
+        }
+        final String useParentFiltersKey = getKey("logger", loggerName, "useParentFilters");
+        if (changed(previous, useParentFiltersKey)) {
+            final String useParentFiltersString = getStringProperty(useParentFiltersKey);
+            logger.setUseParentFilters(useParentFiltersString == null || resolveBooleanExpression(useParentFiltersString));
+        }
+    }
+
+    /**
+     * Applies the changes of a configured object. The object is replaced if it's no longer defined or if its changes
+     * cannot be applied to the existing instance, otherwise the changed properties are set on the existing instance.
+     */
+    private <T> void update(final Properties previous, final String prefix, final String name,
+            final Map<String, ? extends Supplier<T>> resources,
+            final Function<String, ObjectBuilder<T>> builderFactory,
+            final BiFunction<String, Supplier<T>, ?> replace, final String... definedProperties) {
+        if (getStringProperty(getKey(prefix, name), true, false) == null) {
+            replace.apply(name, null);
+            return;
+        }
+        final Set<String> changed = changedProperties(previous, prefix, name, definedProperties);
+        if (changed != null && changed.isEmpty()) {
+            return;
+        }
+        final ObjectBuilder<T> builder = builderFactory.apply(name);
+        final T instance = instanceOf(resources.get(name));
+        if (changed == null || instance == null) {
+            replace.apply(name, builder.build());
         } else {
-            // The AcceptAllFilter and DenyAllFilter are singletons.
-            if (AcceptAllFilter.class.getName().equals(filterValue)) {
-                addFilter(filterName, AcceptAllFilter::getInstance);
-            } else if (DenyAllFilter.class.getName().equals(filterValue)) {
-                addFilter(filterName, DenyAllFilter::getInstance);
-            } else {
-                // We assume we're a defined filter
-                final ObjectBuilder<Filter> filterBuilder = ObjectBuilder.of(this, Filter.class, filterValue)
-                        .setModuleName(getStringProperty(getKey("filter", filterName, "module")))
-                        .addPostConstructMethods(getStringCsvArray(getKey("filter", filterName, "postConfiguration")));
-                configureProperties(filterBuilder, "errorManager", filterName);
-                addFilter(filterName, filterBuilder.build());
+            builder.configure(instance, changed);
+        }
+    }
+
+    /**
+     * Compares the properties of a configured object with the previous properties.
+     *
+     * @return the names of the changed properties or {@code null} if a new instance is required
+     */
+    private Set<String> changedProperties(final Properties previous, final String prefix, final String name,
+            final String... definedProperties) {
+        if (changed(previous, getKey(prefix, name)) || changed(previous, getKey(prefix, name, "module"))
+                || changed(previous, getKey(prefix, name, "constructorProperties"))
+                || changed(previous, getKey(prefix, name, "postConfiguration"))) {
+            return null;
+        }
+        for (String propertyName : getStringCsvArray(properties, getKey(prefix, name, "constructorProperties"))) {
+            if (changed(previous, getKey(prefix, name, propertyName))) {
+                return null;
             }
         }
-        return true;
+        final Set<String> result = new LinkedHashSet<>();
+        final List<String> previousNames = Arrays.asList(getStringCsvArray(previous, getKey(prefix, name, "properties")));
+        for (String propertyName : getStringCsvArray(properties, getKey(prefix, name, "properties"))) {
+            if (!previousNames.contains(propertyName) || changed(previous, getKey(prefix, name, propertyName))) {
+                result.add(propertyName);
+            }
+        }
+        for (String propertyName : definedProperties) {
+            if (changed(previous, getKey(prefix, name, propertyName))) {
+                if ("handlers".equals(propertyName)) {
+                    // the sub-handlers of a handler are only set when the handler is created
+                    return null;
+                }
+                result.add(propertyName);
+            }
+        }
+        return result;
+    }
+
+    private boolean changed(final Properties previous, final String key) {
+        return !Objects.equals(previous.getProperty(key), properties.getProperty(key));
     }
 
     private void configurePojos(final String pojoName) {
@@ -314,6 +623,10 @@ public class PropertyContextConfiguration extends ContextConfiguration {
     }
 
     private String[] getStringCsvArray(final String key) {
+        return getStringCsvArray(properties, key);
+    }
+
+    private static String[] getStringCsvArray(final Properties properties, final String key) {
         final String property = properties.getProperty(key, "");
         if (property == null) {
             return EMPTY_STRINGS;
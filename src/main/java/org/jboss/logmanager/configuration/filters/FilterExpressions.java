@@ -19,6 +19,7 @@
 
 package org.jboss.logmanager.configuration.filters;
 
+import static java.lang.Character.isDigit;
 import static java.lang.Character.isJavaIdentifierPart;
 import static java.lang.Character.isJavaIdentifierStart;
 import static java.lang.Character.isWhitespace;
@@ -32,19 +33,18 @@ import java.util.logging.Filter;
 import java.util.logging.Level;
 
 import org.jboss.logmanager.LogContext;
-import org.jboss.logmanager.filters.AcceptAllFilter;
-import org.jboss.logmanager.filters.AllFilter;
-import org.jboss.logmanager.filters.AnyFilter;
-import org.jboss.logmanager.filters.DenyAllFilter;
-import org.jboss.logmanager.filters.InvertFilter;
+import org.jboss.logmanager.filters.DuplicateSuppressingFilter;
 import org.jboss.logmanager.filters.LevelChangingFilter;
 import org.jboss.logmanager.filters.LevelFilter;
 import org.jboss.logmanager.filters.LevelRangeFilter;
-import org.jboss.logmanager.filters.RegexFilter;
+import org.jboss.logmanager.filters.RateLimitingFilter;
+import org.jboss.logmanager.filters.SamplingFilter;
 import org.jboss.logmanager.filters.SubstituteFilter;
+import org.jboss.logmanager.filters.TraceSamplingFilter;
 
 /**
- * Helper class to parse filter expressions.
+ * Helper class to parse filter expressions. The parsed expression is compiled into a filter which evaluates level
+ * checks before regular expressions and evaluates adjacent {@code match} expressions together.
  *
  * @author <a href="mailto:jperkins@redhat.com">James R. Perkins</a>
  */
@@ -59,8 +59,12 @@ public class FilterExpressions {
     private static final String LEVEL_RANGE = "levelRange";
     private static final String MATCH = "match";
     private static final String NOT = "not";
+    private static final String RATE_LIMIT = "rateLimit";
+    private static final String SAMPLE = "sample";
+    private static final String SAMPLE_TRACE = "sampleTrace";
     private static final String SUBSTITUTE = "substitute";
     private static final String SUBSTITUTE_ALL = "substituteAll";
+    private static final String SUPPRESS_DUPLICATES = "suppressDuplicates";
 
     /**
      * Pareses a filter expression and returns the parsed filter.
@@ -72,10 +76,11 @@ public class FilterExpressions {
      */
     public static Filter parse(final LogContext logContext, final String expression) {
         final Iterator<String> iterator = tokens(expression).iterator();
-        return parseFilterExpression(logContext, iterator, true);
+        final FilterNode node = parseFilterExpression(logContext, iterator, true);
+        return node == null ? null : node.optimize().compile();
     }
 
-    private static Filter parseFilterExpression(final LogContext logContext, final Iterator<String> iterator,
+    private static FilterNode parseFilterExpression(final LogContext logContext, final Iterator<String> iterator,
             final boolean outermost) {
         if (!iterator.hasNext()) {
             if (outermost) {
@@ -85,66 +90,94 @@ public class FilterExpressions {
         }
         final String token = iterator.next();
         if (ACCEPT.equals(token)) {
-            return AcceptAllFilter.getInstance();
+            return FilterNode.constant(true);
         } else if (DENY.equals(token)) {
-            return DenyAllFilter.getInstance();
+            return FilterNode.constant(false);
         } else if (NOT.equals(token)) {
             expect("(", iterator);
-            final Filter nested = parseFilterExpression(logContext, iterator, false);
+            final FilterNode nested = parseFilterExpression(logContext, iterator, false);
             expect(")", iterator);
-            return new InvertFilter(nested);
+            return FilterNode.not(nested);
         } else if (ALL.equals(token)) {
             expect("(", iterator);
-            final List<Filter> filters = new ArrayList<>();
+            final List<FilterNode> filters = new ArrayList<>();
             do {
                 filters.add(parseFilterExpression(logContext, iterator, false));
             } while (expect(",", ")", iterator));
-            return new AllFilter(filters);
+            return FilterNode.all(filters);
         } else if (ANY.equals(token)) {
             expect("(", iterator);
-            final List<Filter> filters = new ArrayList<>();
+            final List<FilterNode> filters = new ArrayList<>();
             do {
                 filters.add(parseFilterExpression(logContext, iterator, false));
             } while (expect(",", ")", iterator));
-            return new AnyFilter(filters);
+            return FilterNode.any(filters);
         } else if (LEVEL_CHANGE.equals(token)) {
             expect("(", iterator);
             final Level level = logContext.getLevelForName(expectName(iterator));
             expect(")", iterator);
-            return new LevelChangingFilter(level);
+            return FilterNode.modifying(new LevelChangingFilter(level));
         } else if (LEVELS.equals(token)) {
             expect("(", iterator);
             final Set<Level> levels = new HashSet<>();
             do {
                 levels.add(logContext.getLevelForName(expectName(iterator)));
             } while (expect(",", ")", iterator));
-            return new LevelFilter(levels);
+            return FilterNode.level(new LevelFilter(levels));
         } else if (LEVEL_RANGE.equals(token)) {
             final boolean minInclusive = expect("[", "(", iterator);
             final Level minLevel = logContext.getLevelForName(expectName(iterator));
             expect(",", iterator);
             final Level maxLevel = logContext.getLevelForName(expectName(iterator));
             final boolean maxInclusive = expect("]", ")", iterator);
-            return new LevelRangeFilter(minLevel, minInclusive, maxLevel, maxInclusive);
+            return FilterNode.level(new LevelRangeFilter(minLevel, minInclusive, maxLevel, maxInclusive));
         } else if (MATCH.equals(token)) {
             expect("(", iterator);
             final String pattern = expectString(iterator);
             expect(")", iterator);
-            return new RegexFilter(pattern);
+            return FilterNode.match(pattern);
+        } else if (RATE_LIMIT.equals(token)) {
+            expect("(", iterator);
+            final double rate = expectDecimal(iterator);
+            expect(",", iterator);
+            final int burst = expectInt(iterator);
+            expect(")", iterator);
+            return FilterNode.modifying(new RateLimitingFilter(rate, burst));
+        } else if (SAMPLE.equals(token)) {
+            expect("(", iterator);
+            final Level level = logContext.getLevelForName(expectName(iterator));
+            expect(",", iterator);
+            final double rate = expectDecimal(iterator);
+            expect(")", iterator);
+            return FilterNode.sampling(new SamplingFilter(level, rate));
+        } else if (SAMPLE_TRACE.equals(token)) {
+            expect("(", iterator);
+            final String key = expectString(iterator);
+            expect(",", iterator);
+            final double rate = expectDecimal(iterator);
+            expect(")", iterator);
+            return FilterNode.sampling(new TraceSamplingFilter(key, rate));
         } else if (SUBSTITUTE.equals(token)) {
             expect("(", iterator);
             final String pattern = expectString(iterator);
             expect(",", iterator);
             final String replacement = expectString(iterator);
             expect(")", iterator);
-            return new SubstituteFilter(pattern, replacement, false);
+            return FilterNode.modifying(new SubstituteFilter(pattern, replacement, false));
         } else if (SUBSTITUTE_ALL.equals(token)) {
             expect("(", iterator);
             final String pattern = expectString(iterator);
             expect(",", iterator);
             final String replacement = expectString(iterator);
             expect(")", iterator);
-            return new SubstituteFilter(pattern, replacement, true);
+            return FilterNode.modifying(new SubstituteFilter(pattern, replacement, true));
+        } else if (SUPPRESS_DUPLICATES.equals(token)) {
+            expect("(", iterator);
+            final int limit = expectInt(iterator);
+            expect(",", iterator);
+            final long window = expectNumber(iterator);
+            expect(")", iterator);
+            return FilterNode.modifying(new DuplicateSuppressingFilter(logContext, limit, window));
         } else {
             final String name = expectName(iterator);
             throw new IllegalArgumentException(String.format("No filter named \"%s\" is defined", name));
@@ -161,6 +194,40 @@ public class FilterExpressions {
         throw new IllegalArgumentException("Expected identifier next in filter expression");
     }
 
+    private static long expectNumber(final Iterator<String> iterator) {
+        if (iterator.hasNext()) {
+            final String next = iterator.next();
+            if (isDigit(next.codePointAt(0))) {
+                try {
+                    return Long.parseLong(next);
+                } catch (NumberFormatException ignore) {
+                }
+            }
+        }
+        throw new IllegalArgumentException("Expected number next in filter expression");
+    }
+
+    private static int expectInt(final Iterator<String> iterator) {
+        final long value = expectNumber(iterator);
+        if (value > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(String.format("The number %d is too large in filter expression", value));
+        }
+        return (int) value;
+    }
+
+    private static double expectDecimal(final Iterator<String> iterator) {
+        if (iterator.hasNext()) {
+            final String next = iterator.next();
+            if (isDigit(next.codePointAt(0))) {
+                try {
+                    return Double.parseDouble(next);
+                } catch (NumberFormatException ignore) {
+                }
+            }
+        }
+        throw new IllegalArgumentException("Expected number next in filter expression");
+    }
+
     private static String expectString(final Iterator<String> iterator) {
         if (iterator.hasNext()) {
             final String next = iterator.next();
@@ -209,6 +276,12 @@ public class FilterExpressions {
                     idx = source.offsetByCodePoints(idx, 1);
                 } while (idx < length && isJavaIdentifierPart(ch = source.codePointAt(idx)));
                 tokens.add(source.substring(start, idx));
+            } else if (isDigit(ch)) {
+                int start = idx;
+                do {
+                    idx = source.offsetByCodePoints(idx, 1);
+                } while (idx < length && (isDigit(ch = source.codePointAt(idx)) || ch == '.'));
+                tokens.add(source.substring(start, idx));
             } else if (ch == '"') {
                 final StringBuilder b = new StringBuilder();
                 // tag token as a string
@@ -0,0 +1,335 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logmanager.configuration.filters;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Filter;
+import java.util.regex.Pattern;
+
+import org.jboss.logmanager.filters.AcceptAllFilter;
+import org.jboss.logmanager.filters.AllFilter;
+import org.jboss.logmanager.filters.AnyFilter;
+import org.jboss.logmanager.filters.DenyAllFilter;
+import org.jboss.logmanager.filters.InvertFilter;
+
+/**
+ * A node of a parsed filter expression. The nodes are {@linkplain #compile() compiled} into the filter which is
+ * evaluated for each record.
+ * <p>
+ * Compiling a node folds constants and flattens nested {@code all} and {@code any} expressions. Within an
+ * {@code all} or {@code any} expression, filters without side effects are reordered so the cheapest are evaluated
+ * first, and adjacent {@code match} expressions are evaluated together by a single {@link MatchFilter}. Filters
+ * which modify the record or keep state, like {@code substitute}, {@code levelChange}, {@code suppressDuplicates} or
+ * {@code rateLimit}, are never reordered and nothing is moved across them.
+ * </p>
+ */
+abstract class FilterNode {
+    private static final int COST_CONSTANT = 0;
+    private static final int COST_LEVEL = 1;
+    private static final int COST_MATCH = 10;
+
+    /**
+     * Indicates whether the filter is free of side effects. Filters which neither modify the record nor keep state
+     * can be reordered.
+     *
+     * @return {@code true} if the filter has no side effects
+     */
+    abstract boolean isPure();
+
+    /**
+     * A relative estimate of the cost to evaluate the filter.
+     *
+     * @return the estimated cost
+     */
+    abstract int cost();
+
+    /**
+     * Creates the filter for this node.
+     *
+     * @return the filter
+     */
+    abstract Filter compile();
+
+    /**
+     * Returns an equivalent node which is cheaper to evaluate.
+     *
+     * @return the optimized node
+     */
+    FilterNode optimize() {
+        return this;
+    }
+
+    static FilterNode constant(final boolean value) {
+        return value ? Constant.TRUE : Constant.FALSE;
+    }
+
+    static FilterNode level(final Filter filter) {
+        return new Leaf(filter, true, COST_LEVEL);
+    }
+
+    static FilterNode modifying(final Filter filter) {
+        return new Leaf(filter, false, COST_MATCH);
+    }
+
+    static FilterNode sampling(final Filter filter) {
+        // sampling filters are about as cheap as a level check and the order they are evaluated in does not matter
+        return new Leaf(filter, true, COST_LEVEL);
+    }
+
+    static FilterNode match(final String pattern) {
+        // validate the pattern even if the optimized expression never evaluates it
+        Pattern.compile(pattern);
+        return new Match(false, List.of(pattern));
+    }
+
+    static FilterNode not(final FilterNode node) {
+        return new Not(node);
+    }
+
+    static FilterNode all(final List<FilterNode> nodes) {
+        return new Group(false, nodes);
+    }
+
+    static FilterNode any(final List<FilterNode> nodes) {
+        return new Group(true, nodes);
+    }
+
+    private static final class Constant extends FilterNode {
+        static final Constant TRUE = new Constant(true);
+        static final Constant FALSE = new Constant(false);
+
+        private final boolean value;
+
+        private Constant(final boolean value) {
+            this.value = value;
+        }
+
+        @Override
+        boolean isPure() {
+            return true;
+        }
+
+        @Override
+        int cost() {
+            return COST_CONSTANT;
+        }
+
+        @Override
+        Filter compile() {
+            return value ? AcceptAllFilter.getInstance() : DenyAllFilter.getInstance();
+        }
+    }
+
+    private static final class Leaf extends FilterNode {
+        private final Filter filter;
+        private final boolean pure;
+        private final int cost;
+
+        private Leaf(final Filter filter, final boolean pure, final int cost) {
+            this.filter = filter;
+            this.pure = pure;
+            this.cost = cost;
+        }
+
+        @Override
+        boolean isPure() {
+            return pure;
+        }
+
+        @Override
+        int cost() {
+            return cost;
+        }
+
+        @Override
+        Filter compile() {
+            return filter;
+        }
+    }
+
+    private static final class Match extends FilterNode {
+        private final boolean any;
+        private final List<String> patterns;
+
+        private Match(final boolean any, final List<String> patterns) {
+            this.any = any;
+            this.patterns = patterns;
+        }
+
+        @Override
+        boolean isPure() {
+            return true;
+        }
+
+        @Override
+        int cost() {
+            return COST_MATCH;
+        }
+
+        @Override
+        Filter compile() {
+            return any ? MatchFilter.any(patterns) : MatchFilter.all(patterns);
+        }
+    }
+
+    private static final class Not extends FilterNode {
+        private final FilterNode node;
+
+        private Not(final FilterNode node) {
+            this.node = node;
+        }
+
+        @Override
+        boolean isPure() {
+            return node.isPure();
+        }
+
+        @Override
+        int cost() {
+            return node.cost();
+        }
+
+        @Override
+        FilterNode optimize() {
+            final FilterNode optimized = node.optimize();
+            if (optimized instanceof Constant) {
+                return constant(!((Constant) optimized).value);
+            }
+            if (optimized instanceof Not) {
+                return ((Not) optimized).node;
+            }
+            return new Not(optimized);
+        }
+
+        @Override
+        Filter compile() {
+            return new InvertFilter(node.compile());
+        }
+    }
+
+    private static final class Group extends FilterNode {
+        private final boolean any;
+        private final List<FilterNode> nodes;
+
+        private Group(final boolean any, final List<FilterNode> nodes) {
+            this.any = any;
+            this.nodes = nodes;
+        }
+
+        @Override
+        boolean isPure() {
+            for (FilterNode node : nodes) {
+                if (!node.isPure()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        int cost() {
+            int cost = 0;
+            for (FilterNode node : nodes) {
+                cost += node.cost();
+            }
+            return cost;
+        }
+
+        @Override
+        FilterNode optimize() {
+            // the value which ends the evaluation, false for all and true for any
+            final Constant shortCircuit = any ? Constant.TRUE : Constant.FALSE;
+            final List<FilterNode> result = new ArrayList<>();
+            final List<FilterNode> run = new ArrayList<>();
+            for (FilterNode node : flatten()) {
+                if (node instanceof Constant) {
+                    if (node == shortCircuit) {
+                        // nothing after this node is evaluated and the pure filters before it do not change the result
+                        run.clear();
+                        run.add(node);
+                        break;
+                    }
+                    // the identity value does not change the result
+                    continue;
+                }
+                if (node.isPure()) {
+                    run.add(node);
+                } else {
+                    appendRun(run, result);
+                    result.add(node);
+                }
+            }
+            appendRun(run, result);
+            if (result.isEmpty()) {
+                // an empty all accepts every record and an empty any rejects every record
+                return constant(!any);
+            }
+            if (result.size() == 1) {
+                return result.get(0);
+            }
+            return new Group(any, result);
+        }
+
+        @Override
+        Filter compile() {
+            final List<Filter> filters = new ArrayList<>(nodes.size());
+            for (FilterNode node : nodes) {
+                filters.add(node.compile());
+            }
+            return any ? new AnyFilter(filters) : new AllFilter(filters);
+        }
+
+        private List<FilterNode> flatten() {
+            final List<FilterNode> result = new ArrayList<>(nodes.size());
+            for (FilterNode node : nodes) {
+                final FilterNode optimized = node.optimize();
+                if (optimized instanceof Group && ((Group) optimized).any == any) {
+                    result.addAll(((Group) optimized).nodes);
+                } else {
+                    result.add(optimized);
+                }
+            }
+            return result;
+        }
+
+        private void appendRun(final List<FilterNode> run, final List<FilterNode> result) {
+            if (run.isEmpty()) {
+                return;
+            }
+            // a stable sort keeps the original order of filters with the same cost
+            run.sort((n1, n2) -> Integer.compare(n1.cost(), n2.cost()));
+            final List<String> patterns = new ArrayList<>();
+            for (FilterNode node : run) {
+                if (node instanceof Match && ((Match) node).any == any) {
+                    patterns.addAll(((Match) node).patterns);
+                } else if (node instanceof Match && ((Match) node).patterns.size() == 1) {
+                    patterns.addAll(((Match) node).patterns);
+                } else {
+                    result.add(node);
+                }
+            }
+            if (!patterns.isEmpty()) {
+                result.add(new Match(any, List.copyOf(patterns)));
+            }
+            run.clear();
+        }
+    }
+}
@@ -0,0 +1,348 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logmanager.configuration.filters;
+
+import java.text.MessageFormat;
+import java.util.List;
+import java.util.logging.Filter;
+import java.util.logging.LogRecord;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import org.jboss.logmanager.ExtLogRecord;
+
+/**
+ * A filter which matches the formatted message against one or more {@code match} expressions. Each pattern is
+ * checked for a literal the message is required to contain, which is searched for before the regular expression is
+ * evaluated.
+ * <p>
+ * When all patterns must match the message is formatted once and the literals of every pattern are checked before
+ * any regular expression is evaluated. When any pattern may match, the patterns are merged into a single alternation
+ * which scans the message once.
+ * </p>
+ */
+final class MatchFilter implements Filter {
+    private final boolean any;
+    private final Pattern[] patterns;
+    private final String[] literals;
+    private final Pattern merged;
+    private final boolean prefilter;
+
+    private MatchFilter(final boolean any, final List<String> expressions) {
+        this.any = any;
+        final int size = expressions.size();
+        patterns = new Pattern[size];
+        literals = new String[size];
+        boolean prefilter = size > 0;
+        boolean mergeable = any && size > 1;
+        for (int i = 0; i < size; i++) {
+            final String expression = expressions.get(i);
+            patterns[i] = Pattern.compile(expression);
+            literals[i] = requiredLiteral(expression);
+            prefilter &= literals[i] != null;
+            mergeable &= isMergeable(expression);
+        }
+        // when any pattern may match, a message can only be rejected if every pattern requires a literal
+        this.prefilter = any && prefilter;
+        this.merged = mergeable ? merge(expressions) : null;
+    }
+
+    /**
+     * Creates a filter which requires all the expressions to match.
+     *
+     * @param expressions the regular expressions
+     *
+     * @return the filter
+     */
+    static MatchFilter all(final List<String> expressions) {
+        return new MatchFilter(false, expressions);
+    }
+
+    /**
+     * Creates a filter which requires any of the expressions to match.
+     *
+     * @param expressions the regular expressions
+     *
+     * @return the filter
+     */
+    static MatchFilter any(final List<String> expressions) {
+        return new MatchFilter(true, expressions);
+    }
+
+    @Override
+    @SuppressWarnings("deprecation") // ExtLogRecord.getFormattedMessage()
+    public boolean isLoggable(final LogRecord record) {
+        final String msg;
+        if (record instanceof ExtLogRecord) {
+            msg = String.valueOf(((ExtLogRecord) record).getFormattedMessage());
+        } else {
+            msg = String.valueOf(MessageFormat.format(record.getMessage(), record.getParameters()));
+        }
+        return any ? matchesAny(msg) : matchesAll(msg);
+    }
+
+    private boolean matchesAll(final String msg) {
+        for (String literal : literals) {
+            if (literal != null && !msg.contains(literal)) {
+                return false;
+            }
+        }
+        for (Pattern pattern : patterns) {
+            if (!pattern.matcher(msg).find()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean matchesAny(final String msg) {
+        if (prefilter && !containsAny(msg)) {
+            return false;
+        }
+        if (merged != null) {
+            return merged.matcher(msg).find();
+        }
+        for (Pattern pattern : patterns) {
+            if (pattern.matcher(msg).find()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean containsAny(final String msg) {
+        for (String literal : literals) {
+            if (msg.contains(literal)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Finds the longest run of literal characters any match of the expression is required to contain. Expressions
+     * with top-level alternations, quoting or inline flags are not analyzed.
+     *
+     * @param expression the regular expression
+     *
+     * @return the literal or {@code null} if no literal could be determined
+     */
+    static String requiredLiteral(final String expression) {
+        final int length = expression.length();
+        final StringBuilder current = new StringBuilder();
+        String best = "";
+        int depth = 0;
+        for (int i = 0; i < length; i++) {
+            final char c = expression.charAt(i);
+            switch (c) {
+                case '\\': {
+                    if (++i == length) {
+                        return null;
+                    }
+                    final char next = expression.charAt(i);
+                    if (next == 'Q') {
+                        return null;
+                    }
+                    if (depth == 0 && !Character.isLetterOrDigit(next)) {
+                        current.append(next);
+                    } else {
+                        best = longest(best, current);
+                        // the argument of an escape such as \x41 or \p{Lu} is not literal text
+                        i = endOfEscape(expression, i);
+                        if (i < 0) {
+                            return null;
+                        }
+                    }
+                    break;
+                }
+                case '[': {
+                    i = endOfClass(expression, i);
+                    if (i < 0) {
+                        return null;
+                    }
+                    best = longest(best, current);
+                    break;
+                }
+                case '(': {
+                    if (i + 2 < length && expression.charAt(i + 1) == '?') {
+                        final char flag = expression.charAt(i + 2);
+                        if (Character.isLetter(flag) || flag == '-') {
+                            return null;
+                        }
+                    }
+                    depth++;
+                    best = longest(best, current);
+                    break;
+                }
+                case ')': {
+                    depth--;
+                    best = longest(best, current);
+                    break;
+                }
+                case '|': {
+                    if (depth == 0) {
+                        return null;
+                    }
+                    break;
+                }
+                case '?':
+                case '*':
+                case '{': {
+                    // the preceding character is optional
+                    if (!current.isEmpty()) {
+                        current.setLength(current.length() - 1);
+                    }
+                    best = longest(best, current);
+                    if (c == '{') {
+                        i = expression.indexOf('}', i);
+                        if (i < 0) {
+                            return null;
+                        }
+                    }
+                    break;
+                }
+                case '+':
+                case '.':
+                case '^':
+                case '$': {
+                    best = longest(best, current);
+                    break;
+                }
+                default: {
+                    if (depth == 0) {
+                        current.append(c);
+                    }
+                }
+            }
+        }
+        best = longest(best, current);
+        return best.isEmpty() ? null : best;
+    }
+
+    private static String longest(final String best, final StringBuilder current) {
+        final String result = current.length() > best.length() ? current.toString() : best;
+        current.setLength(0);
+        return result;
+    }
+
+    private static int endOfEscape(final String expression, final int start) {
+        final int length = expression.length();
+        switch (expression.charAt(start)) {
+            case 'x': {
+                if (start + 1 < length && expression.charAt(start + 1) == '{') {
+                    return expression.indexOf('}', start);
+                }
+                return start + 2 < length ? start + 2 : -1;
+            }
+            case 'u': {
+                return start + 4 < length ? start + 4 : -1;
+            }
+            case 'c': {
+                return start + 1 < length ? start + 1 : -1;
+            }
+            case 'p':
+            case 'P':
+            case 'N': {
+                if (start + 1 < length && expression.charAt(start + 1) == '{') {
+                    return expression.indexOf('}', start);
+                }
+                return start + 1 < length ? start + 1 : -1;
+            }
+            case 'k': {
+                return expression.indexOf('>', start);
+            }
+            case 'b': {
+                return start + 1 < length && expression.charAt(start + 1) == '{' ? expression.indexOf('}', start) : start;
+            }
+            default: {
+                int i = start;
+                if (Character.isDigit(expression.charAt(i))) {
+                    // octal escapes and back references
+                    while (i + 1 < length && Character.isDigit(expression.charAt(i + 1))) {
+                        i++;
+                    }
+                }
+                return i;
+            }
+        }
+    }
+
+    private static int endOfClass(final String expression, final int start) {
+        final int length = expression.length();
+        int depth = 0;
+        // a closing bracket directly after the opening bracket, or its negation, is a literal
+        int i = start + 1;
+        if (i < length && expression.charAt(i) == '^') {
+            i++;
+        }
+        if (i < length && expression.charAt(i) == ']') {
+            i++;
+        }
+        for (; i < length; i++) {
+            final char c = expression.charAt(i);
+            if (c == '\\') {
+                i++;
+            } else if (c == '[') {
+                depth++;
+            } else if (c == ']') {
+                if (depth-- == 0) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isMergeable(final String expression) {
+        final int length = expression.length();
+        for (int i = 0; i < length; i++) {
+            final char c = expression.charAt(i);
+            if (c == '\\' && i + 1 < length) {
+                final char next = expression.charAt(++i);
+                // quoting, back references and named back references depend on their position
+                if (next == 'Q' || next == 'k' || (next >= '0' && next <= '9')) {
+                    return false;
+                }
+            } else if (c == '(' && i + 2 < length && expression.charAt(i + 1) == '?') {
+                final char flag = expression.charAt(i + 2);
+                if (Character.isLetter(flag) || flag == '-') {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static Pattern merge(final List<String> expressions) {
+        final StringBuilder builder = new StringBuilder();
+        for (String expression : expressions) {
+            if (!builder.isEmpty()) {
+                builder.append('|');
+            }
+            builder.append("(?:").append(expression).append(')');
+        }
+        try {
+            return Pattern.compile(builder.toString());
+        } catch (PatternSyntaxException e) {
+            // for example duplicate group names, evaluate the patterns individually
+            return null;
+        }
+    }
+}
@@ -0,0 +1,237 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logmanager.errormanager;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.logging.ErrorManager;
+
+import org.jboss.logmanager.ExtErrorManager;
+import org.jboss.logmanager.internal.WindowTable;
+
+/**
+ * An error manager which aggregates repeated errors and delegates a periodic summary. Errors are aggregated by the
+ * error code and the name of the exception type within a {@linkplain #getWindow() window}. The first error of a window
+ * is passed to the {@linkplain #getDelegate() delegate}, the remaining errors are counted and a single summary with the
+ * number of suppressed errors is passed to the delegate once the window has elapsed.
+ * <p>
+ * Error managers are generally set on a single handler, so the errors are aggregated per handler. Aggregating an
+ * error which is already being counted is lock-free and does not allocate. The windows are held in a fixed size
+ * table, once it is full errors of a new code and exception type are passed to the delegate without aggregation.
+ * A window is removed once a whole window has elapsed without errors, so its slot can be used by other errors.
+ * </p>
+ */
+public final class AggregatingErrorManager extends ExtErrorManager {
+    private static final int TABLE_SIZE = 64;
+
+    private final WindowTable<String, Window> windows = new WindowTable<>(TABLE_SIZE, this::summarizeElapsed);
+    private volatile ErrorManager delegate;
+    private volatile long window;
+
+    /**
+     * Creates a new error manager which delegates to a {@link SimpleErrorManager} and summarizes errors every minute.
+     */
+    public AggregatingErrorManager() {
+        this(new SimpleErrorManager(), 60_000L);
+    }
+
+    /**
+     * Creates a new error manager which summarizes errors every minute.
+     *
+     * @param delegate the error manager the errors and summaries are passed to
+     */
+    public AggregatingErrorManager(final ErrorManager delegate) {
+        this(delegate, 60_000L);
+    }
+
+    /**
+     * Creates a new error manager.
+     *
+     * @param delegate the error manager the errors and summaries are passed to
+     * @param window   the length of the window in milliseconds
+     */
+    public AggregatingErrorManager(final ErrorManager delegate, final long window) {
+        setDelegate(delegate);
+        setWindow(window);
+    }
+
+    /**
+     * Returns the error manager the errors and summaries are passed to.
+     *
+     * @return the delegate error manager
+     */
+    public ErrorManager getDelegate() {
+        return delegate;
+    }
+
+    /**
+     * Sets the error manager the errors and summaries are passed to.
+     *
+     * @param delegate the delegate error manager, cannot be {@code null}
+     */
+    public void setDelegate(final ErrorManager delegate) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("The delegate cannot be null");
+        }
+        this.delegate = delegate;
+    }
+
+    /**
+     * Returns the length of the window errors are aggregated within in milliseconds.
+     *
+     * @return the length of the window
+     */
+    public long getWindow() {
+        return window;
+    }
+
+    /**
+     * Sets the length of the window errors are aggregated within in milliseconds.
+     *
+     * @param window the length of the window, must be greater than {@code 0}
+     */
+    public void setWindow(final long window) {
+        if (window <= 0L) {
+            throw new IllegalArgumentException("The window must be greater than 0");
+        }
+        this.window = window;
+    }
+
+    @Override
+    public void error(final String msg, final Exception ex, final int code) {
+        final long now = System.nanoTime();
+        // the name is used rather than the class, so the class loader of the exception is not retained
+        final String exceptionType = ex == null ? null : ex.getClass().getName();
+        final Window current = windowFor(code, exceptionType, now);
+        if (current == null) {
+            // the table is full, the error can not be aggregated
+            delegate.error(msg, ex, code);
+            return;
+        }
+        for (;;) {
+            final long start = current.start;
+            if (now - start < TimeUnit.MILLISECONDS.toNanos(window)) {
+                current.lastMessage = msg;
+                Window.suppressedUpdater.incrementAndGet(current);
+                return;
+            }
+            // the window has elapsed, the thread which starts the next window passes the error to the delegate
+            if (Window.startUpdater.compareAndSet(current, start, now)) {
+                summarize(current);
+                delegate.error(msg, ex, code);
+                windows.schedule(window);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Passes a summary of each window which has suppressed errors to the delegate and starts new windows.
+     */
+    public void flush() {
+        final long start = System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(window);
+        for (int i = 0; i < windows.size(); i++) {
+            final Window current = windows.get(i);
+            if (current != null) {
+                // the next error starts a new window
+                current.start = start;
+                summarize(current);
+            }
+        }
+    }
+
+    /**
+     * Finds the window of the code and exception type, adding a new window if there is none.
+     *
+     * @return the window or {@code null} if the table is full
+     */
+    private Window windowFor(final int code, final String exceptionType, final long now) {
+        final int hash = WindowTable.spread(31 * code + Objects.hashCode(exceptionType));
+        final Window current = windows.find(hash, code, exceptionType);
+        if (current != null) {
+            return current;
+        }
+        // the window starts elapsed, so the first error is passed to the delegate
+        final long start = now - TimeUnit.MILLISECONDS.toNanos(window);
+        return windows.add(code, exceptionType, new Window(hash, code, exceptionType, start));
+    }
+
+    private void summarizeElapsed() {
+        final long now = System.nanoTime();
+        final long window = TimeUnit.MILLISECONDS.toNanos(this.window);
+        boolean pending = false;
+        for (int i = 0; i < windows.size(); i++) {
+            final Window current = windows.get(i);
+            if (current == null) {
+                continue;
+            }
+            if (now - current.start < window) {
+                pending = true;
+            } else if (current.suppressed > 0) {
+                // the window stays elapsed, the next error starts a new window
+                summarize(current);
+                pending = true;
+            } else if (windows.remove(i, current)) {
+                // no errors were counted since the last summary, errors counted while it was removed are summarized
+                summarize(current);
+            }
+        }
+        if (pending) {
+            windows.schedule(this.window);
+        }
+    }
+
+    private void summarize(final Window window) {
+        // errors counted after the reset are included in the next summary rather than lost
+        final int suppressed = Window.suppressedUpdater.getAndSet(window, 0);
+        if (suppressed > 0) {
+            final String type = window.exceptionType == null ? "no exception" : window.exceptionType;
+            delegate.error(String.format("%d additional errors of type %s (%s) were suppressed, the last error was: %s",
+                    suppressed, nameForCode(window.code), type, window.lastMessage), null, window.code);
+        }
+    }
+
+    private static final class Window extends WindowTable.Window<String> {
+        static final AtomicIntegerFieldUpdater<Window> suppressedUpdater = AtomicIntegerFieldUpdater.newUpdater(Window.class,
+                "suppressed");
+        static final AtomicLongFieldUpdater<Window> startUpdater = AtomicLongFieldUpdater.newUpdater(Window.class,
+                "start");
+
+        private final int code;
+        private final String exceptionType;
+        private volatile long start;
+        private volatile int suppressed;
+        private volatile String lastMessage;
+
+        private Window(final int hash, final int code, final String exceptionType, final long start) {
+            super(hash);
+            this.code = code;
+            this.exceptionType = exceptionType;
+            this.start = start;
+        }
+
+        @Override
+        protected boolean matches(final int code, final String exceptionType) {
+            return this.code == code && Objects.equals(this.exceptionType, exceptionType);
+        }
+    }
+}
@@ -0,0 +1,255 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logmanager.filters;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.logging.Filter;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import org.jboss.logmanager.ExtLogRecord;
+import org.jboss.logmanager.ExtLogRecord.FormatStyle;
+import org.jboss.logmanager.LogContext;
+import org.jboss.logmanager.internal.WindowTable;
+
+/**
+ * A filter which suppresses duplicate records. Records are duplicates if they have the same logger name, level,
+ * unformatted message and name of the exception type. The first {@linkplain #getLimit() limit} duplicates within a
+ * {@linkplain #getWindow() window} are logged and the rest are suppressed.
+ * <p>
+ * When a window with suppressed records is closed a single summary record, with the level and logger name of the
+ * suppressed records, is logged to the logger the records were logged to. Windows with suppressed records are closed
+ * by a background thread once they have elapsed, or when the window is replaced by a later record. Elapsed windows
+ * are removed, so their slots can be used by other records. The summary is
+ * always logged outside of {@link #isLoggable(LogRecord)}, so it does not re-enter the filters and handlers of the
+ * record being filtered.
+ * </p>
+ * <p>
+ * Windows are held in a fixed size table indexed by the fingerprint of the record. Updates are lock-free, once the
+ * table is full records with a new fingerprint are not suppressed.
+ * </p>
+ */
+public final class DuplicateSuppressingFilter implements Filter {
+    private static final int TABLE_SIZE = 1024;
+
+    private final LogContext logContext;
+    private final WindowTable<LogRecord, Window> windows = new WindowTable<>(TABLE_SIZE, this::summarizeElapsed);
+    private volatile int limit;
+    private volatile long window;
+
+    /**
+     * Creates a new filter which allows a single record per second for each fingerprint.
+     */
+    public DuplicateSuppressingFilter() {
+        this(null, 1, 1000L);
+    }
+
+    /**
+     * Creates a new filter.
+     *
+     * @param limit  the number of duplicate records logged within a window
+     * @param window the length of the window in milliseconds
+     */
+    public DuplicateSuppressingFilter(final int limit, final long window) {
+        this(null, limit, window);
+    }
+
+    /**
+     * Creates a new filter.
+     *
+     * @param logContext the log context the summary records are logged to, or {@code null} to use the
+     *                   {@linkplain LogContext#getLogContext() current} log context
+     * @param limit      the number of duplicate records logged within a window
+     * @param window     the length of the window in milliseconds
+     */
+    public DuplicateSuppressingFilter(final LogContext logContext, final int limit, final long window) {
+        this.logContext = logContext;
+        setLimit(limit);
+        setWindow(window);
+    }
+
+    /**
+     * Returns the number of duplicate records logged within a window.
+     *
+     * @return the limit
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * Sets the number of duplicate records logged within a window.
+     *
+     * @param limit the limit, must be greater than {@code 0}
+     */
+    public void setLimit(final int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("The limit must be greater than 0");
+        }
+        this.limit = limit;
+    }
+
+    /**
+     * Returns the length of the window in milliseconds.
+     *
+     * @return the length of the window
+     */
+    public long getWindow() {
+        return window;
+    }
+
+    /**
+     * Sets the length of the window in milliseconds.
+     *
+     * @param window the length of the window, must be greater than {@code 0}
+     */
+    public void setWindow(final long window) {
+        if (window <= 0L) {
+            throw new IllegalArgumentException("The window must be greater than 0");
+        }
+        this.window = window;
+    }
+
+    /**
+     * Determine if this log record is loggable.
+     *
+     * @param record the log record
+     *
+     * @return {@code true} if the record is not a duplicate or the limit for the current window has not been reached
+     */
+    @Override
+    public boolean isLoggable(final LogRecord record) {
+        final long now = record.getInstant().toEpochMilli();
+        final String loggerName = record.getLoggerName();
+        final int level = record.getLevel().intValue();
+        final String message = record.getMessage();
+        final Throwable thrown = record.getThrown();
+        final int hash = hash(loggerName, level, message, thrown == null ? null : thrown.getClass().getName());
+        for (;;) {
+            final Window current = windows.find(hash, level, record);
+            if (current != null && now - current.start < window) {
+                if (Window.countUpdater.incrementAndGet(current) <= limit) {
+                    return true;
+                }
+                windows.schedule(window);
+                return false;
+            }
+            final Window created = new Window(hash, record, now);
+            if (current == null) {
+                final Window added = windows.add(level, record, created);
+                if (added == created || added == null) {
+                    // a record which can not be counted as the table is full is not suppressed
+                    windows.schedule(window);
+                    return true;
+                }
+            } else if (windows.replace(current, created)) {
+                if (current.count > limit) {
+                    WindowTable.execute(() -> summarize(current));
+                }
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Logs a summary for each window which has suppressed records and starts new windows.
+     */
+    public void flush() {
+        for (int i = 0; i < windows.size(); i++) {
+            final Window current = windows.get(i);
+            if (current != null && windows.remove(i, current)) {
+                summarize(current);
+            }
+        }
+    }
+
+    private void summarizeElapsed() {
+        final long now = System.currentTimeMillis();
+        final long window = this.window;
+        boolean pending = false;
+        for (int i = 0; i < windows.size(); i++) {
+            final Window current = windows.get(i);
+            if (current != null) {
+                if (now - current.start >= window) {
+                    if (windows.remove(i, current)) {
+                        summarize(current);
+                    }
+                } else {
+                    pending = true;
+                }
+            }
+        }
+        if (pending) {
+            windows.schedule(window);
+        }
+    }
+
+    private void summarize(final Window window) {
+        final int suppressed = window.count - limit;
+        if (suppressed > 0) {
+            final ExtLogRecord summary = new ExtLogRecord(window.level, "Suppressed %d duplicate messages: %s",
+                    FormatStyle.PRINTF, DuplicateSuppressingFilter.class.getName());
+            summary.setParameters(new Object[] { suppressed, window.message });
+            summary.setLoggerName(window.loggerName);
+            final LogContext logContext = this.logContext == null ? LogContext.getLogContext() : this.logContext;
+            logContext.getLogger(window.loggerName == null ? "" : window.loggerName).logRaw(summary);
+        }
+    }
+
+    private static int hash(final String loggerName, final int level, final String message, final String thrownType) {
+        int h = Objects.hashCode(loggerName);
+        h = 31 * h + level;
+        h = 31 * h + Objects.hashCode(message);
+        h = 31 * h + Objects.hashCode(thrownType);
+        return WindowTable.spread(h);
+    }
+
+    private static final class Window extends WindowTable.Window<LogRecord> {
+        static final AtomicIntegerFieldUpdater<Window> countUpdater = AtomicIntegerFieldUpdater.newUpdater(Window.class,
+                "count");
+
+        private final String loggerName;
+        private final Level level;
+        private final String message;
+        // the name is used rather than the class, so the class loader of the exception is not retained
+        private final String thrownType;
+        private final long start;
+        private volatile int count = 1;
+
+        private Window(final int hash, final LogRecord record, final long start) {
+            super(hash);
+            final Throwable thrown = record.getThrown();
+            this.loggerName = record.getLoggerName();
+            this.level = record.getLevel();
+            this.message = record.getMessage();
+            this.thrownType = thrown == null ? null : thrown.getClass().getName();
+            this.start = start;
+        }
+
+        @Override
+        protected boolean matches(final int level, final LogRecord record) {
+            final Throwable thrown = record.getThrown();
+            return this.level.intValue() == level
+                    && Objects.equals(thrownType, thrown == null ? null : thrown.getClass().getName())
+                    && Objects.equals(loggerName, record.getLoggerName()) && Objects.equals(message, record.getMessage());
+        }
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logmanager.filters;
+
+import java.time.Instant;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.logging.Filter;
+import java.util.logging.LogRecord;
+
+/**
+ * A filter which limits the rate of records for each logger name with a token bucket. Each logger name may log up to
+ * {@linkplain #getBurst() burst} records at once, after which records are allowed at the {@linkplain #getRate() rate}
+ * per second. Records over the limit are rejected.
+ * <p>
+ * The bucket of a logger name is a single timestamp, the time at which the bucket will be full again, which is
+ * updated with a compare-and-set. The time of a record is the {@linkplain LogRecord#getInstant() instant} of the
+ * record.
+ * </p>
+ */
+public final class RateLimitingFilter implements Filter {
+    private final ConcurrentHashMap<String, Bucket> buckets = new ConcurrentHashMap<>();
+    private volatile Limits limits;
+
+    /**
+     * Creates a new filter which allows {@code 100} records per second for each logger name.
+     */
+    public RateLimitingFilter() {
+        this(100.0d, 100);
+    }
+
+    /**
+     * Creates a new filter.
+     *
+     * @param rate  the number of records per second allowed for each logger name
+     * @param burst the number of records each logger name may log at once
+     */
+    public RateLimitingFilter(final double rate, final int burst) {
+        limits = new Limits(rate, burst);
+    }
+
+    /**
+     * Returns the number of records per second allowed for each logger name.
+     *
+     * @return the rate
+     */
+    public double getRate() {
+        return limits.rate;
+    }
+
+    /**
+     * Sets the number of records per second allowed for each logger name.
+     *
+     * @param rate the rate, must be greater than {@code 0}
+     */
+    public synchronized void setRate(final double rate) {
+        limits = new Limits(rate, limits.burst);
+    }
+
+    /**
+     * Returns the number of records each logger name may log at once.
+     *
+     * @return the burst size
+     */
+    public int getBurst() {
+        return limits.burst;
+    }
+
+    /**
+     * Sets the number of records each logger name may log at once.
+     *
+     * @param burst the burst size, must be greater than {@code 0}
+     */
+    public synchronized void setBurst(final int burst) {
+        limits = new Limits(limits.rate, burst);
+    }
+
+    /**
+     * Determine if this log record is loggable.
+     *
+     * @param record the log record
+     *
+     * @return {@code true} if the logger name of the record has not exceeded its rate
+     */
+    @Override
+    public boolean isLoggable(final LogRecord record) {
+        final String loggerName = record.getLoggerName() == null ? "" : record.getLoggerName();
+        Bucket bucket = buckets.get(loggerName);
+        if (bucket == null) {
+            bucket = buckets.computeIfAbsent(loggerName, name -> new Bucket());
+        }
+        final Instant instant = record.getInstant();
+        return bucket.tryAcquire(instant.getEpochSecond() * 1_000_000_000L + instant.getNano(), limits);
+    }
+
+    private static final class Limits {
+        private final double rate;
+        private final int burst;
+        // the time in nanoseconds for a single record
+        private final long interval;
+        // how far ahead of the current time the bucket may be before records are rejected
+        private final long tolerance;
+
+        private Limits(final double rate, final int burst) {
+            if (!(rate > 0.0d)) {
+                throw new IllegalArgumentException("The rate must be greater than 0");
+            }
+            if (burst <= 0) {
+                throw new IllegalArgumentException("The burst must be greater than 0");
+            }
+            this.rate = rate;
+            this.burst = burst;
+            this.interval = Math.max(1L, (long) (1_000_000_000L / rate));
+            // saturate rather than overflow for very low rates or very large bursts
+            this.tolerance = burst - 1 > Long.MAX_VALUE / interval ? Long.MAX_VALUE : (burst - 1) * interval;
+        }
+    }
+
+    private static final class Bucket {
+        private static final AtomicLongFieldUpdater<Bucket> fullAtUpdater = AtomicLongFieldUpdater.newUpdater(Bucket.class,
+                "fullAt");
+
+        private volatile long fullAt = Long.MIN_VALUE;
+
+        boolean tryAcquire(final long now, final Limits limits) {
+            for (;;) {
+                final long fullAt = this.fullAt;
+                final long base = Math.max(fullAt, now);
+                if (base - now > limits.tolerance) {
+                    return false;
+                }
+                final long next = base + limits.interval;
+                if (fullAtUpdater.compareAndSet(this, fullAt, next < base ? Long.MAX_VALUE : next)) {
+                    return true;
+                }
+            }
+        }
+    }
+}
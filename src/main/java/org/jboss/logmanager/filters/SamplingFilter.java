@@ -0,0 +1,111 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logmanager.filters;
+
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.logging.Filter;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * A filter which always allows records at or above a level and samples the records below it. For example a level of
+ * {@code WARN} with a rate of {@code 0.01} logs every warning and error and about one percent of the other records.
+ * <p>
+ * Each record is sampled independently with a thread local random number, so no state is shared between threads.
+ * </p>
+ */
+public final class SamplingFilter implements Filter {
+    private volatile Level level;
+    private volatile double rate;
+
+    /**
+     * Creates a new filter which allows all records at or above {@code WARN} and one percent of the others.
+     */
+    public SamplingFilter() {
+        this(org.jboss.logmanager.Level.WARN, 0.01d);
+    }
+
+    /**
+     * Creates a new filter.
+     *
+     * @param level the level at or above which all records are allowed
+     * @param rate  the fraction, between {@code 0} and {@code 1}, of the records below the level which are allowed
+     */
+    public SamplingFilter(final Level level, final double rate) {
+        setLevel(level);
+        setRate(rate);
+    }
+
+    /**
+     * Returns the level at or above which all records are allowed.
+     *
+     * @return the level
+     */
+    public Level getLevel() {
+        return level;
+    }
+
+    /**
+     * Sets the level at or above which all records are allowed.
+     *
+     * @param level the level, cannot be {@code null}
+     */
+    public void setLevel(final Level level) {
+        this.level = Objects.requireNonNull(level, "The level cannot be null");
+    }
+
+    /**
+     * Returns the fraction of the records below the level which are allowed.
+     *
+     * @return the rate
+     */
+    public double getRate() {
+        return rate;
+    }
+
+    /**
+     * Sets the fraction of the records below the level which are allowed.
+     *
+     * @param rate the rate, between {@code 0} and {@code 1}
+     */
+    public void setRate(final double rate) {
+        if (!(rate >= 0.0d && rate <= 1.0d)) {
+            throw new IllegalArgumentException("The rate must be between 0 and 1");
+        }
+        this.rate = rate;
+    }
+
+    /**
+     * Determine if this log record is loggable.
+     *
+     * @param record the log record
+     *
+     * @return {@code true} if the record is at or above the level or was sampled
+     */
+    @Override
+    public boolean isLoggable(final LogRecord record) {
+        if (record.getLevel().intValue() >= level.intValue()) {
+            return true;
+        }
+        final double rate = this.rate;
+        return rate >= 1.0d || rate > 0.0d && ThreadLocalRandom.current().nextDouble() < rate;
+    }
+}
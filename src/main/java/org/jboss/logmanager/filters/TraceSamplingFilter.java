@@ -0,0 +1,122 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logmanager.filters;
+
+import java.util.logging.Filter;
+import java.util.logging.LogRecord;
+
+import org.jboss.logmanager.ExtLogRecord;
+import org.jboss.logmanager.MDC;
+
+/**
+ * A filter which samples records by the value of an MDC entry, such as a trace id. The decision is derived from a
+ * hash of the value, so every record with the same value is either allowed or rejected and a whole request is kept or
+ * dropped together. Records without the MDC entry are always allowed.
+ */
+public final class TraceSamplingFilter implements Filter {
+    private volatile String key;
+    private volatile long bound;
+    private volatile double rate;
+
+    /**
+     * Creates a new filter which samples ten percent of the {@code traceId} values.
+     */
+    public TraceSamplingFilter() {
+        this("traceId", 0.1d);
+    }
+
+    /**
+     * Creates a new filter.
+     *
+     * @param key  the MDC key of the value to sample by
+     * @param rate the fraction, between {@code 0} and {@code 1}, of the values which are allowed
+     */
+    public TraceSamplingFilter(final String key, final double rate) {
+        setKey(key);
+        setRate(rate);
+    }
+
+    /**
+     * Returns the MDC key of the value to sample by.
+     *
+     * @return the MDC key
+     */
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * Sets the MDC key of the value to sample by.
+     *
+     * @param key the MDC key
+     */
+    public void setKey(final String key) {
+        if (key == null) {
+            throw new IllegalArgumentException("The key cannot be null");
+        }
+        this.key = key;
+    }
+
+    /**
+     * Returns the fraction of the values which are allowed.
+     *
+     * @return the rate
+     */
+    public double getRate() {
+        return rate;
+    }
+
+    /**
+     * Sets the fraction of the values which are allowed.
+     *
+     * @param rate the rate, between {@code 0} and {@code 1}
+     */
+    public void setRate(final double rate) {
+        if (!(rate >= 0.0d && rate <= 1.0d)) {
+            throw new IllegalArgumentException("The rate must be between 0 and 1");
+        }
+        this.rate = rate;
+        this.bound = (long) (rate * 0x1_0000_0000L);
+    }
+
+    /**
+     * Determine if this log record is loggable.
+     *
+     * @param record the log record
+     *
+     * @return {@code true} if the record has no value for the key or the value was sampled
+     */
+    @Override
+    public boolean isLoggable(final LogRecord record) {
+        final String value = record instanceof ExtLogRecord ? ((ExtLogRecord) record).getMdc(key) : MDC.get(key);
+        return value == null || (mix(value.hashCode()) & 0xFFFF_FFFFL) < bound;
+    }
+
+    private static int mix(final int hash) {
+        // the murmur3 finalizer, so similar values are spread over the whole range
+        int h = hash;
+        h ^= h >>> 16;
+        h *= 0x85eb_ca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2_ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+}
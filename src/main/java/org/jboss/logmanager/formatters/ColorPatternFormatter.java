@@ -80,7 +80,7 @@ public class ColorPatternFormatter extends PatternFormatter {
             case LINE_SEPARATOR -> step;
             case CATEGORY ->
                 new ColorStep(step, 220f, .9f, .8f, darken);
-            case MDC, NDC ->
+            case MDC, NDC, KEY_VALUES ->
                 new ColorStep(step, 153f, 1f, .7f, darken);
             case EXCEPTION_TRACE ->
                 new ColorStep(step, 0, 1f, .6f, darken);
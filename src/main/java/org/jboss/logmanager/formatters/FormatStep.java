@@ -80,6 +80,7 @@ public interface FormatStep {
         LINE_SEPARATOR,
         CATEGORY,
         MDC,
+        KEY_VALUES,
         /**
          * The log message without the exception trace.
          */
@@ -111,6 +111,11 @@ public final class FormatStringParser {
                                 argument, true));
                         break;
                     }
+                    case 'f': {
+                        stepList.add(Formatters.keyValuesFormatStep(argument, leftJustify, minimumWidth, truncateBeginning,
+                                maximumWidth));
+                        break;
+                    }
                     case 'F': {
                         stepList.add(Formatters.fileNameFormatStep(leftJustify, minimumWidth, truncateBeginning, maximumWidth));
                         break;
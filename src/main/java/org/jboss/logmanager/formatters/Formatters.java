@@ -43,6 +43,7 @@ import java.util.regex.Pattern;
 
 import org.jboss.logmanager.ExtFormatter;
 import org.jboss.logmanager.ExtLogRecord;
+import org.jboss.logmanager.KeyValues;
 
 /**
  * Formatter utility methods.
@@ -906,21 +907,24 @@ public final class Formatters {
             }
 
             public void renderRaw(Formatter formatter, final StringBuilder builder, final ExtLogRecord record) {
+                final StackTraceFingerprints fingerprints = formatter instanceof MultistepFormatter
+                        ? ((MultistepFormatter) formatter).getStackTraceFingerprints()
+                        : null;
                 if (System.getSecurityManager() != null)
                     doPrivileged(new PrivilegedAction<Void>() {
                         public Void run() {
-                            doExceptionFormatStep(builder, record, argument, extended);
+                            doExceptionFormatStep(builder, record, argument, extended, fingerprints);
                             return null;
                         }
                     });
                 else
-                    doExceptionFormatStep(builder, record, argument, extended);
+                    doExceptionFormatStep(builder, record, argument, extended, fingerprints);
             }
         };
     }
 
     private static void doExceptionFormatStep(final StringBuilder builder, final ExtLogRecord record, final String argument,
-            final boolean extended) {
+            final boolean extended, final StackTraceFingerprints fingerprints) {
         final Throwable t = record.getThrown();
         if (t != null) {
             int depth = -1;
@@ -930,7 +934,11 @@ public final class Formatters {
                 } catch (NumberFormatException ignore) {
                 }
             }
-            StackTraceFormatter.renderStackTrace(builder, t, extended, depth);
+            if (fingerprints != null) {
+                StackTraceFormatter.renderStackTrace(builder, t, depth, fingerprints, record.getInstant().toEpochMilli());
+            } else {
+                StackTraceFormatter.renderStackTrace(builder, t, extended, depth);
+            }
         }
     }
 
@@ -1318,6 +1326,40 @@ public final class Formatters {
         };
     }
 
+    /**
+     * Create a format step which emits the value of the key/value field with the given key of the log record. If
+     * the key is {@code null} all the fields are emitted.
+     *
+     * @param key               the key of the field or {@code null} for all fields
+     * @param leftJustify       {@code true} to left justify, {@code false} to right justify
+     * @param minimumWidth      the minimum field width, or 0 for none
+     * @param truncateBeginning {@code true} to truncate the beginning, otherwise {@code false} to truncate the end
+     * @param maximumWidth      the maximum field width (must be greater than {@code minimumFieldWidth}), or 0 for none
+     * @return the format step
+     */
+    public static FormatStep keyValuesFormatStep(final String key, final boolean leftJustify, final int minimumWidth,
+            final boolean truncateBeginning, final int maximumWidth) {
+        return new JustifyingFormatStep(leftJustify, minimumWidth, truncateBeginning, maximumWidth) {
+            public ItemType getItemType() {
+                return ItemType.KEY_VALUES;
+            }
+
+            public void renderRaw(Formatter formatter, final StringBuilder builder, final ExtLogRecord record) {
+                final KeyValues keyValues = record.getKeyValues();
+                if (key == null) {
+                    if (!keyValues.isEmpty()) {
+                        builder.append(keyValues);
+                    }
+                } else {
+                    final int index = keyValues.indexOf(key);
+                    if (index >= 0) {
+                        keyValues.appendValue(builder, index);
+                    }
+                }
+            }
+        };
+    }
+
     public static FormatStep formatColor(final ColorMap colors, final String color) {
         return new FormatStep() {
             public void render(final StringBuilder builder, final ExtLogRecord record) {
@@ -153,6 +153,23 @@ public class JsonFormatter extends StructuredFormatter {
             return this;
         }
 
+        @Override
+        public Generator add(final String key, final double value) {
+            if (Double.isFinite(value)) {
+                generator.write(key, value);
+            } else {
+                // JSON has no representation of NaN or infinity
+                generator.write(key, Double.toString(value));
+            }
+            return this;
+        }
+
+        @Override
+        public Generator add(final String key, final boolean value) {
+            generator.write(key, value);
+            return this;
+        }
+
         @Override
         public Generator add(final String key, final Map<String, ?> value) {
             generator.writeStartObject(key);
@@ -31,6 +31,7 @@ public class MultistepFormatter extends ExtFormatter {
     private volatile FormatStep[] steps;
     private volatile int builderLength;
     private volatile boolean callerCalculationRequired = false;
+    private final StackTraceFingerprints stackTraceFingerprints = new StackTraceFingerprints();
 
     private static final FormatStep[] EMPTY_STEPS = new FormatStep[0];
 
@@ -83,6 +84,51 @@ public class MultistepFormatter extends ExtFormatter {
         calculateBuilderLength();
     }
 
+    /**
+     * Returns the number of times the same stack trace is rendered in full within the
+     * {@linkplain #getCompactStackTraceWindow() window} before only a reference to it is written.
+     *
+     * @return the threshold, {@code 0} if stack traces are always rendered in full
+     */
+    public int getCompactStackTraceThreshold() {
+        return stackTraceFingerprints.getThreshold();
+    }
+
+    /**
+     * Sets the number of times the same stack trace is rendered in full within the
+     * {@linkplain #setCompactStackTraceWindow(long) window}. Further occurrences only write the exception and a
+     * fingerprint referencing the earlier full stack trace. A value of {@code 0} or less, the default, always renders
+     * the full stack trace.
+     *
+     * @param threshold the threshold
+     */
+    public void setCompactStackTraceThreshold(final int threshold) {
+        stackTraceFingerprints.setThreshold(threshold);
+    }
+
+    /**
+     * Returns the time window, in milliseconds, in which occurrences of the same stack trace are counted.
+     *
+     * @return the window in milliseconds
+     */
+    public long getCompactStackTraceWindow() {
+        return stackTraceFingerprints.getWindowMillis();
+    }
+
+    /**
+     * Sets the time window, in milliseconds, in which occurrences of the same stack trace are counted. The default is
+     * one minute.
+     *
+     * @param millis the window in milliseconds
+     */
+    public void setCompactStackTraceWindow(final long millis) {
+        stackTraceFingerprints.setWindowMillis(millis);
+    }
+
+    StackTraceFingerprints getStackTraceFingerprints() {
+        return stackTraceFingerprints;
+    }
+
     /** {@inheritDoc} */
     public String format(final ExtLogRecord record) {
         final StringBuilder builder = new StringBuilder(builderLength);
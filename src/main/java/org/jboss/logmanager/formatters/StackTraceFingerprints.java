@@ -0,0 +1,154 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logmanager.formatters;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tracks how often a stack trace, identified by its fingerprint, has been seen within a time window. Once a
+ * fingerprint has been seen more than the threshold number of times in the current window the stack trace should be
+ * rendered in its compact form. A threshold of {@code 0} or less disables tracking.
+ */
+final class StackTraceFingerprints {
+    private static final int MAX_ENTRIES = 1024;
+
+    private final ConcurrentHashMap<Integer, Window> windows = new ConcurrentHashMap<>();
+    private volatile int threshold;
+    private volatile long windowMillis = 60_000L;
+
+    /**
+     * Computes the fingerprint of the throwable. The fingerprint is a hash of the type and frames of the throwable
+     * and of each of its causes and suppressed throwables.
+     *
+     * @param t the throwable
+     *
+     * @return the fingerprint
+     */
+    static int fingerprint(final Throwable t) {
+        return fingerprint(t, Collections.newSetFromMap(new IdentityHashMap<>()), 1);
+    }
+
+    private static int fingerprint(final Throwable t, final Set<Throwable> seen, final int hash) {
+        if (!seen.add(t)) {
+            return hash;
+        }
+        int h = 31 * hash + t.getClass().getName().hashCode();
+        for (StackTraceElement element : t.getStackTrace()) {
+            h = 31 * h + element.hashCode();
+        }
+        for (Throwable s : t.getSuppressed()) {
+            h = fingerprint(s, seen, h);
+        }
+        final Throwable cause = t.getCause();
+        if (cause != null) {
+            h = fingerprint(cause, seen, h);
+        }
+        return h;
+    }
+
+    /**
+     * Formats the fingerprint as it is written to the log.
+     *
+     * @param fingerprint the fingerprint
+     *
+     * @return the fingerprint as an eight character hexadecimal string
+     */
+    static String toString(final int fingerprint) {
+        final String hex = Integer.toHexString(fingerprint);
+        return "00000000".substring(hex.length()) + hex;
+    }
+
+    /**
+     * Indicates whether fingerprints are being tracked.
+     *
+     * @return {@code true} if the threshold is greater than {@code 0}
+     */
+    boolean isEnabled() {
+        return threshold > 0;
+    }
+
+    int getThreshold() {
+        return threshold;
+    }
+
+    void setThreshold(final int threshold) {
+        this.threshold = threshold;
+        windows.clear();
+    }
+
+    long getWindowMillis() {
+        return windowMillis;
+    }
+
+    void setWindowMillis(final long windowMillis) {
+        if (windowMillis <= 0L) {
+            throw new IllegalArgumentException("The window must be greater than 0");
+        }
+        this.windowMillis = windowMillis;
+        windows.clear();
+    }
+
+    /**
+     * Records an occurrence of the fingerprint.
+     *
+     * @param fingerprint the fingerprint of the stack trace
+     * @param millis      the time of the occurrence
+     *
+     * @return the number of occurrences in the current window, including this one
+     */
+    int record(final int fingerprint, final long millis) {
+        Window window = windows.get(fingerprint);
+        if (window == null) {
+            if (windows.size() >= MAX_ENTRIES) {
+                windows.clear();
+            }
+            window = windows.computeIfAbsent(fingerprint, k -> new Window());
+        }
+        return window.record(millis, windowMillis);
+    }
+
+    /**
+     * Indicates whether an occurrence count is beyond the threshold and the stack trace should be compacted.
+     *
+     * @param occurrences the number of occurrences returned from {@link #record(int, long)}
+     *
+     * @return {@code true} if the stack trace should be compacted
+     */
+    boolean isCompact(final int occurrences) {
+        final int threshold = this.threshold;
+        return threshold > 0 && occurrences > threshold;
+    }
+
+    private static final class Window {
+        private long start;
+        private int count;
+
+        synchronized int record(final long millis, final long windowMillis) {
+            if (count == 0 || millis - start >= windowMillis || millis < start) {
+                start = millis;
+                count = 0;
+            }
+            return ++count;
+        }
+    }
+}
@@ -19,9 +19,11 @@
 
 package org.jboss.logmanager.formatters;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.IdentityHashMap;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Formatter used to format the stack trace of an exception.
@@ -31,6 +33,13 @@ import java.util.Set;
 public class StackTraceFormatter {
     private static final String CAUSED_BY_CAPTION = "Caused by: ";
     private static final String SUPPRESSED_CAPTION = "Suppressed: ";
+    private static final int MAX_CACHED_BLOCKS = 256;
+
+    /**
+     * Rendered blocks of frames keyed by the frames themselves. The same exception thrown repeatedly produces equal
+     * frames, so the rendered text can be reused rather than formatting each element again.
+     */
+    private static final ConcurrentHashMap<FrameBlock, String> renderedBlocks = new ConcurrentHashMap<>();
 
     private final Set<Throwable> seen = Collections.newSetFromMap(new IdentityHashMap<Throwable, Boolean>());
     private final StringBuilder builder;
@@ -66,6 +75,58 @@ public class StackTraceFormatter {
         new StackTraceFormatter(builder, suppressedDepth).renderStackTrace(t);
     }
 
+    /**
+     * Writes the stack trace into the builder, writing only a reference to the stack trace if the same stack trace
+     * has been seen more often than the {@linkplain StackTraceFingerprints#getThreshold() threshold} allows.
+     *
+     * @param builder         the string builder ot append the stack trace to
+     * @param t               the throwable to render
+     * @param suppressedDepth the number of suppressed messages to include
+     * @param fingerprints    the fingerprints used to track the occurrences of the stack trace
+     * @param millis          the time, in milliseconds, of the occurrence
+     */
+    static void renderStackTrace(final StringBuilder builder, final Throwable t, final int suppressedDepth,
+            final StackTraceFingerprints fingerprints, final long millis) {
+        if (!fingerprints.isEnabled()) {
+            renderStackTrace(builder, t, false, suppressedDepth);
+            return;
+        }
+        final int fingerprint = StackTraceFingerprints.fingerprint(t);
+        final int occurrences = fingerprints.record(fingerprint, millis);
+        renderStackTrace(builder, t, suppressedDepth, fingerprint, occurrences, fingerprints.isCompact(occurrences));
+    }
+
+    /**
+     * Writes the stack trace, followed by its fingerprint, into the builder. If {@code compact} is {@code true} only
+     * the throwable and a reference to the fingerprint are written.
+     *
+     * @param builder         the string builder ot append the stack trace to
+     * @param t               the throwable to render
+     * @param suppressedDepth the number of suppressed messages to include
+     * @param fingerprint     the fingerprint of the stack trace
+     * @param occurrences     the number of occurrences of the stack trace in the current window
+     * @param compact         {@code true} to omit the frames
+     */
+    static void renderStackTrace(final StringBuilder builder, final Throwable t, final int suppressedDepth,
+            final int fingerprint, final int occurrences, final boolean compact) {
+        final StackTraceFormatter formatter = new StackTraceFormatter(builder, suppressedDepth);
+        if (compact) {
+            builder.append(": ").append(t);
+            formatter.newLine();
+            builder.append("\t[stack trace ")
+                    .append(StackTraceFingerprints.toString(fingerprint))
+                    .append(" repeated ")
+                    .append(occurrences)
+                    .append(" times, frames omitted]");
+        } else {
+            formatter.renderStackTrace(t);
+            builder.append("\t[stack trace ")
+                    .append(StackTraceFingerprints.toString(fingerprint))
+                    .append(']');
+        }
+        formatter.newLine();
+    }
+
     private void renderStackTrace(final Throwable t) {
         // Reset the suppression count
         suppressedCount = 0;
@@ -75,9 +136,7 @@ public class StackTraceFormatter {
 
         // Write the stack trace for this message
         final StackTraceElement[] stackTrace = t.getStackTrace();
-        for (StackTraceElement element : stackTrace) {
-            renderTrivial("", element);
-        }
+        renderFrames("", stackTrace, stackTrace.length);
 
         // Write any suppressed messages, if required
         if (suppressedDepth != 0) {
@@ -121,9 +180,7 @@ public class StackTraceFormatter {
                     .append(caption)
                     .append(child);
             newLine();
-            for (int i = 0; i <= m; i++) {
-                renderTrivial(prefix, causeStack[i]);
-            }
+            renderFrames(prefix, causeStack, m + 1);
             if (framesInCommon != 0) {
                 builder.append(prefix)
                         .append("\t... ")
@@ -149,6 +206,26 @@ public class StackTraceFormatter {
         }
     }
 
+    private void renderFrames(final String prefix, final StackTraceElement[] frames, final int length) {
+        if (length == 0) {
+            return;
+        }
+        final FrameBlock key = new FrameBlock(prefix, frames, length);
+        String rendered = renderedBlocks.get(key);
+        if (rendered == null) {
+            final int start = builder.length();
+            for (int i = 0; i < length; i++) {
+                renderTrivial(prefix, frames[i]);
+            }
+            if (renderedBlocks.size() >= MAX_CACHED_BLOCKS) {
+                renderedBlocks.clear();
+            }
+            renderedBlocks.putIfAbsent(key, builder.substring(start));
+        } else {
+            builder.append(rendered);
+        }
+    }
+
     private void renderTrivial(final String prefix, final StackTraceElement element) {
         builder.append(prefix)
                 .append("\tat ")
@@ -159,4 +236,40 @@ public class StackTraceFormatter {
     private void newLine() {
         builder.append(System.lineSeparator());
     }
+
+    private static final class FrameBlock {
+        private final String prefix;
+        private final StackTraceElement[] frames;
+        private final int length;
+        private final int hashCode;
+
+        private FrameBlock(final String prefix, final StackTraceElement[] frames, final int length) {
+            this.prefix = prefix;
+            this.frames = frames;
+            this.length = length;
+            int h = prefix.hashCode();
+            for (int i = 0; i < length; i++) {
+                h = 31 * h + frames[i].hashCode();
+            }
+            this.hashCode = h;
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof FrameBlock)) {
+                return false;
+            }
+            final FrameBlock other = (FrameBlock) obj;
+            return hashCode == other.hashCode && prefix.equals(other.prefix)
+                    && Arrays.equals(frames, 0, length, other.frames, 0, other.length);
+        }
+    }
 }
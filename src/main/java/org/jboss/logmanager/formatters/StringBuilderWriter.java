@@ -38,6 +38,10 @@ public final class StringBuilderWriter extends Writer {
      *
      * @see StringBuilder#setLength(int)
      */
+    StringBuilder getBuilder() {
+        return builder;
+    }
+
     public void clear() {
         builder.setLength(0);
     }
@@ -64,7 +68,7 @@ public final class StringBuilderWriter extends Writer {
 
     @Override
     public void write(final String str, final int off, final int len) {
-        builder.append(str, off, len);
+        builder.append(str, off, off + len);
     }
 
     @Override
@@ -32,6 +32,7 @@ import java.util.Map;
 
 import org.jboss.logmanager.ExtFormatter;
 import org.jboss.logmanager.ExtLogRecord;
+import org.jboss.logmanager.KeyValues;
 import org.jboss.logmanager.PropertyValues;
 
 /**
@@ -59,6 +60,7 @@ public abstract class StructuredFormatter extends ExtFormatter {
         EXCEPTION_CAUSED_BY("causedBy"),
         EXCEPTION_CIRCULAR_REFERENCE("circularReference"),
         EXCEPTION_TYPE("exceptionType"),
+        EXCEPTION_FINGERPRINT("fingerprint"),
         EXCEPTION_FRAME("frame"),
         EXCEPTION_FRAME_CLASS("class"),
         EXCEPTION_FRAME_LINE("line"),
@@ -68,6 +70,7 @@ public abstract class StructuredFormatter extends ExtFormatter {
         EXCEPTION_REFERENCE_ID("refId"),
         EXCEPTION_SUPPRESSED("suppressed"),
         HOST_NAME("hostName"),
+        KEY_VALUES("keyValues"),
         LEVEL("level"),
         LOGGER_CLASS_NAME("loggerClassName"),
         LOGGER_NAME("loggerName"),
@@ -137,6 +140,7 @@ public abstract class StructuredFormatter extends ExtFormatter {
     private volatile DateTimeFormatter dateTimeFormatter;
     private volatile ExceptionOutputType exceptionOutputType;
     private final StringBuilderWriter writer = new StringBuilderWriter();
+    private final StackTraceFingerprints stackTraceFingerprints = new StackTraceFingerprints();
     // Guarded by this
     private int refId;
 
@@ -222,6 +226,11 @@ public abstract class StructuredFormatter extends ExtFormatter {
                     .add(getKey(Key.MDC), record.getMdcCopy())
                     .add(getKey(Key.NDC), record.getNdc());
 
+            final KeyValues keyValues = record.getKeyValues();
+            if (!keyValues.isEmpty()) {
+                generator.add(getKey(Key.KEY_VALUES), keyValues);
+            }
+
             if (isNotNullOrEmpty(record.getHostName())) {
                 generator.add(getKey(Key.HOST_NAME), record.getHostName());
             }
@@ -237,17 +246,38 @@ public abstract class StructuredFormatter extends ExtFormatter {
             // Add the cause of the log message if applicable
             final Throwable thrown = record.getThrown();
             if (thrown != null) {
+                final StackTraceFingerprints fingerprints = stackTraceFingerprints;
+                final boolean trackFingerprints = fingerprints.isEnabled();
+                int fingerprint = 0;
+                int occurrences = 0;
+                boolean compact = false;
+                if (trackFingerprints) {
+                    fingerprint = StackTraceFingerprints.fingerprint(thrown);
+                    occurrences = fingerprints.record(fingerprint, record.getInstant().toEpochMilli());
+                    compact = fingerprints.isCompact(occurrences);
+                }
                 if (isDetailedExceptionOutputType()) {
                     refId = 0;
-                    final Map<Throwable, Integer> seen = new IdentityHashMap<>();
                     generator.startObject(getKey(Key.EXCEPTION));
-                    addException(generator, thrown, seen);
+                    if (compact) {
+                        generator.add(getKey(Key.EXCEPTION_TYPE), thrown.getClass().getName());
+                        generator.add(getKey(Key.EXCEPTION_MESSAGE), thrown.getMessage());
+                    } else {
+                        addException(generator, thrown, new IdentityHashMap<>());
+                    }
+                    if (trackFingerprints) {
+                        generator.add(getKey(Key.EXCEPTION_FINGERPRINT), StackTraceFingerprints.toString(fingerprint));
+                    }
                     generator.endObject();
                 }
 
                 if (isFormattedExceptionOutputType()) {
                     final StringBuilder sb = new StringBuilder();
-                    StackTraceFormatter.renderStackTrace(sb, thrown, -1);
+                    if (trackFingerprints) {
+                        StackTraceFormatter.renderStackTrace(sb, thrown, -1, fingerprint, occurrences, compact);
+                    } else {
+                        StackTraceFormatter.renderStackTrace(sb, thrown, -1);
+                    }
                     generator.add(getKey(Key.STACK_TRACE), sb.toString());
                 }
             }
@@ -454,6 +484,47 @@ public abstract class StructuredFormatter extends ExtFormatter {
         }
     }
 
+    /**
+     * Returns the number of times the same stack trace is written in full within the
+     * {@linkplain #getCompactStackTraceWindow() window} before only its fingerprint is written.
+     *
+     * @return the threshold, {@code 0} if stack traces are always written in full
+     */
+    public int getCompactStackTraceThreshold() {
+        return stackTraceFingerprints.getThreshold();
+    }
+
+    /**
+     * Sets the number of times the same stack trace is written in full within the
+     * {@linkplain #setCompactStackTraceWindow(long) window}. Once enabled each exception includes a
+     * {@code fingerprint} and further occurrences omit the frames, causes and suppressed exceptions. A value of
+     * {@code 0} or less, the default, always writes the full stack trace.
+     *
+     * @param threshold the threshold
+     */
+    public void setCompactStackTraceThreshold(final int threshold) {
+        stackTraceFingerprints.setThreshold(threshold);
+    }
+
+    /**
+     * Returns the time window, in milliseconds, in which occurrences of the same stack trace are counted.
+     *
+     * @return the window in milliseconds
+     */
+    public long getCompactStackTraceWindow() {
+        return stackTraceFingerprints.getWindowMillis();
+    }
+
+    /**
+     * Sets the time window, in milliseconds, in which occurrences of the same stack trace are counted. The default is
+     * one minute.
+     *
+     * @param millis the window in milliseconds
+     */
+    public void setCompactStackTraceWindow(final long millis) {
+        stackTraceFingerprints.setWindowMillis(millis);
+    }
+
     /**
      * Checks the exception output type and determines if detailed output should be written.
      *
@@ -595,6 +666,70 @@ public abstract class StructuredFormatter extends ExtFormatter {
             return this;
         }
 
+        /**
+         * Writes a double value.
+         *
+         * @param key   they key
+         * @param value the value
+         *
+         * @return the generator
+         *
+         * @throws Exception if an error occurs while adding the data
+         */
+        default Generator add(final String key, final double value) throws Exception {
+            add(key, Double.toString(value));
+            return this;
+        }
+
+        /**
+         * Writes a boolean value.
+         *
+         * @param key   they key
+         * @param value the value
+         *
+         * @return the generator
+         *
+         * @throws Exception if an error occurs while adding the data
+         */
+        default Generator add(final String key, final boolean value) throws Exception {
+            add(key, Boolean.toString(value));
+            return this;
+        }
+
+        /**
+         * Writes the key/value fields of a record as an object. Each field is written with the {@code add} method
+         * for its {@linkplain KeyValues.Type type}, fields of any other type are written as strings.
+         *
+         * @param key       the key for the fields
+         * @param keyValues the fields
+         *
+         * @return the generator
+         *
+         * @throws Exception if an error occurs while adding the data
+         */
+        default Generator add(final String key, final KeyValues keyValues) throws Exception {
+            startObject(key);
+            for (int i = 0; i < keyValues.size(); i++) {
+                final String k = keyValues.getKey(i);
+                switch (keyValues.getType(i)) {
+                    case LONG:
+                        add(k, keyValues.getLong(i));
+                        break;
+                    case DOUBLE:
+                        add(k, keyValues.getDouble(i));
+                        break;
+                    case BOOLEAN:
+                        add(k, keyValues.getBoolean(i));
+                        break;
+                    default:
+                        add(k, keyValues.getValueAsString(i));
+                        break;
+                }
+            }
+            endObject();
+            return this;
+        }
+
         /**
          * Writes a map value
          *
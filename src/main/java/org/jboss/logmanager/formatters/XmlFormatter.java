@@ -20,17 +20,18 @@
 package org.jboss.logmanager.formatters;
 
 import java.io.Writer;
+import java.util.Arrays;
 import java.util.Map;
 
-import javax.xml.stream.XMLOutputFactory;
-import javax.xml.stream.XMLStreamException;
-import javax.xml.stream.XMLStreamWriter;
-
 import org.jboss.logmanager.PropertyValues;
 
 /**
  * A formatter that outputs the record in XML format.
  * <p>
+ * The XML is written directly to the formatter's buffer rather than through an {@code XMLStreamWriter}. Text and
+ * attribute values are escaped, element names are written as is and must be valid XML names.
+ * </p>
+ * <p>
  * The details include;
  * </p>
  * <ul>
@@ -47,8 +48,6 @@ public class XmlFormatter extends StructuredFormatter {
 
     public static final String DEFAULT_NAMESPACE = "urn:jboss:logmanager:formatter:1.0";
 
-    private final XMLOutputFactory factory = XMLOutputFactory.newFactory();
-
     private volatile boolean prettyPrint = false;
     private volatile boolean printNamespace = false;
     private volatile String namespaceUri;
@@ -154,31 +153,83 @@ public class XmlFormatter extends StructuredFormatter {
 
     @Override
     protected Generator createGenerator(final Writer writer) throws Exception {
-        final XMLStreamWriter xmlWriter;
-        if (prettyPrint) {
-            xmlWriter = new IndentingXmlWriter(factory.createXMLStreamWriter(writer));
-        } else {
-            xmlWriter = factory.createXMLStreamWriter(writer);
-        }
-        return new XmlGenerator(xmlWriter);
+        return new XmlGenerator(writer, prettyPrint);
     }
 
     private class XmlGenerator implements Generator {
-        private final XMLStreamWriter xmlWriter;
-
-        private XmlGenerator(final XMLStreamWriter xmlWriter) {
-            this.xmlWriter = xmlWriter;
+        private static final String SPACES = "    ";
+        private static final int START = 0;
+        private static final int CHARACTERS = 1;
+        private static final int END = 2;
+
+        private final Writer writer;
+        // the formatters buffer if the writer is backed by one, otherwise a buffer copied to the writer at the end
+        private final StringBuilder builder;
+        private final boolean prettyPrint;
+        private String[] names = new String[16];
+        private int depth;
+        private boolean startTagOpen;
+        private int state = START;
+        // set when multi-line text was written and the end tag must be placed on its own line
+        private boolean indentEnd;
+
+        private XmlGenerator(final Writer writer, final boolean prettyPrint) {
+            this.writer = writer;
+            this.builder = writer instanceof StringBuilderWriter ? ((StringBuilderWriter) writer).getBuilder()
+                    : new StringBuilder(256);
+            this.prettyPrint = prettyPrint;
         }
 
         @Override
         public Generator begin() throws Exception {
             writeStart(getKey(Key.RECORD));
+            final String namespaceUri = XmlFormatter.this.namespaceUri;
             if (printNamespace && namespaceUri != null) {
-                xmlWriter.writeDefaultNamespace(namespaceUri);
+                writeAttribute("xmlns", namespaceUri);
             }
             return this;
         }
 
+        @Override
+        public Generator add(final String key, final int value) throws Exception {
+            startValue(key);
+            builder.append(value);
+            return endValue();
+        }
+
+        @Override
+        public Generator add(final String key, final long value) throws Exception {
+            startValue(key);
+            builder.append(value);
+            return endValue();
+        }
+
+        @Override
+        public Generator add(final String key, final double value) throws Exception {
+            startValue(key);
+            builder.append(value);
+            return endValue();
+        }
+
+        @Override
+        public Generator add(final String key, final boolean value) throws Exception {
+            startValue(key);
+            builder.append(value);
+            return endValue();
+        }
+
+        private void startValue(final String key) {
+            // the text of a number or boolean never needs escaping
+            writeStart(key);
+            closeStartTag();
+        }
+
+        private Generator endValue() {
+            inlineCharacters();
+            writeEnd();
+            return this;
+        }
+
         @Override
         public Generator add(final String key, final Map<String, ?> value) throws Exception {
             if (value == null) {
@@ -205,7 +256,7 @@ public class XmlFormatter extends StructuredFormatter {
                 writeEmpty(key);
             } else {
                 writeStart(key);
-                xmlWriter.writeCharacters(value);
+                writeCharacters(value);
                 writeEnd();
             }
             return this;
@@ -215,9 +266,9 @@ public class XmlFormatter extends StructuredFormatter {
         public Generator addMetaData(final Map<String, String> metaData) throws Exception {
             for (Map.Entry<String, String> entry : metaData.entrySet()) {
                 writeStart("metaData");
-                xmlWriter.writeAttribute("key", entry.getKey());
+                writeAttribute("key", entry.getKey());
                 if (entry.getValue() != null) {
-                    xmlWriter.writeCharacters(entry.getValue());
+                    writeCharacters(entry.getValue());
                 }
                 writeEnd();
             }
@@ -238,20 +289,23 @@ public class XmlFormatter extends StructuredFormatter {
 
         @Override
         public Generator addAttribute(final String name, final int value) throws Exception {
-            return addAttribute(name, Integer.toString(value));
+            builder.append(' ').append(name).append("=\"").append(value).append('"');
+            return this;
         }
 
         @Override
         public Generator addAttribute(final String name, final String value) throws Exception {
-            xmlWriter.writeAttribute(name, value);
+            writeAttribute(name, value);
             return this;
         }
 
         @Override
         public Generator end() throws Exception {
             writeEnd(); // end record
-            safeFlush(xmlWriter);
-            safeClose(xmlWriter);
+            if (!(writer instanceof StringBuilderWriter)) {
+                writer.append(builder);
+                writer.flush();
+            }
             return this;
         }
 
@@ -260,32 +314,126 @@ public class XmlFormatter extends StructuredFormatter {
             return true;
         }
 
-        private void writeEmpty(final String name) throws XMLStreamException {
-            xmlWriter.writeEmptyElement(name);
+        private void writeEmpty(final String name) {
+            closeStartTag();
+            if (prettyPrint) {
+                newline();
+            }
+            builder.append('<').append(name).append("/>");
+            state = END;
+        }
+
+        private void writeStart(final String name) {
+            closeStartTag();
+            if (prettyPrint) {
+                newline();
+            }
+            builder.append('<').append(name);
+            startTagOpen = true;
+            indentEnd = false;
+            state = START;
+            if (depth == names.length) {
+                names = Arrays.copyOf(names, depth << 1);
+            }
+            names[depth++] = name;
         }
 
-        private void writeStart(final String name) throws XMLStreamException {
-            xmlWriter.writeStartElement(name);
+        private void writeEnd() {
+            final String name = names[--depth];
+            names[depth] = null;
+            if (prettyPrint && (state != CHARACTERS || indentEnd)) {
+                closeStartTag();
+                newline();
+                indentEnd = false;
+            }
+            closeStartTag();
+            builder.append("</").append(name).append('>');
+            state = END;
         }
 
-        private void writeEnd() throws XMLStreamException {
-            xmlWriter.writeEndElement();
+        private void writeAttribute(final String name, final String value) {
+            builder.append(' ').append(name).append("=\"");
+            escape(value, true);
+            builder.append('"');
         }
 
-        private void safeFlush(final XMLStreamWriter flushable) {
-            if (flushable != null)
-                try {
-                    flushable.flush();
-                } catch (Throwable ignore) {
+        private void writeCharacters(final String text) {
+            closeStartTag();
+            if (prettyPrint) {
+                // each line of multi-line text is written on its own indented line
+                indentEnd = false;
+                int start = 0;
+                int end = text.indexOf('\n');
+                if (end >= 0) {
+                    newline();
+                    do {
+                        escape(text, start, end, false);
+                        newline();
+                        start = end + 1;
+                        end = text.indexOf('\n', start);
+                    } while (end >= 0);
+                    indentEnd = true;
                 }
+                escape(text, start, text.length(), false);
+            } else {
+                escape(text, 0, text.length(), false);
+            }
+            state = CHARACTERS;
         }
 
-        private void safeClose(final XMLStreamWriter closeable) {
-            if (closeable != null)
-                try {
-                    closeable.close();
-                } catch (Throwable ignore) {
+        private void inlineCharacters() {
+            indentEnd = false;
+            state = CHARACTERS;
+        }
+
+        private void closeStartTag() {
+            if (startTagOpen) {
+                builder.append('>');
+                startTagOpen = false;
+            }
+        }
+
+        private void newline() {
+            final StringBuilder builder = this.builder;
+            builder.append('\n');
+            for (int i = 0; i < depth; i++) {
+                builder.append(SPACES);
+            }
+        }
+
+        private void escape(final String value, final boolean attribute) {
+            escape(value, 0, value.length(), attribute);
+        }
+
+        private void escape(final String value, final int start, final int end, final boolean attribute) {
+            final StringBuilder builder = this.builder;
+            // append the runs of characters which do not need escaping in a single call
+            int run = start;
+            for (int i = start; i < end; i++) {
+                final String replacement;
+                switch (value.charAt(i)) {
+                    case '<':
+                        replacement = "&lt;";
+                        break;
+                    case '>':
+                        replacement = "&gt;";
+                        break;
+                    case '&':
+                        replacement = "&amp;";
+                        break;
+                    case '"':
+                        if (!attribute) {
+                            continue;
+                        }
+                        replacement = "&quot;";
+                        break;
+                    default:
+                        continue;
                 }
+                builder.append(value, run, i).append(replacement);
+                run = i + 1;
+            }
+            builder.append(value, run, end);
         }
     }
 }
@@ -23,21 +23,42 @@ import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Handler;
+import java.util.logging.Level;
 
 import org.jboss.logmanager.ExtHandler;
 import org.jboss.logmanager.ExtLogRecord;
+import org.jboss.logmanager.HandlerMetrics;
+import org.jboss.logmanager.jfr.AsyncDiscardEvent;
+import org.jboss.logmanager.jfr.AsyncEnqueueEvent;
+import org.jboss.logmanager.jfr.JfrSupport;
 
 /**
  * An asynchronous log handler which is used to write to a handler or group of handlers which are "slow" or introduce
  * some degree of latency.
+ * <p>
+ * By default a single thread publishes the records to the nested handlers. The handler can be created with more than
+ * one partition, each with its own thread and bounded queue. Records are assigned to a partition based on the
+ * {@linkplain #setPartitionKey(PartitionKey) partition key}. Records in the same partition are published in the order
+ * they were queued, records in different partitions are published in parallel.
+ * </p>
  */
 public class AsyncHandler extends ExtHandler {
 
-    private final BlockingQueue<ExtLogRecord> recordQueue;
+    private final Partition[] partitions;
     private final int queueLength;
-    private final Thread thread;
+    private final AtomicInteger running;
     private volatile OverflowAction overflowAction = OverflowAction.BLOCK;
+    private volatile PartitionKey partitionKey = PartitionKey.LOGGER_NAME;
+    private volatile String partitionMdcKey;
+    private final int[] bandLimits;
+    private final LongAdder[] bandDiscarded;
+    private volatile Level adaptiveLevel;
+    private volatile int adaptiveWatermark;
+    private volatile HandlerShares handlerShares;
 
     @SuppressWarnings("unused")
     private volatile int state;
@@ -46,6 +67,47 @@ public class AsyncHandler extends ExtHandler {
             .newUpdater(AsyncHandler.class, "state");
 
     private static final int DEFAULT_QUEUE_LENGTH = 512;
+    private static final int DEFAULT_ADAPTIVE_WATERMARK = 75;
+
+    // the level bands used for the level aware overflow action and the discard counts
+    private static final int BAND_LOW = 0;
+    private static final int BAND_INFO = 1;
+    private static final int BAND_WARN = 2;
+    private static final int BAND_ERROR = 3;
+
+    /**
+     * Construct a new instance.
+     *
+     * @param queueLength   the queue length of each partition
+     * @param partitions    the number of partitions, each partition is published by its own thread
+     * @param threadFactory the thread factory to use to construct the handler threads
+     */
+    public AsyncHandler(final int queueLength, final int partitions, final ThreadFactory threadFactory) {
+        if (partitions < 1) {
+            throw new IllegalArgumentException("The number of partitions must be at least 1");
+        }
+        this.partitions = new Partition[partitions];
+        for (int i = 0; i < partitions; i++) {
+            this.partitions[i] = new Partition(i, queueLength, threadFactory);
+        }
+        this.queueLength = queueLength;
+        running = new AtomicInteger(partitions);
+        // the percentage of the queue each band below ERROR may fill, the remainder is reserved for higher bands
+        bandLimits = new int[] { limit(queueLength, 50), limit(queueLength, 75), limit(queueLength, 90) };
+        bandDiscarded = new LongAdder[] { new LongAdder(), new LongAdder(), new LongAdder(), new LongAdder() };
+        adaptiveWatermark = limit(queueLength, DEFAULT_ADAPTIVE_WATERMARK);
+        handlerShares = new HandlerShares(handlers, partitions);
+    }
+
+    /**
+     * Construct a new instance.
+     *
+     * @param queueLength the queue length of each partition
+     * @param partitions  the number of partitions, each partition is published by its own thread
+     */
+    public AsyncHandler(final int queueLength, final int partitions) {
+        this(queueLength, partitions, Executors.defaultThreadFactory());
+    }
 
     /**
      * Construct a new instance.
@@ -54,13 +116,7 @@ public class AsyncHandler extends ExtHandler {
      * @param threadFactory the thread factory to use to construct the handler thread
      */
     public AsyncHandler(final int queueLength, final ThreadFactory threadFactory) {
-        recordQueue = new ArrayBlockingQueue<ExtLogRecord>(queueLength);
-        thread = threadFactory.newThread(new AsyncTask());
-        if (thread == null) {
-            throw new IllegalArgumentException("Thread factory did not create a thread");
-        }
-        thread.setDaemon(true);
-        this.queueLength = queueLength;
+        this(queueLength, 1, threadFactory);
     }
 
     /**
@@ -89,7 +145,7 @@ public class AsyncHandler extends ExtHandler {
     }
 
     /**
-     * The full size of the queue.
+     * The full size of the queue of each partition.
      *
      * @return the full size of the queue.
      */
@@ -97,6 +153,15 @@ public class AsyncHandler extends ExtHandler {
         return queueLength;
     }
 
+    /**
+     * Returns the number of partitions.
+     *
+     * @return the number of partitions
+     */
+    public int getPartitions() {
+        return partitions.length;
+    }
+
     /**
      * Get the overflow action.
      *
@@ -119,12 +184,145 @@ public class AsyncHandler extends ExtHandler {
         this.overflowAction = overflowAction;
     }
 
+    /**
+     * Returns the key used to assign records to partitions.
+     *
+     * @return the partition key
+     */
+    public PartitionKey getPartitionKey() {
+        return partitionKey;
+    }
+
+    /**
+     * Sets the key used to assign records to partitions. The key should be set before the first record is published,
+     * records already queued are not moved when the key changes.
+     *
+     * @param partitionKey the partition key
+     */
+    public void setPartitionKey(final PartitionKey partitionKey) {
+        if (partitionKey == null) {
+            throw new NullPointerException("partitionKey is null");
+        }
+        checkAccess();
+        this.partitionKey = partitionKey;
+    }
+
+    /**
+     * Returns the MDC key used to assign records to partitions when the partition key is {@link PartitionKey#MDC}.
+     *
+     * @return the MDC key or {@code null} if not set
+     */
+    public String getPartitionMdcKey() {
+        return partitionMdcKey;
+    }
+
+    /**
+     * Sets the MDC key used to assign records to partitions when the partition key is {@link PartitionKey#MDC}.
+     * Records without a value for the key are assigned to the same partition.
+     *
+     * @param partitionMdcKey the MDC key
+     */
+    public void setPartitionMdcKey(final String partitionMdcKey) {
+        checkAccess();
+        this.partitionMdcKey = partitionMdcKey;
+    }
+
+    /**
+     * Returns the number of records discarded by all partitions because the queue was full.
+     *
+     * @return the number of discarded records
+     */
+    public long getDiscardedCount() {
+        long total = 0L;
+        for (Partition partition : partitions) {
+            total += partition.discarded.sum();
+        }
+        return total;
+    }
+
+    /**
+     * Returns the number of records discarded in the level band of the given level. The bands are below
+     * {@linkplain org.jboss.logmanager.Level#INFO INFO}, below {@linkplain org.jboss.logmanager.Level#WARN WARN}, below
+     * {@linkplain org.jboss.logmanager.Level#ERROR ERROR} and {@code ERROR} or higher.
+     *
+     * @param level the level
+     *
+     * @return the number of discarded records in the band of the level
+     */
+    public long getDiscardedCount(final Level level) {
+        return bandDiscarded[band(level.intValue())].sum();
+    }
+
+    /**
+     * Returns the minimum level records must have to be queued while a queue is above the
+     * {@linkplain #getAdaptiveWatermark() adaptive watermark}.
+     *
+     * @return the adaptive level or {@code null} if the adaptive mode is disabled
+     */
+    public Level getAdaptiveLevel() {
+        return adaptiveLevel;
+    }
+
+    /**
+     * Sets the minimum level records must have to be queued once a queue fills to the
+     * {@linkplain #setAdaptiveWatermark(int) adaptive watermark}. Records below the level are discarded until the
+     * worker has drained the queue, at which point all records are accepted again.
+     *
+     * @param adaptiveLevel the level or {@code null} to disable the adaptive mode
+     */
+    public void setAdaptiveLevel(final Level adaptiveLevel) {
+        checkAccess();
+        this.adaptiveLevel = adaptiveLevel;
+        if (adaptiveLevel == null) {
+            for (Partition partition : partitions) {
+                partition.overloaded = false;
+            }
+        }
+    }
+
+    /**
+     * Returns the percentage of the queue length at which the {@linkplain #getAdaptiveLevel() adaptive level} is
+     * applied.
+     *
+     * @return the watermark as a percentage of the queue length
+     */
+    public int getAdaptiveWatermark() {
+        return (int) ((adaptiveWatermark * 100L) / queueLength);
+    }
+
+    /**
+     * Sets the percentage of the queue length at which the {@linkplain #setAdaptiveLevel(Level) adaptive level} is
+     * applied. The default is {@value #DEFAULT_ADAPTIVE_WATERMARK}.
+     *
+     * @param percent the watermark as a percentage of the queue length, between {@code 1} and {@code 100}
+     */
+    public void setAdaptiveWatermark(final int percent) {
+        if (percent < 1 || percent > 100) {
+            throw new IllegalArgumentException("The watermark must be between 1 and 100");
+        }
+        checkAccess();
+        adaptiveWatermark = limit(queueLength, percent);
+    }
+
+    /**
+     * Returns the number of records discarded by a partition because its queue was full.
+     *
+     * @param partition the index of the partition
+     *
+     * @return the number of discarded records
+     */
+    public long getDiscardedCount(final int partition) {
+        return partitions[partition].discarded.sum();
+    }
+
     /** {@inheritDoc} */
     protected void doPublish(final ExtLogRecord record) {
         switch (state) {
             case 0: {
                 if (stateUpdater.compareAndSet(this, 0, 1)) {
-                    thread.start();
+                    for (Partition partition : partitions) {
+                        partition.thread.start();
+                    }
                 }
             }
             case 1: {
@@ -134,7 +332,6 @@ public class AsyncHandler extends ExtHandler {
                 return;
             }
         }
-        final BlockingQueue<ExtLogRecord> recordQueue = this.recordQueue;
         // Determine if we need to calculate the caller information before we queue the record
         if (isCallerCalculationRequired()) {
             // prepare record to move to another thread
@@ -145,34 +342,219 @@ public class AsyncHandler extends ExtHandler {
             // Copy the MDC over
             record.copyMdc();
         }
-        if (Thread.currentThread() == thread) {
+        if (isWorkerThread()) {
             // avoid reentrancy, which will generally cause a stack overflow
             return;
         }
-        if (overflowAction == OverflowAction.DISCARD) {
-            recordQueue.offer(record);
+        if (partitions.length == 1) {
+            enqueue(partitions[0], record);
+        } else if (partitionKey == PartitionKey.HANDLER) {
+            // each partition publishes to its own share of the nested handlers, so each one needs its own record as
+            // the handlers of the partitions may modify it concurrently
+            final int count = Math.min(partitions.length, handlers.length);
+            for (int i = 0; i < count; i++) {
+                enqueue(partitions[i], i == 0 ? record : new ExtLogRecord(record));
+            }
+        } else {
+            enqueue(partitions[partitionIndex(record)], record);
+        }
+    }
+
+    private Handler[][] handlerShares() {
+        final Handler[] handlers = this.handlers;
+        HandlerShares shares = this.handlerShares;
+        if (shares.handlers != handlers) {
+            // the nested handlers changed, split them once instead of for every record
+            shares = new HandlerShares(handlers, partitions.length);
+            this.handlerShares = shares;
+        }
+        return shares.shares;
+    }
+
+    private boolean isWorkerThread() {
+        final Thread current = Thread.currentThread();
+        for (Partition partition : partitions) {
+            if (partition.thread == current) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int partitionIndex(final ExtLogRecord record) {
+        final String key;
+        if (partitionKey == PartitionKey.MDC) {
+            final String mdcKey = partitionMdcKey;
+            key = mdcKey == null ? null : record.getMdc(mdcKey);
+        } else {
+            key = record.getLoggerName();
+        }
+        if (key == null) {
+            return 0;
+        }
+        final int h = key.hashCode();
+        return Math.floorMod(h ^ (h >>> 16), partitions.length);
+    }
+
+    private void enqueue(final Partition partition, final ExtLogRecord record) {
+        final BlockingQueue<ExtLogRecord> recordQueue = partition.queue;
+        final int level = record.getLevel().intValue();
+        final Level adaptiveLevel = this.adaptiveLevel;
+        if (adaptiveLevel != null && level < adaptiveLevel.intValue()) {
+            if (partition.overloaded || recordQueue.size() >= adaptiveWatermark) {
+                // the worker clears the flag once it has drained the queue
+                partition.overloaded = true;
+                if (!recordQueue.isEmpty()) {
+                    discard(partition, record);
+                    return;
+                }
+                // the worker drained the queue before the flag was set and will not clear it again
+                partition.overloaded = false;
+            }
+        }
+        final OverflowAction overflowAction = this.overflowAction;
+        final boolean block;
+        if (overflowAction == OverflowAction.LEVEL_PRIORITY) {
+            final int band = band(level);
+            if (band != BAND_ERROR && recordQueue.size() >= bandLimits[band]) {
+                discard(partition, record);
+                return;
+            }
+            block = band == BAND_ERROR;
+        } else {
+            block = overflowAction == OverflowAction.BLOCK;
+        }
+        if (!block) {
+            if (!recordQueue.offer(record)) {
+                discard(partition, record);
+                return;
+            }
         } else {
             try {
-                recordQueue.put(record);
+                if (JfrSupport.AVAILABLE) {
+                    put(recordQueue, record);
+                } else {
+                    recordQueue.put(record);
+                }
             } catch (InterruptedException e) {
                 Thread.currentThread().interrupt();
                 return;
             }
         }
+        final HandlerMetrics metrics = getMetrics();
+        if (metrics != null) {
+            metrics.recordQueueDepth(recordQueue.size());
+        }
+    }
+
+    private void discard(final Partition partition, final ExtLogRecord record) {
+        partition.discarded.increment();
+        bandDiscarded[band(record.getLevel().intValue())].increment();
+        final HandlerMetrics metrics = getMetrics();
+        if (metrics != null) {
+            metrics.recordDropped();
+        }
+        if (JfrSupport.AVAILABLE) {
+            final AsyncDiscardEvent event = new AsyncDiscardEvent();
+            if (event.shouldCommit()) {
+                event.handler = getClass();
+                event.logger = record.getLoggerName();
+                event.level = record.getLevel().getName();
+                event.commit();
+            }
+        }
+    }
+
+    private static int band(final int level) {
+        if (level >= org.jboss.logmanager.Level.ERROR.intValue()) {
+            return BAND_ERROR;
+        } else if (level >= org.jboss.logmanager.Level.WARN.intValue()) {
+            return BAND_WARN;
+        } else if (level >= org.jboss.logmanager.Level.INFO.intValue()) {
+            return BAND_INFO;
+        }
+        return BAND_LOW;
+    }
+
+    private static int limit(final int queueLength, final int percent) {
+        return Math.max(1, (int) ((queueLength * (long) percent) / 100L));
+    }
+
+    private void put(final BlockingQueue<ExtLogRecord> recordQueue, final ExtLogRecord record) throws InterruptedException {
+        // only time the put when the queue is full, the common case does not block
+        if (recordQueue.offer(record)) {
+            return;
+        }
+        final AsyncEnqueueEvent event = new AsyncEnqueueEvent();
+        if (event.isEnabled()) {
+            event.begin();
+            recordQueue.put(record);
+            event.end();
+            if (event.shouldCommit()) {
+                event.handler = getClass();
+                event.queueLength = queueLength;
+                event.commit();
+            }
+        } else {
+            recordQueue.put(record);
+        }
     }
 
     /** {@inheritDoc} */
     public void close() throws SecurityException {
         checkAccess();
         if (stateUpdater.getAndSet(this, 2) != 2) {
-            thread.interrupt();
+            for (Partition partition : partitions) {
+                partition.thread.interrupt();
+            }
             super.close();
         }
     }
 
+    private final class Partition {
+        private final int index;
+        private final BlockingQueue<ExtLogRecord> queue;
+        private final Thread thread;
+        private final LongAdder discarded = new LongAdder();
+        private volatile boolean overloaded;
+
+        private Partition(final int index, final int queueLength, final ThreadFactory threadFactory) {
+            this.index = index;
+            queue = new ArrayBlockingQueue<>(queueLength);
+            thread = threadFactory.newThread(new AsyncTask(this));
+            if (thread == null) {
+                throw new IllegalArgumentException("Thread factory did not create a thread");
+            }
+            thread.setDaemon(true);
+        }
+    }
+
+    private static final class HandlerShares {
+        private final Handler[] handlers;
+        private final Handler[][] shares;
+
+        private HandlerShares(final Handler[] handlers, final int partitions) {
+            this.handlers = handlers;
+            shares = new Handler[partitions][];
+            for (int index = 0; index < partitions; index++) {
+                final Handler[] share = new Handler[(handlers.length - index + partitions - 1) / partitions];
+                for (int i = index, j = 0; i < handlers.length; i += partitions) {
+                    share[j++] = handlers[i];
+                }
+                shares[index] = share;
+            }
+        }
+    }
+
     private final class AsyncTask implements Runnable {
+        private final Partition partition;
+
+        private AsyncTask(final Partition partition) {
+            this.partition = partition;
+        }
+
         public void run() {
-            final BlockingQueue<ExtLogRecord> recordQueue = AsyncHandler.this.recordQueue;
+            final BlockingQueue<ExtLogRecord> recordQueue = partition.queue;
 
             boolean intr = false;
             try {
@@ -201,19 +583,69 @@ public class AsyncHandler extends ExtHandler {
                         intr = true;
                         continue;
                     }
-                    publishToNestedHandlers(rec);
+                    final int depth = recordQueue.size();
+                    if (depth == 0) {
+                        // the queue has drained, accept records below the adaptive level again
+                        partition.overloaded = false;
+                    }
+                    final HandlerMetrics metrics = getMetrics();
+                    if (metrics != null) {
+                        metrics.recordQueueDepth(depth);
+                    }
+                    if (partitions.length > 1 && partitionKey == PartitionKey.HANDLER) {
+                        publishToNestedHandlers(rec, handlerShares()[partition.index]);
+                    } else {
+                        publishToNestedHandlers(rec);
+                    }
                 }
             } finally {
                 if (intr) {
                     Thread.currentThread().interrupt();
                 }
-                clearHandlers();
+                // the last partition to stop clears the handlers, the others may still be publishing
+                if (running.decrementAndGet() == 0) {
+                    clearHandlers();
+                }
             }
         }
     }
 
     public enum OverflowAction {
+        /**
+         * Block until there is room in the queue.
+         */
         BLOCK,
+        /**
+         * Discard the record if the queue is full.
+         */
         DISCARD,
+        /**
+         * Reserve part of the queue for higher levels. Records below {@linkplain org.jboss.logmanager.Level#INFO INFO}
+         * are discarded once the queue is half full, records below {@linkplain org.jboss.logmanager.Level#WARN WARN}
+         * once it is three quarters full and records below {@linkplain org.jboss.logmanager.Level#ERROR ERROR} once it
+         * is 90% full. Records at {@code ERROR} or higher are never discarded, they block if the queue is full.
+         */
+        LEVEL_PRIORITY,
+    }
+
+    /**
+     * The key used to assign records to partitions.
+     */
+    public enum PartitionKey {
+        /**
+         * Records from the same logger are assigned to the same partition.
+         */
+        LOGGER_NAME,
+        /**
+         * Records with the same value for the {@linkplain AsyncHandler#setPartitionMdcKey(String) MDC key} are assigned to the
+         * same partition.
+         */
+        MDC,
+        /**
+         * Each partition publishes every record to its own share of the nested handlers, so a slow handler only
+         * delays the handlers in its partition. The nested handlers are shared by index, the handler at index
+         * {@code i} is published by partition {@code i % partitions}.
+         */
+        HANDLER,
     }
 }
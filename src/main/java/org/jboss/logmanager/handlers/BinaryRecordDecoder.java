@@ -0,0 +1,387 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logmanager.handlers;
+
+import static org.jboss.logmanager.handlers.BinaryRecordFormat.*;
+
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+
+import org.jboss.logmanager.ExtLogRecord;
+import org.jboss.logmanager.ExtLogRecord.FormatStyle;
+import org.jboss.logmanager.KeyValues;
+import org.jboss.logmanager.LogContext;
+
+/**
+ * Decodes records written in the {@linkplain BinaryRecordFormat binary wire format}. A decoder holds the string
+ * dictionary of a single connection. Instances are not thread-safe.
+ */
+final class BinaryRecordDecoder {
+    private static final FormatStyle[] FORMAT_STYLES = FormatStyle.values();
+
+    private final LogContext logContext;
+    private final List<String> dictionary = new ArrayList<>();
+    private final Map<String, Level> levels = new HashMap<>();
+    private boolean headerRead;
+
+    BinaryRecordDecoder(final LogContext logContext) {
+        this.logContext = logContext;
+    }
+
+    /**
+     * Decodes the next record from the buffer. If the buffer does not contain a complete frame the position of the
+     * buffer is not changed and {@code null} is returned.
+     *
+     * @param buffer the buffer to read from
+     *
+     * @return the record or {@code null} if more bytes are required
+     *
+     * @throws StreamCorruptedException if the bytes are not a valid stream
+     */
+    ExtLogRecord decode(final ByteBuffer buffer) throws StreamCorruptedException {
+        if (!headerRead) {
+            if (buffer.remaining() < HEADER_SIZE) {
+                return null;
+            }
+            for (byte b : MAGIC) {
+                if (buffer.get() != b) {
+                    throw new StreamCorruptedException("Invalid stream header");
+                }
+            }
+            final int version = buffer.get();
+            if (version != VERSION) {
+                throw new StreamCorruptedException("Unsupported stream version " + version);
+            }
+            headerRead = true;
+        }
+        final int start = buffer.position();
+        final int length = readLength(buffer);
+        if (length < 0 || buffer.remaining() < length) {
+            buffer.position(start);
+            return null;
+        }
+        final int end = buffer.position() + length;
+        final ByteBuffer payload = buffer.slice(buffer.position(), length);
+        buffer.position(end);
+        try {
+            final ExtLogRecord record = readRecord(payload);
+            if (payload.hasRemaining()) {
+                throw new StreamCorruptedException("Unexpected data at the end of the record");
+            }
+            return record;
+        } catch (RuntimeException e) {
+            final StreamCorruptedException sce = new StreamCorruptedException("Invalid record");
+            sce.initCause(e);
+            throw sce;
+        }
+    }
+
+    /**
+     * Returns the length of the next frame.
+     *
+     * @return the length, {@code -1} if the buffer does not contain the complete length
+     */
+    private static int readLength(final ByteBuffer buffer) throws StreamCorruptedException {
+        int result = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            final byte b = buffer.get();
+            result |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                if (result < 0 || result > MAX_FRAME_SIZE) {
+                    throw new StreamCorruptedException("Invalid frame length " + Integer.toUnsignedString(result));
+                }
+                return result;
+            }
+        }
+        throw new StreamCorruptedException("Invalid frame length");
+    }
+
+    private ExtLogRecord readRecord(final ByteBuffer buffer) throws StreamCorruptedException {
+        final int flags = readVarInt(buffer);
+        final String levelName = readString(buffer);
+        final int levelValue = unZigZag(readVarInt(buffer));
+        final long epochSecond = unZigZag(readVarLong(buffer));
+        final int nanos = readVarInt(buffer);
+        final long sequenceNumber = readVarLong(buffer);
+        final String loggerName = readString(buffer);
+        final String loggerClassName = readString(buffer);
+        final String message = readString(buffer);
+        final int formatStyle = readVarInt(buffer);
+        if (formatStyle < 0 || formatStyle >= FORMAT_STYLES.length) {
+            throw new StreamCorruptedException("Invalid format style " + formatStyle);
+        }
+        final ExtLogRecord record = new ExtLogRecord(getLevel(levelName, levelValue), message,
+                FORMAT_STYLES[formatStyle], loggerClassName);
+        record.setInstant(Instant.ofEpochSecond(epochSecond, nanos));
+        record.setSequenceNumber(sequenceNumber);
+        record.setLoggerName(loggerName);
+        record.setThreadName(readString(buffer));
+        record.setLongThreadID(readVarLong(buffer));
+        record.setHostName(readString(buffer));
+        record.setProcessName(readString(buffer));
+        record.setProcessId(unZigZag(readVarLong(buffer)));
+        if ((flags & FLAG_PARAMETERS) != 0) {
+            final Object[] parameters = new Object[readCount(buffer)];
+            for (int i = 0; i < parameters.length; i++) {
+                parameters[i] = readParameter(buffer);
+            }
+            record.setParameters(parameters);
+        }
+        if ((flags & FLAG_THROWN) != 0) {
+            record.setThrown(readThrowable(buffer, 0));
+        }
+        if ((flags & FLAG_CALLER) != 0) {
+            record.setSourceClassName(readString(buffer));
+            record.setSourceMethodName(readString(buffer));
+            record.setSourceFileName(readString(buffer));
+            record.setSourceLineNumber(unZigZag(readVarInt(buffer)));
+            record.setSourceModuleName(readString(buffer));
+            record.setSourceModuleVersion(readString(buffer));
+        } else {
+            record.disableCallerCalculation();
+        }
+        record.setNdc((flags & FLAG_NDC) != 0 ? readString(buffer) : "");
+        final Map<String, String> mdc = new LinkedHashMap<>();
+        if ((flags & FLAG_MDC) != 0) {
+            final int size = readCount(buffer);
+            for (int i = 0; i < size; i++) {
+                mdc.put(readString(buffer), readString(buffer));
+            }
+        }
+        // always set the MDC so the receiving thread's MDC is not copied into the record
+        record.setMdc(mdc);
+        if ((flags & FLAG_MARKER) != 0) {
+            record.setMarker(readString(buffer));
+        }
+        if ((flags & FLAG_KEY_VALUES) != 0) {
+            final int size = readCount(buffer);
+            final KeyValues.Builder builder = KeyValues.builder(size);
+            for (int i = 0; i < size; i++) {
+                final String key = readString(buffer);
+                if (key == null) {
+                    throw new StreamCorruptedException("Invalid key value field without a key");
+                }
+                builder.add(key, readParameter(buffer));
+            }
+            record.setKeyValues(builder.build());
+        }
+        return record;
+    }
+
+    private Level getLevel(final String name, final int value) {
+        Level level = levels.get(name);
+        if (level == null) {
+            try {
+                level = logContext.getLevelForName(name);
+            } catch (IllegalArgumentException e) {
+                // an unknown custom level, use a level with the same value
+                level = Level.parse(Integer.toString(value));
+            }
+            levels.put(name, level);
+        }
+        return level;
+    }
+
+    private Object readParameter(final ByteBuffer buffer) throws StreamCorruptedException {
+        final int type = readVarInt(buffer);
+        switch (type) {
+            case PARAM_NULL:
+                return null;
+            case PARAM_STRING:
+                return readString(buffer);
+            case PARAM_INT:
+                return unZigZag(readVarInt(buffer));
+            case PARAM_LONG:
+                return unZigZag(readVarLong(buffer));
+            case PARAM_DOUBLE:
+                return Double.longBitsToDouble(buffer.getLong());
+            case PARAM_FLOAT:
+                return Float.intBitsToFloat(readVarInt(buffer));
+            case PARAM_BOOLEAN:
+                return readVarInt(buffer) != 0;
+            case PARAM_CHAR:
+                return (char) readVarInt(buffer);
+            case PARAM_SHORT:
+                return (short) unZigZag(readVarInt(buffer));
+            case PARAM_BYTE:
+                return (byte) unZigZag(readVarInt(buffer));
+            default:
+                throw new StreamCorruptedException("Invalid parameter type " + type);
+        }
+    }
+
+    private Throwable readThrowable(final ByteBuffer buffer, final int depth) throws StreamCorruptedException {
+        if (depth > MAX_THROWABLE_DEPTH) {
+            throw new StreamCorruptedException("Exceeded the maximum exception depth");
+        }
+        final String className = readString(buffer);
+        final String message = readString(buffer);
+        final StackTraceElement[] frames = new StackTraceElement[readCount(buffer)];
+        for (int i = 0; i < frames.length; i++) {
+            final String classLoaderName = readString(buffer);
+            final String moduleName = readString(buffer);
+            final String moduleVersion = readString(buffer);
+            final String declaringClass = readString(buffer);
+            final String methodName = readString(buffer);
+            final String fileName = readString(buffer);
+            final int lineNumber = unZigZag(readVarInt(buffer));
+            frames[i] = new StackTraceElement(classLoaderName, moduleName, moduleVersion, declaringClass, methodName,
+                    fileName, lineNumber);
+        }
+        final Throwable[] suppressed = new Throwable[readCount(buffer)];
+        for (int i = 0; i < suppressed.length; i++) {
+            suppressed[i] = readThrowable(buffer, depth + 1);
+        }
+        final Throwable cause = readVarInt(buffer) == 0 ? null : readThrowable(buffer, depth + 1);
+        final RemoteThrowable result = new RemoteThrowable(className, message, cause);
+        result.setStackTrace(frames);
+        for (Throwable s : suppressed) {
+            result.addSuppressed(s);
+        }
+        return result;
+    }
+
+    private String readString(final ByteBuffer buffer) throws StreamCorruptedException {
+        final int encoding = readVarInt(buffer);
+        switch (encoding) {
+            case STRING_NULL:
+                return null;
+            case STRING_LITERAL:
+                return readUtf8(buffer);
+            case STRING_DEFINE: {
+                if (dictionary.size() >= MAX_DICTIONARY_SIZE) {
+                    throw new StreamCorruptedException("Exceeded the maximum dictionary size");
+                }
+                final String s = readUtf8(buffer);
+                dictionary.add(s);
+                return s;
+            }
+            default: {
+                final int index = encoding - STRING_REFERENCE;
+                if (index < 0 || index >= dictionary.size()) {
+                    throw new StreamCorruptedException("Invalid string reference " + Integer.toUnsignedString(index));
+                }
+                return dictionary.get(index);
+            }
+        }
+    }
+
+    private static String readUtf8(final ByteBuffer buffer) throws StreamCorruptedException {
+        final int length = readCount(buffer);
+        final String s;
+        if (buffer.hasArray()) {
+            s = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, StandardCharsets.UTF_8);
+            buffer.position(buffer.position() + length);
+        } else {
+            final byte[] bytes = new byte[length];
+            buffer.get(bytes);
+            s = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return s;
+    }
+
+    private static int readCount(final ByteBuffer buffer) throws StreamCorruptedException {
+        final int count = readVarInt(buffer);
+        // every element takes at least one byte, which bounds the count by the remaining bytes
+        if (count < 0 || count > buffer.remaining()) {
+            throw new StreamCorruptedException("Invalid length " + Integer.toUnsignedString(count));
+        }
+        return count;
+    }
+
+    private static int readVarInt(final ByteBuffer buffer) throws StreamCorruptedException {
+        int result = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            final byte b = buffer.get();
+            result |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                return result;
+            }
+        }
+        throw new StreamCorruptedException("Invalid variable length integer");
+    }
+
+    private static long readVarLong(final ByteBuffer buffer) throws StreamCorruptedException {
+        long result = 0L;
+        for (int shift = 0; shift < 64; shift += 7) {
+            final byte b = buffer.get();
+            result |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return result;
+            }
+        }
+        throw new StreamCorruptedException("Invalid variable length integer");
+    }
+
+    private static int unZigZag(final int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static long unZigZag(final long value) {
+        return (value >>> 1) ^ -(value & 1L);
+    }
+
+    /**
+     * A throwable received from a remote process. The type of the original throwable may not be available, the name
+     * of the type is retained for the string representation.
+     */
+    static final class RemoteThrowable extends Throwable {
+        private static final long serialVersionUID = 1L;
+
+        private final String className;
+
+        RemoteThrowable(final String className, final String message, final Throwable cause) {
+            super(message, cause);
+            this.className = className;
+        }
+
+        /**
+         * Returns the name of the type of the original throwable.
+         *
+         * @return the type name
+         */
+        String getClassName() {
+            return className;
+        }
+
+        @Override
+        public Throwable fillInStackTrace() {
+            // the stack trace is replaced with the received one
+            return this;
+        }
+
+        @Override
+        public String toString() {
+            final String message = getLocalizedMessage();
+            return message == null ? className : className + ": " + message;
+        }
+    }
+}
@@ -0,0 +1,380 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logmanager.handlers;
+
+import static org.jboss.logmanager.handlers.BinaryRecordFormat.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.MissingResourceException;
+import java.util.ResourceBundle;
+import java.util.Set;
+
+import org.jboss.logmanager.ExtLogRecord;
+import org.jboss.logmanager.KeyValues;
+
+/**
+ * Encodes records in the {@linkplain BinaryRecordFormat binary wire format}. An encoder holds the string dictionary
+ * of a single connection and must be {@linkplain #reset() reset} when a new connection is made. Instances are not
+ * thread-safe.
+ */
+final class BinaryRecordEncoder {
+    // room for the stream header and the largest length prefix, which are written in front of the payload
+    private static final int PREFIX_SIZE = HEADER_SIZE + 5;
+
+    private final Map<String, Integer> dictionary = new HashMap<>();
+    private final List<String> entries = new ArrayList<>();
+    private byte[] buffer = new byte[1024];
+    private int offset;
+    private int position;
+    private boolean headerRequired = true;
+
+    /**
+     * Clears the dictionary. The next frame will be prefixed with the stream header.
+     */
+    void reset() {
+        dictionary.clear();
+        entries.clear();
+        headerRequired = true;
+    }
+
+    /**
+     * Encodes the record as a single frame. The frame is available from {@link #getBuffer()} starting at
+     * {@link #getOffset()} until it is replaced by the next call.
+     *
+     * @param record        the record to encode
+     * @param includeCaller {@code true} if the caller information should be included
+     *
+     * @throws IllegalArgumentException if the encoded record is larger than the maximum frame size
+     */
+    void encode(final ExtLogRecord record, final boolean includeCaller) {
+        final int dictionarySize = entries.size();
+        try {
+            position = PREFIX_SIZE;
+            writeRecord(record, includeCaller);
+            final int length = position - PREFIX_SIZE;
+            if (length > MAX_FRAME_SIZE) {
+                throw new IllegalArgumentException("The encoded record exceeds the maximum size of " + MAX_FRAME_SIZE);
+            }
+            int start = PREFIX_SIZE - varIntSize(length);
+            writeVarInt(buffer, start, length);
+            if (headerRequired) {
+                start -= HEADER_SIZE;
+                System.arraycopy(MAGIC, 0, buffer, start, MAGIC.length);
+                buffer[start + MAGIC.length] = (byte) VERSION;
+                headerRequired = false;
+            }
+            offset = start;
+        } catch (RuntimeException e) {
+            // the frame will not be sent, so the strings it defined must not be referenced by later frames
+            for (int i = entries.size() - 1; i >= dictionarySize; i--) {
+                dictionary.remove(entries.remove(i));
+            }
+            throw e;
+        }
+    }
+
+    byte[] getBuffer() {
+        return buffer;
+    }
+
+    int getOffset() {
+        return offset;
+    }
+
+    int getLength() {
+        return position - offset;
+    }
+
+    private void writeRecord(final ExtLogRecord record, final boolean includeCaller) {
+        final Object[] parameters = record.getParameters();
+        final Throwable thrown = record.getThrown();
+        final String ndc = record.getNdc();
+        final Map<String, String> mdc = record.getMdcCopy();
+        final Object marker = record.getMarker();
+        final KeyValues keyValues = record.getKeyValues();
+        int flags = 0;
+        if (parameters != null) {
+            flags |= FLAG_PARAMETERS;
+        }
+        if (thrown != null) {
+            flags |= FLAG_THROWN;
+        }
+        if (includeCaller) {
+            flags |= FLAG_CALLER;
+        }
+        if (ndc != null && !ndc.isEmpty()) {
+            flags |= FLAG_NDC;
+        }
+        if (!mdc.isEmpty()) {
+            flags |= FLAG_MDC;
+        }
+        if (marker != null) {
+            flags |= FLAG_MARKER;
+        }
+        if (!keyValues.isEmpty()) {
+            flags |= FLAG_KEY_VALUES;
+        }
+        writeVarInt(flags);
+        writeString(record.getLevel().getName(), true);
+        writeVarInt(zigZag(record.getLevel().intValue()));
+        final Instant instant = record.getInstant();
+        writeVarLong(zigZag(instant.getEpochSecond()));
+        writeVarInt(instant.getNano());
+        writeVarLong(record.getSequenceNumber());
+        writeString(record.getLoggerName(), true);
+        writeString(record.getLoggerClassName(), true);
+        writeString(getTemplate(record), true);
+        writeVarInt(record.getFormatStyle().ordinal());
+        writeString(record.getThreadName(), true);
+        writeVarLong(record.getLongThreadID());
+        writeString(record.getHostName(), true);
+        writeString(record.getProcessName(), true);
+        writeVarLong(zigZag(record.getProcessId()));
+        if (parameters != null) {
+            writeVarInt(parameters.length);
+            for (Object parameter : parameters) {
+                writeParameter(parameter);
+            }
+        }
+        if (thrown != null) {
+            final Set<Throwable> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+            seen.add(thrown);
+            writeThrowable(thrown, seen, 0);
+        }
+        if (includeCaller) {
+            writeString(record.getSourceClassName(), true);
+            writeString(record.getSourceMethodName(), true);
+            writeString(record.getSourceFileName(), true);
+            writeVarInt(zigZag(record.getSourceLineNumber()));
+            writeString(record.getSourceModuleName(), true);
+            writeString(record.getSourceModuleVersion(), true);
+        }
+        if (ndc != null && !ndc.isEmpty()) {
+            writeString(ndc, false);
+        }
+        if (!mdc.isEmpty()) {
+            writeVarInt(mdc.size());
+            for (Map.Entry<String, String> entry : mdc.entrySet()) {
+                writeString(entry.getKey(), true);
+                writeString(entry.getValue(), false);
+            }
+        }
+        if (marker != null) {
+            writeString(String.valueOf(marker), false);
+        }
+        if (!keyValues.isEmpty()) {
+            writeVarInt(keyValues.size());
+            for (int i = 0; i < keyValues.size(); i++) {
+                writeString(keyValues.getKey(i), true);
+                writeKeyValue(keyValues, i);
+            }
+        }
+    }
+
+    private void writeKeyValue(final KeyValues keyValues, final int index) {
+        switch (keyValues.getType(index)) {
+            case LONG:
+                writeVarInt(PARAM_LONG);
+                writeVarLong(zigZag(keyValues.getLong(index)));
+                break;
+            case DOUBLE:
+                writeVarInt(PARAM_DOUBLE);
+                writeFixedLong(Double.doubleToRawLongBits(keyValues.getDouble(index)));
+                break;
+            case BOOLEAN:
+                writeVarInt(PARAM_BOOLEAN);
+                writeVarInt(keyValues.getBoolean(index) ? 1 : 0);
+                break;
+            default:
+                writeParameter(keyValues.getValue(index));
+                break;
+        }
+    }
+
+    private static String getTemplate(final ExtLogRecord record) {
+        // the receiver does not have the resource bundle, so the localized template is sent
+        final String message = record.getMessage();
+        final ResourceBundle bundle = record.getResourceBundle();
+        if (bundle != null && message != null) {
+            try {
+                return bundle.getString(message);
+            } catch (MissingResourceException ignore) {
+            }
+        }
+        return message;
+    }
+
+    private void writeParameter(final Object parameter) {
+        if (parameter == null) {
+            writeVarInt(PARAM_NULL);
+        } else if (parameter instanceof String) {
+            writeVarInt(PARAM_STRING);
+            writeString((String) parameter, false);
+        } else if (parameter instanceof Integer) {
+            writeVarInt(PARAM_INT);
+            writeVarInt(zigZag((Integer) parameter));
+        } else if (parameter instanceof Long) {
+            writeVarInt(PARAM_LONG);
+            writeVarLong(zigZag((Long) parameter));
+        } else if (parameter instanceof Double) {
+            writeVarInt(PARAM_DOUBLE);
+            writeFixedLong(Double.doubleToRawLongBits((Double) parameter));
+        } else if (parameter instanceof Float) {
+            writeVarInt(PARAM_FLOAT);
+            writeVarInt(Float.floatToRawIntBits((Float) parameter));
+        } else if (parameter instanceof Boolean) {
+            writeVarInt(PARAM_BOOLEAN);
+            writeVarInt((Boolean) parameter ? 1 : 0);
+        } else if (parameter instanceof Character) {
+            writeVarInt(PARAM_CHAR);
+            writeVarInt((Character) parameter);
+        } else if (parameter instanceof Short) {
+            writeVarInt(PARAM_SHORT);
+            writeVarInt(zigZag((Short) parameter));
+        } else if (parameter instanceof Byte) {
+            writeVarInt(PARAM_BYTE);
+            writeVarInt(zigZag((Byte) parameter));
+        } else {
+            // the receiver may not have the type, so only the string value is sent
+            writeVarInt(PARAM_STRING);
+            writeString(String.valueOf(parameter), false);
+        }
+    }
+
+    private void writeThrowable(final Throwable t, final Set<Throwable> seen, final int depth) {
+        writeString(t.getClass().getName(), true);
+        writeString(t.getMessage(), false);
+        final StackTraceElement[] frames = t.getStackTrace();
+        writeVarInt(frames.length);
+        for (StackTraceElement frame : frames) {
+            writeString(frame.getClassLoaderName(), true);
+            writeString(frame.getModuleName(), true);
+            writeString(frame.getModuleVersion(), true);
+            writeString(frame.getClassName(), true);
+            writeString(frame.getMethodName(), true);
+            writeString(frame.getFileName(), true);
+            writeVarInt(zigZag(frame.getLineNumber()));
+        }
+        final List<Throwable> suppressed = new ArrayList<>();
+        final Throwable cause = t.getCause();
+        final boolean writeCause = cause != null && depth < MAX_THROWABLE_DEPTH && seen.add(cause);
+        if (depth < MAX_THROWABLE_DEPTH) {
+            for (Throwable s : t.getSuppressed()) {
+                if (seen.add(s)) {
+                    suppressed.add(s);
+                }
+            }
+        }
+        writeVarInt(suppressed.size());
+        for (Throwable s : suppressed) {
+            writeThrowable(s, seen, depth + 1);
+        }
+        writeVarInt(writeCause ? 1 : 0);
+        if (writeCause) {
+            writeThrowable(cause, seen, depth + 1);
+        }
+    }
+
+    private void writeString(final String s, final boolean cached) {
+        if (s == null) {
+            writeVarInt(STRING_NULL);
+            return;
+        }
+        if (cached) {
+            final Integer index = dictionary.get(s);
+            if (index != null) {
+                writeVarInt(STRING_REFERENCE + index);
+                return;
+            }
+        }
+        if (cached && entries.size() < MAX_DICTIONARY_SIZE) {
+            dictionary.put(s, entries.size());
+            entries.add(s);
+            writeVarInt(STRING_DEFINE);
+        } else {
+            writeVarInt(STRING_LITERAL);
+        }
+        final byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(bytes.length);
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, position, bytes.length);
+        position += bytes.length;
+    }
+
+    private void writeVarInt(final int value) {
+        ensureCapacity(5);
+        position = writeVarInt(buffer, position, value);
+    }
+
+    private void writeVarLong(long value) {
+        ensureCapacity(10);
+        while ((value & ~0x7FL) != 0L) {
+            buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+    }
+
+    private void writeFixedLong(final long value) {
+        ensureCapacity(8);
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            buffer[position++] = (byte) (value >>> shift);
+        }
+    }
+
+    private void ensureCapacity(final int count) {
+        if (position + count > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length << 1, position + count));
+        }
+    }
+
+    private static int writeVarInt(final byte[] buffer, int position, int value) {
+        while ((value & ~0x7F) != 0) {
+            buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+        return position;
+    }
+
+    private static int varIntSize(final int value) {
+        int size = 1;
+        for (int v = value >>> 7; v != 0; v >>>= 7) {
+            size++;
+        }
+        return size;
+    }
+
+    private static int zigZag(final int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    private static long zigZag(final long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logmanager.handlers;
+
+/**
+ * The constants of the binary wire format used by the {@link SocketHandler} and read by the {@link SocketReceiver}.
+ * <p>
+ * A stream starts with the {@linkplain #MAGIC magic bytes} followed by the {@linkplain #VERSION version}. Each record
+ * is a frame made up of the length of the payload as a variable length integer followed by the payload. Integers are
+ * written as unsigned variable length integers, seven bits per byte with the high bit set on all but the last byte.
+ * Signed values are zig-zag encoded first.
+ * </p>
+ * <p>
+ * Strings which repeat, such as logger names, thread names and message templates, are added to a dictionary which
+ * lives for the life of the connection. The first occurrence of such a string is written with
+ * {@link #STRING_DEFINE} and later occurrences are written as a reference to the entry. Strings which are unlikely to
+ * repeat, such as parameters and exception messages, are written with {@link #STRING_LITERAL}.
+ * </p>
+ */
+final class BinaryRecordFormat {
+    static final byte[] MAGIC = { 'J', 'B', 'L', 'M' };
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = MAGIC.length + 1;
+
+    static final int MAX_DICTIONARY_SIZE = 8192;
+    static final int MAX_FRAME_SIZE = 16 * 1024 * 1024;
+    static final int MAX_THROWABLE_DEPTH = 64;
+
+    // string encodings, any value greater than or equal to STRING_REFERENCE references a dictionary entry
+    static final int STRING_NULL = 0;
+    static final int STRING_LITERAL = 1;
+    static final int STRING_DEFINE = 2;
+    static final int STRING_REFERENCE = 3;
+
+    // the optional sections of a record
+    static final int FLAG_PARAMETERS = 1;
+    static final int FLAG_THROWN = 1 << 1;
+    static final int FLAG_CALLER = 1 << 2;
+    static final int FLAG_NDC = 1 << 3;
+    static final int FLAG_MDC = 1 << 4;
+    static final int FLAG_MARKER = 1 << 5;
+    static final int FLAG_KEY_VALUES = 1 << 6;
+
+    // parameter types, parameters of other types are written as their string value
+    static final int PARAM_NULL = 0;
+    static final int PARAM_STRING = 1;
+    static final int PARAM_INT = 2;
+    static final int PARAM_LONG = 3;
+    static final int PARAM_DOUBLE = 4;
+    static final int PARAM_FLOAT = 5;
+    static final int PARAM_BOOLEAN = 6;
+    static final int PARAM_CHAR = 7;
+    static final int PARAM_SHORT = 8;
+    static final int PARAM_BYTE = 9;
+
+    private BinaryRecordFormat() {
+    }
+}
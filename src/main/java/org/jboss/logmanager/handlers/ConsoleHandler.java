@@ -20,9 +20,12 @@
 package org.jboss.logmanager.handlers;
 
 import java.io.Console;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.PrintStream;
 import java.io.PrintWriter;
 import java.io.Writer;
 import java.nio.charset.StandardCharsets;
@@ -40,8 +43,8 @@ import org.jboss.logmanager.formatters.Formatters;
  * A console handler which writes to {@code System.out} by default.
  */
 public class ConsoleHandler extends OutputStreamHandler {
-    private static final OutputStream out = System.out;
-    private static final OutputStream err = System.err;
+    private static final PrintStream out = System.out;
+    private static final PrintStream err = System.err;
 
     /**
      * The target stream type.
@@ -63,6 +66,9 @@ public class ConsoleHandler extends OutputStreamHandler {
     }
 
     private final ErrorManager localErrorManager = new HandlerErrorManager(this);
+    // Guarded by lock
+    private Target target;
+    private volatile boolean directOutput;
 
     /**
      * Construct a new instance.
@@ -98,19 +104,7 @@ public class ConsoleHandler extends OutputStreamHandler {
     public ConsoleHandler(final Target target, final Formatter formatter) {
         super(formatter);
         setCharset(JDKSpecific.consoleCharset());
-        switch (target) {
-            case SYSTEM_OUT:
-                setOutputStream(wrap(out));
-                break;
-            case SYSTEM_ERR:
-                setOutputStream(wrap(err));
-                break;
-            case CONSOLE:
-                setWriter(wrap(ConsoleHolder.console));
-                break;
-            default:
-                throw new IllegalArgumentException();
-        }
+        applyTarget(target);
     }
 
     /**
@@ -119,19 +113,75 @@ public class ConsoleHandler extends OutputStreamHandler {
      * @param target the target to write to, or {@code null} to clear the target
      */
     public void setTarget(Target target) {
-        final Target t = (target == null ? defaultTarget() : target);
-        switch (t) {
-            case SYSTEM_OUT:
-                setOutputStream(wrap(out));
-                break;
-            case SYSTEM_ERR:
-                setOutputStream(wrap(err));
-                break;
-            case CONSOLE:
-                setWriter(wrap(ConsoleHolder.console));
-                break;
-            default:
-                throw new IllegalArgumentException();
+        applyTarget(target == null ? defaultTarget() : target);
+    }
+
+    /**
+     * Indicates whether the {@link Target#SYSTEM_OUT} and {@link Target#SYSTEM_ERR} targets write directly to the
+     * standard output and error file descriptors.
+     *
+     * @return {@code true} if records are written directly to the file descriptor
+     */
+    public boolean isDirectOutput() {
+        return directOutput;
+    }
+
+    /**
+     * Sets whether the {@link Target#SYSTEM_OUT} and {@link Target#SYSTEM_ERR} targets write directly to the
+     * standard output and error file descriptors instead of through the {@code System.out} and {@code System.err}
+     * print streams. This avoids locking the print stream for each record.
+     * <p>
+     * When enabled, a flush is skipped while other threads are waiting to write a record. The last of the waiting
+     * threads flushes the records written before it, so bursts of records from many threads are written together.
+     * Anything buffered by the print stream is flushed before the records are written, so output written through
+     * {@code System.out} or {@code System.err} is not reordered with the records.
+     * </p>
+     *
+     * @param directOutput {@code true} to write directly to the file descriptor
+     */
+    public void setDirectOutput(final boolean directOutput) {
+        checkAccess();
+        lock.lock();
+        try {
+            if (this.directOutput != directOutput) {
+                this.directOutput = directOutput;
+                if (target != null) {
+                    applyTarget(target);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void flush() {
+        if (directOutput && lock.isHeldByCurrentThread() && lock.hasQueuedThreads()) {
+            // a waiting thread writes next and its flush includes this record
+            return;
+        }
+        super.flush();
+    }
+
+    private void applyTarget(final Target target) {
+        lock.lock();
+        try {
+            switch (target) {
+                case SYSTEM_OUT:
+                    setOutputStream(wrap(directOutput ? DirectHolder.out : out));
+                    break;
+                case SYSTEM_ERR:
+                    setOutputStream(wrap(directOutput ? DirectHolder.err : err));
+                    break;
+                case CONSOLE:
+                    setWriter(wrap(ConsoleHolder.console));
+                    break;
+                default:
+                    throw new IllegalArgumentException();
+            }
+            this.target = target;
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -297,6 +347,41 @@ public class ConsoleHandler extends OutputStreamHandler {
         return ConsoleHolder.console == null ? Target.SYSTEM_OUT : Target.CONSOLE;
     }
 
+    private static final class DirectHolder {
+        private static final OutputStream out = new DirectOutputStream(FileDescriptor.out, ConsoleHandler.out);
+        private static final OutputStream err = new DirectOutputStream(FileDescriptor.err, ConsoleHandler.err);
+
+        private DirectHolder() {
+        }
+    }
+
+    /**
+     * Writes to a standard file descriptor. A {@code FileChannel} is not used as it would close the file descriptor
+     * if a writing thread is interrupted.
+     */
+    private static final class DirectOutputStream extends OutputStream {
+        private final FileOutputStream delegate;
+        private final PrintStream printStream;
+
+        private DirectOutputStream(final FileDescriptor fd, final PrintStream printStream) {
+            this.delegate = new FileOutputStream(fd);
+            this.printStream = printStream;
+        }
+
+        @Override
+        public void write(final int b) throws IOException {
+            printStream.flush();
+            delegate.write(b);
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) throws IOException {
+            // write anything other code left in the print stream buffer first
+            printStream.flush();
+            delegate.write(b, off, len);
+        }
+    }
+
     private static final class ConsoleHolder {
         private static final PrintWriter console;
 
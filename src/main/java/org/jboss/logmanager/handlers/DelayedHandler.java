@@ -19,12 +19,14 @@
 
 package org.jboss.logmanager.handlers;
 
-import java.util.ArrayDeque;
-import java.util.Arrays;
-import java.util.Deque;
-import java.util.HashMap;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Supplier;
 import java.util.logging.ErrorManager;
 import java.util.logging.Formatter;
@@ -36,6 +38,10 @@ import org.jboss.logmanager.ExtLogRecord;
 import org.jboss.logmanager.LogContext;
 import org.jboss.logmanager.StandardOutputStreams;
 import org.jboss.logmanager.formatters.PatternFormatter;
+import org.jboss.logmanager.jfr.DelayedActivationEvent;
+import org.jboss.logmanager.jfr.JfrSupport;
+
+import io.smallrye.common.cpu.ProcessorInfo;
 
 /**
  * A handler that queues messages until it's at least one child handler is {@linkplain #addHandler(Handler) added} or
@@ -47,10 +53,29 @@ import org.jboss.logmanager.formatters.PatternFormatter;
 @SuppressWarnings({ "unused", "WeakerAccess" })
 public class DelayedHandler extends ExtHandler {
 
-    private final Map<java.util.logging.Level, Deque<ExtLogRecord>> queues = new HashMap<>();
+    /**
+     * The approximate number of bytes retained by a queued record, not including its character data.
+     */
+    private static final int RECORD_OVERHEAD = 256;
+
+    private final Stripe[] stripes;
+    private final int stripeMask;
+    // shared by all stripes, every record beyond the limit must be reported and striped counts could not tell exactly
+    private final Map<java.util.logging.Level, AtomicInteger> levelCounts = new ConcurrentHashMap<>();
 
     private volatile boolean activated = false;
     private volatile boolean callerCalculationRequired = false;
+    private volatile long queueByteLimit;
+
+    @SuppressWarnings("unused")
+    private volatile long queuedBytes;
+    @SuppressWarnings("unused")
+    private volatile long discarded;
+
+    private static final AtomicLongFieldUpdater<DelayedHandler> queuedBytesUpdater = AtomicLongFieldUpdater
+            .newUpdater(DelayedHandler.class, "queuedBytes");
+    private static final AtomicLongFieldUpdater<DelayedHandler> discardedUpdater = AtomicLongFieldUpdater
+            .newUpdater(DelayedHandler.class, "discarded");
 
     private final LogContext logContext;
     private final int queueLimit;
@@ -118,10 +143,13 @@ public class DelayedHandler extends ExtHandler {
         this.logContext = logContext;
         this.queueLimit = queueLimit;
         this.warnThreshold = warnThreshold;
-    }
-
-    private static <E> Deque<E> newDeque(Object ignored) {
-        return new ArrayDeque<>();
+        final int cpus = ProcessorInfo.availableProcessors();
+        final int stripeCount = cpus <= 1 ? 1 : Integer.highestOneBit(cpus - 1) << 1;
+        stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe();
+        }
+        stripeMask = stripeCount - 1;
     }
 
     @Override
@@ -131,134 +159,205 @@ public class DelayedHandler extends ExtHandler {
             publishToNestedHandlers(record);
             super.doPublish(record);
         } else {
+            final Stripe stripe = stripes[stripeIndex()];
+            final ReentrantLock stripeLock = stripe.lock;
             // avoid reentrancy, which will generally cause a stack overflow
-            if (lock.isHeldByCurrentThread()) {
+            if (stripeLock.isHeldByCurrentThread() || lock.isHeldByCurrentThread()) {
                 return;
             }
-            lock.lock();
+            // Determine if we need to calculate the caller information before we queue the record
+            if (isCallerCalculationRequired()) {
+                // prepare record to move to another thread
+                record.copyAll();
+            } else {
+                // Disable the caller calculation since it's been determined we won't be using it
+                record.disableCallerCalculation();
+                // Copy the MDC over
+                record.copyMdc();
+            }
+            stripeLock.lock();
             try {
                 // Check one more time to see if we've been activated before queuing the messages
                 if (activated) {
                     publishToNestedHandlers(record);
                     super.doPublish(record);
                 } else {
-                    // Determine if we need to calculate the caller information before we queue the record
-                    if (isCallerCalculationRequired()) {
-                        // prepare record to move to another thread
-                        record.copyAll();
-                    } else {
-                        // Disable the caller calculation since it's been determined we won't be using it
-                        record.disableCallerCalculation();
-                        // Copy the MDC over
-                        record.copyMdc();
+                    final Level level = record.getLevel();
+                    final boolean warn = level.intValue() >= warnThreshold.intValue();
+                    if (!reserve(record, warn)) {
+                        return;
                     }
-                    Level level = record.getLevel();
-                    Deque<ExtLogRecord> q = queues.computeIfAbsent(level, DelayedHandler::newDeque);
-                    if (q.size() >= queueLimit && level.intValue() >= warnThreshold.intValue()) {
+                    if (warn && countQueued(level) >= queueLimit) {
                         reportError(
                                 "The delayed handler's queue was overrun and log record(s) were lost. Did you forget to configure logging?",
                                 null, ErrorManager.WRITE_FAILURE);
                     }
-                    enqueueOrdered(q, record);
+                    // records are only ordered when they are drained
+                    stripe.records.add(record);
                 }
             } finally {
-                lock.unlock();
+                stripeLock.unlock();
             }
         }
     }
 
     /**
-     * Enqueue the log record such that the queue's order (by sequence number) is maintained.
+     * Get the maximum approximate number of bytes the queued records may retain before new records are discarded.
      *
-     * @param q      the queue
-     * @param record the record
+     * @return the queue byte limit, or {@code 0} if the queue size is not limited by memory
      */
-    private void enqueueOrdered(Deque<ExtLogRecord> q, ExtLogRecord record) {
-        assert lock.isHeldByCurrentThread();
-        ExtLogRecord last = q.peekLast();
-        if (last != null) {
-            // check the ordering
-            if (Long.compareUnsigned(last.getSequenceNumber(), record.getSequenceNumber()) > 0) {
-                // out of order; we have to re-sort.. typically, it's only going to be out of order by a couple though
-                q.pollLast();
-                try {
-                    enqueueOrdered(q, record);
-                } finally {
-                    q.addLast(last);
-                }
-                return;
+    public long getQueueByteLimit() {
+        return queueByteLimit;
+    }
+
+    /**
+     * Set the maximum approximate number of bytes the queued records may retain before new records are discarded.
+     * The size of a record is estimated from its message, logger name, thread name and parameters.
+     *
+     * @param queueByteLimit the queue byte limit, a value of {@code 0} or less means the queue size is not limited by
+     *                       memory
+     */
+    public void setQueueByteLimit(final long queueByteLimit) {
+        checkAccess();
+        this.queueByteLimit = Math.max(0L, queueByteLimit);
+    }
+
+    private boolean reserve(final ExtLogRecord record, final boolean warn) {
+        final long queueByteLimit = this.queueByteLimit;
+        if (queueByteLimit == 0L) {
+            return true;
+        }
+        final long size = estimateSize(record);
+        if (queuedBytesUpdater.addAndGet(this, size) > queueByteLimit) {
+            queuedBytesUpdater.addAndGet(this, -size);
+            if (discardedUpdater.getAndIncrement(this) == 0L && warn) {
+                reportError(
+                        "The delayed handler's queue exceeded " + queueByteLimit
+                                + " bytes and log record(s) were discarded. Did you forget to configure logging?",
+                        null, ErrorManager.WRITE_FAILURE);
+            }
+            return false;
+        }
+        return true;
+    }
+
+    private static long estimateSize(final ExtLogRecord record) {
+        long size = RECORD_OVERHEAD + charSize(record.getMessage()) + charSize(record.getLoggerName())
+                + charSize(record.getThreadName());
+        final Object[] parameters = record.getParameters();
+        if (parameters != null) {
+            for (Object parameter : parameters) {
+                size += parameter instanceof String ? charSize((String) parameter) : 16L;
             }
         }
-        // order is OK
-        q.addLast(record);
+        return size;
+    }
+
+    private static long charSize(final String s) {
+        return s == null ? 0L : 40L + s.length();
+    }
+
+    private int stripeIndex() {
+        // a thread always uses the same stripe, so the records of a stripe arrive nearly in order
+        final int h = System.identityHashCode(Thread.currentThread());
+        return (h ^ (h >>> 16)) & stripeMask;
+    }
+
+    private int countQueued(final Level level) {
+        AtomicInteger count = levelCounts.get(level);
+        if (count == null) {
+            count = levelCounts.computeIfAbsent(level, DelayedHandler::newCounter);
+        }
+        return count.getAndIncrement();
+    }
+
+    private static AtomicInteger newCounter(Object ignored) {
+        return new AtomicInteger();
+    }
+
+    private void lockStripes() {
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+        }
+    }
+
+    private void unlockStripes() {
+        for (int i = stripes.length - 1; i >= 0; i--) {
+            stripes[i].lock.unlock();
+        }
     }
 
+    /**
+     * Removes all the queued records. The records are merged by sequence number as they are retrieved from the
+     * returned supplier. Must be called with the handler lock and all the stripe locks held.
+     *
+     * @return a supplier of the queued records in order, which returns {@code null} once all records are consumed
+     */
     private Supplier<ExtLogRecord> drain() {
         assert lock.isHeldByCurrentThread();
-        if (queues.isEmpty()) {
-            return () -> null;
+        final long discarded = discardedUpdater.getAndSet(this, 0L);
+        if (discarded > 0L) {
+            reportError("The delayed handler discarded " + discarded + " log record(s) which exceeded the queue limit of "
+                    + queueByteLimit + " bytes.", null, ErrorManager.WRITE_FAILURE);
         }
-        List<Deque<ExtLogRecord>> values = List.copyOf(queues.values());
-        queues.clear();
-        int size = values.size();
-        List<ExtLogRecord> current = Arrays.asList(new ExtLogRecord[size]);
-        // every queue must have at least one item in it
-        int i = 0;
-        for (Deque<ExtLogRecord> value : values) {
-            current.set(i++, value.removeFirst());
+        queuedBytesUpdater.set(this, 0L);
+        levelCounts.clear();
+        final PriorityQueue<Cursor> heap = new PriorityQueue<>(stripes.length);
+        for (Stripe stripe : stripes) {
+            assert stripe.lock.isHeldByCurrentThread();
+            final ArrayList<ExtLogRecord> records = stripe.records;
+            if (!records.isEmpty()) {
+                stripe.records = new ArrayList<>();
+                // records from a single stripe arrive nearly in order, so this is typically a linear pass
+                records.sort(DelayedHandler::compareSeq);
+                heap.add(new Cursor(records));
+            }
+        }
+        if (heap.isEmpty()) {
+            return () -> null;
         }
         return new Supplier<ExtLogRecord>() {
             @Override
             public ExtLogRecord get() {
-                ExtLogRecord min = null;
-                int minIdx = 0;
-                for (int i = 0; i < size; i++) {
-                    ExtLogRecord item = current.get(i);
-                    if (compareSeq(min, item) > 0) {
-                        min = item;
-                        minIdx = i;
-                    }
-                }
-                if (min == null) {
+                final Cursor cursor = heap.poll();
+                if (cursor == null) {
                     return null;
                 }
-                current.set(minIdx, values.get(minIdx).pollFirst());
-                return min;
-            }
-
-            private int compareSeq(ExtLogRecord min, ExtLogRecord testItem) {
-                if (min == null) {
-                    // null is greater than everything
-                    return testItem == null ? 0 : 1;
-                } else if (testItem == null) {
-                    return -1;
-                } else {
-                    return Long.compareUnsigned(min.getSequenceNumber(), testItem.getSequenceNumber());
+                final ExtLogRecord record = cursor.current();
+                if (cursor.advance()) {
+                    heap.add(cursor);
                 }
+                return record;
             }
         };
     }
 
+    private static int compareSeq(final ExtLogRecord r1, final ExtLogRecord r2) {
+        return Long.compareUnsigned(r1.getSequenceNumber(), r2.getSequenceNumber());
+    }
+
     @Override
     public final void close() throws SecurityException {
         checkAccess();
         lock.lock();
+        lockStripes();
         try {
-            if (!queues.isEmpty()) {
+            // Always attempt to drain the queue
+            final Supplier<ExtLogRecord> drain = drain();
+            ExtLogRecord record = drain.get();
+            if (record != null) {
                 Formatter formatter = getFormatter();
                 if (formatter == null) {
                     formatter = new PatternFormatter("%d{yyyy-MM-dd HH:mm:ss,SSS} %-5p [%c] (%t) %s%e%n");
                 }
                 StandardOutputStreams.printError("The DelayedHandler was closed before any children handlers were " +
                         "configured. Messages will be written to stderr.");
-                // Always attempt to drain the queue
-                Supplier<ExtLogRecord> drain = drain();
-                ExtLogRecord record;
-                while ((record = drain.get()) != null) {
+                do {
                     StandardOutputStreams.printError(formatter.format(record));
-                }
+                } while ((record = drain.get()) != null);
             }
         } finally {
+            unlockStripes();
             lock.unlock();
         }
         activated = false;
@@ -367,20 +466,81 @@ public class DelayedHandler extends ExtHandler {
 
     private void activate() {
         lock.lock();
+        lockStripes();
         try {
-            // Always attempt to drain the queue
-            ExtLogRecord record;
-            final LogContext logContext = this.logContext;
-            Supplier<ExtLogRecord> drain = drain();
-            while ((record = drain.get()) != null) {
-                if (isEnabled() && isLoggable(record)
-                        && (logContext == null || logContext.getLogger(record.getLoggerName()).isLoggable(record.getLevel()))) {
-                    publishToNestedHandlers(record);
+            if (JfrSupport.AVAILABLE) {
+                final DelayedActivationEvent event = new DelayedActivationEvent();
+                if (event.isEnabled()) {
+                    event.begin();
+                    final long counts = drainQueue();
+                    event.end();
+                    if (event.shouldCommit()) {
+                        event.handler = getClass();
+                        event.drained = (int) (counts >>> 32);
+                        event.published = (int) counts;
+                        event.commit();
+                    }
+                } else {
+                    drainQueue();
                 }
+            } else {
+                drainQueue();
             }
             activated = true;
         } finally {
+            unlockStripes();
             lock.unlock();
         }
     }
+
+    /**
+     * Publishes the queued records to the nested handlers.
+     *
+     * @return the number of records drained in the upper 32 bits and the number published in the lower 32 bits
+     */
+    private long drainQueue() {
+        // Always attempt to drain the queue
+        int drained = 0;
+        int published = 0;
+        ExtLogRecord record;
+        final LogContext logContext = this.logContext;
+        Supplier<ExtLogRecord> drain = drain();
+        while ((record = drain.get()) != null) {
+            drained++;
+            if (isEnabled() && isLoggable(record)
+                    && (logContext == null || logContext.getLogger(record.getLoggerName()).isLoggable(record.getLevel()))) {
+                publishToNestedHandlers(record);
+                published++;
+            }
+        }
+        return ((long) drained << 32) | (published & 0xFFFFFFFFL);
+    }
+
+    private static final class Stripe {
+        final ReentrantLock lock = new ReentrantLock();
+        // Guarded by lock
+        ArrayList<ExtLogRecord> records = new ArrayList<>();
+    }
+
+    private static final class Cursor implements Comparable<Cursor> {
+        private final List<ExtLogRecord> records;
+        private int index;
+
+        Cursor(final List<ExtLogRecord> records) {
+            this.records = records;
+        }
+
+        ExtLogRecord current() {
+            return records.get(index);
+        }
+
+        boolean advance() {
+            return ++index < records.size();
+        }
+
+        @Override
+        public int compareTo(final Cursor other) {
+            return compareSeq(current(), other.current());
+        }
+    }
 }
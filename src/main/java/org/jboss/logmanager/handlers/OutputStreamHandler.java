@@ -19,6 +19,7 @@
 
 package org.jboss.logmanager.handlers;
 
+import java.io.IOException;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.Writer;
@@ -26,6 +27,7 @@ import java.nio.charset.Charset;
 import java.util.logging.ErrorManager;
 import java.util.logging.Formatter;
 
+import org.jboss.logmanager.HandlerMetrics;
 import org.jboss.logmanager.formatters.Formatters;
 
 /**
@@ -138,7 +140,47 @@ public class OutputStreamHandler extends WriterHandler {
         if (newOutputStream == null)
             return null;
         final UninterruptibleOutputStream outputStream = new UninterruptibleOutputStream(
-                new UncloseableOutputStream(newOutputStream));
+                new MetricsOutputStream(new UncloseableOutputStream(newOutputStream)));
         return new OutputStreamWriter(outputStream, getCharset());
     }
+
+    /**
+     * Counts the bytes written to the stream when metrics are enabled.
+     */
+    private final class MetricsOutputStream extends OutputStream {
+        private final OutputStream delegate;
+
+        private MetricsOutputStream(final OutputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(final int b) throws IOException {
+            delegate.write(b);
+            count(1);
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) throws IOException {
+            delegate.write(b, off, len);
+            count(len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+
+        private void count(final int bytes) {
+            final HandlerMetrics metrics = getMetrics();
+            if (metrics != null) {
+                metrics.recordBytesWritten(bytes);
+            }
+        }
+    }
 }
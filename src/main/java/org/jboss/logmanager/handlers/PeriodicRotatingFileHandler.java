@@ -23,6 +23,7 @@ import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.nio.file.Path;
 import java.security.AccessControlContext;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
@@ -32,13 +33,23 @@ import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoField;
 import java.time.temporal.ChronoUnit;
 import java.util.TimeZone;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
 import java.util.logging.ErrorManager;
 
 import org.jboss.logmanager.ExtLogRecord;
+import org.jboss.logmanager.HandlerMetrics;
 
 /**
  * A file handler which rotates the log at a preset time interval. The interval is determined by the content of the
  * suffix string which is passed in to {@link #setSuffix(String)}.
+ * <p>
+ * By default the file is rotated while the handler lock is held, so each thread logging to the handler waits for the
+ * rotated file to be moved and, if configured, compressed. If {@linkplain #setBackgroundRotation(boolean) background
+ * rotation} is enabled only a rename of the current file is done while the lock is held. The remaining work is done
+ * on a background thread in the order the files were rotated.
+ * </p>
  */
 public class PeriodicRotatingFileHandler extends FileHandler {
 
@@ -46,9 +57,12 @@ public class PeriodicRotatingFileHandler extends FileHandler {
     private DateTimeFormatter format;
     private String nextSuffix;
     private Period period = Period.NEVER;
-    private Instant nextRollover = Instant.MAX;
+    // the next rollover in milliseconds since the epoch, cached so the check for each record is a single comparison
+    private long nextRollover = Long.MAX_VALUE;
     private TimeZone timeZone = TimeZone.getDefault();
     private SuffixRotator suffixRotator = SuffixRotator.EMPTY;
+    private boolean backgroundRotation;
+    private CompletableFuture<Void> pendingRotation = CompletableFuture.completedFuture(null);
 
     /**
      * Construct a new instance with no formatter and no output file.
@@ -110,6 +124,15 @@ public class PeriodicRotatingFileHandler extends FileHandler {
     public void setFile(final File file) throws FileNotFoundException {
         lock.lock();
         try {
+            if (file != null) {
+                // the fields are not yet initialized when the file is set by the super constructor
+                final SuffixRotator suffixRotator = this.suffixRotator == null ? SuffixRotator.EMPTY : this.suffixRotator;
+                if (pendingRotation != null) {
+                    // rotations of this handler which are still pending own their staged files
+                    pendingRotation.join();
+                }
+                suffixRotator.deleteStaged(SecurityActions.getErrorManager(acc, this), file.toPath());
+            }
             super.setFile(file);
             if (format != null && file != null && file.lastModified() > 0) {
                 calcNextRollover(Instant.ofEpochMilli(file.lastModified()));
@@ -121,13 +144,51 @@ public class PeriodicRotatingFileHandler extends FileHandler {
 
     /** {@inheritDoc} This implementation checks to see if the scheduled rollover time has yet occurred. */
     protected void preWrite(final ExtLogRecord record) {
-        Instant recordInstant = record.getInstant();
-        if (!recordInstant.isBefore(nextRollover)) {
+        final Instant recordInstant = record.getInstant();
+        if (recordInstant.toEpochMilli() >= nextRollover) {
             rollOver();
             calcNextRollover(recordInstant);
         }
     }
 
+    /**
+     * Indicates whether rotated files are moved and compressed on a background thread.
+     *
+     * @return {@code true} if rotation is completed in the background, otherwise {@code false}
+     */
+    public boolean isBackgroundRotation() {
+        lock.lock();
+        try {
+            return backgroundRotation;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Sets whether rotated files are moved and compressed on a background thread. When enabled the current file is
+     * renamed to a temporary name and a new file is opened before the rotation is completed. Rotated files may not
+     * exist until some time after the record which triggered the rotation has been written. Closing the handler waits
+     * for any pending rotations to complete.
+     *
+     * @param backgroundRotation {@code true} to complete rotations in the background
+     */
+    public void setBackgroundRotation(final boolean backgroundRotation) {
+        checkAccess();
+        lock.lock();
+        try {
+            this.backgroundRotation = backgroundRotation;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void close() throws SecurityException {
+        super.close();
+        awaitRotation();
+    }
+
     /**
      * Set the suffix string. The string is in a format which can be understood by {@link DateTimeFormatter}.
      * The period of the rotation is automatically calculated based on the suffix.
@@ -226,20 +287,68 @@ public class PeriodicRotatingFileHandler extends FileHandler {
                 // no file is set; a direct output stream or writer was specified
                 return;
             }
+            final HandlerMetrics metrics = getMetrics();
+            final long start = metrics == null ? 0L : System.nanoTime();
             // first, close the original file (some OSes won't let you move/rename a file that is open)
             setFileInternal(null);
             // next, rotate it
-            suffixRotator.rotate(SecurityActions.getErrorManager(acc, this), file.toPath(), nextSuffix);
+            rotate(file.toPath(), nextSuffix, 0);
             // start new file
             setFileInternal(file);
+            if (metrics != null) {
+                metrics.recordRotation(System.nanoTime() - start);
+            }
         } catch (IOException e) {
             reportError("Unable to rotate log file", e, ErrorManager.OPEN_FAILURE);
         }
     }
 
+    /**
+     * Rotates the closed file. If background rotation is enabled the file is staged and the rotation is completed on
+     * a background thread after any previously pending rotations. Must be called with the lock held.
+     *
+     * @param file           the file to rotate
+     * @param suffix         the suffix to append to the rotated file
+     * @param maxBackupIndex the number of backups to keep, {@code 0} to not index the rotated file
+     */
+    void rotate(final Path file, final String suffix, final int maxBackupIndex) {
+        final ErrorManager errorManager = SecurityActions.getErrorManager(acc, this);
+        final SuffixRotator suffixRotator = this.suffixRotator;
+        if (backgroundRotation) {
+            final Path staged = suffixRotator.stage(errorManager, file);
+            if (staged != null) {
+                pendingRotation = pendingRotation.thenRunAsync(() -> {
+                    try {
+                        suffixRotator.rotate(errorManager, staged, file, suffix, maxBackupIndex);
+                    } catch (RuntimeException e) {
+                        errorManager.error("Unable to rotate log file", e, ErrorManager.GENERIC_FAILURE);
+                    }
+                }, RotationExecutorHolder.EXECUTOR);
+                return;
+            }
+        }
+        // rotations which are still pending must complete before the backups are shifted
+        pendingRotation.join();
+        suffixRotator.rotate(errorManager, file, file, suffix, maxBackupIndex);
+    }
+
+    /**
+     * Waits for any rotations being completed in the background.
+     */
+    void awaitRotation() {
+        final CompletableFuture<Void> pendingRotation;
+        lock.lock();
+        try {
+            pendingRotation = this.pendingRotation;
+        } finally {
+            lock.unlock();
+        }
+        pendingRotation.join();
+    }
+
     private void calcNextRollover(final Instant fromTime) {
         if (period == Period.NEVER) {
-            nextRollover = Instant.MAX;
+            nextRollover = Long.MAX_VALUE;
             return;
         }
         ZonedDateTime zdt = ZonedDateTime.ofInstant(fromTime, timeZone.toZoneId());
@@ -270,7 +379,7 @@ public class PeriodicRotatingFileHandler extends FileHandler {
                 zdt = zdt.truncatedTo(ChronoUnit.MINUTES).plusMinutes(1);
                 break;
         }
-        nextRollover = zdt.toInstant();
+        nextRollover = zdt.toInstant().toEpochMilli();
     }
 
     /**
@@ -327,4 +436,14 @@ public class PeriodicRotatingFileHandler extends FileHandler {
         YEAR,
         NEVER,
     }
+
+    private static final class RotationExecutorHolder {
+        // created on first use, the threads do not hold on to the class loader of the handler which starts them
+        static final Executor EXECUTOR = Executors.newCachedThreadPool(r -> {
+            final Thread thread = new Thread(r, "Log file rotation");
+            thread.setDaemon(true);
+            thread.setContextClassLoader(null);
+            return thread;
+        });
+    }
 }
@@ -30,6 +30,7 @@ import java.security.PrivilegedAction;
 import java.util.logging.ErrorManager;
 
 import org.jboss.logmanager.ExtLogRecord;
+import org.jboss.logmanager.HandlerMetrics;
 
 /**
  * A file handler which rotates the log at a preset time interval or the size of the log.
@@ -168,7 +169,7 @@ public class PeriodicSizeRotatingFileHandler extends PeriodicRotatingFileHandler
                 if (suffixRotator != SuffixRotator.EMPTY && suffix != null) {
                     // Make sure any previous files are closed before we attempt to rotate
                     setFileInternal(null, false);
-                    suffixRotator.rotate(getErrorManager(), file.toPath(), suffix, maxBackupIndex);
+                    rotate(file.toPath(), suffix, maxBackupIndex);
                 }
             }
             setFileInternal(file, false);
@@ -249,12 +250,16 @@ public class PeriodicSizeRotatingFileHandler extends PeriodicRotatingFileHandler
                     // no file is set; a direct output stream or writer was specified
                     return;
                 }
+                final HandlerMetrics metrics = getMetrics();
+                final long start = metrics == null ? 0L : System.nanoTime();
                 // close the old file.
                 setFileInternal(null, true);
-                getSuffixRotator().rotate(SecurityActions.getErrorManager(acc, this), file.toPath(), getNextSuffix(),
-                        maxBackupIndex);
+                rotate(file.toPath(), getNextSuffix(), maxBackupIndex);
                 // start with new file.
                 setFileInternal(file, true);
+                if (metrics != null) {
+                    metrics.recordRotation(System.nanoTime() - start);
+                }
             } catch (IOException e) {
                 reportError("Unable to rotate log file", e, ErrorManager.OPEN_FAILURE);
             }
@@ -19,8 +19,13 @@
 
 package org.jboss.logmanager.handlers;
 
-import java.util.ArrayDeque;
-import java.util.Deque;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.logging.ErrorManager;
 import java.util.logging.Formatter;
 import java.util.logging.Handler;
@@ -28,6 +33,7 @@ import java.util.logging.LogRecord;
 
 import org.jboss.logmanager.ExtHandler;
 import org.jboss.logmanager.ExtLogRecord;
+import org.jboss.logmanager.formatters.PatternFormatter;
 
 import io.smallrye.common.constraint.Assert;
 
@@ -35,17 +41,35 @@ import io.smallrye.common.constraint.Assert;
  * A queue handler which retains the last few messages logged. The handler can be used as-is to remember recent
  * messages, or one or more handlers may be nested, which allows this handler to "replay" messages to the child
  * handler(s) upon request.
+ * <p>
+ * The records are retained in an overwriting ring buffer. When there are no nested handlers, publishing a record does
+ * not take the handler lock, and capturing the queue never blocks publishers.
+ * </p>
  *
  * @author <a href="mailto:david.lloyd@redhat.com">David M. Lloyd</a>
  */
 public class QueueHandler extends ExtHandler {
-    private final Deque<ExtLogRecord> buffer = new ArrayDeque<ExtLogRecord>();
-    private int limit = 10;
+    private volatile Ring ring;
+    /**
+     * The ring position of the last replay. Records at a lower position were published before the handler was added
+     * and may have been replayed to it. Guarded by the lock.
+     */
+    private long replayBoundary;
+    /**
+     * The first ring position captured by the last replay. Guarded by the lock.
+     */
+    private long replayStart;
+    /**
+     * The positions, relative to the replay start, which the last replay could not capture because the record was
+     * overwritten, or {@code null} if none were missed. Guarded by the lock.
+     */
+    private BitSet replayMissed;
 
     /**
      * Construct a new instance with a default queue length.
      */
     public QueueHandler() {
+        ring = new Ring(10);
     }
 
     /**
@@ -57,7 +81,7 @@ public class QueueHandler extends ExtHandler {
         if (limit < 1) {
             throw badQueueLength();
         }
-        this.limit = limit;
+        ring = new Ring(limit);
     }
 
     public void publish(final ExtLogRecord record) {
@@ -77,23 +101,27 @@ public class QueueHandler extends ExtHandler {
         if (lock.isHeldByCurrentThread()) {
             return;
         }
+        if (handlers.length == 0) {
+            // lock-free path, nothing to publish to
+            final long position = isLoggable(record) ? prepareAndAdd(record) : -1L;
+            if (handlers.length == 0) {
+                return;
+            }
+            // a handler was added concurrently; publish unless the record was replayed to it
+            lock.lock();
+            try {
+                if (position == -1L || !replayed(position)) {
+                    publishToNestedHandlers(record);
+                }
+            } finally {
+                lock.unlock();
+            }
+            return;
+        }
         lock.lock();
         try {
             if (isLoggable(record)) {
-                // Determine if we need to calculate the caller information before we queue the record
-                if (isCallerCalculationRequired()) {
-                    // prepare record to move to another thread
-                    record.copyAll();
-                } else {
-                    // Disable the caller calculation since it's been determined we won't be using it
-                    record.disableCallerCalculation();
-                    // Copy the MDC over
-                    record.copyMdc();
-                }
-                if (buffer.size() == limit) {
-                    buffer.removeFirst();
-                }
-                buffer.addLast(record);
+                prepareAndAdd(record);
             }
             publishToNestedHandlers(record);
         } finally {
@@ -101,6 +129,28 @@ public class QueueHandler extends ExtHandler {
         }
     }
 
+    private boolean replayed(final long position) {
+        if (position >= replayBoundary || position < replayStart) {
+            return false;
+        }
+        final BitSet replayMissed = this.replayMissed;
+        return replayMissed == null || !replayMissed.get((int) (position - replayStart));
+    }
+
+    private long prepareAndAdd(final ExtLogRecord record) {
+        // Determine if we need to calculate the caller information before we queue the record
+        if (isCallerCalculationRequired()) {
+            // prepare record to move to another thread
+            record.copyAll();
+        } else {
+            // Disable the caller calculation since it's been determined we won't be using it
+            record.disableCallerCalculation();
+            // Copy the MDC over
+            record.copyMdc();
+        }
+        return ring.add(record);
+    }
+
     /**
      * Get the queue length limit. This is the number of messages that will be saved before old messages roll off
      * of the queue.
@@ -108,17 +158,16 @@ public class QueueHandler extends ExtHandler {
      * @return the queue length limit
      */
     public int getLimit() {
-        lock.lock();
-        try {
-            return limit;
-        } finally {
-            lock.unlock();
-        }
+        return ring.capacity;
     }
 
     /**
      * Set the queue length limit. This is the number of messages that will be saved before old messages roll off
      * of the queue.
+     * <p>
+     * The most recent records are retained up to the new limit. Records published while the limit is being changed
+     * may be lost.
+     * </p>
      *
      * @param limit the queue length limit
      */
@@ -128,7 +177,19 @@ public class QueueHandler extends ExtHandler {
         }
         lock.lock();
         try {
-            this.limit = limit;
+            final Ring oldRing = ring;
+            if (oldRing.capacity == limit) {
+                return;
+            }
+            final Ring newRing = new Ring(limit);
+            final ExtLogRecord[] records = oldRing.snapshot(oldRing.tail, null);
+            for (int i = Math.max(0, records.length - limit); i < records.length; i++) {
+                newRing.add(records[i]);
+            }
+            replayBoundary = 0L;
+            replayStart = 0L;
+            replayMissed = null;
+            ring = newRing;
         } finally {
             lock.unlock();
         }
@@ -153,7 +214,15 @@ public class QueueHandler extends ExtHandler {
             lock.lock();
             try {
                 super.addHandler(handler);
-                for (ExtLogRecord record : buffer) {
+                // the handler must be visible before the boundary is read, see doPublish
+                final Ring ring = this.ring;
+                final long boundary = ring.tail;
+                final BitSet missed = new BitSet();
+                final ExtLogRecord[] records = ring.snapshot(boundary, missed);
+                replayBoundary = boundary;
+                replayStart = ring.start(boundary);
+                replayMissed = missed.isEmpty() ? null : missed;
+                for (ExtLogRecord record : records) {
                     handler.publish(record);
                 }
             } finally {
@@ -170,12 +239,45 @@ public class QueueHandler extends ExtHandler {
      * @return the copy of the queue
      */
     public ExtLogRecord[] getQueue() {
-        lock.lock();
-        try {
-            return buffer.toArray(ExtLogRecord[]::new);
-        } finally {
-            lock.unlock();
-        }
+        final Ring ring = this.ring;
+        return ring.snapshot(ring.tail, null);
+    }
+
+    /**
+     * Get an unmodifiable snapshot of the queue as it is at an exact moment in time, oldest record first. Capturing
+     * the snapshot does not block threads publishing to this handler.
+     *
+     * @return the snapshot of the queue
+     */
+    public List<ExtLogRecord> getSnapshot() {
+        return Collections.unmodifiableList(Arrays.asList(getQueue()));
+    }
+
+    /**
+     * Get a snapshot of the queue as it is at an exact moment in time, rendering each record as a string only when it
+     * is retrieved from the returned list. Records which cannot be formatted are rendered as an empty string.
+     *
+     * @return the snapshot of the queue rendered lazily as strings
+     */
+    public List<String> getFormattedSnapshot() {
+        final ExtLogRecord[] queue = getQueue();
+        final Formatter formatter = getFormatterOrDefault();
+        return new AbstractList<String>() {
+            @Override
+            public String get(final int index) {
+                try {
+                    return formatter.format(queue[index]);
+                } catch (Exception ex) {
+                    reportError("Formatting error", ex, ErrorManager.FORMAT_FAILURE);
+                    return "";
+                }
+            }
+
+            @Override
+            public int size() {
+                return queue.length;
+            }
+        };
     }
 
     /**
@@ -187,13 +289,13 @@ public class QueueHandler extends ExtHandler {
         final ExtLogRecord[] queue = getQueue();
         final int length = queue.length;
         final String[] strings = new String[length];
-        final Formatter formatter = getFormatter();
+        final Formatter formatter = getFormatterOrDefault();
         for (int i = 0, j = 0; j < length; j++) {
             final String formatted;
             try {
                 formatted = formatter.format(queue[j]);
                 if (formatted.length() > 0) {
-                    strings[i++] = getFormatter().format(queue[j]);
+                    strings[i++] = formatted;
                 }
             } catch (Exception ex) {
                 reportError("Formatting error", ex, ErrorManager.FORMAT_FAILURE);
@@ -215,7 +317,104 @@ public class QueueHandler extends ExtHandler {
             }
     }
 
+    private Formatter getFormatterOrDefault() {
+        final Formatter formatter = getFormatter();
+        return formatter == null ? new PatternFormatter("%d{yyyy-MM-dd HH:mm:ss,SSS} %-5p [%c] (%t) %s%e%n") : formatter;
+    }
+
     private static IllegalArgumentException badQueueLength() {
         return new IllegalArgumentException("Queue length must be at least 1");
     }
+
+    /**
+     * An overwriting ring buffer. Each position is claimed with an atomic increment of the tail, and the entry records
+     * the position it was written for, so a reader can tell a current entry from a stale or overwritten one.
+     */
+    private static final class Ring {
+        private static final int MAX_SPINS = 1024;
+
+        private final AtomicReferenceArray<Entry> slots;
+        private final int capacity;
+        @SuppressWarnings("unused")
+        private volatile long tail;
+
+        private static final AtomicLongFieldUpdater<Ring> tailUpdater = AtomicLongFieldUpdater.newUpdater(Ring.class,
+                "tail");
+
+        Ring(final int capacity) {
+            this.capacity = capacity;
+            slots = new AtomicReferenceArray<>(capacity);
+        }
+
+        long add(final ExtLogRecord record) {
+            final long position = tailUpdater.getAndIncrement(this);
+            final int index = (int) (position % capacity);
+            final Entry entry = new Entry(position, record);
+            Entry current = slots.get(index);
+            // only replace an older entry, a slow publisher must not overwrite the record of a later position
+            while (current == null || current.position < position) {
+                if (slots.compareAndSet(index, current, entry)) {
+                    break;
+                }
+                current = slots.get(index);
+            }
+            return position;
+        }
+
+        /**
+         * Returns the first position a snapshot ending at the given position captures.
+         *
+         * @param end the position after the last record to capture
+         *
+         * @return the first position
+         */
+        long start(final long end) {
+            return Math.max(0L, end - capacity);
+        }
+
+        /**
+         * Captures the records at positions before the given end, oldest first.
+         *
+         * @param end    the position after the last record to capture
+         * @param missed if not {@code null}, the positions relative to the start which were overwritten before they
+         *               could be captured are set
+         *
+         * @return the captured records
+         */
+        ExtLogRecord[] snapshot(final long end, final BitSet missed) {
+            final long start = start(end);
+            final ExtLogRecord[] records = new ExtLogRecord[(int) (end - start)];
+            int count = 0;
+            for (long position = start; position < end; position++) {
+                final int index = (int) (position % capacity);
+                Entry entry = slots.get(index);
+                // the position has been claimed, wait for the publisher to write it, which it does without blocking
+                for (int spins = 0; entry == null || entry.position < position; spins++) {
+                    if (spins < MAX_SPINS) {
+                        Thread.onSpinWait();
+                    } else {
+                        Thread.yield();
+                    }
+                    entry = slots.get(index);
+                }
+                // a newer entry means the record has already been overwritten
+                if (entry.position == position) {
+                    records[count++] = entry.record;
+                } else if (missed != null) {
+                    missed.set((int) (position - start));
+                }
+            }
+            return count == records.length ? records : Arrays.copyOf(records, count);
+        }
+    }
+
+    private static final class Entry {
+        final long position;
+        final ExtLogRecord record;
+
+        Entry(final long position, final ExtLogRecord record) {
+            this.position = position;
+            this.record = record;
+        }
+    }
 }
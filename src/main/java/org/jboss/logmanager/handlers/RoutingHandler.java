@@ -0,0 +1,571 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logmanager.handlers;
+
+import java.io.FileNotFoundException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.logging.ErrorManager;
+import java.util.logging.Handler;
+
+import org.jboss.logmanager.ExtHandler;
+import org.jboss.logmanager.ExtLogRecord;
+
+/**
+ * A handler which routes each record to a child handler selected by a {@linkplain #setRouteKey(RouteKey) route key},
+ * such as the value of an MDC entry. Child handlers are created the first time a key is seen, either by a factory or
+ * as a file handler writing to a file named after the key. Records without a key are published to the nested
+ * handlers.
+ * <p>
+ * At most {@linkplain #setMaxHandlers(int) max handlers} child handlers are open at a time, the least recently used
+ * child handler is closed when the limit is exceeded. Child handlers which have not been used within the
+ * {@linkplain #setIdleTimeout(long) idle timeout} are closed in the background. A closed child handler is created
+ * again if its key is seen again, so file based child handlers should append to their files.
+ * </p>
+ * <p>
+ * Looking up an open child handler does not lock.
+ * </p>
+ */
+public class RoutingHandler extends ExtHandler {
+
+    private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+
+    /**
+     * The value a record is routed by.
+     */
+    public enum RouteKey {
+        /**
+         * The value of the {@linkplain #setMdcKey(String) MDC key}.
+         */
+        MDC,
+        /**
+         * The first {@linkplain #setLoggerPrefixSegments(int) segments} of the logger name.
+         */
+        LOGGER_PREFIX,
+    }
+
+    private final Function<String, ? extends Handler> factory;
+    private final ConcurrentHashMap<String, Route> routes = new ConcurrentHashMap<>();
+    // serializes the creation and eviction of routes, lookups do not lock
+    private final ReentrantLock routeLock = new ReentrantLock();
+    private volatile RouteKey routeKey = RouteKey.MDC;
+    private volatile String mdcKey;
+    private volatile int loggerPrefixSegments = 1;
+    private volatile String fileNamePattern;
+    private volatile long rotateSize;
+    private volatile int maxBackupIndex = 1;
+    private volatile int maxHandlers = 256;
+    private volatile long idleTimeout = TimeUnit.MINUTES.toMillis(5L);
+    // Guarded by routeLock
+    private ScheduledFuture<?> idleCheck;
+    private volatile boolean closed;
+
+    /**
+     * Creates a new routing handler which creates a file handler for each key using the
+     * {@linkplain #setFileNamePattern(String) file name pattern}.
+     */
+    public RoutingHandler() {
+        this(null);
+    }
+
+    /**
+     * Creates a new routing handler.
+     *
+     * @param factory the factory used to create the child handler for a key, or {@code null} to create a file
+     *                handler using the {@linkplain #setFileNamePattern(String) file name pattern}
+     */
+    public RoutingHandler(final Function<String, ? extends Handler> factory) {
+        this.factory = factory;
+    }
+
+    @Override
+    protected void doPublish(final ExtLogRecord record) {
+        final String key = getKey(record);
+        if (key == null) {
+            publishToNestedHandlers(record);
+            // only the nested handlers were written to, flushing the routes is left to the child handlers
+            if (isAutoFlush()) {
+                super.flush();
+            }
+            return;
+        }
+        final long now = System.currentTimeMillis();
+        for (;;) {
+            Route route = routes.get(key);
+            if (route == null) {
+                route = createRoute(key);
+                if (route == null) {
+                    return;
+                }
+            }
+            if (route.acquire()) {
+                try {
+                    if (route.lastUsed != now) {
+                        route.lastUsed = now;
+                    }
+                    route.handler.publish(record);
+                } catch (Exception e) {
+                    reportError("Routed handler publication threw an exception", e, ErrorManager.WRITE_FAILURE);
+                } finally {
+                    route.release();
+                }
+                return;
+            }
+            // the route was closed after it was looked up, retry with a new route
+        }
+    }
+
+    private String getKey(final ExtLogRecord record) {
+        if (routeKey == RouteKey.MDC) {
+            final String mdcKey = this.mdcKey;
+            return mdcKey == null ? null : record.getMdc(mdcKey);
+        }
+        final String loggerName = record.getLoggerName();
+        if (loggerName == null || loggerName.isEmpty()) {
+            return null;
+        }
+        int end = -1;
+        for (int i = loggerPrefixSegments; i > 0; i--) {
+            end = loggerName.indexOf('.', end + 1);
+            if (end == -1) {
+                return loggerName;
+            }
+        }
+        return loggerName.substring(0, end);
+    }
+
+    private Route createRoute(final String key) {
+        routeLock.lock();
+        try {
+            if (closed) {
+                return null;
+            }
+            Route route = routes.get(key);
+            if (route != null) {
+                return route;
+            }
+            final Handler handler;
+            try {
+                handler = createHandler(key);
+            } catch (Exception e) {
+                reportError(String.format("Failed to create the handler for route %s", key), e,
+                        ErrorManager.OPEN_FAILURE);
+                return null;
+            }
+            if (handler == null) {
+                return null;
+            }
+            route = new Route(handler);
+            routes.put(key, route);
+            evictLeastRecentlyUsed(route);
+            scheduleIdleCheck();
+            return route;
+        } finally {
+            routeLock.unlock();
+        }
+    }
+
+    private Handler createHandler(final String key) throws FileNotFoundException {
+        final Handler handler;
+        if (factory != null) {
+            handler = factory.apply(key);
+        } else {
+            final String fileNamePattern = this.fileNamePattern;
+            if (fileNamePattern == null) {
+                throw new IllegalStateException("A file name pattern or handler factory is required");
+            }
+            final String fileName = fileNamePattern.replace("%s", sanitize(key));
+            final long rotateSize = this.rotateSize;
+            final FileHandler fileHandler;
+            if (rotateSize > 0L) {
+                fileHandler = new SizeRotatingFileHandler(rotateSize, maxBackupIndex);
+            } else {
+                fileHandler = new FileHandler();
+            }
+            fileHandler.setFormatter(getFormatter());
+            fileHandler.setErrorManager(getErrorManager());
+            fileHandler.setCharset(getCharset());
+            fileHandler.setAutoFlush(isAutoFlush());
+            fileHandler.setAppend(true);
+            fileHandler.setFileName(fileName);
+            handler = fileHandler;
+        }
+        return handler;
+    }
+
+    private void evictLeastRecentlyUsed(final Route added) {
+        // only runs when a route is created, the table is small enough for a scan to be cheaper than an ordered map
+        while (routes.size() > maxHandlers) {
+            Map.Entry<String, Route> eldest = null;
+            for (Map.Entry<String, Route> entry : routes.entrySet()) {
+                final Route route = entry.getValue();
+                if (route != added && (eldest == null || route.lastUsed < eldest.getValue().lastUsed)) {
+                    eldest = entry;
+                }
+            }
+            if (eldest == null) {
+                return;
+            }
+            if (routes.remove(eldest.getKey(), eldest.getValue())) {
+                eldest.getValue().retire();
+            }
+        }
+    }
+
+    private void scheduleIdleCheck() {
+        final long idleTimeout = this.idleTimeout;
+        if (idleCheck == null && idleTimeout > 0L) {
+            final long period = Math.max(1L, idleTimeout / 2L);
+            idleCheck = IdleExecutorHolder.EXECUTOR.scheduleWithFixedDelay(this::closeIdle, period, period,
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void closeIdle() {
+        final long idleTimeout = this.idleTimeout;
+        if (idleTimeout <= 0L) {
+            return;
+        }
+        final long cutoff = System.currentTimeMillis() - idleTimeout;
+        routeLock.lock();
+        try {
+            routes.entrySet().removeIf(entry -> {
+                final Route route = entry.getValue();
+                if (route.lastUsed < cutoff) {
+                    route.retire();
+                    return true;
+                }
+                return false;
+            });
+        } finally {
+            routeLock.unlock();
+        }
+    }
+
+    /**
+     * Percent-encodes characters which could change the directory of the file. The encoding is reversible, so
+     * different keys never share a file.
+     */
+    private static String sanitize(final String key) {
+        final StringBuilder result = new StringBuilder(key.length());
+        final byte[] bytes = key.getBytes(StandardCharsets.UTF_8);
+        for (int i = 0; i < bytes.length; i++) {
+            final int b = bytes[i] & 0xff;
+            if ((b >= 'a' && b <= 'z') || (b >= 'A' && b <= 'Z') || (b >= '0' && b <= '9') || b == '-' || b == '_'
+                    || (b == '.' && i > 0)) {
+                result.append((char) b);
+            } else {
+                result.append('%').append(HEX[b >> 4]).append(HEX[b & 0xf]);
+            }
+        }
+        return result.toString();
+    }
+
+    /**
+     * Returns the number of open child handlers.
+     *
+     * @return the number of open child handlers
+     */
+    public int getRouteCount() {
+        return routes.size();
+    }
+
+    /**
+     * Returns the value records are routed by.
+     *
+     * @return the route key
+     */
+    public RouteKey getRouteKey() {
+        return routeKey;
+    }
+
+    /**
+     * Sets the value records are routed by.
+     *
+     * @param routeKey the route key
+     */
+    public void setRouteKey(final RouteKey routeKey) {
+        if (routeKey == null) {
+            throw new NullPointerException("routeKey is null");
+        }
+        checkAccess();
+        this.routeKey = routeKey;
+    }
+
+    /**
+     * Returns the MDC key used when routing by {@link RouteKey#MDC}.
+     *
+     * @return the MDC key
+     */
+    public String getMdcKey() {
+        return mdcKey;
+    }
+
+    /**
+     * Sets the MDC key used when routing by {@link RouteKey#MDC}.
+     *
+     * @param mdcKey the MDC key
+     */
+    public void setMdcKey(final String mdcKey) {
+        checkAccess();
+        this.mdcKey = mdcKey;
+    }
+
+    /**
+     * Returns the number of segments of the logger name used when routing by {@link RouteKey#LOGGER_PREFIX}.
+     *
+     * @return the number of segments
+     */
+    public int getLoggerPrefixSegments() {
+        return loggerPrefixSegments;
+    }
+
+    /**
+     * Sets the number of segments of the logger name used when routing by {@link RouteKey#LOGGER_PREFIX}. For
+     * example with two segments the records from {@code org.jboss.logmanager.Logger} are routed by
+     * {@code org.jboss}.
+     *
+     * @param loggerPrefixSegments the number of segments, must be greater than {@code 0}
+     */
+    public void setLoggerPrefixSegments(final int loggerPrefixSegments) {
+        if (loggerPrefixSegments <= 0) {
+            throw new IllegalArgumentException("The number of segments must be greater than 0");
+        }
+        checkAccess();
+        this.loggerPrefixSegments = loggerPrefixSegments;
+    }
+
+    /**
+     * Returns the pattern of the file names of the child handlers.
+     *
+     * @return the file name pattern
+     */
+    public String getFileNamePattern() {
+        return fileNamePattern;
+    }
+
+    /**
+     * Sets the pattern of the file names of the child handlers created when no factory is used. Each {@code %s} in
+     * the pattern is replaced with the key, with any character other than letters, digits, {@code -}, {@code _} and
+     * non-leading {@code .} percent-encoded, for example {@code a/b} is replaced with {@code a%2Fb}.
+     * <p>
+     * The child handlers use the formatter, encoding, error manager and auto flush setting of this handler at the time
+     * they are created.
+     * </p>
+     *
+     * @param fileNamePattern the file name pattern, for example {@code /var/log/tenants/%s.log}
+     */
+    public void setFileNamePattern(final String fileNamePattern) {
+        checkAccess();
+        this.fileNamePattern = fileNamePattern;
+    }
+
+    /**
+     * Returns the size at which the files of the child handlers are rotated.
+     *
+     * @return the rotate size, {@code 0} if the files are not rotated
+     */
+    public long getRotateSize() {
+        return rotateSize;
+    }
+
+    /**
+     * Sets the size at which the files of the child handlers are rotated. If greater than {@code 0} a
+     * {@link SizeRotatingFileHandler} is created for each key, otherwise a {@link FileHandler}.
+     *
+     * @param rotateSize the rotate size in bytes
+     */
+    public void setRotateSize(final long rotateSize) {
+        checkAccess();
+        this.rotateSize = rotateSize;
+    }
+
+    /**
+     * Returns the number of backups kept of the rotated files.
+     *
+     * @return the maximum backup index
+     */
+    public int getMaxBackupIndex() {
+        return maxBackupIndex;
+    }
+
+    /**
+     * Sets the number of backups kept of the rotated files.
+     *
+     * @param maxBackupIndex the maximum backup index
+     */
+    public void setMaxBackupIndex(final int maxBackupIndex) {
+        checkAccess();
+        this.maxBackupIndex = maxBackupIndex;
+    }
+
+    /**
+     * Returns the maximum number of open child handlers.
+     *
+     * @return the maximum number of open child handlers
+     */
+    public int getMaxHandlers() {
+        return maxHandlers;
+    }
+
+    /**
+     * Sets the maximum number of open child handlers. The default is {@code 256}.
+     *
+     * @param maxHandlers the maximum number of open child handlers, must be greater than {@code 0}
+     */
+    public void setMaxHandlers(final int maxHandlers) {
+        if (maxHandlers <= 0) {
+            throw new IllegalArgumentException("The maximum number of handlers must be greater than 0");
+        }
+        checkAccess();
+        this.maxHandlers = maxHandlers;
+    }
+
+    /**
+     * Returns the time in milliseconds after which an unused child handler is closed.
+     *
+     * @return the idle timeout, {@code 0} if idle child handlers are not closed
+     */
+    public long getIdleTimeout() {
+        return idleTimeout;
+    }
+
+    /**
+     * Sets the time in milliseconds after which an unused child handler is closed. The default is five minutes.
+     *
+     * @param idleTimeout the idle timeout, {@code 0} or less to keep child handlers open until they are evicted
+     */
+    public void setIdleTimeout(final long idleTimeout) {
+        checkAccess();
+        routeLock.lock();
+        try {
+            this.idleTimeout = idleTimeout;
+            // reschedule with the new period
+            if (idleCheck != null) {
+                idleCheck.cancel(false);
+                idleCheck = null;
+            }
+            if (!routes.isEmpty()) {
+                scheduleIdleCheck();
+            }
+        } finally {
+            routeLock.unlock();
+        }
+    }
+
+    @Override
+    public void flush() {
+        for (Route route : routes.values()) {
+            if (route.acquire()) {
+                try {
+                    route.handler.flush();
+                } finally {
+                    route.release();
+                }
+            }
+        }
+        super.flush();
+    }
+
+    @Override
+    public void close() throws SecurityException {
+        checkAccess();
+        routeLock.lock();
+        try {
+            closed = true;
+            if (idleCheck != null) {
+                idleCheck.cancel(false);
+                idleCheck = null;
+            }
+            routes.values().removeIf(route -> {
+                route.retire();
+                return true;
+            });
+        } finally {
+            routeLock.unlock();
+        }
+        super.close();
+    }
+
+    /**
+     * A child handler. The handler is closed once it has been retired and is no longer being published to.
+     */
+    private static final class Route {
+        private static final int RETIRED = Integer.MIN_VALUE;
+
+        private final Handler handler;
+        // the number of publishers, with the RETIRED bit set once the route has been removed
+        private final AtomicInteger state = new AtomicInteger();
+        private volatile long lastUsed = System.currentTimeMillis();
+
+        private Route(final Handler handler) {
+            this.handler = handler;
+        }
+
+        boolean acquire() {
+            for (;;) {
+                final int state = this.state.get();
+                if ((state & RETIRED) != 0) {
+                    return false;
+                }
+                if (this.state.compareAndSet(state, state + 1)) {
+                    return true;
+                }
+            }
+        }
+
+        void release() {
+            if (state.decrementAndGet() == RETIRED) {
+                close();
+            }
+        }
+
+        void retire() {
+            if (state.getAndUpdate(s -> s | RETIRED) == 0) {
+                close();
+            }
+        }
+
+        private void close() {
+            try {
+                handler.close();
+            } catch (Exception ignore) {
+            }
+        }
+    }
+
+    private static final class IdleExecutorHolder {
+        // created on first use, the thread does not hold on to the class loader of the first handler which schedules
+        static final ScheduledExecutorService EXECUTOR = Executors.newSingleThreadScheduledExecutor(r -> {
+            final Thread thread = new Thread(r, "Log route idle check");
+            thread.setDaemon(true);
+            thread.setContextClassLoader(null);
+            return thread;
+        });
+    }
+}
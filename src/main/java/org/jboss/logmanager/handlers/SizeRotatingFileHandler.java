@@ -30,6 +30,7 @@ import java.security.PrivilegedAction;
 import java.util.logging.ErrorManager;
 
 import org.jboss.logmanager.ExtLogRecord;
+import org.jboss.logmanager.HandlerMetrics;
 
 public class SizeRotatingFileHandler extends FileHandler {
     private final AccessControlContext acc = AccessController.getContext();
@@ -272,11 +273,16 @@ public class SizeRotatingFileHandler extends FileHandler {
                     // no file is set; a direct output stream or writer was specified
                     return;
                 }
+                final HandlerMetrics metrics = getMetrics();
+                final long start = metrics == null ? 0L : System.nanoTime();
                 // close the old file.
                 setFileInternal(null, true);
                 suffixRotator.rotate(SecurityActions.getErrorManager(acc, this), file.toPath(), maxBackupIndex);
                 // start with new file.
                 setFileInternal(file, true);
+                if (metrics != null) {
+                    metrics.recordRotation(System.nanoTime() - start);
+                }
             } catch (IOException e) {
                 reportError("Unable to rotate log file", e, ErrorManager.OPEN_FAILURE);
             }
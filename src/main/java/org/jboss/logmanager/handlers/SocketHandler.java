@@ -63,9 +63,30 @@ public class SocketHandler extends ExtHandler {
         SSL_TCP,
     }
 
+    /**
+     * The format records are written in
+     */
+    public enum WireFormat {
+        /**
+         * Records are formatted with the {@linkplain #getFormatter() formatter} and written as text
+         */
+        TEXT,
+        /**
+         * Records are written in a compact binary format which can be read by a {@link SocketReceiver}. The
+         * formatter is not used, however the caller information is only sent if the formatter
+         * {@linkplain #isCallerCalculationRequired() requires it}. Only {@linkplain Protocol#TCP TCP} and
+         * {@linkplain Protocol#SSL_TCP SSL TCP} connections are supported.
+         */
+        BINARY,
+    }
+
     @SuppressWarnings("WeakerAccess")
     public static final int DEFAULT_PORT = 4560;
 
+    // the number of times a binary record is encoded before it is discarded, a record is only encoded again if the
+    // connection changed while it was being written
+    private static final int MAX_BINARY_ATTEMPTS = 2;
+
     // All the following fields are guarded by outputLock
     private ClientSocketFactory clientSocketFactory;
     private SocketFactory socketFactory;
@@ -75,6 +96,10 @@ public class SocketHandler extends ExtHandler {
     private boolean blockOnReconnect;
     private Writer writer;
     private boolean initialize;
+    private volatile WireFormat wireFormat = WireFormat.TEXT;
+    private TcpOutputStream binaryOutput;
+    private BinaryRecordEncoder encoder;
+    private long binaryConnection;
 
     /**
      * Creates a socket handler with an address of {@linkplain InetAddress#getLocalHost() localhost} and port
@@ -198,6 +223,10 @@ public class SocketHandler extends ExtHandler {
         if (lock.isHeldByCurrentThread()) {
             return;
         }
+        if (wireFormat == WireFormat.BINARY) {
+            publishBinary(record);
+            return;
+        }
         final String formatted;
         final Formatter formatter = getFormatter();
         try {
@@ -230,11 +259,46 @@ public class SocketHandler extends ExtHandler {
         }
     }
 
+    private void publishBinary(final ExtLogRecord record) {
+        try {
+            lock.lock();
+            try {
+                if (initialize) {
+                    initialize();
+                    initialize = false;
+                }
+                final TcpOutputStream out = binaryOutput;
+                if (out == null) {
+                    return;
+                }
+                final boolean includeCaller = isCallerCalculationRequired();
+                for (int attempt = 0; attempt < MAX_BINARY_ATTEMPTS; attempt++) {
+                    // the receiver starts a new dictionary for each connection
+                    final long connection = out.getConnection();
+                    if (connection != binaryConnection) {
+                        encoder.reset();
+                        binaryConnection = connection;
+                    }
+                    encoder.encode(record, includeCaller);
+                    if (out.write(encoder.getBuffer(), encoder.getOffset(), encoder.getLength(), connection)) {
+                        super.doPublish(record);
+                        return;
+                    }
+                }
+            } finally {
+                lock.unlock();
+            }
+        } catch (Exception e) {
+            reportError("Error writing log message", e, ErrorManager.WRITE_FAILURE);
+        }
+    }
+
     @Override
     public void flush() {
         lock.lock();
         try {
             safeFlush(writer);
+            safeFlush(binaryOutput);
         } finally {
             lock.unlock();
         }
@@ -248,6 +312,8 @@ public class SocketHandler extends ExtHandler {
         try {
             safeClose(writer);
             writer = null;
+            safeClose(binaryOutput);
+            binaryOutput = null;
             initialize = true;
         } finally {
             lock.unlock();
@@ -336,6 +402,35 @@ public class SocketHandler extends ExtHandler {
         }
     }
 
+    /**
+     * Returns the format records are written in.
+     *
+     * @return the wire format
+     */
+    public WireFormat getWireFormat() {
+        return wireFormat;
+    }
+
+    /**
+     * Sets the format records are written in. If the value is {@code null} the wire format will be set to
+     * {@linkplain WireFormat#TEXT text}.
+     *
+     * @param wireFormat the wire format to use
+     */
+    public void setWireFormat(final WireFormat wireFormat) {
+        checkAccess();
+        lock.lock();
+        try {
+            final WireFormat newFormat = wireFormat == null ? WireFormat.TEXT : wireFormat;
+            if (this.wireFormat != newFormat) {
+                initialize = true;
+            }
+            this.wireFormat = newFormat;
+        } finally {
+            lock.unlock();
+        }
+    }
+
     /**
      * Returns the protocol being used.
      *
@@ -454,6 +549,21 @@ public class SocketHandler extends ExtHandler {
             }
             // Close the current writer before we attempt to create a new connection
             safeClose(current);
+            safeClose(binaryOutput);
+            binaryOutput = null;
+            if (wireFormat == WireFormat.BINARY) {
+                writer = null;
+                okay = true;
+                if (protocol == Protocol.UDP) {
+                    reportError("The binary wire format requires a TCP connection", null, ErrorManager.OPEN_FAILURE);
+                    return;
+                }
+                binaryOutput = (TcpOutputStream) createOutputStream();
+                encoder = new BinaryRecordEncoder();
+                // a connection of 0 is never used, the encoder is reset on the first record
+                binaryConnection = 0L;
+                return;
+            }
             final OutputStream out = createOutputStream();
             if (out == null) {
                 return;
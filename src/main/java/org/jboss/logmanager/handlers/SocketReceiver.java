@@ -0,0 +1,267 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logmanager.handlers;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+
+import org.jboss.logmanager.ExtLogRecord;
+import org.jboss.logmanager.LogContext;
+import org.jboss.logmanager.Logger;
+import org.jboss.logmanager.StandardOutputStreams;
+
+/**
+ * Receives records sent by a {@link SocketHandler} using the {@linkplain SocketHandler.WireFormat#BINARY binary wire
+ * format} and logs them to the logger with the same name in a log context. Each received record is only logged if
+ * the level of the record is {@linkplain Logger#isLoggable(java.util.logging.Level) loggable} by the logger.
+ * <p>
+ * All connections are served by a single daemon thread using non-blocking I/O.
+ * </p>
+ */
+public final class SocketReceiver implements AutoCloseable {
+    private static final int INITIAL_BUFFER_SIZE = 8192;
+    private static final int MAX_BUFFER_SIZE = BinaryRecordFormat.MAX_FRAME_SIZE + BinaryRecordFormat.HEADER_SIZE + 5;
+
+    private final LogContext logContext;
+    private final InetSocketAddress bindAddress;
+    // All the following fields are guarded by this
+    private Selector selector;
+    private ServerSocketChannel server;
+    private Thread thread;
+    private volatile boolean closed;
+
+    /**
+     * Creates a new receiver which logs to the {@linkplain LogContext#getLogContext() current} log context.
+     *
+     * @param bindAddress the address to listen on
+     */
+    public SocketReceiver(final InetSocketAddress bindAddress) {
+        this(LogContext.getLogContext(), bindAddress);
+    }
+
+    /**
+     * Creates a new receiver.
+     *
+     * @param logContext  the log context to log the received records to
+     * @param bindAddress the address to listen on, a port of {@code 0} uses an ephemeral port
+     */
+    public SocketReceiver(final LogContext logContext, final InetSocketAddress bindAddress) {
+        this.logContext = logContext;
+        this.bindAddress = bindAddress;
+    }
+
+    /**
+     * Starts listening for connections.
+     *
+     * @throws IOException           if the address could not be bound
+     * @throws IllegalStateException if the receiver has already been started
+     */
+    public synchronized void start() throws IOException {
+        if (thread != null || closed) {
+            throw new IllegalStateException("The receiver has already been started");
+        }
+        final Selector selector = Selector.open();
+        final ServerSocketChannel server;
+        try {
+            server = ServerSocketChannel.open();
+            try {
+                server.bind(bindAddress);
+                server.configureBlocking(false);
+                server.register(selector, SelectionKey.OP_ACCEPT);
+            } catch (IOException | RuntimeException e) {
+                safeClose(server);
+                throw e;
+            }
+        } catch (IOException | RuntimeException e) {
+            safeClose(selector);
+            throw e;
+        }
+        this.selector = selector;
+        this.server = server;
+        final Thread thread = new Thread(this::run, "Log socket receiver " + bindAddress);
+        thread.setDaemon(true);
+        this.thread = thread;
+        thread.start();
+    }
+
+    /**
+     * Returns the address the receiver is listening on.
+     *
+     * @return the address or {@code null} if the receiver has not been started
+     *
+     * @throws IOException if the address could not be determined
+     */
+    public synchronized InetSocketAddress getLocalAddress() throws IOException {
+        return server == null ? null : (InetSocketAddress) server.getLocalAddress();
+    }
+
+    /**
+     * Stops listening and closes all connections. Any records already received are logged before this method returns.
+     */
+    @Override
+    public void close() {
+        final Thread thread;
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            thread = this.thread;
+            if (thread == null) {
+                return;
+            }
+            selector.wakeup();
+        }
+        if (thread != Thread.currentThread()) {
+            boolean interrupted = false;
+            try {
+                for (;;) {
+                    try {
+                        thread.join();
+                        break;
+                    } catch (InterruptedException e) {
+                        interrupted = true;
+                    }
+                }
+            } finally {
+                if (interrupted) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+
+    private void run() {
+        final Selector selector = this.selector;
+        try {
+            while (!closed) {
+                selector.select();
+                final Iterator<SelectionKey> iterator = selector.selectedKeys().iterator();
+                while (iterator.hasNext()) {
+                    final SelectionKey key = iterator.next();
+                    iterator.remove();
+                    if (!key.isValid()) {
+                        continue;
+                    }
+                    if (key.isAcceptable()) {
+                        accept(selector);
+                    } else if (key.isReadable()) {
+                        read(key);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            StandardOutputStreams.printError(e, "The log socket receiver on %s failed%n", bindAddress);
+        } finally {
+            for (SelectionKey key : selector.keys()) {
+                safeClose(key.channel());
+            }
+            safeClose(selector);
+        }
+    }
+
+    private void accept(final Selector selector) throws IOException {
+        final SocketChannel channel = server.accept();
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.configureBlocking(false);
+            channel.register(selector, SelectionKey.OP_READ, new Connection(new BinaryRecordDecoder(logContext)));
+        } catch (IOException e) {
+            StandardOutputStreams.printError(e, "Failed to accept a log connection");
+            safeClose(channel);
+        }
+    }
+
+    private void read(final SelectionKey key) {
+        final SocketChannel channel = (SocketChannel) key.channel();
+        final Connection connection = (Connection) key.attachment();
+        try {
+            ByteBuffer buffer = connection.buffer;
+            if (!buffer.hasRemaining()) {
+                // the frame is larger than the buffer, the decoder rejects frames larger than the maximum size
+                final ByteBuffer larger = ByteBuffer
+                        .allocate(Math.min(buffer.capacity() << 1, MAX_BUFFER_SIZE));
+                buffer.flip();
+                larger.put(buffer);
+                connection.buffer = buffer = larger;
+            }
+            final int read = channel.read(buffer);
+            buffer.flip();
+            try {
+                ExtLogRecord record;
+                while ((record = connection.decoder.decode(buffer)) != null) {
+                    publish(record);
+                }
+            } finally {
+                buffer.compact();
+            }
+            if (read < 0) {
+                if (buffer.position() > 0) {
+                    StandardOutputStreams.printError("A log connection was closed with an incomplete record");
+                }
+                key.cancel();
+                safeClose(channel);
+            }
+        } catch (IOException e) {
+            StandardOutputStreams.printError(e, "Closing a log connection which failed");
+            key.cancel();
+            safeClose(channel);
+        }
+    }
+
+    private void publish(final ExtLogRecord record) {
+        final String name = record.getLoggerName();
+        final Logger logger = logContext.getLogger(name == null ? "" : name);
+        try {
+            if (logger.isLoggable(record.getLevel())) {
+                logger.logRaw(record);
+            }
+        } catch (RuntimeException e) {
+            StandardOutputStreams.printError(e, "Failed to log a received record");
+        }
+    }
+
+    private static void safeClose(final Closeable closeable) {
+        try {
+            if (closeable != null) {
+                closeable.close();
+            }
+        } catch (Throwable ignore) {
+        }
+    }
+
+    private static final class Connection {
+        private final BinaryRecordDecoder decoder;
+        private ByteBuffer buffer = ByteBuffer.allocate(INITIAL_BUFFER_SIZE);
+
+        private Connection(final BinaryRecordDecoder decoder) {
+            this.decoder = decoder;
+        }
+    }
+}
@@ -24,6 +24,7 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -34,11 +35,15 @@ import java.security.PrivilegedAction;
 import java.text.SimpleDateFormat;
 import java.util.Date;
 import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.ErrorManager;
 import java.util.zip.GZIPOutputStream;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 
+import org.jboss.logmanager.jfr.JfrSupport;
+import org.jboss.logmanager.jfr.RotationEvent;
+
 /**
  * A utility for rotating files based on a files suffix.
  *
@@ -60,6 +65,8 @@ class SuffixRotator {
      */
     static final SuffixRotator EMPTY = new SuffixRotator(AccessController.getContext(), "", "", "", CompressionType.NONE);
 
+    private static final AtomicLong stagingSequence = new AtomicLong();
+
     private final AccessControlContext acc;
     private final String originalSuffix;
     private final String datePattern;
@@ -159,28 +166,67 @@ class SuffixRotator {
      * @param suffix       the suffix to append to the rotated file.
      */
     void rotate(final ErrorManager errorManager, final Path source, final String suffix) {
-        final Path target = Paths.get(source + suffix + compressionSuffix);
+        rotate(errorManager, source, source, suffix);
+    }
+
+    /**
+     * Rotates the file to a new file appending the suffix to the base file name.
+     * <p>
+     * This is used when the file to be rotated has already been {@linkplain #stage(ErrorManager, Path) staged} and its
+     * name no longer matches the name the rotated file is derived from.
+     * </p>
+     *
+     * @param errorManager the error manager used to report errors to
+     * @param source       the file to be rotated
+     * @param base         the file the name of the rotated file is derived from
+     * @param suffix       the suffix to append to the rotated file.
+     */
+    void rotate(final ErrorManager errorManager, final Path source, final Path base, final String suffix) {
+        final Path target = Paths.get(base + suffix + compressionSuffix);
+        if (JfrSupport.AVAILABLE) {
+            final RotationEvent event = new RotationEvent();
+            if (event.isEnabled()) {
+                event.begin();
+                final boolean succeeded = archive(errorManager, source, target, base);
+                event.end();
+                if (event.shouldCommit()) {
+                    event.source = source.toString();
+                    event.target = target.toString();
+                    event.compression = compressionType.name();
+                    event.succeeded = succeeded;
+                    event.commit();
+                }
+                return;
+            }
+        }
+        archive(errorManager, source, target, base);
+    }
+
+    private boolean archive(final ErrorManager errorManager, final Path source, final Path target, final Path base) {
         if (compressionType == CompressionType.GZIP) {
             try {
                 archiveGzip(source, target);
                 // Delete the file after it's archived to behave like a file move or rename
                 deleteFile(source);
+                return true;
             } catch (Exception e) {
                 errorManager.error(String.format("Failed to compress %s to %s. Compressed file may be left on the " +
                         "filesystem corrupted.", source, target), e, ErrorManager.WRITE_FAILURE);
+                return false;
             }
         } else if (compressionType == CompressionType.ZIP) {
             try {
-                archiveZip(source, target);
+                archiveZip(source, target, base.getFileName().toString());
                 // Delete the file after it's archived to behave like a file move or rename
                 deleteFile(source);
+                return true;
             } catch (Exception e) {
                 errorManager.error(String.format("Failed to compress %s to %s. Compressed file may be left on the " +
                         "filesystem corrupted.", source, target), e, ErrorManager.WRITE_FAILURE);
+                return false;
             }
-        } else {
-            move(errorManager, source, target);
         }
+        return move(errorManager, source, target);
     }
 
     /**
@@ -222,9 +268,27 @@ class SuffixRotator {
      * @param maxBackupIndex the number of backups to keep
      */
     void rotate(final ErrorManager errorManager, final Path source, final String suffix, final int maxBackupIndex) {
+        rotate(errorManager, source, source, suffix, maxBackupIndex);
+    }
+
+    /**
+     * Rotates the file to a new file appending the suffix to the base file name.
+     * <p>
+     * If the {@code maxBackupIndex} is greater than 0 previously rotated files will be moved to an numerically
+     * incremented target. The compression suffix, if required, will be appended to this indexed file name.
+     * </p>
+     *
+     * @param errorManager   the error manager used to report errors to
+     * @param source         the file to be rotated
+     * @param base           the file the names of the rotated files are derived from
+     * @param suffix         the optional suffix to append to the file before the index and optional compression suffix
+     * @param maxBackupIndex the number of backups to keep
+     */
+    void rotate(final ErrorManager errorManager, final Path source, final Path base, final String suffix,
+            final int maxBackupIndex) {
         if (maxBackupIndex > 0) {
             final String rotationSuffix = (suffix == null ? "" : suffix);
-            final String fileWithSuffix = source.toAbsolutePath() + rotationSuffix;
+            final String fileWithSuffix = base.toAbsolutePath() + rotationSuffix;
             final Path lastFile = Paths.get(fileWithSuffix + "." + maxBackupIndex + compressionSuffix);
             try {
                 deleteFile(lastFile);
@@ -238,9 +302,51 @@ class SuffixRotator {
                     move(errorManager, src, target);
                 }
             }
-            rotate(errorManager, source, rotationSuffix + ".1");
+            rotate(errorManager, source, base, rotationSuffix + ".1");
         } else if (suffix != null && !suffix.isEmpty()) {
-            rotate(errorManager, source, suffix);
+            rotate(errorManager, source, base, suffix);
+        }
+    }
+
+    /**
+     * Moves the file to a unique staging name in the same directory so a new file can be opened in its place while
+     * the rotation is completed later.
+     *
+     * @param errorManager the error manager used to report errors to
+     * @param source       the file to be staged
+     *
+     * @return the staged file or {@code null} if the file could not be moved
+     */
+    Path stage(final ErrorManager errorManager, final Path source) {
+        final Path target = Paths.get(source + ".rotating-" + stagingSequence.incrementAndGet());
+        return move(errorManager, source, target) ? target : null;
+    }
+
+    /**
+     * Deletes the files {@linkplain #stage(ErrorManager, Path) staged} for the file which were left behind by a
+     * rotation which did not complete, for example because the process stopped.
+     *
+     * @param errorManager the error manager used to report errors to
+     * @param file         the file the staged files were created for
+     */
+    void deleteStaged(final ErrorManager errorManager, final Path file) {
+        final Path parent = file.toAbsolutePath().getParent();
+        if (parent == null) {
+            return;
+        }
+        final String prefix = file.getFileName() + ".rotating-";
+        try (DirectoryStream<Path> staged = Files.newDirectoryStream(parent,
+                path -> path.getFileName().toString().startsWith(prefix))) {
+            for (Path path : staged) {
+                try {
+                    deleteFile(path);
+                } catch (Exception e) {
+                    errorManager.error(String.format("Failed to delete file %s", path), e, ErrorManager.GENERIC_FAILURE);
+                }
+            }
+        } catch (Exception e) {
+            errorManager.error(String.format("Failed to find the staged files of %s", file), e,
+                    ErrorManager.GENERIC_FAILURE);
         }
     }
 
@@ -249,18 +355,19 @@ class SuffixRotator {
         return originalSuffix;
     }
 
-    private void move(final ErrorManager errorManager, final Path src, final Path target) {
+    private boolean move(final ErrorManager errorManager, final Path src, final Path target) {
         if (System.getSecurityManager() == null) {
             try {
                 Files.move(src, target, StandardCopyOption.REPLACE_EXISTING);
+                return true;
             } catch (Exception e) {
                 // Report the error, but allow the rotation to continue
                 errorManager.error(String.format("Failed to move file %s to %s.", src, target), e,
                         ErrorManager.GENERIC_FAILURE);
+                return false;
             }
-        } else {
-            AccessController.doPrivileged(new MoveFileAction(errorManager, src, target), acc);
         }
+        return AccessController.doPrivileged(new MoveFileAction(errorManager, src, target), acc) != null;
     }
 
     private void archiveGzip(final Path source, final Path target) throws IOException {
@@ -276,10 +383,10 @@ class SuffixRotator {
         }
     }
 
-    private void archiveZip(final Path source, final Path target) throws IOException {
+    private void archiveZip(final Path source, final Path target, final String entryName) throws IOException {
         final byte[] buff = new byte[512];
         try (final ZipOutputStream out = new ZipOutputStream(newOutputStream(target), StandardCharsets.UTF_8)) {
-            final ZipEntry entry = new ZipEntry(source.getFileName().toString());
+            final ZipEntry entry = new ZipEntry(entryName);
             out.putNextEntry(entry);
             try (final InputStream in = newInputStream(source)) {
                 int len;
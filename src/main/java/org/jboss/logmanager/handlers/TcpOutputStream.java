@@ -37,6 +37,9 @@ import java.util.concurrent.locks.ReentrantLock;
 
 import javax.net.SocketFactory;
 
+import org.jboss.logmanager.jfr.JfrSupport;
+import org.jboss.logmanager.jfr.ReconnectEvent;
+
 /**
  * An output stream that writes data to a {@link Socket socket}.
  * <p/>
@@ -68,6 +71,8 @@ public class TcpOutputStream extends OutputStream implements AutoCloseable, Flus
     private Socket socket;
     // Guarded by outputLock
     private boolean connected;
+    // Guarded by outputLock, incremented each time a socket is connected
+    private long connection;
 
     /**
      * Creates a TCP output stream.
@@ -117,6 +122,7 @@ public class TcpOutputStream extends OutputStream implements AutoCloseable, Flus
         this.socket = socket;
         reconnectThread = null;
         connected = true;
+        connection = 1L;
     }
 
     /**
@@ -168,6 +174,7 @@ public class TcpOutputStream extends OutputStream implements AutoCloseable, Flus
         try {
             socket = this.socketFactory.createSocket();
             connected = true;
+            connection = 1L;
         } catch (IOException e) {
             connected = false;
         }
@@ -192,23 +199,58 @@ public class TcpOutputStream extends OutputStream implements AutoCloseable, Flus
                 socket.getOutputStream().write(b, off, len);
             }
         } catch (SocketException e) {
-            if (isReconnectAllowed()) {
-                // Close the previous socket
-                safeClose(socket);
-                connected = false;
-                addError(e);
-                // Handle the reconnection
-                reconnectThread = createThread();
-                if (blockOnReconnect) {
-                    reconnectThread.run();
-                    // We should be reconnected, try to write again
-                    write(b, off, len);
-                } else {
-                    reconnectThread.start();
-                }
-            } else {
-                throw e;
+            if (reconnect(e)) {
+                // We should be reconnected, try to write again
+                write(b, off, len);
+            }
+        } finally {
+            outputLock.unlock();
+        }
+    }
+
+    /**
+     * Returns the current connection. The value changes each time the stream connects, which allows a writer which
+     * keeps state for the lifetime of a connection to detect a reconnect.
+     *
+     * @return the current connection
+     */
+    long getConnection() {
+        outputLock.lock();
+        try {
+            return connection;
+        } finally {
+            outputLock.unlock();
+        }
+    }
+
+    /**
+     * Writes the bytes only if the stream has not reconnected since the {@linkplain #getConnection() connection} was
+     * retrieved. As with {@link #write(byte[], int, int)} the bytes are discarded if the stream is not connected.
+     *
+     * @param b          the bytes to write
+     * @param off        the offset of the first byte
+     * @param len        the number of bytes to write
+     * @param connection the connection the bytes were prepared for
+     *
+     * @return {@code true} if the bytes were written or discarded, {@code false} if the stream has reconnected and the
+     *         bytes should be prepared again for the new connection
+     *
+     * @throws IOException if an error occurs writing the bytes
+     */
+    boolean write(final byte[] b, final int off, final int len, final long connection) throws IOException {
+        outputLock.lock();
+        try {
+            checkReconnect();
+            if (this.connection != connection) {
+                return false;
             }
+            if (connected) {
+                socket.getOutputStream().write(b, off, len);
+            }
+            return true;
+        } catch (SocketException e) {
+            // if the reconnect blocked the bytes need to be prepared again for the new connection
+            return !reconnect(e);
         } finally {
             outputLock.unlock();
         }
@@ -327,6 +369,35 @@ public class TcpOutputStream extends OutputStream implements AutoCloseable, Flus
         }
     }
 
+    /**
+     * Closes the failed socket and reconnects if allowed. Invocations of this method must be locked by the
+     * {@link #outputLock}.
+     *
+     * @param e the failure
+     *
+     * @return {@code true} if the stream blocked until it was reconnected, {@code false} if the reconnect is being
+     *         attempted asynchronously
+     *
+     * @throws SocketException the failure if a reconnect is not allowed
+     */
+    private boolean reconnect(final SocketException e) throws SocketException {
+        if (isReconnectAllowed()) {
+            // Close the previous socket
+            safeClose(socket);
+            connected = false;
+            addError(e);
+            // Handle the reconnection
+            reconnectThread = createThread();
+            if (blockOnReconnect) {
+                reconnectThread.run();
+                return true;
+            }
+            reconnectThread.start();
+            return false;
+        }
+        throw e;
+    }
+
     /**
      * Invocations of this method must be locked by the {@link #outputLock}.
      */
@@ -369,6 +440,28 @@ public class TcpOutputStream extends OutputStream implements AutoCloseable, Flus
 
         @Override
         public void run() {
+            if (JfrSupport.AVAILABLE) {
+                final ReconnectEvent event = new ReconnectEvent();
+                if (event.isEnabled()) {
+                    event.begin();
+                    final boolean connected = reconnect();
+                    event.end();
+                    if (event.shouldCommit()) {
+                        if (socketFactory != null) {
+                            event.address = String.valueOf(socketFactory.getAddress());
+                            event.port = socketFactory.getPort();
+                        }
+                        event.attempts = connected ? attempts + 1 : attempts;
+                        event.connected = connected;
+                        event.commit();
+                    }
+                    return;
+                }
+            }
+            reconnect();
+        }
+
+        private boolean reconnect() {
             boolean connected = false;
             while (socketFactory != null && !connected) {
                 Socket socket = null;
@@ -383,6 +476,7 @@ public class TcpOutputStream extends OutputStream implements AutoCloseable, Flus
                         } else {
                             TcpOutputStream.this.socket = socket;
                             TcpOutputStream.this.connected = true;
+                            TcpOutputStream.this.connection++;
                             TcpOutputStream.this.reconnectThread = null;
                             connected = true;
                         }
@@ -417,6 +511,7 @@ public class TcpOutputStream extends OutputStream implements AutoCloseable, Flus
                     }
                 }
             }
+            return connected;
         }
     }
 }
@@ -30,6 +30,10 @@ import java.util.logging.Formatter;
 
 import org.jboss.logmanager.ExtHandler;
 import org.jboss.logmanager.ExtLogRecord;
+import org.jboss.logmanager.HandlerMetrics;
+import org.jboss.logmanager.jfr.FlushEvent;
+import org.jboss.logmanager.jfr.JfrSupport;
+import org.jboss.logmanager.jfr.WriteEvent;
 
 /**
  * A handler which writes to any {@code Writer}.
@@ -64,8 +68,26 @@ public class WriterHandler extends ExtHandler {
             // nothing to write; don't bother
             return;
         }
+        if (JfrSupport.AVAILABLE) {
+            final WriteEvent event = new WriteEvent();
+            if (event.isEnabled()) {
+                event.begin();
+                write(record, formatted);
+                event.end();
+                if (event.shouldCommit()) {
+                    event.handler = getClass();
+                    event.length = formatted.length();
+                    event.commit();
+                }
+                return;
+            }
+        }
+        write(record, formatted);
+    }
+
+    private void write(final ExtLogRecord record, final String formatted) {
         try {
-            lock.lock();
+            lockForWrite();
             try {
                 if (writer == null) {
                     return;
@@ -87,6 +109,17 @@ public class WriterHandler extends ExtHandler {
         }
     }
 
+    private void lockForWrite() {
+        final HandlerMetrics metrics = getMetrics();
+        if (metrics == null) {
+            lock.lock();
+        } else if (!lock.tryLock()) {
+            final long start = System.nanoTime();
+            lock.lock();
+            metrics.recordLockWait(System.nanoTime() - start);
+        }
+    }
+
     /**
      * Execute any pre-write policy, such as file rotation. The write lock is held during this method, so make
      * it quick. The default implementation does nothing.
@@ -223,13 +256,30 @@ public class WriterHandler extends ExtHandler {
         // todo - maybe this synch is not really needed... if there's a perf detriment, drop it
         lock.lock();
         try {
-            safeFlush(writer);
+            flushWriter();
         } finally {
             lock.unlock();
         }
         super.flush();
     }
 
+    private void flushWriter() {
+        if (JfrSupport.AVAILABLE) {
+            final FlushEvent event = new FlushEvent();
+            if (event.isEnabled()) {
+                event.begin();
+                safeFlush(writer);
+                event.end();
+                if (event.shouldCommit()) {
+                    event.handler = getClass();
+                    event.commit();
+                }
+                return;
+            }
+        }
+        safeFlush(writer);
+    }
+
     /**
      * Close this logger.
      *
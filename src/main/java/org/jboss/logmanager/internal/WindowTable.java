@@ -0,0 +1,248 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logmanager.internal;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A fixed size table of the windows repeated errors or log records are counted in, with a background task which
+ * summarizes the windows once they have elapsed. Windows are found by probing from the hash of their key, finding a
+ * window is lock-free and does not allocate. The summary task removes windows which are no longer used, so their slots
+ * can be reused by new keys.
+ * <p>
+ * This class is not part of the public API.
+ * </p>
+ *
+ * @param <K> the type of the key object of a window
+ * @param <W> the type of the windows
+ */
+public final class WindowTable<K, W extends WindowTable.Window<K>> {
+    @SuppressWarnings("rawtypes")
+    private static final AtomicIntegerFieldUpdater<WindowTable> scheduledUpdater = AtomicIntegerFieldUpdater
+            .newUpdater(WindowTable.class, "scheduled");
+
+    private final AtomicReferenceArray<W> windows;
+    private final int mask;
+    private final Runnable summarizeElapsed;
+    @SuppressWarnings("unused")
+    private volatile int scheduled;
+
+    /**
+     * Creates a new table.
+     *
+     * @param size             the number of slots, must be a power of two
+     * @param summarizeElapsed the task which summarizes the elapsed windows, it is run by the background thread
+     */
+    public WindowTable(final int size, final Runnable summarizeElapsed) {
+        if (Integer.bitCount(size) != 1) {
+            throw new IllegalArgumentException("The size must be a power of two");
+        }
+        windows = new AtomicReferenceArray<>(size);
+        mask = size - 1;
+        this.summarizeElapsed = summarizeElapsed;
+    }
+
+    /**
+     * Finds the window of the key.
+     *
+     * @param hash the hash of the key, see {@link #spread(int)}
+     * @param code the number which is part of the key
+     * @param key  the object which is part of the key
+     *
+     * @return the window or {@code null} if there is none
+     */
+    public W find(final int hash, final int code, final K key) {
+        for (int probe = 0; probe <= mask; probe++) {
+            final W current = windows.get((hash + probe) & mask);
+            if (current == null) {
+                // a removed window may leave a gap, a later window of the same key only counts separately
+                return null;
+            }
+            if (current.hash == hash && current.matches(code, key)) {
+                return current;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Adds the window of the key to the first free slot, unless another thread added a window of the key first.
+     *
+     * @param code   the number which is part of the key
+     * @param key    the object which is part of the key
+     * @param window the window to add
+     *
+     * @return the window of the key or {@code null} if the table is full
+     */
+    public W add(final int code, final K key, final W window) {
+        final int hash = window.hash;
+        for (int probe = 0; probe <= mask; probe++) {
+            final int index = (hash + probe) & mask;
+            W current = windows.get(index);
+            if (current == null) {
+                if (windows.compareAndSet(index, null, window)) {
+                    return window;
+                }
+                current = windows.get(index);
+                if (current == null) {
+                    // added and removed again in between
+                    continue;
+                }
+            }
+            if (current.hash == hash && current.matches(code, key)) {
+                return current;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Replaces the window with a window of the same key.
+     *
+     * @param current     the window to replace
+     * @param replacement the window of the same key
+     *
+     * @return {@code true} if the window was replaced, {@code false} if it was replaced or removed by another thread
+     */
+    public boolean replace(final W current, final W replacement) {
+        for (int probe = 0; probe <= mask; probe++) {
+            final int index = (current.hash + probe) & mask;
+            final W window = windows.get(index);
+            if (window == current) {
+                return windows.compareAndSet(index, current, replacement);
+            }
+            if (window == null) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the number of slots.
+     *
+     * @return the number of slots
+     */
+    public int size() {
+        return mask + 1;
+    }
+
+    /**
+     * Returns the window in the slot.
+     *
+     * @param index the index of the slot
+     *
+     * @return the window or {@code null} if the slot is free
+     */
+    public W get(final int index) {
+        return windows.get(index);
+    }
+
+    /**
+     * Removes the window from the slot so the slot can be reused.
+     *
+     * @param index  the index of the slot
+     * @param window the window expected in the slot
+     *
+     * @return {@code true} if the window was removed, {@code false} if it was replaced or removed by another thread
+     */
+    public boolean remove(final int index, final W window) {
+        return windows.compareAndSet(index, window, null);
+    }
+
+    /**
+     * Schedules the summary task, unless it is already scheduled.
+     *
+     * @param delay the delay in milliseconds
+     */
+    public void schedule(final long delay) {
+        if (scheduled == 0 && scheduledUpdater.compareAndSet(this, 0, 1)) {
+            SummaryExecutorHolder.EXECUTOR.schedule(this::summarizeElapsed, delay, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Runs the task on the background thread.
+     *
+     * @param task the task
+     */
+    public static void execute(final Runnable task) {
+        SummaryExecutorHolder.EXECUTOR.execute(task);
+    }
+
+    /**
+     * Spreads the higher bits of a hash code, as the index of a slot only uses the lower bits.
+     *
+     * @param h the hash code
+     *
+     * @return the hash of a key
+     */
+    public static int spread(final int h) {
+        return h ^ (h >>> 16);
+    }
+
+    private void summarizeElapsed() {
+        // cleared first, so a window added while the task runs schedules the next run
+        scheduled = 0;
+        summarizeElapsed.run();
+    }
+
+    /**
+     * A window of the table.
+     *
+     * @param <K> the type of the key object
+     */
+    public abstract static class Window<K> {
+        final int hash;
+
+        /**
+         * Creates a new window.
+         *
+         * @param hash the hash of the key, see {@link #spread(int)}
+         */
+        protected Window(final int hash) {
+            this.hash = hash;
+        }
+
+        /**
+         * Checks whether this window belongs to the key.
+         *
+         * @param code the number which is part of the key
+         * @param key  the object which is part of the key
+         *
+         * @return {@code true} if this window belongs to the key
+         */
+        protected abstract boolean matches(int code, K key);
+    }
+
+    private static final class SummaryExecutorHolder {
+        // created on first use, the thread does not hold on to the class loader of the first table which schedules
+        static final ScheduledExecutorService EXECUTOR = Executors.newSingleThreadScheduledExecutor(r -> {
+            final Thread thread = new Thread(r, "Log summary");
+            thread.setDaemon(true);
+            thread.setContextClassLoader(null);
+            return thread;
+        });
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logmanager.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/**
+ * An event for a thread blocked while adding a record to the queue of an asynchronous handler.
+ */
+@Name("org.jboss.logmanager.AsyncEnqueue")
+@Label("Async Handler Enqueue")
+@Description("A thread blocked while adding a log record to a full queue")
+@Category({ "JBoss Log Manager", "Handlers" })
+@Threshold("1 ms")
+public final class AsyncEnqueueEvent extends jdk.jfr.Event {
+
+    @Label("Handler")
+    public Class<?> handler;
+
+    @Label("Queue Length")
+    public int queueLength;
+}
@@ -0,0 +1,48 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logmanager.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * An event for the activation of a delayed handler, which drains the queued records to its child handlers.
+ */
+@Name("org.jboss.logmanager.DelayedActivation")
+@Label("Delayed Handler Activation")
+@Description("A delayed handler drained its queued log records")
+@Category({ "JBoss Log Manager", "Handlers" })
+@StackTrace(false)
+public final class DelayedActivationEvent extends jdk.jfr.Event {
+
+    @Label("Handler")
+    public Class<?> handler;
+
+    @Label("Drained")
+    @Description("The number of queued records drained")
+    public int drained;
+
+    @Label("Published")
+    @Description("The number of drained records published to the child handlers")
+    public int published;
+}
@@ -0,0 +1,51 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logmanager.jfr;
+
+import java.util.Optional;
+
+/**
+ * Determines whether the Java Flight Recorder events of the log manager can be used. The event types are only
+ * referenced when the {@code jdk.jfr} module is present and readable, which allows the log manager to run on images
+ * which do not include the module.
+ * <p>
+ * Event types themselves are enabled, disabled and given thresholds through the recording settings. When an event
+ * type is disabled creating the event and checking {@link jdk.jfr.Event#isEnabled()} is the only cost.
+ * </p>
+ */
+public final class JfrSupport {
+
+    /**
+     * {@code true} if the {@code jdk.jfr} module is available and the events can be emitted.
+     */
+    public static final boolean AVAILABLE = isAvailable();
+
+    private JfrSupport() {
+    }
+
+    private static boolean isAvailable() {
+        try {
+            final Optional<Module> jfr = ModuleLayer.boot().findModule("jdk.jfr");
+            return jfr.isPresent() && JfrSupport.class.getModule().canRead(jfr.get());
+        } catch (Throwable ignore) {
+            return false;
+        }
+    }
+}
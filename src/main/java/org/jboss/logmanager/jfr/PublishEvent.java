@@ -0,0 +1,49 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logmanager.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * An event for the publication of a record to a handler. The duration of the event is the time the handler took to
+ * publish the record. The event is disabled by default as it is emitted for every record.
+ */
+@Name("org.jboss.logmanager.Publish")
+@Label("Log Record Publication")
+@Description("A log record published to a handler")
+@Category({ "JBoss Log Manager", "Handlers" })
+@Enabled(false)
+@StackTrace(false)
+public final class PublishEvent extends jdk.jfr.Event {
+
+    @Label("Logger")
+    public String logger;
+
+    @Label("Level")
+    public String level;
+
+    @Label("Handler")
+    public Class<?> handler;
+}
@@ -0,0 +1,48 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logmanager.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * An event for a formatted record written by a writer handler. The duration includes waiting for the write lock,
+ * rotation and flushing if the handler automatically flushes. The event is disabled by default as it is emitted for
+ * every record.
+ */
+@Name("org.jboss.logmanager.Write")
+@Label("Handler Write")
+@Description("A formatted log record written by a handler")
+@Category({ "JBoss Log Manager", "Handlers" })
+@Enabled(false)
+@StackTrace(false)
+public final class WriteEvent extends jdk.jfr.Event {
+
+    @Label("Handler")
+    public Class<?> handler;
+
+    @Label("Length")
+    @Description("The number of characters written")
+    public int length;
+}
@@ -0,0 +1,126 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logmanager;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the cached log context resolution of the class loader based selectors.
+ */
+public class ClassLoaderLogContextSelectorTests {
+
+    @Test
+    public void testCallerClassLoaderInvalidation() throws Exception {
+        try (LogContext defaultContext = LogContext.create()) {
+            final CallerClassLoaderLogContextSelector selector = new CallerClassLoaderLogContextSelector(
+                    () -> defaultContext);
+            testInvalidation(defaultContext, selector, selector::registerLogContext, selector::unregisterLogContext);
+        }
+    }
+
+    @Test
+    public void testClassLoaderInvalidation() throws Exception {
+        try (LogContext defaultContext = LogContext.create()) {
+            final ClassLoaderLogContextSelector selector = new ClassLoaderLogContextSelector(() -> defaultContext, false);
+            testInvalidation(defaultContext, selector, selector::registerLogContext, selector::unregisterLogContext);
+        }
+    }
+
+    @Test
+    public void testParentClassLoader() throws Exception {
+        try (
+                LogContext defaultContext = LogContext.create();
+                LogContext parentContext = LogContext.create()) {
+            final ClassLoader classLoader = getClass().getClassLoader();
+            final ClassLoader parent = classLoader.getParent();
+            final CallerClassLoaderLogContextSelector selector = new CallerClassLoaderLogContextSelector(
+                    () -> defaultContext, true);
+            selector.registerLogContext(parent, parentContext);
+            assertSame(parentContext, selector.getLogContext());
+            // an API class loader is skipped when searching the parents, the cached resolution must be discarded
+            selector.addLogApiClassLoader(parent);
+            assertSame(defaultContext, selector.getLogContext());
+            selector.removeLogApiClassLoader(parent);
+            assertSame(parentContext, selector.getLogContext());
+        }
+    }
+
+    @Test
+    public void testCallerClassLoaderReregistration() throws Exception {
+        try (LogContext defaultContext = LogContext.create()) {
+            final CallerClassLoaderLogContextSelector selector = new CallerClassLoaderLogContextSelector(
+                    () -> defaultContext);
+            testReregistration(selector, selector::registerLogContext, selector::unregisterLogContext);
+        }
+    }
+
+    @Test
+    public void testClassLoaderReregistration() throws Exception {
+        try (LogContext defaultContext = LogContext.create()) {
+            final ClassLoaderLogContextSelector selector = new ClassLoaderLogContextSelector(() -> defaultContext, false);
+            testReregistration(selector, selector::registerLogContext, selector::unregisterLogContext);
+        }
+    }
+
+    private void testInvalidation(final LogContext defaultContext, final LogContextSelector selector,
+            final Register register, final Unregister unregister) throws Exception {
+        try (LogContext logContext = LogContext.create()) {
+            final ClassLoader classLoader = getClass().getClassLoader();
+            assertSame(defaultContext, selector.getLogContext());
+            register.register(classLoader, logContext);
+            // the cached resolution is returned for repeated lookups
+            assertSame(logContext, selector.getLogContext());
+            assertSame(logContext, selector.getLogContext());
+            assertFalse(unregister.unregister(classLoader, defaultContext));
+            assertSame(logContext, selector.getLogContext());
+            assertTrue(unregister.unregister(classLoader, logContext));
+            assertSame(defaultContext, selector.getLogContext());
+        }
+    }
+
+    private void testReregistration(final LogContextSelector selector, final Register register,
+            final Unregister unregister) throws Exception {
+        try (
+                LogContext first = LogContext.create();
+                LogContext second = LogContext.create()) {
+            final ClassLoader classLoader = getClass().getClassLoader();
+            register.register(classLoader, first);
+            assertSame(first, selector.getLogContext());
+            // a context registered for the same class loader after the previous one was removed replaces the cached one
+            assertTrue(unregister.unregister(classLoader, first));
+            register.register(classLoader, second);
+            assertSame(second, selector.getLogContext());
+            assertSame(second, selector.getLogContext());
+            assertTrue(unregister.unregister(classLoader, second));
+        }
+    }
+
+    private interface Register {
+        void register(ClassLoader classLoader, LogContext logContext);
+    }
+
+    private interface Unregister {
+        boolean unregister(ClassLoader classLoader, LogContext logContext);
+    }
+}
@@ -1,5 +1,9 @@
 package org.jboss.logmanager;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.logmanager.formatters.PatternFormatter;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -13,4 +17,142 @@ public final class ExtLogRecordTests {
         // expect this to not blow up on 11 or 17
         rec.setLongThreadID(1234);
     }
+
+    @Test
+    public void formattedMessageCached() {
+        final CountingParameter parameter = new CountingParameter();
+        final ExtLogRecord rec = new ExtLogRecord(Level.INFO, "Hello {0}!", ExtLogRecordTests.class.getName());
+        rec.setParameters(new Object[] { parameter });
+
+        Assertions.assertEquals("Hello world!", rec.getFormattedMessage());
+        Assertions.assertEquals("Hello world!", rec.getFormattedMessage());
+        // formatters without custom message formatting share the formatted message
+        Assertions.assertEquals("Hello world!", new PatternFormatter("%s").formatMessage(rec));
+        Assertions.assertEquals(1, parameter.count.get());
+
+        rec.setParameters(new Object[] { parameter });
+        Assertions.assertEquals("Hello world!", rec.getFormattedMessage());
+        Assertions.assertEquals(2, parameter.count.get());
+
+        rec.setMessage("Goodbye %s!", ExtLogRecord.FormatStyle.PRINTF);
+        Assertions.assertEquals("Goodbye world!", rec.getFormattedMessage());
+        Assertions.assertEquals(3, parameter.count.get());
+
+        // a copy formats its own message
+        final ExtLogRecord copy = new ExtLogRecord(rec);
+        copy.setParameters(new Object[] { "copy" });
+        Assertions.assertEquals("Goodbye copy!", copy.getFormattedMessage());
+        Assertions.assertEquals("Goodbye world!", rec.getFormattedMessage());
+        Assertions.assertEquals(3, parameter.count.get());
+    }
+
+    @Test
+    public void ndcSnapshot() {
+        NDC.clear();
+        try {
+            Assertions.assertEquals("", new ExtLogRecord(Level.INFO, "Empty", ExtLogRecordTests.class.getName()).getNdc());
+
+            NDC.push("outer");
+            final int depth = NDC.push("inner");
+            final ExtLogRecord rec = new ExtLogRecord(Level.INFO, "Hello", ExtLogRecordTests.class.getName());
+            final ExtLogRecord copy = new ExtLogRecord(rec);
+
+            // changes to the stack after the record was created must not be visible to the record
+            NDC.trimTo(depth);
+            NDC.push("changed");
+            NDC.push("again");
+            Assertions.assertEquals("outer.changed.again", NDC.get());
+            Assertions.assertEquals("outer.inner", rec.getNdc());
+            Assertions.assertEquals("outer.inner", copy.getNdc());
+
+            NDC.pop();
+            final ExtLogRecord second = new ExtLogRecord(Level.INFO, "Hello", ExtLogRecordTests.class.getName());
+            NDC.clear();
+            Assertions.assertEquals("outer.changed", second.getNdc());
+
+            second.setNdc("explicit");
+            Assertions.assertEquals("explicit", second.getNdc());
+        } finally {
+            NDC.clear();
+        }
+    }
+
+    @Test
+    public void processInformation() {
+        final ExtLogRecord rec = new ExtLogRecord(Level.INFO, "Hello", ExtLogRecordTests.class.getName());
+        Assertions.assertEquals(ProcessHandle.current().pid(), rec.getProcessId());
+        Assertions.assertEquals(Thread.currentThread().getName(), rec.getThreadName());
+        Assertions.assertNotNull(rec.getHostName());
+        Assertions.assertNotNull(rec.getProcessName());
+    }
+
+    @Test
+    public void primitiveParameters() throws Exception {
+        final String[] messageFormats = { "Value {0}", "{0} and {0}", "Quoted '{0}'", "Typed {0,number,#.#}", "None" };
+        final String[] printfFormats = { "Value %s", "Value %d%%%n", "Hex %x", "Two %s %s" };
+        final Object[] values = { 1234567, 1234567890123L, 1234.5678d, 2.5f, 'c', (short) -12, (byte) 7, true };
+        for (Object value : values) {
+            for (String format : messageFormats) {
+                assertSameFormat(format, ExtLogRecord.FormatStyle.MESSAGE_FORMAT, value);
+            }
+            for (String format : printfFormats) {
+                assertSameFormat(format, ExtLogRecord.FormatStyle.PRINTF, value);
+            }
+        }
+
+        // the parameter is only boxed once requested
+        final ExtLogRecord rec = new ExtLogRecord(Level.INFO, "Count {0}", ExtLogRecordTests.class.getName());
+        rec.setParameter(42L);
+        Assertions.assertEquals("Count 42", rec.getFormattedMessage());
+        Assertions.assertArrayEquals(new Object[] { 42L }, rec.getParameters());
+        Assertions.assertEquals("Count 42", rec.getFormattedMessage());
+        rec.setParameters(null);
+        Assertions.assertEquals("Count {0}", rec.getFormattedMessage());
+    }
+
+    private static void assertSameFormat(final String format, final ExtLogRecord.FormatStyle style, final Object value) {
+        final ExtLogRecord boxed = new ExtLogRecord(Level.INFO, format, style, ExtLogRecordTests.class.getName());
+        boxed.setParameters(new Object[] { value });
+        final ExtLogRecord unboxed = new ExtLogRecord(Level.INFO, format, style, ExtLogRecordTests.class.getName());
+        if (value instanceof Integer) {
+            unboxed.setParameter((int) value);
+        } else if (value instanceof Long) {
+            unboxed.setParameter((long) value);
+        } else if (value instanceof Double) {
+            unboxed.setParameter((double) value);
+        } else if (value instanceof Float) {
+            unboxed.setParameter((float) value);
+        } else if (value instanceof Character) {
+            unboxed.setParameter((char) value);
+        } else if (value instanceof Short) {
+            unboxed.setParameter((short) value);
+        } else if (value instanceof Byte) {
+            unboxed.setParameter((byte) value);
+        } else {
+            unboxed.setParameter((boolean) value);
+        }
+        String expected;
+        try {
+            expected = boxed.getFormattedMessage();
+        } catch (RuntimeException e) {
+            expected = e.getClass().getName();
+        }
+        String actual;
+        try {
+            actual = unboxed.getFormattedMessage();
+        } catch (RuntimeException e) {
+            actual = e.getClass().getName();
+        }
+        Assertions.assertEquals(expected, actual, () -> "Format " + format + " with " + value.getClass().getName());
+    }
+
+    private static class CountingParameter {
+        final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public String toString() {
+            count.incrementAndGet();
+            return "world";
+        }
+    }
 }
@@ -21,6 +21,13 @@ package org.jboss.logmanager;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.logging.Filter;
@@ -33,12 +40,16 @@ import org.jboss.logmanager.filters.AcceptAllFilter;
 import org.jboss.logmanager.filters.AllFilter;
 import org.jboss.logmanager.filters.AnyFilter;
 import org.jboss.logmanager.filters.DenyAllFilter;
+import org.jboss.logmanager.filters.DuplicateSuppressingFilter;
 import org.jboss.logmanager.filters.InvertFilter;
 import org.jboss.logmanager.filters.LevelChangingFilter;
 import org.jboss.logmanager.filters.LevelFilter;
 import org.jboss.logmanager.filters.LevelRangeFilter;
+import org.jboss.logmanager.filters.RateLimitingFilter;
 import org.jboss.logmanager.filters.RegexFilter;
+import org.jboss.logmanager.filters.SamplingFilter;
 import org.jboss.logmanager.filters.SubstituteFilter;
+import org.jboss.logmanager.filters.TraceSamplingFilter;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 
@@ -528,6 +539,203 @@ public final class FilterTests {
         assertEquals("lunch", result.get(), "The substitution was not correctly applied");
     }
 
+    @Test
+    public void duplicateSuppressingFilter() throws Exception {
+        final BlockingQueue<String> messages = new LinkedBlockingQueue<>();
+        final LogContext logContext = LogContext.create();
+        final Logger logger = logContext.getLogger("filterTest");
+        logger.setUseParentHandlers(false);
+        logger.setLevel(Level.INFO);
+        final DuplicateSuppressingFilter filter = new DuplicateSuppressingFilter(logContext, 2, 60_000L);
+        logger.setFilter(filter);
+        logger.addHandler(new Handler() {
+            @Override
+            public void publish(final LogRecord record) {
+                messages.add(((ExtLogRecord) record).getFormattedMessage());
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        });
+
+        final long start = System.currentTimeMillis();
+        for (int i = 0; i < 5; i++) {
+            logger.logRaw(duplicate(start + i, "Connection refused", null));
+        }
+        // a different exception type is not a duplicate
+        logger.logRaw(duplicate(start, "Connection refused", new IllegalStateException()));
+        assertEquals(List.of("Connection refused", "Connection refused", "Connection refused"), drain(messages));
+
+        // the summary is logged when the window is flushed
+        filter.flush();
+        assertEquals(List.of("Suppressed 3 duplicate messages: Connection refused"), drain(messages));
+
+        // no summary if nothing was suppressed
+        logger.logRaw(duplicate(start, "Connection refused", null));
+        filter.flush();
+        assertEquals(List.of("Connection refused"), drain(messages));
+
+        // a window replaced by a later duplicate logs its summary in the background
+        for (int i = 0; i < 3; i++) {
+            logger.logRaw(duplicate(start, "Connection reset", null));
+        }
+        logger.logRaw(duplicate(start + 60_000L, "Connection reset", null));
+        assertEquals("Connection reset", messages.poll(5, TimeUnit.SECONDS));
+        assertEquals("Connection reset", messages.poll(5, TimeUnit.SECONDS));
+        assertEquals(Set.of("Connection reset", "Suppressed 1 duplicate messages: Connection reset"),
+                Set.of(messages.poll(5, TimeUnit.SECONDS), messages.poll(5, TimeUnit.SECONDS)));
+        logContext.close();
+    }
+
+    @Test
+    public void duplicateSuppressingFilterSummary() throws Exception {
+        final BlockingQueue<String> messages = new LinkedBlockingQueue<>();
+        final LogContext logContext = LogContext.create();
+        final Logger logger = logContext.getLogger("filterTest");
+        logger.setUseParentHandlers(false);
+        logger.setLevel(Level.INFO);
+        logger.setFilter(new DuplicateSuppressingFilter(logContext, 1, 100L));
+        logger.addHandler(new Handler() {
+            @Override
+            public void publish(final LogRecord record) {
+                messages.add(((ExtLogRecord) record).getFormattedMessage());
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        });
+
+        // the summary is logged once the window has elapsed, without another record being logged
+        for (int i = 0; i < 3; i++) {
+            logger.info("Connection refused");
+        }
+        assertEquals("Connection refused", messages.poll(5, TimeUnit.SECONDS));
+        assertEquals("Suppressed 2 duplicate messages: Connection refused", messages.poll(5, TimeUnit.SECONDS));
+        logContext.close();
+    }
+
+    private static List<String> drain(final BlockingQueue<String> messages) {
+        final List<String> result = new ArrayList<>();
+        messages.drainTo(result);
+        return result;
+    }
+
+    @Test
+    public void rateLimitingFilter() {
+        final Filter filter = new RateLimitingFilter(10.0d, 3);
+        final long start = System.currentTimeMillis();
+        // the burst is allowed at once
+        for (int i = 0; i < 3; i++) {
+            assertTrue(filter.isLoggable(rateLimited("a", start)), "Record " + i + " should be within the burst");
+        }
+        assertFalse(filter.isLoggable(rateLimited("a", start)));
+        // each logger name has its own bucket
+        assertTrue(filter.isLoggable(rateLimited("b", start)));
+        // one record each 100 milliseconds
+        assertFalse(filter.isLoggable(rateLimited("a", start + 50L)));
+        assertTrue(filter.isLoggable(rateLimited("a", start + 100L)));
+        assertFalse(filter.isLoggable(rateLimited("a", start + 150L)));
+        // after a second the bucket is full again
+        for (int i = 0; i < 3; i++) {
+            assertTrue(filter.isLoggable(rateLimited("a", start + 1000L)), "Record " + i + " should be within the burst");
+        }
+        assertFalse(filter.isLoggable(rateLimited("a", start + 1000L)));
+    }
+
+    @Test
+    public void rateLimitingFilterOverflow() {
+        final long start = System.currentTimeMillis();
+        // the tolerance of a large burst at a low rate saturates instead of overflowing
+        final Filter unlimited = new RateLimitingFilter(1.0e-6d, Integer.MAX_VALUE);
+        for (int i = 0; i < 100; i++) {
+            assertTrue(unlimited.isLoggable(rateLimited("a", start)), "Record " + i + " should be within the burst");
+        }
+        // the time the bucket is full again saturates instead of wrapping around
+        final Filter single = new RateLimitingFilter(1.0e-12d, 1);
+        assertTrue(single.isLoggable(rateLimited("a", start)));
+        assertFalse(single.isLoggable(rateLimited("a", start)));
+        assertFalse(single.isLoggable(rateLimited("a", start + 1000L)));
+    }
+
+    @Test
+    public void samplingFilter() {
+        final SamplingFilter filter = new SamplingFilter(Level.WARN, 0.0d);
+        assertEquals(Level.WARN, filter.getLevel());
+        assertTrue(filter.isLoggable(new ExtLogRecord(Level.WARN, "test", FilterTests.class.getName())));
+        assertTrue(filter.isLoggable(new ExtLogRecord(Level.ERROR, "test", FilterTests.class.getName())));
+        assertFalse(filter.isLoggable(new ExtLogRecord(Level.INFO, "test", FilterTests.class.getName())));
+        filter.setRate(1.0d);
+        assertTrue(filter.isLoggable(new ExtLogRecord(Level.DEBUG, "test", FilterTests.class.getName())));
+
+        filter.setRate(0.25d);
+        int allowed = 0;
+        for (int i = 0; i < 10000; i++) {
+            if (filter.isLoggable(new ExtLogRecord(Level.DEBUG, "test", FilterTests.class.getName()))) {
+                allowed++;
+            }
+        }
+        assertTrue(allowed > 2000 && allowed < 3000, "Expected about 2500 records, found " + allowed);
+        assertThrows(IllegalArgumentException.class, () -> filter.setRate(1.5d));
+    }
+
+    @Test
+    public void traceSamplingFilter() {
+        final Filter filter = new TraceSamplingFilter("traceId", 0.5d);
+        // records without a trace id are always logged
+        assertTrue(filter.isLoggable(new ExtLogRecord(Level.INFO, "test", FilterTests.class.getName())));
+        int allowed = 0;
+        for (int i = 0; i < 1000; i++) {
+            final String traceId = "trace-" + i;
+            final boolean first = filter.isLoggable(traced(traceId));
+            // every record of a trace gets the same decision
+            for (int j = 0; j < 3; j++) {
+                assertEquals(first, filter.isLoggable(traced(traceId)));
+            }
+            if (first) {
+                allowed++;
+            }
+        }
+        assertTrue(allowed > 400 && allowed < 600, "Expected about 500 traces, found " + allowed);
+        assertFalse(new TraceSamplingFilter("traceId", 0.0d).isLoggable(traced("trace")));
+        assertTrue(new TraceSamplingFilter("traceId", 1.0d).isLoggable(traced("trace")));
+    }
+
+    private static ExtLogRecord rateLimited(final String loggerName, final long millis) {
+        final ExtLogRecord record = new ExtLogRecord(Level.INFO, "test", FilterTests.class.getName());
+        record.setLoggerName(loggerName);
+        record.setInstant(Instant.ofEpochMilli(millis));
+        return record;
+    }
+
+    private static ExtLogRecord traced(final String traceId) {
+        MDC.put("traceId", traceId);
+        try {
+            final ExtLogRecord record = new ExtLogRecord(Level.INFO, "test", FilterTests.class.getName());
+            record.copyMdc();
+            return record;
+        } finally {
+            MDC.remove("traceId");
+        }
+    }
+
+    private static ExtLogRecord duplicate(final long millis, final String msg, final Throwable thrown) {
+        final ExtLogRecord record = new ExtLogRecord(Level.ERROR, msg, FilterTests.class.getName());
+        record.setLoggerName("filterTest");
+        record.setInstant(Instant.ofEpochMilli(millis));
+        record.setThrown(thrown);
+        return record;
+    }
+
     private static final class MessageCheckingHandler extends Handler {
         private final AtomicReference<String> msg;
 
@@ -0,0 +1,147 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logmanager;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public final class KeyValuesTests {
+
+    @Test
+    public void typedValues() {
+        final Object marker = new Object();
+        final KeyValues keyValues = KeyValues.builder(1)
+                .add("long", 5)
+                .add("double", 1.5f)
+                .add("boolean", true)
+                .add("string", "value")
+                .add("boxed", Integer.valueOf(7))
+                .add("object", marker)
+                .add("null", (Object) null)
+                .build();
+        Assertions.assertEquals(7, keyValues.size());
+        Assertions.assertEquals(KeyValues.Type.LONG, keyValues.getType(0));
+        Assertions.assertEquals(5L, keyValues.getLong(0));
+        Assertions.assertEquals(KeyValues.Type.DOUBLE, keyValues.getType(1));
+        Assertions.assertEquals(1.5d, keyValues.getDouble(1));
+        Assertions.assertEquals(KeyValues.Type.BOOLEAN, keyValues.getType(2));
+        Assertions.assertTrue(keyValues.getBoolean(2));
+        Assertions.assertEquals(KeyValues.Type.STRING, keyValues.getType(3));
+        Assertions.assertEquals(KeyValues.Type.LONG, keyValues.getType(4));
+        Assertions.assertEquals(KeyValues.Type.OBJECT, keyValues.getType(5));
+        Assertions.assertSame(marker, keyValues.get("object"));
+        Assertions.assertNull(keyValues.getValueAsString(6));
+        Assertions.assertEquals(Long.valueOf(7L), keyValues.get("boxed"));
+        Assertions.assertNull(keyValues.get("missing"));
+        Assertions.assertEquals(-1, keyValues.indexOf("missing"));
+        Assertions.assertThrows(IllegalStateException.class, () -> keyValues.getLong(1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> KeyValues.of(null, 1L));
+    }
+
+    @Test
+    public void builderReuse() {
+        final KeyValues.Builder builder = KeyValues.builder(2).add("a", 1).add("b", 2);
+        final KeyValues first = builder.build();
+        final KeyValues second = builder.add("c", 3).build();
+        Assertions.assertEquals("{a=1, b=2}", first.toString());
+        Assertions.assertEquals("{a=1, b=2, c=3}", second.toString());
+        Assertions.assertSame(KeyValues.empty(), KeyValues.builder().build());
+    }
+
+    @Test
+    public void serialization() throws Exception {
+        final Object notSerializable = new Object() {
+            @Override
+            public String toString() {
+                return "not serializable";
+            }
+        };
+        final KeyValues keyValues = KeyValues.builder()
+                .add("string", "value")
+                .add("long", 42L)
+                .add("double", 1.5)
+                .add("bool", true)
+                .add("object", notSerializable)
+                .add("null", (Object) null)
+                .build();
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(out)) {
+            oos.writeObject(keyValues);
+        }
+        final KeyValues copy;
+        try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            copy = (KeyValues) ois.readObject();
+        }
+        Assertions.assertEquals(keyValues.toString(), copy.toString());
+        Assertions.assertEquals(42L, copy.getLong(1));
+        // the value is replaced with its string representation
+        Assertions.assertEquals(KeyValues.Type.OBJECT, copy.getType(4));
+        Assertions.assertEquals("not serializable", copy.getValue(4));
+        Assertions.assertNull(copy.getValue(5));
+        Assertions.assertSame(notSerializable, keyValues.getValue(4));
+    }
+
+    @Test
+    public void loggerKeyValues() {
+        final LogContext logContext = LogContext.create();
+        final Logger logger = logContext.getLogger(KeyValuesTests.class.getName());
+        final List<ExtLogRecord> records = new ArrayList<>();
+        logger.addHandler(new Handler() {
+            @Override
+            public void publish(final LogRecord record) {
+                records.add((ExtLogRecord) record);
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        });
+        logger.setUseParentHandlers(false);
+        logger.log(Level.INFO, "Order {0} placed", KeyValues.of("orderId", 42L));
+        final RuntimeException thrown = new RuntimeException();
+        logger.log(Level.ERROR, "Order failed", KeyValues.of("express", true), thrown);
+        logger.log(Level.TRACE, "Not logged", KeyValues.of("ignored", "value"));
+
+        Assertions.assertEquals(2, records.size());
+        final ExtLogRecord first = records.get(0);
+        // the fields are not formatted into the message
+        Assertions.assertEquals("Order {0} placed", first.getFormattedMessage());
+        Assertions.assertEquals(42L, first.getKeyValues().getLong(0));
+        Assertions.assertEquals(0, new ExtLogRecord(Level.INFO, "No fields", KeyValuesTests.class.getName())
+                .getKeyValues().size());
+        final ExtLogRecord second = records.get(1);
+        Assertions.assertSame(thrown, second.getThrown());
+        Assertions.assertEquals(Boolean.TRUE, second.getKeyValues().get("express"));
+        Assertions.assertSame(second.getKeyValues(), new ExtLogRecord(second).getKeyValues());
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logmanager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the logger name index.
+ */
+public class LoggerIndexTests {
+    private static final int CATEGORIES = 10_000;
+
+    private static String categoryName(final int i) {
+        return "org.jboss.perf.module" + (i % 40) + ".sub" + (i % 400) + ".Category" + i;
+    }
+
+    @Test
+    public void testNameResolution() throws Exception {
+        try (LogContext logContext = LogContext.create(true)) {
+            final LoggerNode node = logContext.getOrCreateNode("org.jboss.index");
+            assertSame(node, logContext.getOrCreateNode("org.jboss.index"));
+            assertSame(node, logContext.getRootLoggerNode().getOrCreate("org.jboss.index"));
+            assertSame(node.getParent(), logContext.getOrCreateNode("org.jboss"));
+            assertSame(logContext.getRootLoggerNode(), logContext.getOrCreateNode(""));
+            // trailing and repeated dots follow the tree semantics
+            assertSame(logContext.getOrCreateNode("org"), logContext.getOrCreateNode("org."));
+            assertEquals("org..weird", logContext.getOrCreateNode("org..weird").getFullName());
+            assertEquals("org.", logContext.getOrCreateNode("org..weird").getParent().getFullName());
+
+            assertNull(logContext.getLoggerIfExists("org.jboss.missing"));
+            assertNotNull(logContext.getLoggerIfExists("org.jboss"));
+            assertSame(node, logContext.getNodeIfExists("org.jboss.index"));
+        }
+    }
+
+    @Test
+    public void testLevelInheritance() throws Exception {
+        try (LogContext logContext = LogContext.create(true)) {
+            final LoggerNode child = logContext.getOrCreateNode("org.jboss.index.child");
+            logContext.getLogger("org.jboss").setLevel(Level.DEBUG);
+            assertEquals(Level.DEBUG.intValue(), child.getEffectiveLevel());
+            logContext.getLogger("org.jboss").setLevel(null);
+            assertEquals(Level.INFO.intValue(), child.getEffectiveLevel());
+        }
+    }
+
+    @Test
+    public void testManyCategories() throws Exception {
+        testManyCategories(true);
+        testManyCategories(false);
+    }
+
+    private static void testManyCategories(final boolean strong) throws Exception {
+        try (LogContext logContext = LogContext.create(strong)) {
+            // hold the loggers so the weak context does not collect them
+            final List<Logger> loggers = new ArrayList<>(CATEGORIES);
+            for (int i = 0; i < CATEGORIES; i++) {
+                loggers.add(logContext.getLogger(categoryName(i)));
+            }
+            assertEquals(CATEGORIES, Collections.list(logContext.getLoggerNames()).size());
+            for (int i = 0; i < CATEGORIES; i++) {
+                final String name = categoryName(i);
+                final Logger logger = loggers.get(i);
+                assertEquals(name, logger.getName());
+                assertEquals(name, logContext.getLoggerIfExists(name).getName());
+                assertSame(logContext.getNodeIfExists(name), logContext.getOrCreateNode(name));
+                assertSame(logContext.getOrCreateNode(name).getParent(),
+                        logContext.getOrCreateNode(name.substring(0, name.lastIndexOf('.'))));
+            }
+        }
+    }
+}
@@ -253,6 +253,43 @@ public final class LoggerTests {
         assertEquals(5, handler.messages.size(), "Handler should have only contained five messages");
     }
 
+    @Test
+    public void testMetrics() throws Exception {
+        final LogContext logContext = LogContext.create();
+        final Logger logger = logContext.getLogger("org.jboss.logmanager.metrics");
+        logger.setLevel(Level.INFO);
+        logger.setFilter(record -> !record.getMessage().startsWith("filtered"));
+        final ExtHandler handler = new ExtHandler() {
+        };
+        handler.setMetricsEnabled(true);
+        logger.addHandler(handler);
+
+        // Counts are only collected when enabled on the context
+        logger.info("not counted");
+        assertEquals(0L, logContext.getNodeIfExists(logger.getName()).getPublishedCount());
+
+        final LogContextMetrics contextMetrics = LogContextMetrics.register(logContext, "test-metrics");
+        try {
+            assertTrue(logContext.isMetricsEnabled());
+            assertTrue(contextMetrics.isEnabled());
+            logger.info("accepted 1");
+            logger.info("accepted 2");
+            logger.info("filtered");
+
+            assertEquals(Long.valueOf(2L), contextMetrics.getLoggerPublishedCounts().get(logger.getName()));
+            assertEquals(Long.valueOf(1L), contextMetrics.getLoggerFilteredCounts().get(logger.getName()));
+            final HandlerMetrics handlerMetrics = contextMetrics.getHandlerMetrics().values().iterator().next();
+            assertSame(handler.getMetrics(), handlerMetrics);
+            assertEquals(3L, handlerMetrics.getPublishedCount());
+
+            contextMetrics.setEnabled(false);
+            logger.info("not counted");
+            assertEquals(Long.valueOf(2L), contextMetrics.getLoggerPublishedCounts().get(logger.getName()));
+        } finally {
+            contextMetrics.close();
+        }
+    }
+
     private static final class ListHandler extends ExtHandler {
         final List<String> messages = Collections.synchronizedList(new ArrayList<String>());
 
@@ -41,8 +41,12 @@ import org.jboss.logmanager.ExtHandler;
 import org.jboss.logmanager.ExtLogRecord;
 import org.jboss.logmanager.Level;
 import org.jboss.logmanager.LogContext;
+import org.jboss.logmanager.errormanager.AggregatingErrorManager;
+import org.jboss.logmanager.filters.RateLimitingFilter;
 import org.jboss.logmanager.formatters.PatternFormatter;
+import org.jboss.logmanager.handlers.AsyncHandler;
 import org.jboss.logmanager.handlers.ConsoleHandler;
+import org.jboss.logmanager.handlers.SizeRotatingFileHandler;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -150,6 +154,41 @@ public class PropertyConfigurationTests {
         Assertions.assertTrue(TestErrorManager.INITIALIZED);
     }
 
+    @Test
+    public void testAggregatingErrorManager() {
+        final Properties config = defaultProperties();
+        String handlers = config.getProperty("logger.handlers");
+        if (handlers == null) {
+            handlers = "TEST";
+        } else {
+            handlers = handlers + ",TEST";
+        }
+        config.setProperty("logger.handlers", handlers);
+
+        config.setProperty("handler.TEST", TestHandler.class.getName());
+        config.setProperty("handler.TEST.errorManager", "AGGREGATING");
+
+        config.setProperty("errorManager.AGGREGATING", AggregatingErrorManager.class.getName());
+        config.setProperty("errorManager.AGGREGATING.properties", "window,delegate");
+        config.setProperty("errorManager.AGGREGATING.window", "5000");
+        config.setProperty("errorManager.AGGREGATING.delegate", "DELEGATE");
+
+        config.setProperty("pojos", "DELEGATE");
+        config.setProperty("pojo.DELEGATE", TestErrorManager.class.getName());
+
+        PropertyContextConfiguration.configure(logContext, config);
+
+        final Logger rootLogger = logContext.getLogger("");
+        final TestHandler handler = findType(TestHandler.class, rootLogger.getHandlers());
+        Assertions.assertNotNull(handler);
+
+        final ErrorManager errorManager = handler.getErrorManager();
+        Assertions.assertTrue(errorManager instanceof AggregatingErrorManager);
+        final AggregatingErrorManager aggregatingErrorManager = (AggregatingErrorManager) errorManager;
+        Assertions.assertEquals(5000L, aggregatingErrorManager.getWindow());
+        Assertions.assertTrue(aggregatingErrorManager.getDelegate() instanceof TestErrorManager);
+    }
+
     @Test
     public void testPojo() {
         final Properties config = defaultProperties();
@@ -169,6 +208,71 @@ public class PropertyConfigurationTests {
 
     }
 
+    @Test
+    public void testBuiltInTypes() throws Exception {
+        final Path logFile = Files.createTempFile("property-configuration", ".log");
+        try {
+            final Properties config = defaultProperties();
+            config.setProperty("logger.handlers", "CONSOLE,ASYNC");
+
+            config.setProperty("handler.ASYNC", AsyncHandler.class.getName());
+            config.setProperty("handler.ASYNC.properties", "overflowAction,autoFlush");
+            config.setProperty("handler.ASYNC.constructorProperties", "queueLength");
+            config.setProperty("handler.ASYNC.queueLength", "64");
+            config.setProperty("handler.ASYNC.overflowAction", "DISCARD");
+            config.setProperty("handler.ASYNC.autoFlush", "false");
+            config.setProperty("handler.ASYNC.handlers", "FILE");
+
+            config.setProperty("handler.FILE", SizeRotatingFileHandler.class.getName());
+            config.setProperty("handler.FILE.level", "INFO");
+            config.setProperty("handler.FILE.formatter", "PATTERN");
+            config.setProperty("handler.FILE.properties", "rotateSize,maxBackupIndex,suffix,encoding,fileName");
+            config.setProperty("handler.FILE.rotateSize", "1024");
+            config.setProperty("handler.FILE.maxBackupIndex", "3");
+            config.setProperty("handler.FILE.suffix", ".yyyy-MM-dd");
+            config.setProperty("handler.FILE.encoding", "UTF-8");
+            config.setProperty("handler.FILE.fileName", logFile.toString());
+
+            PropertyContextConfiguration.configure(logContext, config);
+            testDefault(2, 2);
+
+            final AsyncHandler asyncHandler = findType(AsyncHandler.class, logContext.getLogger("").getHandlers());
+            Assertions.assertNotNull(asyncHandler, "Failed to find the async handler");
+            Assertions.assertEquals(64, asyncHandler.getQueueLength());
+            Assertions.assertEquals(AsyncHandler.OverflowAction.DISCARD, asyncHandler.getOverflowAction());
+            Assertions.assertFalse(asyncHandler.isAutoFlush());
+
+            final SizeRotatingFileHandler fileHandler = findType(SizeRotatingFileHandler.class,
+                    asyncHandler.getHandlers());
+            Assertions.assertNotNull(fileHandler, "Failed to find the file handler");
+            Assertions.assertEquals(Level.INFO.intValue(), fileHandler.getLevel().intValue());
+            Assertions.assertEquals(".yyyy-MM-dd", fileHandler.getSuffix());
+            Assertions.assertEquals(StandardCharsets.UTF_8, fileHandler.getCharset());
+            Assertions.assertEquals(logFile.toFile(), fileHandler.getFile());
+            Assertions.assertTrue(fileHandler.getFormatter() instanceof PatternFormatter);
+            fileHandler.close();
+        } finally {
+            Files.deleteIfExists(logFile);
+        }
+    }
+
+    @Test
+    public void testBinderCache() {
+        final ObjectBinder<PojoObject> binder = ObjectBinder.of(PojoObject.class);
+        Assertions.assertSame(binder, ObjectBinder.of(PojoObject.class));
+        Assertions.assertSame(binder.getSetter("value"), binder.getSetter("value"));
+        Assertions.assertEquals(String.class, binder.getPropertyType("value"));
+        Assertions.assertNull(binder.getSetter("unknown"));
+
+        final ObjectBinder<SizeRotatingFileHandler> builtIn = ObjectBinder.of(SizeRotatingFileHandler.class);
+        Assertions.assertEquals(long.class, builtIn.getPropertyType("rotateSize"));
+        Assertions.assertEquals(java.util.logging.Level.class, builtIn.getPropertyType("level"));
+        // Properties without a built-in setter are resolved reflectively
+        Assertions.assertEquals(boolean.class, builtIn.getPropertyType("checkHeadEncoding"));
+        Assertions.assertSame(SizeRotatingFileHandler.class,
+                BuiltInBinders.findClass(SizeRotatingFileHandler.class.getName()));
+    }
+
     @Test
     public void testUnusedHandler() {
         final Properties config = defaultProperties();
@@ -217,6 +321,98 @@ public class PropertyConfigurationTests {
         Assertions.assertFalse(TestFilter.INITIALIZED, "The filter should not have been initialized");
     }
 
+    @Test
+    public void testFilterProperties() {
+        final String loggerName = PropertyConfigurationTests.class.getName();
+        final Properties config = defaultProperties(loggerName);
+        config.setProperty(String.join(".", "logger", loggerName, "filter"), "LIMIT");
+        config.setProperty("filter.LIMIT", RateLimitingFilter.class.getName());
+        config.setProperty("filter.LIMIT.properties", "rate,burst");
+        config.setProperty("filter.LIMIT.rate", "2.5");
+        config.setProperty("filter.LIMIT.burst", "5");
+
+        PropertyContextConfiguration.configure(logContext, config);
+
+        final Logger logger = logContext.getLoggerIfExists(loggerName);
+        Assertions.assertNotNull(logger);
+        final RateLimitingFilter filter = (RateLimitingFilter) logger.getFilter();
+        Assertions.assertEquals(2.5d, filter.getRate());
+        Assertions.assertEquals(5, filter.getBurst());
+    }
+
+    @Test
+    public void testReconfigure() {
+        final String loggerName = PropertyConfigurationTests.class.getName();
+        final Properties config = defaultProperties(loggerName);
+        final PropertyContextConfiguration configuration = PropertyContextConfiguration.configure(logContext, config);
+        final Logger rootLogger = logContext.getLogger("");
+        final Handler handler = findType(ConsoleHandler.class, rootLogger.getHandlers());
+        Assertions.assertNotNull(handler);
+        final PatternFormatter formatter = (PatternFormatter) handler.getFormatter();
+
+        // Changed properties should be applied to the existing instances
+        final Properties changed = configuration.getProperties();
+        changed.setProperty("formatter.PATTERN.pattern", "%s%n");
+        changed.setProperty("handler.CONSOLE.level", "INFO");
+        changed.setProperty("logger." + loggerName + ".level", "WARN");
+        configuration.reconfigure(changed);
+        Assertions.assertSame(handler, findType(ConsoleHandler.class, rootLogger.getHandlers()));
+        Assertions.assertSame(formatter, handler.getFormatter());
+        Assertions.assertEquals("%s%n", formatter.getPattern());
+        Assertions.assertEquals(Level.INFO, handler.getLevel());
+        Assertions.assertEquals(Level.WARN, logContext.getLogger(loggerName).getLevel());
+
+        // Changing the class requires a new instance which replaces the previous one on the logger
+        final Properties replaced = configuration.getProperties();
+        replaced.setProperty("handler.CONSOLE", TestHandler.class.getName());
+        configuration.reconfigure(replaced);
+        Assertions.assertEquals(1, rootLogger.getHandlers().length);
+        final Handler replacement = rootLogger.getHandlers()[0];
+        Assertions.assertTrue(replacement instanceof TestHandler, () -> "Expected a TestHandler found " + replacement);
+        Assertions.assertSame(formatter, replacement.getFormatter());
+        Assertions.assertEquals(Level.INFO, replacement.getLevel());
+
+        // Removing the handler should detach it from the logger
+        final Properties removed = configuration.getProperties();
+        removed.remove("logger.handlers");
+        removed.remove("handler.CONSOLE");
+        removed.remove("handler.CONSOLE.level");
+        removed.remove("handler.CONSOLE.formatter");
+        configuration.reconfigure(removed);
+        Assertions.assertEquals(0, rootLogger.getHandlers().length);
+        Assertions.assertFalse(configuration.hasHandler("CONSOLE"));
+        Assertions.assertEquals(Level.DEBUG, rootLogger.getLevel());
+
+        // Removing the formatter from the properties removes it from the configuration
+        final Properties removedFormatter = configuration.getProperties();
+        removedFormatter.stringPropertyNames().stream()
+                .filter(key -> key.startsWith("formatter.PATTERN"))
+                .forEach(removedFormatter::remove);
+        configuration.reconfigure(removedFormatter);
+        Assertions.assertFalse(configuration.hasFormatter("PATTERN"));
+        // A handler can not be left without a formatter, so a formatter can only be replaced with another formatter
+        Assertions.assertThrows(NullPointerException.class, () -> configuration.replaceFormatter("PATTERN", null));
+        Assertions.assertThrows(NullPointerException.class, () -> configuration.replaceErrorManager("ERRORS", null));
+    }
+
+    @Test
+    public void testReconfigureFailure() {
+        final String loggerName = PropertyConfigurationTests.class.getName();
+        final PropertyContextConfiguration configuration = PropertyContextConfiguration.configure(logContext,
+                defaultProperties(loggerName));
+        final Logger rootLogger = logContext.getLogger("");
+        final Handler handler = findType(ConsoleHandler.class, rootLogger.getHandlers());
+        Assertions.assertNotNull(handler);
+
+        // A replacement which cannot be created should leave the previous handler in place
+        final Properties invalid = configuration.getProperties();
+        invalid.setProperty("handler.CONSOLE", "org.jboss.logmanager.handlers.MissingHandler");
+        Assertions.assertThrows(RuntimeException.class, () -> configuration.reconfigure(invalid));
+        Assertions.assertSame(handler, findType(ConsoleHandler.class, rootLogger.getHandlers()));
+        Assertions.assertSame(handler, configuration.getHandler("CONSOLE"));
+        Assertions.assertEquals(ConsoleHandler.class.getName(), configuration.getProperties().getProperty("handler.CONSOLE"));
+    }
+
     private void testDefault(final int expectedLoggers, final int expectedRootHandlers) {
         final Collection<String> loggerNames = Collections.list(logContext.getLoggerNames());
         // We should have two defined loggers
@@ -0,0 +1,183 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logmanager.configuration.filters;
+
+import java.util.List;
+import java.util.logging.Filter;
+import java.util.regex.Pattern;
+
+import org.jboss.logmanager.ExtLogRecord;
+import org.jboss.logmanager.Level;
+import org.jboss.logmanager.LogContext;
+import org.jboss.logmanager.filters.AcceptAllFilter;
+import org.jboss.logmanager.filters.DenyAllFilter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class FilterExpressionsTests {
+
+    private LogContext logContext;
+
+    @BeforeEach
+    public void setup() {
+        logContext = LogContext.create();
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        logContext.close();
+    }
+
+    @Test
+    public void testConstants() {
+        Assertions.assertSame(DenyAllFilter.getInstance(), parse("all(match(\"a\"), deny, levels(INFO))"));
+        Assertions.assertSame(AcceptAllFilter.getInstance(), parse("any(match(\"a\"), not(deny))"));
+        Assertions.assertSame(AcceptAllFilter.getInstance(), parse("all(accept, not(not(accept)))"));
+        Assertions.assertSame(DenyAllFilter.getInstance(), parse("any(deny, not(accept))"));
+        Assertions.assertThrows(Exception.class, () -> parse("all(deny, match(\"[\"))"));
+    }
+
+    @Test
+    public void testMatch() {
+        final Filter filter = parse("all(match(\"^Hello\"), match(\"wor.d\"), levelRange[INFO, ERROR])");
+        Assertions.assertTrue(filter.isLoggable(record(Level.INFO, "Hello world")));
+        Assertions.assertFalse(filter.isLoggable(record(Level.DEBUG, "Hello world")));
+        Assertions.assertFalse(filter.isLoggable(record(Level.INFO, "Hello there")));
+        Assertions.assertFalse(filter.isLoggable(record(Level.INFO, "Say Hello world")));
+
+        final Filter any = parse("any(match(\"error\\\\.code=\\\\d+\"), match(\"(?i)FATAL\"), levels(ERROR))");
+        Assertions.assertTrue(any.isLoggable(record(Level.INFO, "an error.code=12 occurred")));
+        Assertions.assertTrue(any.isLoggable(record(Level.INFO, "a fatal problem")));
+        Assertions.assertTrue(any.isLoggable(record(Level.ERROR, "nothing")));
+        Assertions.assertFalse(any.isLoggable(record(Level.INFO, "an error.code occurred")));
+
+        final Filter negated = parse("not(any(match(\"a(b)\\\\1\"), match(\"xyz\")))");
+        Assertions.assertFalse(negated.isLoggable(record(Level.INFO, "abb")));
+        Assertions.assertFalse(negated.isLoggable(record(Level.INFO, "xyz")));
+        Assertions.assertTrue(negated.isLoggable(record(Level.INFO, "abc")));
+    }
+
+    @Test
+    public void testSubstituteOrder() {
+        // the match must be evaluated after the substitution
+        final Filter filter = parse("all(substitute(\"secret\", \"***\"), match(\"\\\\*\\\\*\\\\*\"), levels(INFO))");
+        final ExtLogRecord record = record(Level.INFO, "the secret value");
+        Assertions.assertTrue(filter.isLoggable(record));
+        Assertions.assertEquals("the *** value", record.getMessage());
+
+        // a failed level check must not prevent a preceding substitution
+        final ExtLogRecord debug = record(Level.DEBUG, "the secret value");
+        Assertions.assertFalse(filter.isLoggable(debug));
+        Assertions.assertEquals("the *** value", debug.getMessage());
+
+        // a failed match must prevent a later substitution
+        final Filter guarded = parse("all(match(\"password\"), substituteAll(\"s\", \"S\"))");
+        final ExtLogRecord unchanged = record(Level.INFO, "the secret value");
+        Assertions.assertFalse(guarded.isLoggable(unchanged));
+        Assertions.assertEquals("the secret value", unchanged.getMessage());
+    }
+
+    @Test
+    public void testRequiredLiteral() {
+        Assertions.assertEquals("Hello", MatchFilter.requiredLiteral("^Hello"));
+        Assertions.assertEquals("error.code=", MatchFilter.requiredLiteral("error\\.code=\\d+"));
+        Assertions.assertEquals("onnection ", MatchFilter.requiredLiteral("[Cc]onnection (refused|reset)"));
+        Assertions.assertEquals("abc", MatchFilter.requiredLiteral("abcd?e"));
+        Assertions.assertEquals("timeout", MatchFilter.requiredLiteral("x{2,3}timeout"));
+        Assertions.assertNull(MatchFilter.requiredLiteral("foo|bar"));
+        Assertions.assertNull(MatchFilter.requiredLiteral("(?i)foo"));
+        Assertions.assertNull(MatchFilter.requiredLiteral("\\Qa.b\\E"));
+        Assertions.assertNull(MatchFilter.requiredLiteral(".*"));
+        // the arguments of escapes are not literal text
+        Assertions.assertEquals("BCD", MatchFilter.requiredLiteral("\\x41BCD"));
+        Assertions.assertEquals("BCD", MatchFilter.requiredLiteral("\\x{41}BCD"));
+        Assertions.assertEquals("BCD", MatchFilter.requiredLiteral("\\u0041BCD"));
+        Assertions.assertEquals("end", MatchFilter.requiredLiteral("\\p{Lu}end"));
+        Assertions.assertEquals("end", MatchFilter.requiredLiteral("\\pLend"));
+        Assertions.assertEquals("end", MatchFilter.requiredLiteral("\\cJend"));
+        Assertions.assertEquals("=done", MatchFilter.requiredLiteral("(?<name>a)\\k<name>=done"));
+        Assertions.assertNull(MatchFilter.requiredLiteral("\\x41"));
+        Assertions.assertNull(MatchFilter.requiredLiteral("\\u0041"));
+        Assertions.assertNull(MatchFilter.requiredLiteral("\\p{Alpha}"));
+        Assertions.assertNull(MatchFilter.requiredLiteral("\\cJ"));
+        Assertions.assertNull(MatchFilter.requiredLiteral("(?<name>a)\\k<name>"));
+
+        // the literal must be present in every message the pattern matches
+        for (String message : List.of("Hello world", "error.code=1", "a connection reset", "abce", "xxtimeout", "ABCD")) {
+            for (String pattern : List.of("^Hello", "error\\.code=\\d+", "[Cc]onnection (refused|reset)", "abcd?e",
+                    "x{2,3}timeout", "\\x41BCD", "\\u0041BCD")) {
+                final String literal = MatchFilter.requiredLiteral(pattern);
+                if (Pattern.compile(pattern).matcher(message).find()) {
+                    Assertions.assertTrue(message.contains(literal),
+                            () -> String.format("Message \"%s\" does not contain \"%s\"", message, literal));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testSuppressDuplicates() {
+        final Filter filter = parse("all(levels(ERROR), suppressDuplicates(2, 60000))");
+        Assertions.assertTrue(filter.isLoggable(record(Level.ERROR, "Connection refused")));
+        Assertions.assertTrue(filter.isLoggable(record(Level.ERROR, "Connection refused")));
+        Assertions.assertFalse(filter.isLoggable(record(Level.ERROR, "Connection refused")));
+        Assertions.assertTrue(filter.isLoggable(record(Level.ERROR, "Connection reset")));
+        Assertions.assertFalse(filter.isLoggable(record(Level.INFO, "Connection reset")));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> parse("suppressDuplicates(\"2\", 1000)"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> parse("suppressDuplicates(0, 1000)"));
+        // the limit is not truncated to an int
+        Assertions.assertThrows(IllegalArgumentException.class, () -> parse("suppressDuplicates(4294967297, 1000)"));
+    }
+
+    @Test
+    public void testRateLimitAndSample() {
+        final Filter rateLimit = parse("rateLimit(0.5, 2)");
+        Assertions.assertTrue(rateLimit.isLoggable(record(Level.INFO, "a")));
+        Assertions.assertTrue(rateLimit.isLoggable(record(Level.INFO, "b")));
+        Assertions.assertFalse(rateLimit.isLoggable(record(Level.INFO, "c")));
+
+        final Filter sample = parse("sample(WARN, 0)");
+        Assertions.assertTrue(sample.isLoggable(record(Level.WARN, "a")));
+        Assertions.assertFalse(sample.isLoggable(record(Level.DEBUG, "a")));
+
+        final Filter sampleTrace = parse("all(levels(INFO), sampleTrace(\"traceId\", 0.0))");
+        Assertions.assertTrue(sampleTrace.isLoggable(record(Level.INFO, "a")));
+        final ExtLogRecord traced = record(Level.INFO, "a");
+        traced.putMdc("traceId", "1234");
+        Assertions.assertFalse(sampleTrace.isLoggable(traced));
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> parse("sample(WARN, 1.5)"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> parse("rateLimit(1.2.3, 1)"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> parse("rateLimit(1.0, 2147483648)"));
+    }
+
+    private Filter parse(final String expression) {
+        return FilterExpressions.parse(logContext, expression);
+    }
+
+    private static ExtLogRecord record(final Level level, final String message) {
+        final ExtLogRecord record = new ExtLogRecord(level, message, ExtLogRecord.FormatStyle.NO_FORMAT,
+                FilterExpressionsTests.class.getName());
+        record.setLoggerName(FilterExpressionsTests.class.getName());
+        return record;
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logmanager.errormanager;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.ErrorManager;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class AggregatingErrorManagerTests {
+
+    @Test
+    public void testAggregate() {
+        final CapturingErrorManager delegate = new CapturingErrorManager();
+        final AggregatingErrorManager errorManager = new AggregatingErrorManager(delegate);
+        final IOException ioe = new IOException("No space left on device");
+        for (int i = 0; i < 10; i++) {
+            errorManager.error("Error writing log message " + i, ioe, ErrorManager.WRITE_FAILURE);
+        }
+        errorManager.error("Error on flush", ioe, ErrorManager.FLUSH_FAILURE);
+        errorManager.error("Formatting error", new IllegalArgumentException(), ErrorManager.WRITE_FAILURE);
+
+        // The first error for each code and exception type should be passed to the delegate
+        Assertions.assertEquals(3, delegate.errors.size());
+        Assertions.assertEquals("Error writing log message 0", delegate.errors.get(0).msg);
+        Assertions.assertSame(ioe, delegate.errors.get(0).ex);
+        Assertions.assertEquals("Error on flush", delegate.errors.get(1).msg);
+        Assertions.assertEquals("Formatting error", delegate.errors.get(2).msg);
+
+        errorManager.flush();
+        Assertions.assertEquals(4, delegate.errors.size());
+        final CapturedError summary = delegate.errors.get(3);
+        Assertions.assertEquals(ErrorManager.WRITE_FAILURE, summary.code);
+        Assertions.assertNull(summary.ex);
+        Assertions.assertTrue(summary.msg.startsWith("9 additional errors of type WRITE_FAILURE (java.io.IOException)"),
+                summary.msg);
+        Assertions.assertTrue(summary.msg.endsWith("Error writing log message 9"), summary.msg);
+
+        // A new window should have been started
+        errorManager.error("Error writing log message 10", ioe, ErrorManager.WRITE_FAILURE);
+        Assertions.assertEquals(5, delegate.errors.size());
+        Assertions.assertEquals("Error writing log message 10", delegate.errors.get(4).msg);
+    }
+
+    @Test
+    public void testPeriodicSummary() throws Exception {
+        final CapturingErrorManager delegate = new CapturingErrorManager();
+        final AggregatingErrorManager errorManager = new AggregatingErrorManager(delegate, 50L);
+        final IOException ioe = new IOException("Connection reset");
+        for (int i = 0; i < 5; i++) {
+            errorManager.error("Error writing log message", ioe, ErrorManager.WRITE_FAILURE);
+        }
+        Assertions.assertEquals(1, delegate.errors.size());
+
+        final long end = System.nanoTime() + TimeUnit.SECONDS.toNanos(5L);
+        while (delegate.errors.size() < 2 && System.nanoTime() < end) {
+            TimeUnit.MILLISECONDS.sleep(10L);
+        }
+        Assertions.assertEquals(2, delegate.errors.size(), "The summary was not passed to the delegate");
+        Assertions.assertTrue(delegate.errors.get(1).msg.startsWith("4 additional errors of type WRITE_FAILURE"),
+                delegate.errors.get(1).msg);
+    }
+
+    @Test
+    public void testCollidingKeys() {
+        final CapturingErrorManager delegate = new CapturingErrorManager();
+        final AggregatingErrorManager errorManager = new AggregatingErrorManager(delegate);
+        final IOException ioe = new IOException("No space left on device");
+        // more keys than a table slot per key would hold without collisions
+        final int codes = 40;
+        for (int i = 0; i < 3; i++) {
+            for (int code = 0; code < codes; code++) {
+                errorManager.error("Error " + code, ioe, code);
+            }
+        }
+        // colliding keys must not evict each other's window
+        Assertions.assertEquals(codes, delegate.errors.size());
+        errorManager.flush();
+        Assertions.assertEquals(codes * 2, delegate.errors.size());
+        for (CapturedError summary : delegate.errors.subList(codes, codes * 2)) {
+            Assertions.assertTrue(summary.msg.startsWith("2 additional errors"), summary.msg);
+        }
+    }
+
+    @Test
+    public void testIdleWindowsRemoved() throws Exception {
+        final CapturingErrorManager delegate = new CapturingErrorManager();
+        final AggregatingErrorManager errorManager = new AggregatingErrorManager(delegate, 20L);
+        final IOException ioe = new IOException("No space left on device");
+        // fill the table, errors of further codes can not be aggregated
+        for (int code = 0; code < 64; code++) {
+            errorManager.error("Error " + code, ioe, code);
+        }
+        // once the windows are idle their slots are reused and errors of new codes are aggregated again
+        final long end = System.nanoTime() + TimeUnit.SECONDS.toNanos(5L);
+        boolean aggregated = false;
+        for (int code = 64; !aggregated && System.nanoTime() < end; code++) {
+            TimeUnit.MILLISECONDS.sleep(10L);
+            final int before = delegate.errors.size();
+            errorManager.error("Error " + code, ioe, code);
+            errorManager.error("Error " + code, ioe, code);
+            aggregated = delegate.errors.size() == before + 1;
+        }
+        Assertions.assertTrue(aggregated, "The idle windows were not removed");
+    }
+
+    @Test
+    public void testConcurrentFlush() throws Exception {
+        final AtomicInteger reported = new AtomicInteger();
+        final AggregatingErrorManager errorManager = new AggregatingErrorManager(new ErrorManager() {
+            @Override
+            public void error(final String msg, final Exception ex, final int code) {
+                if (ex != null) {
+                    reported.incrementAndGet();
+                } else {
+                    reported.addAndGet(Integer.parseInt(msg.substring(0, msg.indexOf(' '))));
+                }
+            }
+        });
+        final IOException ioe = new IOException("Connection reset");
+        final int threads = 4;
+        final int perThread = 50_000;
+        final ExecutorService service = Executors.newFixedThreadPool(threads);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(service.submit(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        errorManager.error("Error writing log message", ioe, ErrorManager.WRITE_FAILURE);
+                    }
+                }));
+            }
+            // errors counted while a flush resets the window must not be lost
+            boolean done = false;
+            while (!done) {
+                errorManager.flush();
+                done = true;
+                for (Future<?> future : futures) {
+                    done &= future.isDone();
+                }
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            service.shutdownNow();
+        }
+        errorManager.flush();
+        Assertions.assertEquals(threads * perThread, reported.get());
+    }
+
+    private static final class CapturingErrorManager extends ErrorManager {
+        final List<CapturedError> errors = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void error(final String msg, final Exception ex, final int code) {
+            errors.add(new CapturedError(msg, ex, code));
+        }
+    }
+
+    private static final class CapturedError {
+        final String msg;
+        final Exception ex;
+        final int code;
+
+        private CapturedError(final String msg, final Exception ex, final int code) {
+            this.msg = msg;
+            this.ex = ex;
+            this.code = code;
+        }
+    }
+}
@@ -35,6 +35,7 @@ import jakarta.json.JsonValue.ValueType;
 
 import org.jboss.logmanager.ExtFormatter;
 import org.jboss.logmanager.ExtLogRecord;
+import org.jboss.logmanager.KeyValues;
 import org.jboss.logmanager.Level;
 import org.jboss.logmanager.formatters.StructuredFormatter.Key;
 import org.junit.jupiter.api.Assertions;
@@ -100,6 +101,39 @@ public class JsonFormatterTests extends AbstractTest {
         compare(record, formatter, metaDataMap);
     }
 
+    @Test
+    public void testKeyValues() throws Exception {
+        final JsonFormatter formatter = new JsonFormatter();
+        final ExtLogRecord record = createLogRecord("Test key values");
+        JsonObject json = parse(formatter.format(record));
+        Assertions.assertFalse(json.containsKey(getKey(Key.KEY_VALUES)));
+
+        record.setKeyValues(KeyValues.builder()
+                .add("count", 3)
+                .add("ratio", 0.5)
+                .add("enabled", true)
+                .add("user", "jdoe")
+                .add("missing", (String) null)
+                .add("nan", Double.NaN)
+                .build());
+        json = parse(formatter.format(record));
+        final JsonObject keyValues = json.getJsonObject(getKey(Key.KEY_VALUES));
+        Assertions.assertEquals(ValueType.NUMBER, keyValues.get("count").getValueType());
+        Assertions.assertEquals(3L, keyValues.getJsonNumber("count").longValueExact());
+        Assertions.assertEquals(ValueType.NUMBER, keyValues.get("ratio").getValueType());
+        Assertions.assertEquals(0.5d, keyValues.getJsonNumber("ratio").doubleValue());
+        Assertions.assertEquals(JsonValue.TRUE, keyValues.get("enabled"));
+        Assertions.assertEquals("jdoe", keyValues.getString("user"));
+        Assertions.assertTrue(keyValues.isNull("missing"));
+        Assertions.assertEquals("NaN", keyValues.getString("nan"));
+    }
+
+    private static JsonObject parse(final String jsonString) {
+        try (JsonReader reader = Json.createReader(new StringReader(jsonString))) {
+            return reader.readObject();
+        }
+    }
+
     private static int getInt(final JsonObject json, final Key key) {
         final String name = getKey(key);
         if (json.containsKey(name) && !json.isNull(name)) {
@@ -20,6 +20,7 @@
 package org.jboss.logmanager.formatters;
 
 import org.jboss.logmanager.ExtLogRecord;
+import org.jboss.logmanager.KeyValues;
 import org.jboss.logmanager.MDC;
 import org.jboss.logmanager.NDC;
 import org.junit.jupiter.api.Assertions;
@@ -136,6 +137,28 @@ public class PatternFormatterTests {
         }
     }
 
+    @Test
+    public void keyValues() throws Exception {
+        final ExtLogRecord record = createLogRecord("test");
+        PatternFormatter formatter = new PatternFormatter("%f");
+        Assertions.assertEquals("", formatter.format(record));
+
+        record.setKeyValues(KeyValues.builder()
+                .add("count", 3)
+                .add("ratio", 0.5)
+                .add("enabled", true)
+                .add("user", "jdoe")
+                .build());
+        formatter = new PatternFormatter("%f{count} %f{ratio} %f{enabled} %f{user}");
+        Assertions.assertEquals("3 0.5 true jdoe", formatter.format(record));
+
+        formatter = new PatternFormatter("[%f{not.found}]");
+        Assertions.assertEquals("[]", formatter.format(record));
+
+        formatter = new PatternFormatter("%f");
+        Assertions.assertEquals("{count=3, ratio=0.5, enabled=true, user=jdoe}", formatter.format(record));
+    }
+
     @Test
     public void threads() throws Exception {
         final ExtLogRecord record = createLogRecord("test");
@@ -21,7 +21,10 @@ package org.jboss.logmanager.formatters;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.time.Instant;
 
+import org.jboss.logmanager.ExtLogRecord;
+import org.jboss.logmanager.Level;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.api.Test;
@@ -131,6 +134,49 @@ public class StackTraceFormatterTests {
         Assertions.assertEquals(writer.toString(), sanitize(sb.toString()));
     }
 
+    @Test
+    public void compareRepeatedStackTrace() {
+        // Both throwables have the same frames, the second rendering uses the cached frames but not the message
+        for (Throwable t : createCauseStackTraces(2)) {
+            final StringWriter writer = new StringWriter();
+            t.printStackTrace(new PrintWriter(writer));
+
+            final StringBuilder sb = new StringBuilder();
+            StackTraceFormatter.renderStackTrace(sb, t, false, -1);
+            Assertions.assertEquals(writer.toString(), sanitize(sb.toString()));
+        }
+    }
+
+    @Test
+    public void compactRepeatedStackTrace() {
+        final PatternFormatter formatter = new PatternFormatter("%s%e%n");
+        formatter.setCompactStackTraceThreshold(2);
+        formatter.setCompactStackTraceWindow(1000L);
+
+        final Throwable[] failures = createCauseStackTraces(4);
+        final String fingerprint = StackTraceFingerprints.toString(StackTraceFingerprints.fingerprint(failures[0]));
+        final long start = System.currentTimeMillis();
+        for (int i = 0; i < 2; i++) {
+            final String formatted = formatter.format(createLogRecord(start, failures[i]));
+            Assertions.assertTrue(formatted.contains("\tat "), () -> "Expected the full stack trace: " + formatted);
+            Assertions.assertTrue(formatted.contains("[stack trace " + fingerprint + "]"),
+                    () -> "Expected the fingerprint " + fingerprint + ": " + formatted);
+        }
+        String formatted = formatter.format(createLogRecord(start + 10L, failures[2]));
+        Assertions.assertFalse(formatted.contains("\tat "), "Expected the frames to be omitted: " + formatted);
+        Assertions.assertTrue(formatted.contains("Failure 3"), "Expected the exception message: " + formatted);
+        Assertions.assertTrue(formatted.contains("[stack trace " + fingerprint + " repeated 3 times, frames omitted]"),
+                "Expected a reference to " + fingerprint + ": " + formatted);
+
+        // A new window renders the full stack trace again
+        formatted = formatter.format(createLogRecord(start + 1000L, failures[3]));
+        Assertions.assertTrue(formatted.contains("\tat "), "Expected the full stack trace: " + formatted);
+
+        // A different stack trace is tracked separately
+        formatted = formatter.format(createLogRecord(start + 1000L, new IllegalStateException("Other")));
+        Assertions.assertTrue(formatted.contains("\tat "), "Expected the full stack trace: " + formatted);
+    }
+
     @Test
     public void testNestedSuppressStackTraceDepth() {
         // Test that all messages exist
@@ -170,6 +216,21 @@ public class StackTraceFormatterTests {
                 () -> String.format("Depth %d should %s contained \"%s\": %s", depth, (test ? "have" : "not have"), text, msg));
     }
 
+    private static Throwable[] createCauseStackTraces(final int count) {
+        final Throwable[] result = new Throwable[count];
+        for (int i = 0; i < count; i++) {
+            result[i] = new RuntimeException("Failure " + (i + 1), new IllegalStateException("Cause"));
+        }
+        return result;
+    }
+
+    private static ExtLogRecord createLogRecord(final long millis, final Throwable thrown) {
+        final ExtLogRecord record = new ExtLogRecord(Level.ERROR, "Failed", StackTraceFormatterTests.class.getName());
+        record.setInstant(Instant.ofEpochMilli(millis));
+        record.setThrown(thrown);
+        return record;
+    }
+
     private Throwable createMultiNestedCause() {
         final RuntimeException suppressed1 = new RuntimeException("Suppressed 1");
         final IllegalStateException nested1 = new IllegalStateException("Nested 1");
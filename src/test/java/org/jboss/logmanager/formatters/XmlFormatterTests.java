@@ -40,6 +40,7 @@ import javax.xml.validation.Validator;
 
 import org.jboss.logmanager.ExtFormatter;
 import org.jboss.logmanager.ExtLogRecord;
+import org.jboss.logmanager.KeyValues;
 import org.jboss.logmanager.Level;
 import org.jboss.logmanager.formatters.StructuredFormatter.Key;
 import org.junit.jupiter.api.Assertions;
@@ -72,6 +73,7 @@ public class XmlFormatterTests extends AbstractTest {
         record.setThrown(createMultiNestedCause());
         record.putMdc("testMdcKey", "testMdcValue");
         record.setNdc("testNdc");
+        record.setKeyValues(KeyValues.builder().add("count", 3).add("ratio", 0.5).add("user", "jdoe").build());
         final String message = formatter.format(record);
 
         final ErrorHandler handler = new ErrorHandler() {
@@ -170,6 +172,41 @@ public class XmlFormatterTests extends AbstractTest {
         Assertions.assertEquals("", item.getTextContent(), "Expected no value");
     }
 
+    @Test
+    public void escaping() throws Exception {
+        final var formatter = new XmlFormatter();
+        formatter.setPrintNamespace(true);
+        formatter.setNamespaceUri("urn:test?a=1&b=\"2\"");
+        formatter.setMetaData("key=<value> & \"more\"");
+        final var message = "Escaped <element attr=\"value\"> & 'text' >";
+        final var record = createLogRecord(message);
+        record.putMdc("mdcKey", "a<b>&c");
+        final var xml = formatter.format(record);
+
+        final DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        factory.setNamespaceAware(true);
+        final Document doc = factory.newDocumentBuilder().parse(new InputSource(new StringReader(xml)));
+        Assertions.assertEquals("urn:test?a=1&b=\"2\"", doc.getDocumentElement().getNamespaceURI());
+        Assertions.assertEquals(message, doc.getElementsByTagName("message").item(0).getTextContent());
+        Assertions.assertEquals("a<b>&c", doc.getElementsByTagName("mdcKey").item(0).getTextContent());
+        Assertions.assertEquals("<value> & \"more\"", doc.getElementsByTagName("metaData").item(0).getTextContent());
+    }
+
+    @Test
+    public void prettyPrint() throws Exception {
+        final var formatter = new XmlFormatter();
+        formatter.setPrettyPrint(true);
+        final var record = createLogRecord("line1\nline2 & more");
+        record.setNdc("");
+        final var xml = formatter.format(record);
+        Assertions.assertTrue(xml.startsWith("\n<record>\n    <timestamp>"), xml);
+        Assertions.assertTrue(xml.contains("\n    <message>\n        line1\n        line2 &amp; more\n    </message>\n"),
+                xml);
+        Assertions.assertTrue(xml.contains("\n    <mdc>\n    </mdc>\n"), xml);
+        Assertions.assertTrue(xml.contains("\n    <ndc></ndc>\n"), xml);
+        Assertions.assertTrue(xml.endsWith("\n</record>\n"), xml);
+    }
+
     private static int getInt(final XMLStreamReader reader) throws XMLStreamException {
         final String value = getString(reader);
         if (value != null) {
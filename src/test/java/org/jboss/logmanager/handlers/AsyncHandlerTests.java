@@ -19,8 +19,16 @@
 
 package org.jboss.logmanager.handlers;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
 
 import org.jboss.logmanager.ExtHandler;
@@ -129,10 +137,254 @@ public class AsyncHandlerTests {
         Assertions.assertNull(handler.getFirst(), () -> "Expected no more entries, but found " + handler.queue);
     }
 
+    @Test
+    public void testPartitionOrdering() throws Exception {
+        final AsyncHandler partitioned = new AsyncHandler(16, 4);
+        try {
+            handler.setFormatter(new PatternFormatter("%c %s"));
+            partitioned.setPartitionKey(AsyncHandler.PartitionKey.LOGGER_NAME);
+            partitioned.addHandler(handler);
+            final int loggers = 8;
+            final int records = 50;
+            for (int i = 0; i < records; i++) {
+                for (int j = 0; j < loggers; j++) {
+                    final ExtLogRecord record = new ExtLogRecord(Level.INFO, Integer.toString(i),
+                            AsyncHandlerTests.class.getName());
+                    record.setLoggerName("logger" + j);
+                    partitioned.publish(record);
+                }
+            }
+            // records from the same logger must be received in the order they were published
+            final int[] next = new int[loggers];
+            for (int i = 0; i < records * loggers; i++) {
+                final String line = handler.getFirst();
+                Assertions.assertNotNull(line, "Missing records");
+                final String[] parts = line.split(" ");
+                final int logger = Integer.parseInt(parts[0].substring("logger".length()));
+                Assertions.assertEquals(next[logger]++, Integer.parseInt(parts[1]), () -> "Out of order record " + line);
+            }
+        } finally {
+            partitioned.close();
+        }
+    }
+
+    @Test
+    public void testHandlerPartitions() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+        final ExtHandler slowHandler = new ExtHandler() {
+            @Override
+            protected void doPublish(final ExtLogRecord record) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                super.doPublish(record);
+            }
+        };
+        final AsyncHandler partitioned = new AsyncHandler(1, 2, Executors.defaultThreadFactory());
+        try {
+            handler.setFormatter(new PatternFormatter("%s"));
+            partitioned.setPartitionKey(AsyncHandler.PartitionKey.HANDLER);
+            partitioned.setOverflowAction(OverflowAction.DISCARD);
+            partitioned.addHandler(slowHandler);
+            partitioned.addHandler(handler);
+            // the slow handler holds one record and has one queued, the rest are discarded from its partition only
+            for (int i = 0; i < 5; i++) {
+                partitioned.publish(createRecord());
+                Assertions.assertEquals("Test message", handler.getFirst());
+            }
+            Assertions.assertTrue(partitioned.getDiscardedCount(0) > 0);
+            Assertions.assertEquals(0L, partitioned.getDiscardedCount(1));
+        } finally {
+            release.countDown();
+            partitioned.close();
+        }
+    }
+
+    @Test
+    public void testHandlerPartitionsCopyRecord() throws Exception {
+        final BlockingQueue<ExtLogRecord> published = new LinkedBlockingQueue<>();
+        final AsyncHandler partitioned = new AsyncHandler(8, 2, Executors.defaultThreadFactory());
+        try {
+            partitioned.setPartitionKey(AsyncHandler.PartitionKey.HANDLER);
+            for (int i = 0; i < 2; i++) {
+                partitioned.addHandler(new ExtHandler() {
+                    @Override
+                    protected void doPublish(final ExtLogRecord record) {
+                        published.add(record);
+                    }
+                });
+            }
+            partitioned.publish(createRecord());
+            final ExtLogRecord first = published.poll(5, TimeUnit.SECONDS);
+            final ExtLogRecord second = published.poll(5, TimeUnit.SECONDS);
+            Assertions.assertNotNull(first);
+            Assertions.assertNotNull(second);
+            // the partitions publish concurrently, so each must have its own record
+            Assertions.assertNotSame(first, second);
+            Assertions.assertEquals(first.getMessage(), second.getMessage());
+        } finally {
+            partitioned.close();
+        }
+    }
+
+    @Test
+    public void testLevelPriority() throws Exception {
+        final BlockingHandler blockingHandler = new BlockingHandler();
+        final AsyncHandler priorityHandler = new AsyncHandler(8);
+        try {
+            priorityHandler.setOverflowAction(OverflowAction.LEVEL_PRIORITY);
+            priorityHandler.addHandler(blockingHandler);
+            blockingHandler.addHandler(handler);
+            handler.setFormatter(new PatternFormatter("%p"));
+            // block the worker so the queue fills
+            priorityHandler.publish(createRecord(Level.INFO));
+            blockingHandler.awaitEntered();
+
+            // half of the queue is available to DEBUG records
+            for (int i = 0; i < 6; i++) {
+                priorityHandler.publish(createRecord(Level.DEBUG));
+            }
+            // ERROR records may use the rest of the queue
+            for (int i = 0; i < 4; i++) {
+                priorityHandler.publish(createRecord(Level.ERROR));
+            }
+            Assertions.assertEquals(2L, priorityHandler.getDiscardedCount(Level.DEBUG));
+            Assertions.assertEquals(0L, priorityHandler.getDiscardedCount(Level.ERROR));
+            Assertions.assertEquals(2L, priorityHandler.getDiscardedCount());
+
+            blockingHandler.release();
+            Assertions.assertEquals("INFO", handler.getFirst());
+            for (int i = 0; i < 4; i++) {
+                Assertions.assertEquals("DEBUG", handler.getFirst());
+            }
+            for (int i = 0; i < 4; i++) {
+                Assertions.assertEquals("ERROR", handler.getFirst());
+            }
+        } finally {
+            blockingHandler.release();
+            priorityHandler.close();
+        }
+    }
+
+    @Test
+    public void testAdaptiveLevel() throws Exception {
+        final BlockingHandler blockingHandler = new BlockingHandler();
+        final AsyncHandler adaptiveHandler = new AsyncHandler(10);
+        try {
+            adaptiveHandler.setAdaptiveLevel(Level.WARN);
+            adaptiveHandler.setAdaptiveWatermark(50);
+            adaptiveHandler.addHandler(blockingHandler);
+            blockingHandler.addHandler(handler);
+            handler.setFormatter(new PatternFormatter("%p"));
+            adaptiveHandler.publish(createRecord(Level.INFO));
+            blockingHandler.awaitEntered();
+
+            // the watermark is reached after five records, after which only WARN or higher is queued
+            for (int i = 0; i < 6; i++) {
+                adaptiveHandler.publish(createRecord(Level.INFO));
+            }
+            adaptiveHandler.publish(createRecord(Level.WARN));
+            Assertions.assertEquals(1L, adaptiveHandler.getDiscardedCount(Level.INFO));
+
+            blockingHandler.release();
+            for (int i = 0; i < 6; i++) {
+                Assertions.assertEquals("INFO", handler.getFirst());
+            }
+            Assertions.assertEquals("WARN", handler.getFirst());
+
+            // the queue has drained, INFO records are accepted again
+            adaptiveHandler.publish(createRecord(Level.INFO));
+            Assertions.assertEquals("INFO", handler.getFirst());
+            Assertions.assertEquals(1L, adaptiveHandler.getDiscardedCount(Level.INFO));
+        } finally {
+            blockingHandler.release();
+            adaptiveHandler.close();
+        }
+    }
+
+    @Test
+    public void testAdaptiveLevelDrainRace() throws Exception {
+        final AsyncHandler adaptiveHandler = new AsyncHandler(2);
+        final ExecutorService service = Executors.newFixedThreadPool(4);
+        try {
+            adaptiveHandler.setAdaptiveLevel(Level.WARN);
+            adaptiveHandler.setAdaptiveWatermark(50);
+            adaptiveHandler.addHandler(handler);
+            handler.setFormatter(new PatternFormatter("%s"));
+            long discarded = 0L;
+            for (int round = 0; round < 200; round++) {
+                // the worker drains the queue while the producers mark the partition as overloaded
+                final CountDownLatch start = new CountDownLatch(1);
+                final List<Future<?>> producers = new ArrayList<>();
+                for (int t = 0; t < 4; t++) {
+                    producers.add(service.submit(() -> {
+                        start.await();
+                        for (int i = 0; i < 20; i++) {
+                            adaptiveHandler.publish(createRecord(Level.INFO, "burst"));
+                        }
+                        return null;
+                    }));
+                }
+                start.countDown();
+                for (Future<?> producer : producers) {
+                    producer.get(5, TimeUnit.SECONDS);
+                }
+                // wait for every record which was not discarded, records above the adaptive level would clear the flag
+                long remaining = 80L - (adaptiveHandler.getDiscardedCount() - discarded);
+                for (; remaining > 0; remaining--) {
+                    Assertions.assertEquals("burst", handler.getFirst());
+                }
+                discarded = adaptiveHandler.getDiscardedCount();
+
+                // the queue is empty, an INFO record must be accepted
+                adaptiveHandler.publish(createRecord(Level.INFO, "after"));
+                Assertions.assertEquals("after", handler.getFirst(), "The partition remained overloaded in round " + round);
+            }
+        } finally {
+            service.shutdownNow();
+            adaptiveHandler.close();
+        }
+    }
+
+    static ExtLogRecord createRecord(final Level level, final String msg) {
+        return new ExtLogRecord(level, msg, AsyncHandlerTests.class.getName());
+    }
+
+    static ExtLogRecord createRecord(final Level level) {
+        return new ExtLogRecord(level, "Test message", AsyncHandlerTests.class.getName());
+    }
+
     static ExtLogRecord createRecord() {
         return new ExtLogRecord(Level.INFO, "Test message", AsyncHandlerTests.class.getName());
     }
 
+    static class BlockingHandler extends ExtHandler {
+        private final CountDownLatch entered = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        @Override
+        protected void doPublish(final ExtLogRecord record) {
+            entered.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            publishToNestedHandlers(record);
+            super.doPublish(record);
+        }
+
+        void awaitEntered() throws InterruptedException {
+            Assertions.assertTrue(entered.await(5, TimeUnit.SECONDS), "The handler was not entered");
+        }
+
+        void release() {
+            release.countDown();
+        }
+    }
+
     static class BlockingQueueHandler extends ExtHandler {
         private final BlockingDeque<String> queue;
 
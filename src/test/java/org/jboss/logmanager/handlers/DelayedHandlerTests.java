@@ -27,6 +27,7 @@ import java.util.UUID;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.logging.ErrorManager;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
@@ -230,6 +231,107 @@ public class DelayedHandlerTests {
         }
     }
 
+    @Test
+    public void testQueueByteLimit() {
+        final LogContext logContext = LogContext.create();
+        final Logger rootLogger = logContext.getLogger("");
+        final DelayedHandler handler = new DelayedHandler();
+        final List<String> errors = new ArrayList<>();
+        handler.setErrorManager(new ErrorManager() {
+            @Override
+            public synchronized void error(final String msg, final Exception ex, final int code) {
+                errors.add(msg);
+            }
+        });
+        handler.setQueueByteLimit(4096L);
+        rootLogger.addHandler(handler);
+        for (int i = 0; i < 100; i++) {
+            rootLogger.info("Test message " + i);
+        }
+        // only the first discarded record is reported until the queue is drained
+        Assertions.assertEquals(1, errors.size(), () -> "Expected a single error: " + errors);
+
+        handler.addHandler(new TestHandler());
+        Assertions.assertEquals(2, errors.size(), () -> "Expected the discarded count to be reported: " + errors);
+        Assertions.assertTrue(TestHandler.MESSAGES.size() > 0 && TestHandler.MESSAGES.size() < 100,
+                () -> "Expected some, but not all, messages to be queued: " + TestHandler.MESSAGES.size());
+        for (int i = 0; i < TestHandler.MESSAGES.size(); i++) {
+            Assertions.assertEquals("Test message " + i, TestHandler.MESSAGES.get(i).getFormattedMessage());
+        }
+    }
+
+    @Test
+    public void testQueueOverrun() throws Exception {
+        final int threads = 8;
+        final int perThread = 10;
+        final ExecutorService service = Executors.newFixedThreadPool(threads);
+        final LogContext logContext = LogContext.create();
+        final Logger rootLogger = logContext.getLogger("");
+        final DelayedHandler handler = new DelayedHandler(logContext, 50);
+        final List<String> errors = new ArrayList<>();
+        handler.setErrorManager(new ErrorManager() {
+            @Override
+            public synchronized void error(final String msg, final Exception ex, final int code) {
+                errors.add(msg);
+            }
+        });
+        rootLogger.addHandler(handler);
+        try {
+            for (int t = 0; t < threads; t++) {
+                service.submit(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        rootLogger.info("message");
+                    }
+                });
+            }
+            service.shutdown();
+            Assertions.assertTrue(service.awaitTermination(30, TimeUnit.SECONDS));
+            // each record logged beyond the queue limit across all threads is reported exactly once
+            Assertions.assertEquals(threads * perThread - 50, errors.size(), () -> "Unexpected errors: " + errors);
+
+            handler.addHandler(new TestHandler());
+            Assertions.assertEquals(threads * perThread, TestHandler.MESSAGES.size());
+        } finally {
+            Assertions.assertTrue(service.shutdownNow().isEmpty());
+        }
+    }
+
+    @Test
+    public void testManyThreadsOrdered() throws Exception {
+        final int threads = 200;
+        final int perThread = 250;
+        final ExecutorService service = Executors.newFixedThreadPool(threads);
+        final LogContext logContext = LogContext.create();
+
+        final DelayedHandler handler = new DelayedHandler(logContext, Integer.MAX_VALUE);
+        handler.setErrorManager(AssertingErrorManager.of());
+        final Logger rootLogger = logContext.getLogger("");
+        rootLogger.addHandler(handler);
+        try {
+            for (int t = 0; t < threads; t++) {
+                service.submit(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        rootLogger.info("message");
+                    }
+                });
+            }
+            service.shutdown();
+            Assertions.assertTrue(service.awaitTermination(30, TimeUnit.SECONDS));
+            handler.addHandler(new TestHandler());
+
+            Assertions.assertEquals(threads * perThread, TestHandler.MESSAGES.size());
+            long previous = TestHandler.MESSAGES.get(0).getSequenceNumber();
+            for (int i = 1; i < TestHandler.MESSAGES.size(); i++) {
+                final long current = TestHandler.MESSAGES.get(i).getSequenceNumber();
+                Assertions.assertTrue(previous < current,
+                        "Records are out of order at " + i + ": " + previous + " >= " + current);
+                previous = current;
+            }
+        } finally {
+            Assertions.assertTrue(service.shutdownNow().isEmpty());
+        }
+    }
+
     private static ExecutorService createExecutor() {
         return Executors.newFixedThreadPool(ProcessorInfo.availableProcessors() * 2);
     }
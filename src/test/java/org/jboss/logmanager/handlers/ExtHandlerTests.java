@@ -19,10 +19,15 @@
 
 package org.jboss.logmanager.handlers;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.logging.SimpleFormatter;
 
 import org.jboss.logmanager.AssertingErrorManager;
 import org.jboss.logmanager.ExtHandler;
+import org.jboss.logmanager.ExtLogRecord;
+import org.jboss.logmanager.HandlerMetrics;
+import org.jboss.logmanager.Level;
 import org.jboss.logmanager.formatters.PatternFormatter;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -71,6 +76,43 @@ public class ExtHandlerTests {
 
     }
 
+    @Test
+    public void testMetrics() throws Exception {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (OutputStreamHandler handler = new OutputStreamHandler(new PatternFormatter("%s%n"))) {
+            handler.setOutputStream(out);
+            handler.setAutoFlush(true);
+            handler.setFilter(record -> !record.getMessage().startsWith("filtered"));
+            Assertions.assertFalse(handler.isMetricsEnabled());
+            Assertions.assertNull(handler.getMetrics());
+
+            handler.setMetricsEnabled(true);
+            final HandlerMetrics metrics = handler.getMetrics();
+            Assertions.assertNotNull(metrics);
+
+            handler.publish(new ExtLogRecord(Level.INFO, "accepted 1", ExtHandlerTests.class.getName()));
+            handler.publish(new ExtLogRecord(Level.INFO, "filtered", ExtHandlerTests.class.getName()));
+            handler.publish(new ExtLogRecord(Level.INFO, "accepted 2", ExtHandlerTests.class.getName()));
+
+            Assertions.assertEquals(2L, metrics.getPublishedCount());
+            Assertions.assertEquals(1L, metrics.getFilteredCount());
+            Assertions.assertEquals(0L, metrics.getErrorCount());
+            Assertions.assertEquals(out.toByteArray().length, metrics.getBytesWritten());
+            Assertions.assertEquals("accepted 1" + System.lineSeparator() + "accepted 2" + System.lineSeparator(),
+                    out.toString(StandardCharsets.UTF_8));
+
+            metrics.reset();
+            Assertions.assertEquals(0L, metrics.getPublishedCount());
+            Assertions.assertEquals(0L, metrics.getBytesWritten());
+
+            // Disabling the metrics should discard the counters
+            handler.setMetricsEnabled(false);
+            Assertions.assertNull(handler.getMetrics());
+            handler.publish(new ExtLogRecord(Level.INFO, "accepted 3", ExtHandlerTests.class.getName()));
+            Assertions.assertEquals(0L, metrics.getPublishedCount());
+        }
+    }
+
     @Test
     public void testCallerCalculationCheckFormatterChange() throws Exception {
         final CloseHandler parent = new CloseHandler();
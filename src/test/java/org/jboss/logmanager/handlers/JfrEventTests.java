@@ -0,0 +1,190 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logmanager.handlers;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.logmanager.ExtHandler;
+import org.jboss.logmanager.ExtLogRecord;
+import org.jboss.logmanager.handlers.AsyncHandler.OverflowAction;
+import org.jboss.logmanager.jfr.JfrSupport;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingStream;
+
+/**
+ * Tests the Java Flight Recorder events emitted by the handlers.
+ */
+public class JfrEventTests extends AbstractHandlerTest {
+    private static final String LOGGER_NAME = JfrEventTests.class.getName();
+
+    @Test
+    public void testPublishAndWrite() throws Exception {
+        Assertions.assertTrue(JfrSupport.AVAILABLE);
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (
+                EventRecorder recorder = new EventRecorder();
+                OutputStreamHandler handler = new OutputStreamHandler(out, FORMATTER)) {
+            final List<RecordedEvent> publishEvents = recorder.record("org.jboss.logmanager.Publish");
+            final List<RecordedEvent> writeEvents = recorder.record("org.jboss.logmanager.Write");
+            recorder.start();
+            handler.publish(createNamedLogRecord("Test message"));
+            recorder.await();
+
+            final RecordedEvent publish = publishEvents.get(0);
+            Assertions.assertEquals(LOGGER_NAME, publish.getString("logger"));
+            Assertions.assertEquals("INFO", publish.getString("level"));
+            Assertions.assertEquals(OutputStreamHandler.class.getName(), publish.getClass("handler").getName());
+
+            final RecordedEvent write = writeEvents.get(0);
+            Assertions.assertEquals(OutputStreamHandler.class.getName(), write.getClass("handler").getName());
+            Assertions.assertEquals(out.toString().length(), write.getInt("length"));
+        }
+    }
+
+    @Test
+    public void testRotation() throws Exception {
+        try (
+                EventRecorder recorder = new EventRecorder();
+                SizeRotatingFileHandler handler = new SizeRotatingFileHandler()) {
+            final List<RecordedEvent> events = recorder.record("org.jboss.logmanager.Rotation");
+            recorder.start();
+            configureHandlerDefaults(handler);
+            handler.setRotateSize(10L);
+            handler.setMaxBackupIndex(2);
+            handler.setSuffix(".gz");
+            handler.setFile(resolvePath("rotating.log").toFile());
+            handler.publish(createLogRecord("Test message 1"));
+            handler.publish(createLogRecord("Test message 2"));
+            recorder.await();
+
+            final RecordedEvent event = events.get(0);
+            Assertions.assertEquals(resolvePath("rotating.log").toAbsolutePath().toString(), event.getString("source"));
+            Assertions.assertTrue(event.getString("target").endsWith("rotating.log.1.gz"), event.getString("target"));
+            Assertions.assertEquals("GZIP", event.getString("compression"));
+            Assertions.assertTrue(event.getBoolean("succeeded"));
+            Assertions.assertTrue(Files.exists(resolvePath("rotating.log.1.gz")));
+        }
+    }
+
+    @Test
+    public void testAsyncDiscard() throws Exception {
+        final CountDownLatch blocked = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final AsyncHandler handler = new AsyncHandler(1);
+        handler.setOverflowAction(OverflowAction.DISCARD);
+        handler.addHandler(new ExtHandler() {
+            @Override
+            protected void doPublish(final ExtLogRecord record) {
+                blocked.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+        try (EventRecorder recorder = new EventRecorder()) {
+            final List<RecordedEvent> events = recorder.record("org.jboss.logmanager.AsyncDiscard");
+            recorder.start();
+            // The first record blocks the consumer thread, the second fills the queue and the third is discarded
+            handler.publish(createLogRecord("Test message 1"));
+            Assertions.assertTrue(blocked.await(5, TimeUnit.SECONDS));
+            handler.publish(createLogRecord("Test message 2"));
+            handler.publish(createNamedLogRecord("Test message 3"));
+            recorder.await();
+
+            final RecordedEvent event = events.get(0);
+            Assertions.assertEquals(AsyncHandler.class.getName(), event.getClass("handler").getName());
+            Assertions.assertEquals(LOGGER_NAME, event.getString("logger"));
+            Assertions.assertEquals("INFO", event.getString("level"));
+        } finally {
+            release.countDown();
+            handler.close();
+        }
+    }
+
+    @Test
+    public void testDelayedActivation() throws Exception {
+        final DelayedHandler handler = new DelayedHandler();
+        try (EventRecorder recorder = new EventRecorder()) {
+            final List<RecordedEvent> events = recorder.record("org.jboss.logmanager.DelayedActivation");
+            recorder.start();
+            handler.publish(createLogRecord("Test message 1"));
+            handler.publish(createLogRecord("Test message 2"));
+            handler.addHandler(new ExtHandler() {
+            });
+            recorder.await();
+
+            final RecordedEvent event = events.get(0);
+            Assertions.assertEquals(DelayedHandler.class.getName(), event.getClass("handler").getName());
+            Assertions.assertEquals(2, event.getInt("drained"));
+            Assertions.assertEquals(2, event.getInt("published"));
+        } finally {
+            handler.close();
+        }
+    }
+
+    private ExtLogRecord createNamedLogRecord(final String msg) {
+        final ExtLogRecord record = createLogRecord(msg);
+        record.setLoggerName(LOGGER_NAME);
+        return record;
+    }
+
+    private static final class EventRecorder implements AutoCloseable {
+        private final RecordingStream stream = new RecordingStream();
+        private final List<CountDownLatch> latches = new ArrayList<>();
+
+        List<RecordedEvent> record(final String name) {
+            final List<RecordedEvent> events = new CopyOnWriteArrayList<>();
+            final CountDownLatch latch = new CountDownLatch(1);
+            stream.enable(name).withoutThreshold();
+            stream.onEvent(name, event -> {
+                events.add(event);
+                latch.countDown();
+            });
+            latches.add(latch);
+            return events;
+        }
+
+        void start() {
+            stream.startAsync();
+        }
+
+        void await() throws InterruptedException {
+            for (CountDownLatch latch : latches) {
+                Assertions.assertTrue(latch.await(30, TimeUnit.SECONDS), "Timed out waiting for the JFR events");
+            }
+        }
+
+        @Override
+        public void close() {
+            stream.close();
+        }
+    }
+}
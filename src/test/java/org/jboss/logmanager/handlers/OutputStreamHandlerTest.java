@@ -18,14 +18,25 @@
  */
 package org.jboss.logmanager.handlers;
 
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStreamReader;
 import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Formatter;
 import java.util.logging.LogRecord;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 import org.jboss.logmanager.AssertingErrorManager;
 import org.jboss.logmanager.ExtLogRecord;
 import org.jboss.logmanager.Level;
+import org.jboss.logmanager.formatters.PatternFormatter;
 import org.jboss.logmanager.handlers.ConsoleHandler.Target;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
@@ -90,4 +101,71 @@ public class OutputStreamHandlerTest {
         Assertions.assertEquals("Hello World", out.toString());
     }
 
+    @Test
+    public void testDirectOutput() throws Exception {
+        handler = new OutputStreamHandler();
+        // the records are written to the file descriptor of the process, so capture the output of a new process
+        final List<String> cmd = new ArrayList<>();
+        cmd.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        cmd.add("-cp");
+        cmd.add(System.getProperty("java.class.path"));
+        cmd.add(DirectOutputMain.class.getName());
+        final Process process = new ProcessBuilder(cmd).redirectErrorStream(true).start();
+        final List<String> lines;
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            lines = reader.lines().collect(Collectors.toList());
+        }
+        Assertions.assertTrue(process.waitFor(30L, TimeUnit.SECONDS), "The process did not exit");
+        Assertions.assertEquals(0, process.exitValue(), () -> String.join(System.lineSeparator(), lines));
+
+        // output written through System.out is not reordered with the records
+        Assertions.assertEquals(List.of("before record 1", "between", "record 2", "partial record 3"), lines.subList(0, 4));
+        // the records of each thread are complete and in order
+        final int[] next = new int[DirectOutputMain.THREADS];
+        for (String line : lines.subList(4, lines.size())) {
+            final Matcher matcher = THREAD_RECORD.matcher(line);
+            Assertions.assertTrue(matcher.matches(), () -> "Unexpected line: " + line);
+            final int thread = Integer.parseInt(matcher.group(1));
+            Assertions.assertEquals(next[thread]++, Integer.parseInt(matcher.group(2)));
+        }
+        for (int count : next) {
+            Assertions.assertEquals(DirectOutputMain.RECORDS, count);
+        }
+    }
+
+    private static final Pattern THREAD_RECORD = Pattern.compile("thread (\\d+) record (\\d+)");
+
+    public static class DirectOutputMain {
+        static final int THREADS = 4;
+        static final int RECORDS = 500;
+
+        public static void main(final String[] args) throws Exception {
+            final ConsoleHandler handler = new ConsoleHandler(Target.SYSTEM_OUT, new PatternFormatter("%s%n"));
+            handler.setAutoFlush(true);
+            handler.setDirectOutput(true);
+            System.out.print("before ");
+            handler.publish(new ExtLogRecord(Level.INFO, "record 1", DirectOutputMain.class.getName()));
+            System.out.println("between");
+            handler.publish(new ExtLogRecord(Level.INFO, "record 2", DirectOutputMain.class.getName()));
+            System.out.print("partial ");
+            handler.publish(new ExtLogRecord(Level.INFO, "record 3", DirectOutputMain.class.getName()));
+
+            final Thread[] threads = new Thread[THREADS];
+            for (int t = 0; t < THREADS; t++) {
+                final int thread = t;
+                threads[t] = new Thread(() -> {
+                    for (int i = 0; i < RECORDS; i++) {
+                        handler.publish(new ExtLogRecord(Level.INFO, "thread " + thread + " record " + i,
+                                DirectOutputMain.class.getName()));
+                    }
+                });
+                threads[t].start();
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+            handler.close();
+        }
+    }
 }
@@ -32,6 +32,7 @@ import java.time.format.DateTimeFormatter;
 import java.util.Calendar;
 import java.util.List;
 import java.util.logging.ErrorManager;
+import java.util.stream.Stream;
 
 import org.jboss.byteman.contrib.bmunit.BMRule;
 import org.jboss.byteman.contrib.bmunit.WithByteman;
@@ -140,6 +141,26 @@ public class PeriodicRotatingFileHandlerTests extends AbstractHandlerTest {
         testArchiveRotate(".zip");
     }
 
+    @Test
+    public void testBackgroundArchiveRotateGzip() throws Exception {
+        testArchiveRotate(".gz", true);
+    }
+
+    @Test
+    public void testBackgroundArchiveRotateZip() throws Exception {
+        testArchiveRotate(".zip", true);
+    }
+
+    @Test
+    public void testStaleStagedFilesDeleted() throws Exception {
+        // a staged file left behind by a background rotation which did not complete
+        final Path staged = resolvePath(FILENAME + ".rotating-42");
+        Files.writeString(staged, "stale");
+        handler.close();
+        handler = createHandler(rotateFormatter.toPattern());
+        Assertions.assertTrue(Files.notExists(staged), () -> "The staged file '" + staged + "' should have been deleted");
+    }
+
     @Test
     @BMRule(name = "Test failed rotated", targetClass = "java.nio.file.Files", targetMethod = "move", targetLocation = "AT ENTRY", condition = "$2.getFileName().toString().matches(\"periodic-rotating-file-handler\\\\.log\\\\.\\\\d+\")", action = "throw new IOException(\"Fail on purpose\")")
     public void testFailedRotate() throws Exception {
@@ -225,12 +246,17 @@ public class PeriodicRotatingFileHandlerTests extends AbstractHandlerTest {
     }
 
     private void testArchiveRotate(final String archiveSuffix) throws Exception {
+        testArchiveRotate(archiveSuffix, false);
+    }
+
+    private void testArchiveRotate(final String archiveSuffix, final boolean backgroundRotation) throws Exception {
         final String rotationFormat = ".dd";
         final DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
         final DateTimeFormatter rotateFormatter = DateTimeFormatter.ofPattern(rotationFormat);
         ZonedDateTime date = ZonedDateTime.now();
 
         handler.setSuffix(rotationFormat + archiveSuffix);
+        handler.setBackgroundRotation(backgroundRotation);
 
         final String currentDate = formatter.format(date);
         final String firstDateSuffix = rotateFormatter.format(date);
@@ -254,6 +280,15 @@ public class PeriodicRotatingFileHandlerTests extends AbstractHandlerTest {
         record.setMillis(date.toInstant().toEpochMilli());
         handler.publish(record);
 
+        if (backgroundRotation) {
+            // wait for the rotations to complete
+            handler.close();
+            try (Stream<Path> files = Files.list(logDirectory())) {
+                Assertions.assertTrue(files.noneMatch(p -> p.getFileName().toString().contains(".rotating-")),
+                        "Staged files should have been removed");
+            }
+        }
+
         // There should be three files
         final Path logDir = logDirectory();
         final Path rotated1 = logDir.resolve(FILENAME + firstDateSuffix + archiveSuffix);
@@ -198,6 +198,12 @@ public class PeriodicSizeRotatingFileHandlerTests extends AbstractHandlerTest {
         testArchiveRotate(".yyyy-MM-dd", ".zip", true);
     }
 
+    @Test
+    public void testBackgroundArchiveRotate() throws Exception {
+        testArchiveRotate(".yyyy-MM-dd", ".gz", false, true);
+        testArchiveRotate(null, ".zip", true, true);
+    }
+
     @Test
     public void testArchiveRotateSizeOnlyGzip() throws Exception {
         testArchiveRotate(null, ".gz", false);
@@ -240,12 +246,18 @@ public class PeriodicSizeRotatingFileHandlerTests extends AbstractHandlerTest {
 
     private void testArchiveRotate(final String dateSuffix, final String archiveSuffix, final boolean rotateOnBoot)
             throws Exception {
+        testArchiveRotate(dateSuffix, archiveSuffix, rotateOnBoot, false);
+    }
+
+    private void testArchiveRotate(final String dateSuffix, final String archiveSuffix, final boolean rotateOnBoot,
+            final boolean backgroundRotation) throws Exception {
         final String currentDate = dateSuffix == null ? "" : LocalDate.now().format(DateTimeFormatter.ofPattern(dateSuffix));
         PeriodicSizeRotatingFileHandler handler = new PeriodicSizeRotatingFileHandler();
         configureHandlerDefaults(handler);
         handler.setRotateSize(1024L);
         handler.setMaxBackupIndex(2);
         handler.setRotateOnBoot(rotateOnBoot);
+        handler.setBackgroundRotation(backgroundRotation);
         handler.setFile(logFile.toFile());
         handler.setSuffix((dateSuffix == null ? "" : dateSuffix) + archiveSuffix);
         // Set append to true to ensure the rotated file is overwritten
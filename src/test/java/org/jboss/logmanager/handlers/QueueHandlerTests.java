@@ -20,13 +20,20 @@
 package org.jboss.logmanager.handlers;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 import org.jboss.logmanager.ExtHandler;
 import org.jboss.logmanager.ExtLogRecord;
 import org.jboss.logmanager.Level;
+import org.jboss.logmanager.formatters.PatternFormatter;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -83,6 +90,143 @@ public class QueueHandlerTests extends AbstractHandlerTest {
         Assertions.assertEquals(1, handler.getQueue().length);
     }
 
+    @Test
+    public void testSnapshot() throws Exception {
+        final QueueHandler handler = new QueueHandler(3);
+        handler.setErrorManager(AssertingErrorManager.of());
+        handler.setFormatter(new PatternFormatter("%s"));
+        for (int i = 0; i < 5; i++) {
+            handler.publish(createLogRecord("Test message %d", i));
+        }
+        final List<ExtLogRecord> snapshot = handler.getSnapshot();
+        Assertions.assertEquals(3, snapshot.size());
+        // later records must not change a captured snapshot
+        handler.publish(createLogRecord("Test message %d", 5));
+        Assertions.assertEquals(List.of("Test message 2", "Test message 3", "Test message 4"),
+                new ArrayList<>(snapshot.stream().map(ExtLogRecord::getFormattedMessage).collect(Collectors.toList())));
+        Assertions.assertEquals(List.of("Test message 3", "Test message 4", "Test message 5"),
+                new ArrayList<>(handler.getFormattedSnapshot()));
+        Assertions.assertArrayEquals(new String[] { "Test message 3", "Test message 4", "Test message 5" },
+                handler.getQueueAsStrings());
+
+        // a shorter limit keeps the most recent records
+        handler.setLimit(2);
+        Assertions.assertEquals(List.of("Test message 4", "Test message 5"), handler.getFormattedSnapshot());
+        handler.publish(createLogRecord("Test message %d", 6));
+        Assertions.assertEquals(List.of("Test message 5", "Test message 6"), handler.getFormattedSnapshot());
+    }
+
+    @Test
+    public void testConcurrentPublishAndReplay() throws Exception {
+        final int threads = 8;
+        final int perThread = 5_000;
+        final QueueHandler handler = new QueueHandler(64);
+        handler.setErrorManager(AssertingErrorManager.of());
+        final NestedHandler nestedHandler = new NestedHandler();
+        final ExecutorService service = Executors.newFixedThreadPool(threads);
+        final CountDownLatch start = new CountDownLatch(1);
+        try {
+            for (int t = 0; t < threads; t++) {
+                final int thread = t;
+                service.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < perThread; i++) {
+                        handler.publish(createLogRecord("%d:%d", thread, i));
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+            for (int i = 0; i < 100; i++) {
+                assertOrdered(Arrays.asList(handler.getQueue()), threads);
+            }
+            handler.addHandler(nestedHandler, true);
+            service.shutdown();
+            Assertions.assertTrue(service.awaitTermination(30, TimeUnit.SECONDS));
+        } finally {
+            service.shutdownNow();
+        }
+        final List<ExtLogRecord> replayed;
+        synchronized (nestedHandler) {
+            replayed = new ArrayList<>(nestedHandler.getRecords());
+        }
+        assertOrdered(replayed, threads);
+        // once a record of a thread was replayed or published, none of its later records may be lost
+        final int[] last = new int[threads];
+        Arrays.fill(last, -1);
+        for (ExtLogRecord record : replayed) {
+            final String[] parts = record.getFormattedMessage().split(":");
+            final int thread = Integer.parseInt(parts[0]);
+            final int i = Integer.parseInt(parts[1]);
+            if (last[thread] != -1) {
+                Assertions.assertEquals(last[thread] + 1, i, () -> "Record lost before " + record.getFormattedMessage());
+            }
+            last[thread] = i;
+        }
+        for (int t = 0; t < threads; t++) {
+            if (last[t] != -1) {
+                Assertions.assertEquals(perThread - 1, last[t]);
+            }
+        }
+        Assertions.assertEquals(64, handler.getQueue().length);
+        assertOrdered(handler.getSnapshot(), threads);
+    }
+
+    @Test
+    public void testConcurrentWrapAround() throws Exception {
+        // with a tiny ring the publishers constantly lap each other, a stale write must not replace a newer record
+        final int threads = 8;
+        final int perThread = 20_000;
+        final QueueHandler handler = new QueueHandler(2);
+        handler.setErrorManager(AssertingErrorManager.of());
+        final ExecutorService service = Executors.newFixedThreadPool(threads);
+        final CountDownLatch start = new CountDownLatch(1);
+        try {
+            for (int t = 0; t < threads; t++) {
+                final int thread = t;
+                service.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < perThread; i++) {
+                        handler.publish(createLogRecord("%d:%d", thread, i));
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+            for (int i = 0; i < 1_000; i++) {
+                Assertions.assertTrue(handler.getQueue().length <= 2);
+            }
+            service.shutdown();
+            Assertions.assertTrue(service.awaitTermination(30, TimeUnit.SECONDS));
+        } finally {
+            service.shutdownNow();
+        }
+        Assertions.assertEquals(2, handler.getQueue().length);
+    }
+
+    @Test
+    public void testDefaultFormatter() throws Exception {
+        final QueueHandler handler = new QueueHandler(2);
+        handler.setErrorManager(AssertingErrorManager.of());
+        handler.publish(createLogRecord("Test message %d", 1));
+        Assertions.assertTrue(handler.getFormattedSnapshot().get(0).contains("Test message 1"));
+        Assertions.assertTrue(handler.getQueueAsStrings()[0].contains("Test message 1"));
+    }
+
+    private static void assertOrdered(final List<ExtLogRecord> records, final int threads) {
+        final int[] last = new int[threads];
+        Arrays.fill(last, -1);
+        for (ExtLogRecord record : records) {
+            final String[] parts = record.getFormattedMessage().split(":");
+            final int thread = Integer.parseInt(parts[0]);
+            final int i = Integer.parseInt(parts[1]);
+            Assertions.assertTrue(i > last[thread],
+                    () -> String.format("Record %s is a duplicate or out of order after %d", record.getFormattedMessage(),
+                            last[thread]));
+            last[thread] = i;
+        }
+    }
+
     static class NestedHandler extends ExtHandler {
         private final List<ExtLogRecord> records = new ArrayList<ExtLogRecord>();
 
@@ -91,7 +235,7 @@ public class QueueHandlerTests extends AbstractHandlerTest {
         }
 
         @Override
-        protected void doPublish(final ExtLogRecord record) {
+        protected synchronized void doPublish(final ExtLogRecord record) {
             records.add(record);
             super.doPublish(record);
         }
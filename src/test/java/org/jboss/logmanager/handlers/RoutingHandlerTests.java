@@ -0,0 +1,197 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logmanager.handlers;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.logmanager.ExtHandler;
+import org.jboss.logmanager.ExtLogRecord;
+import org.jboss.logmanager.formatters.PatternFormatter;
+import org.jboss.logmanager.handlers.RoutingHandler.RouteKey;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class RoutingHandlerTests extends AbstractHandlerTest {
+
+    @Test
+    public void testMdcRouting() throws Exception {
+        final CapturingHandler unrouted = new CapturingHandler("unrouted");
+        try (RoutingHandler handler = new RoutingHandler()) {
+            configureHandlerDefaults(handler);
+            handler.setFormatter(new PatternFormatter("%s%n"));
+            handler.setMdcKey("tenant");
+            handler.setFileNamePattern(logDirectory().resolve("%s.log").toString());
+            handler.addHandler(unrouted);
+
+            handler.publish(createTenantRecord("tenant1", "First tenant1 message"));
+            handler.publish(createTenantRecord("tenant2", "First tenant2 message"));
+            handler.publish(createTenantRecord("tenant1", "Second tenant1 message"));
+            // the key can not change the directory of the file
+            handler.publish(createTenantRecord("../escape", "Escape message"));
+            handler.publish(createLogRecord("No tenant message"));
+            Assertions.assertEquals(3, handler.getRouteCount());
+        }
+        Assertions.assertEquals(List.of("First tenant1 message", "Second tenant1 message"),
+                Files.readAllLines(resolvePath("tenant1.log"), StandardCharsets.UTF_8));
+        Assertions.assertEquals(List.of("First tenant2 message"),
+                Files.readAllLines(resolvePath("tenant2.log"), StandardCharsets.UTF_8));
+        Assertions.assertEquals(List.of("Escape message"),
+                Files.readAllLines(resolvePath("%2E.%2Fescape.log"), StandardCharsets.UTF_8));
+        Assertions.assertEquals(List.of("No tenant message"), unrouted.messages);
+    }
+
+    @Test
+    public void testLeastRecentlyUsedEviction() throws Exception {
+        final List<CapturingHandler> created = new ArrayList<>();
+        try (RoutingHandler handler = new RoutingHandler(key -> {
+            final CapturingHandler child = new CapturingHandler(key);
+            created.add(child);
+            return child;
+        })) {
+            handler.setMdcKey("tenant");
+            handler.setMaxHandlers(2);
+            handler.publish(createTenantRecord("tenant1", "message"));
+            Thread.sleep(5L);
+            handler.publish(createTenantRecord("tenant2", "message"));
+            Thread.sleep(5L);
+            // use tenant1 so tenant2 is the least recently used
+            handler.publish(createTenantRecord("tenant1", "message"));
+            Thread.sleep(5L);
+            handler.publish(createTenantRecord("tenant3", "message"));
+            Assertions.assertEquals(2, handler.getRouteCount());
+            Assertions.assertEquals(3, created.size());
+            Assertions.assertFalse(created.get(0).closed);
+            Assertions.assertTrue(created.get(1).closed);
+            Assertions.assertFalse(created.get(2).closed);
+
+            // an evicted key creates a new handler
+            handler.publish(createTenantRecord("tenant2", "message"));
+            Assertions.assertEquals(4, created.size());
+            Assertions.assertEquals("tenant2", created.get(3).key);
+        }
+        for (CapturingHandler child : created) {
+            Assertions.assertTrue(child.closed, () -> "Handler " + child.key + " was not closed");
+        }
+    }
+
+    @Test
+    public void testIdleTimeout() throws Exception {
+        final List<CapturingHandler> created = new ArrayList<>();
+        try (RoutingHandler handler = new RoutingHandler(key -> {
+            final CapturingHandler child = new CapturingHandler(key);
+            created.add(child);
+            return child;
+        })) {
+            handler.setMdcKey("tenant");
+            handler.setIdleTimeout(50L);
+            handler.publish(createTenantRecord("tenant1", "message"));
+            Assertions.assertEquals(1, handler.getRouteCount());
+            final long end = System.nanoTime() + TimeUnit.SECONDS.toNanos(5L);
+            while (handler.getRouteCount() > 0 && System.nanoTime() < end) {
+                Thread.sleep(10L);
+            }
+            Assertions.assertEquals(0, handler.getRouteCount());
+            Assertions.assertTrue(created.get(0).closed);
+        }
+    }
+
+    @Test
+    public void testFileNameCollision() throws Exception {
+        try (RoutingHandler handler = new RoutingHandler()) {
+            configureHandlerDefaults(handler);
+            handler.setFormatter(new PatternFormatter("%s%n"));
+            handler.setMdcKey("tenant");
+            handler.setFileNamePattern(logDirectory().resolve("%s.log").toString());
+
+            // keys which only differ in characters which are encoded must not share a file
+            handler.publish(createTenantRecord("a/b", "Slash message"));
+            handler.publish(createTenantRecord("a_b", "Underscore message"));
+            handler.publish(createTenantRecord("a%2Fb", "Percent message"));
+            Assertions.assertEquals(3, handler.getRouteCount());
+        }
+        Assertions.assertEquals(List.of("Slash message"),
+                Files.readAllLines(resolvePath("a%2Fb.log"), StandardCharsets.UTF_8));
+        Assertions.assertEquals(List.of("Underscore message"),
+                Files.readAllLines(resolvePath("a_b.log"), StandardCharsets.UTF_8));
+        Assertions.assertEquals(List.of("Percent message"),
+                Files.readAllLines(resolvePath("a%252Fb.log"), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testLoggerPrefixRouting() throws Exception {
+        final List<CapturingHandler> created = new ArrayList<>();
+        try (RoutingHandler handler = new RoutingHandler(key -> {
+            final CapturingHandler child = new CapturingHandler(key);
+            created.add(child);
+            return child;
+        })) {
+            handler.setRouteKey(RouteKey.LOGGER_PREFIX);
+            handler.setLoggerPrefixSegments(2);
+            handler.publish(createNamedRecord("org.jboss.logmanager.Logger"));
+            handler.publish(createNamedRecord("org.jboss.modules.Module"));
+            handler.publish(createNamedRecord("com.example.Service"));
+            handler.publish(createNamedRecord("simple"));
+            Assertions.assertEquals(3, created.size());
+            Assertions.assertEquals("org.jboss", created.get(0).key);
+            Assertions.assertEquals(2, created.get(0).messages.size());
+            Assertions.assertEquals("com.example", created.get(1).key);
+            Assertions.assertEquals("simple", created.get(2).key);
+        }
+    }
+
+    private ExtLogRecord createTenantRecord(final String tenant, final String msg) {
+        final ExtLogRecord record = createLogRecord(msg);
+        record.setMdc(Map.of("tenant", tenant));
+        return record;
+    }
+
+    private ExtLogRecord createNamedRecord(final String loggerName) {
+        final ExtLogRecord record = createLogRecord("message");
+        record.setLoggerName(loggerName);
+        return record;
+    }
+
+    private static class CapturingHandler extends ExtHandler {
+        private final String key;
+        private final List<String> messages = new ArrayList<>();
+        private volatile boolean closed;
+
+        private CapturingHandler(final String key) {
+            this.key = key;
+        }
+
+        @Override
+        protected void doPublish(final ExtLogRecord record) {
+            messages.add(record.getMessage());
+            super.doPublish(record);
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+            super.close();
+        }
+    }
+}
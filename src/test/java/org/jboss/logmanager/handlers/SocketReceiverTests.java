@@ -0,0 +1,174 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logmanager.handlers;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.logmanager.ExtHandler;
+import org.jboss.logmanager.ExtLogRecord;
+import org.jboss.logmanager.KeyValues;
+import org.jboss.logmanager.Level;
+import org.jboss.logmanager.LogContext;
+import org.jboss.logmanager.handlers.SocketHandler.WireFormat;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the {@linkplain WireFormat#BINARY binary wire format} of the {@link SocketHandler} and the
+ * {@link SocketReceiver}.
+ */
+public class SocketReceiverTests extends AbstractHandlerTest {
+    private static final String LOGGER_NAME = SocketReceiverTests.class.getName();
+
+    @Test
+    public void testBinaryRecords() throws Exception {
+        final BlockingQueue<ExtLogRecord> received = new LinkedBlockingQueue<>();
+        try (
+                LogContext logContext = LogContext.create();
+                SocketReceiver receiver = createReceiver(logContext, received);
+                SocketHandler handler = createHandler(receiver)) {
+            final IllegalStateException thrown = new IllegalStateException("outer", new RuntimeException("inner"));
+            thrown.addSuppressed(new IllegalArgumentException("suppressed"));
+            final ExtLogRecord record = createNamedLogRecord("Test {0} handler {1}");
+            record.setParameters(new Object[] { "binary", 42 });
+            record.setThrown(thrown);
+            record.setMdc(Map.of("key", "value"));
+            record.setNdc("ndc");
+            record.setKeyValues(KeyValues.builder().add("count", 3).add("ratio", 0.5).add("user", "jdoe").build());
+            handler.publish(record);
+            // the second record references the strings defined by the first record
+            handler.publish(createNamedLogRecord("Second record"));
+
+            final ExtLogRecord first = poll(received);
+            Assertions.assertEquals(Level.INFO, first.getLevel());
+            Assertions.assertEquals(LOGGER_NAME, first.getLoggerName());
+            Assertions.assertEquals("Test binary handler 42", first.getFormattedMessage());
+            Assertions.assertEquals(record.getInstant(), first.getInstant());
+            Assertions.assertEquals(record.getSequenceNumber(), first.getSequenceNumber());
+            Assertions.assertEquals(record.getThreadName(), first.getThreadName());
+            Assertions.assertEquals(record.getLongThreadID(), first.getLongThreadID());
+            Assertions.assertEquals(record.getProcessId(), first.getProcessId());
+            Assertions.assertEquals("value", first.getMdc("key"));
+            Assertions.assertEquals("ndc", first.getNdc());
+            final KeyValues keyValues = first.getKeyValues();
+            Assertions.assertEquals(3, keyValues.size());
+            Assertions.assertEquals(3L, keyValues.getLong(keyValues.indexOf("count")));
+            Assertions.assertEquals(0.5d, keyValues.getDouble(keyValues.indexOf("ratio")));
+            Assertions.assertEquals("jdoe", keyValues.get("user"));
+
+            final Throwable receivedThrown = first.getThrown();
+            Assertions.assertNotNull(receivedThrown);
+            Assertions.assertEquals(thrown.toString(), receivedThrown.toString());
+            Assertions.assertArrayEquals(thrown.getStackTrace(), receivedThrown.getStackTrace());
+            Assertions.assertEquals(thrown.getCause().toString(), receivedThrown.getCause().toString());
+            Assertions.assertEquals(1, receivedThrown.getSuppressed().length);
+            Assertions.assertEquals(thrown.getSuppressed()[0].toString(), receivedThrown.getSuppressed()[0].toString());
+
+            final ExtLogRecord second = poll(received);
+            Assertions.assertEquals(LOGGER_NAME, second.getLoggerName());
+            Assertions.assertEquals("Second record", second.getFormattedMessage());
+            Assertions.assertEquals(record.getThreadName(), second.getThreadName());
+        }
+    }
+
+    @Test
+    public void testLevelFiltered() throws Exception {
+        final BlockingQueue<ExtLogRecord> received = new LinkedBlockingQueue<>();
+        try (
+                LogContext logContext = LogContext.create();
+                SocketReceiver receiver = createReceiver(logContext, received);
+                SocketHandler handler = createHandler(receiver)) {
+            logContext.getLogger(LOGGER_NAME).setLevel(Level.INFO);
+            final ExtLogRecord debug = createNamedLogRecord("Debug record");
+            debug.setLevel(Level.DEBUG);
+            handler.publish(debug);
+            handler.publish(createNamedLogRecord("Info record"));
+            Assertions.assertEquals("Info record", poll(received).getFormattedMessage());
+            Assertions.assertTrue(received.isEmpty());
+        }
+    }
+
+    @Test
+    public void testPartialFrames() throws Exception {
+        final BinaryRecordEncoder encoder = new BinaryRecordEncoder();
+        final BinaryRecordDecoder decoder = new BinaryRecordDecoder(LogContext.create());
+        final ExtLogRecord record = createNamedLogRecord("Partial {0}");
+        record.setParameters(new Object[] { 1.5d });
+        encoder.encode(record, false);
+        final byte[] bytes = new byte[encoder.getLength()];
+        System.arraycopy(encoder.getBuffer(), encoder.getOffset(), bytes, 0, bytes.length);
+
+        // deliver the frame one byte at a time, a record is only decoded once the frame is complete
+        final ByteBuffer buffer = ByteBuffer.allocate(bytes.length);
+        for (int i = 0; i < bytes.length - 1; i++) {
+            buffer.put(bytes[i]);
+            buffer.flip();
+            Assertions.assertNull(decoder.decode(buffer));
+            buffer.compact();
+        }
+        buffer.put(bytes[bytes.length - 1]);
+        buffer.flip();
+        final ExtLogRecord decoded = decoder.decode(buffer);
+        Assertions.assertNotNull(decoded);
+        Assertions.assertEquals("Partial 1.5", decoded.getFormattedMessage());
+        Assertions.assertFalse(buffer.hasRemaining());
+    }
+
+    private ExtLogRecord createNamedLogRecord(final String msg) {
+        final ExtLogRecord record = createLogRecord(msg);
+        record.setLoggerName(LOGGER_NAME);
+        return record;
+    }
+
+    private static ExtLogRecord poll(final BlockingQueue<ExtLogRecord> queue) throws InterruptedException {
+        final ExtLogRecord record = queue.poll(10, TimeUnit.SECONDS);
+        Assertions.assertNotNull(record, "No record was received");
+        return record;
+    }
+
+    private static SocketReceiver createReceiver(final LogContext logContext, final BlockingQueue<ExtLogRecord> received)
+            throws Exception {
+        logContext.getLogger(LOGGER_NAME).addHandler(new ExtHandler() {
+            @Override
+            protected void doPublish(final ExtLogRecord record) {
+                received.add(record);
+                super.doPublish(record);
+            }
+        });
+        final SocketReceiver receiver = new SocketReceiver(logContext,
+                new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        receiver.start();
+        return receiver;
+    }
+
+    private static SocketHandler createHandler(final SocketReceiver receiver) throws Exception {
+        final InetSocketAddress address = receiver.getLocalAddress();
+        final SocketHandler handler = new SocketHandler(address.getAddress(), address.getPort());
+        handler.setWireFormat(WireFormat.BINARY);
+        configureHandlerDefaults(handler);
+        return handler;
+    }
+}